@@ -30,6 +30,15 @@ public final class XmlDataConstants {
    public static final String DOCUMENT_PARENT = "activemq-journal";
    public static final String BINDINGS_PARENT = "bindings";
 
+   // the files of an export to a directory
+   public static final String MANIFEST_FILE = "manifest.properties";
+   static final String MANIFEST_BINDINGS = "bindings";
+   static final String MANIFEST_BINDINGS_FILE = "bindings.xml";
+   static final String MANIFEST_PARTITIONS = "partitions";
+   static final String MANIFEST_PARTITION = "partition.";
+   static final String MANIFEST_PARTITION_FILE = "messages-%d.xml";
+   static final String MANIFEST_MESSAGES = ".messages";
+
    // used on importing data from 1.x
    static final String OLD_BINDING = "binding";
    static final String OLD_ADDRESS = "address";
@@ -19,7 +19,9 @@ package org.apache.activemq.artemis.cli.commands.tools.xml;
 import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.OutputStream;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
@@ -30,10 +32,17 @@ import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.airlift.airline.Command;
+import io.airlift.airline.Option;
 import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
 import org.apache.activemq.artemis.api.core.ActiveMQBuffers;
 import org.apache.activemq.artemis.api.core.ICoreMessage;
@@ -42,6 +51,7 @@ import org.apache.activemq.artemis.api.core.RoutingType;
 import org.apache.activemq.artemis.api.core.SimpleString;
 import org.apache.activemq.artemis.cli.commands.ActionContext;
 import org.apache.activemq.artemis.cli.commands.tools.DBOption;
+import org.apache.activemq.artemis.core.config.Configuration;
 import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
 import org.apache.activemq.artemis.core.journal.Journal;
 import org.apache.activemq.artemis.core.journal.PreparedTransactionInfo;
@@ -63,6 +73,8 @@ import org.apache.activemq.artemis.core.persistence.impl.journal.codec.PageUpdat
 import org.apache.activemq.artemis.core.persistence.impl.journal.codec.PersistentAddressBindingEncoding;
 import org.apache.activemq.artemis.core.persistence.impl.journal.codec.PersistentQueueBindingEncoding;
 import org.apache.activemq.artemis.core.server.JournalType;
+import org.apache.activemq.artemis.utils.ActiveMQThreadFactory;
+import org.apache.activemq.artemis.utils.actors.OrderedExecutor;
 import org.apache.activemq.artemis.utils.collections.LinkedListIterator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -73,8 +85,22 @@ public final class XmlDataExporter extends DBOption {
 
    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
+   // messages read from the journal and not written yet, per partition
+   private static final int MAX_PENDING_MESSAGES = 1000;
+
+   @Option(name = "--output-directory", description = "Export to this directory instead, with the bindings and the messages split in files written and imported in parallel")
+   public String outputDirectory;
+
+   @Option(name = "--partitions", description = "The number of message files written in parallel with --output-directory (default: the number of processors)")
+   public int partitions = Runtime.getRuntime().availableProcessors();
+
    private XMLStreamWriter xmlWriter;
 
+   private ExportPartition[] exportPartitions;
+
+   // union-find of the queues messages are routed to together: every queue of a set is exported to the same file
+   private final Map<String, String> queueSets = new HashMap<>();
+
    // an inner map of message refs hashed by the queue ID to which they belong and then hashed by their record ID
    private final Map<Long, HashMap<Long, ReferenceDescribe>> messageRefs = new HashMap<>();
 
@@ -101,7 +127,11 @@ public final class XmlDataExporter extends DBOption {
 
       try {
          config = getParameterConfiguration();
-         process(context.out);
+         if (outputDirectory != null) {
+            process(new File(outputDirectory));
+         } else {
+            process(context.out);
+         }
       } catch (Exception e) {
          treatError(e, "data", "exp");
       }
@@ -130,6 +160,11 @@ public final class XmlDataExporter extends DBOption {
       cleanup();
    }
 
+   public XmlDataExporter setConfiguration(Configuration config) {
+      this.config = config;
+      return this;
+   }
+
    public void process(OutputStream out) throws Exception {
 
       initializeJournal(config);
@@ -139,6 +174,23 @@ public final class XmlDataExporter extends DBOption {
       cleanup();
    }
 
+   /**
+    * Export to a directory: the bindings in one file and the messages split in {@link #partitions} files by the
+    * set of queues they are routed to together, so that all the messages of a queue are in a single file and in
+    * order, even the ones routed to several queues. A manifest listing the files is written last, once every file is
+    * complete.
+    *
+    * @param directory the directory to export to, created if needed
+    */
+   public void process(File directory) throws Exception {
+
+      initializeJournal(config);
+
+      writeOutput(directory);
+
+      cleanup();
+   }
+
    protected void writeOutput(OutputStream out) throws Exception {
       XMLOutputFactory factory = XMLOutputFactory.newInstance();
       XMLStreamWriter rawXmlWriter = factory.createXMLStreamWriter(out, "UTF-8");
@@ -148,6 +200,76 @@ public final class XmlDataExporter extends DBOption {
       writeXMLData();
    }
 
+   protected void writeOutput(File directory) throws Exception {
+      if (!directory.isDirectory() && !directory.mkdirs()) {
+         throw new IllegalStateException("Cannot create the directory " + directory);
+      }
+      if (partitions < 1) {
+         throw new IllegalArgumentException("--partitions must be greater than 0");
+      }
+      long start = System.currentTimeMillis();
+      getBindings();
+      processMessageJournal();
+
+      final Properties manifest = new Properties();
+      manifest.setProperty(XmlDataConstants.MANIFEST_BINDINGS, XmlDataConstants.MANIFEST_BINDINGS_FILE);
+      try (OutputStream out = new BufferedOutputStream(new FileOutputStream(new File(directory, XmlDataConstants.MANIFEST_BINDINGS_FILE)))) {
+         xmlWriter = createXMLWriter(out);
+         xmlWriter.writeStartElement(XmlDataConstants.DOCUMENT_PARENT);
+         printBindingsAsXML();
+         // the files of the export stay valid documents on their own
+         xmlWriter.writeStartElement(XmlDataConstants.MESSAGES_PARENT);
+         xmlWriter.writeEndElement(); // end "messages"
+         xmlWriter.writeEndElement(); // end DOCUMENT_PARENT
+         xmlWriter.writeEndDocument();
+         xmlWriter.close();
+      }
+
+      // the messages of the queues found together must be written to the same file before any of them is written
+      for (HashMap<Long, DescribeJournal.ReferenceDescribe> refs : messageRefs.values()) {
+         unionQueues(extractQueueNames(refs));
+      }
+      readPagedMessages((message, queues) -> unionQueues(queues));
+
+      final ExecutorService partitionsExecutor = Executors.newFixedThreadPool(partitions, ActiveMQThreadFactory.defaultThreadFactory(getClass().getName()));
+      final AtomicReference<Exception> error = new AtomicReference<>();
+      exportPartitions = new ExportPartition[partitions];
+      try {
+         for (int i = 0; i < partitions; i++) {
+            exportPartitions[i] = new ExportPartition(new File(directory, String.format(XmlDataConstants.MANIFEST_PARTITION_FILE, i)), new OrderedExecutor(partitionsExecutor), error);
+         }
+
+         printMessages();
+
+         final CountDownLatch closed = new CountDownLatch(partitions);
+         for (ExportPartition partition : exportPartitions) {
+            partition.close(closed);
+         }
+         closed.await();
+      } finally {
+         partitionsExecutor.shutdown();
+      }
+      if (error.get() != null) {
+         throw error.get();
+      }
+
+      manifest.setProperty(XmlDataConstants.MANIFEST_PARTITIONS, Integer.toString(partitions));
+      for (int i = 0; i < partitions; i++) {
+         manifest.setProperty(XmlDataConstants.MANIFEST_PARTITION + i, exportPartitions[i].file.getName());
+         manifest.setProperty(XmlDataConstants.MANIFEST_PARTITION + i + XmlDataConstants.MANIFEST_MESSAGES, Long.toString(exportPartitions[i].messages));
+      }
+      try (OutputStream out = new FileOutputStream(new File(directory, XmlDataConstants.MANIFEST_FILE))) {
+         manifest.store(out, "Apache ActiveMQ Artemis data export");
+      }
+      logger.debug("\n\nProcessing took: {}ms", (System.currentTimeMillis() - start));
+      logger.debug("Output {} messages in {} files and {} bindings.", messagesPrinted, partitions, bindingsPrinted);
+   }
+
+   private static XMLStreamWriter createXMLWriter(OutputStream out) throws XMLStreamException {
+      XMLStreamWriter rawXmlWriter = XMLOutputFactory.newInstance().createXMLStreamWriter(out, "UTF-8");
+      return (XMLStreamWriter) Proxy.newProxyInstance(XMLStreamWriter.class.getClassLoader(), new Class[]{XMLStreamWriter.class}, new PrettyPrintHandler(rawXmlWriter));
+   }
+
    private void writeXMLData() throws Exception {
       long start = System.currentTimeMillis();
       getBindings();
@@ -369,6 +491,12 @@ public final class XmlDataExporter extends DBOption {
    private void printAllMessagesAsXML() throws Exception {
       xmlWriter.writeStartElement(XmlDataConstants.MESSAGES_PARENT);
 
+      printMessages();
+
+      xmlWriter.writeEndElement(); // end "messages"
+   }
+
+   private void printMessages() throws Exception {
       // Order here is important.  We must process the messages from the journal before we process those from the page
       // files in order to get the messages in the right order.
       for (Map.Entry<Long, Message> messageMapEntry : messages.entrySet()) {
@@ -376,19 +504,131 @@ public final class XmlDataExporter extends DBOption {
       }
 
       printPagedMessagesAsXML();
-
-      xmlWriter.writeEndElement(); // end "messages"
    }
 
    private void printSingleMessageAsXML(ICoreMessage message, List<String> queues) throws Exception {
-      exporter.printSingleMessageAsXML(message, queues, false);
+      if (exportPartitions != null) {
+         exportPartitions[(findQueueSet(queues.get(0)).hashCode() & Integer.MAX_VALUE) % exportPartitions.length].print(message, queues);
+      } else {
+         exporter.printSingleMessageAsXML(message, queues, false);
+      }
       messagesPrinted++;
    }
+
+   private void unionQueues(List<String> queues) {
+      if (queues.isEmpty()) {
+         return;
+      }
+      final String set = findQueueSet(queues.get(0));
+      for (int i = 1; i < queues.size(); i++) {
+         final String other = findQueueSet(queues.get(i));
+         if (!other.equals(set)) {
+            queueSets.put(other, set);
+         }
+      }
+   }
+
+   /**
+    * @return the queue representing the set of {@code queue}, i.e. the same for every queue of the set
+    */
+   private String findQueueSet(String queue) {
+      String set = queue;
+      String parent;
+      while ((parent = queueSets.get(set)) != null) {
+         set = parent;
+      }
+      // path compression, so that the next lookups are direct
+      while (!queue.equals(set)) {
+         parent = queueSets.put(queue, set);
+         queue = parent;
+      }
+      return set;
+   }
+
+   /**
+    * A file of a directory export, written by its own ordered executor.
+    */
+   private static final class ExportPartition {
+
+      private final File file;
+
+      private final OutputStream out;
+
+      private final XMLStreamWriter writer;
+
+      private final XMLMessageExporter exporter;
+
+      private final OrderedExecutor executor;
+
+      private final Semaphore pending = new Semaphore(MAX_PENDING_MESSAGES);
+
+      private final AtomicReference<Exception> error;
+
+      private long messages;
+
+      ExportPartition(File file, OrderedExecutor executor, AtomicReference<Exception> error) throws Exception {
+         this.file = file;
+         this.executor = executor;
+         this.error = error;
+         out = new BufferedOutputStream(new FileOutputStream(file));
+         writer = createXMLWriter(out);
+         exporter = new XMLMessageExporter(writer);
+         writer.writeStartElement(XmlDataConstants.DOCUMENT_PARENT);
+         writer.writeStartElement(XmlDataConstants.BINDINGS_PARENT);
+         writer.writeEndElement(); // end BINDINGS_PARENT
+         writer.writeStartElement(XmlDataConstants.MESSAGES_PARENT);
+      }
+
+      void print(ICoreMessage message, List<String> queues) throws InterruptedException {
+         // don't read the journal faster than the messages are written
+         pending.acquire();
+         executor.execute(() -> {
+            try {
+               if (error.get() == null) {
+                  exporter.printSingleMessageAsXML(message, queues, false);
+                  messages++;
+               }
+            } catch (Exception e) {
+               error.compareAndSet(null, e);
+            } finally {
+               pending.release();
+            }
+         });
+      }
+
+      void close(CountDownLatch closed) {
+         executor.execute(() -> {
+            try {
+               writer.writeEndElement(); // end "messages"
+               writer.writeEndElement(); // end DOCUMENT_PARENT
+               writer.writeEndDocument();
+               writer.close();
+               out.close();
+            } catch (Exception e) {
+               error.compareAndSet(null, e);
+            } finally {
+               closed.countDown();
+            }
+         });
+      }
+   }
    /**
     * Reads from the page files and prints messages as it finds them (making sure to check acks and transactions
     * from the journal).
     */
    private void printPagedMessagesAsXML() {
+      readPagedMessages((message, queues) -> printSingleMessageAsXML(message.getMessage().toCore(), queues));
+   }
+
+   private interface PagedMessageHandler {
+
+      void onMessage(PagedMessage message, List<String> queues) throws Exception;
+   }
+
+   /**
+    * Read the paged messages that are still to be delivered, along with their queues.
+    */
+   private void readPagedMessages(PagedMessageHandler handler) {
       try {
 
          pagingmanager.start();
@@ -439,7 +679,7 @@ public final class XmlDataExporter extends DBOption {
                         }
 
                         if (queueNames.size() > 0 && (message.getTransactionID() == -1 || pgTXs.contains(message.getTransactionID()))) {
-                           printSingleMessageAsXML(message.getMessage().toCore(), queueNames);
+                           handler.onMessage(message, queueNames);
                         }
 
                         messageId++;
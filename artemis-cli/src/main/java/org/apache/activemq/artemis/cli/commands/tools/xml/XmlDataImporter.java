@@ -33,13 +33,20 @@ import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.Comparator;
 import java.util.EnumSet;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import io.airlift.airline.Command;
 import io.airlift.airline.Option;
+import org.apache.activemq.artemis.api.core.ActiveMQException;
 import org.apache.activemq.artemis.api.core.Message;
 import org.apache.activemq.artemis.api.core.QueueConfiguration;
 import org.apache.activemq.artemis.api.core.RoutingType;
@@ -61,6 +68,7 @@ import org.apache.activemq.artemis.core.protocol.core.impl.PacketImpl;
 import org.apache.activemq.artemis.core.remoting.impl.netty.NettyConnectorFactory;
 import org.apache.activemq.artemis.core.remoting.impl.netty.TransportConstants;
 import org.apache.activemq.artemis.core.server.ActiveMQServerLogger;
+import org.apache.activemq.artemis.utils.ActiveMQThreadFactory;
 import org.apache.activemq.artemis.utils.ClassloadingUtil;
 import org.apache.activemq.artemis.utils.ListUtil;
 import org.slf4j.Logger;
@@ -94,6 +102,13 @@ public final class XmlDataImporter extends ActionAbstract {
 
    private ClientSession session;
 
+   private final Map<String, ClientProducer> producers = new HashMap<>();
+
+   // the number of messages sent in each transaction, or 0 to leave the commits to the caller
+   private int transactionBatchSize = 0;
+
+   private int uncommittedMessages = 0;
+
    @Option(name = "--host", description = "The host used to import the data (default localhost)")
    public String host = "localhost";
 
@@ -109,9 +124,18 @@ public final class XmlDataImporter extends ActionAbstract {
    @Option(name = "--password", description = "User name used to import the data. (default null)")
    public String password = null;
 
-   @Option(name = "--input", description = "The input file name (default=exp.dmp)", required = true)
+   @Option(name = "--input", description = "The input file name (default=exp.dmp)")
    public String input = "exp.dmp";
 
+   @Option(name = "--input-directory", description = "Import a directory exported with 'data exp --output-directory' instead, sending the messages of its files in parallel")
+   public String inputDirectory;
+
+   @Option(name = "--threads", description = "The number of message files imported in parallel with --input-directory (default: the number of processors)")
+   public int threads = Runtime.getRuntime().availableProcessors();
+
+   @Option(name = "--commit-interval", description = "The number of messages sent in each transaction with --input-directory (default 1000)")
+   public int commitInterval = 1000;
+
    @Option(name = "--sort", description = "Sort the messages from the input (used for older versions that won't sort messages)")
    public boolean sort = false;
 
@@ -138,7 +162,13 @@ public final class XmlDataImporter extends ActionAbstract {
 
    @Override
    public Object execute(ActionContext context) throws Exception {
-      process(input, host, port, transactional);
+      if (inputDirectory != null) {
+         try (ServerLocator serverLocator = createServerLocator(host, port)) {
+            processDirectory(new File(inputDirectory), serverLocator);
+         }
+      } else {
+         process(input, host, port, transactional);
+      }
       return null;
    }
 
@@ -191,25 +221,93 @@ public final class XmlDataImporter extends ActionAbstract {
    }
 
    public void process(InputStream inputStream, String host, int port, boolean transactional) throws Exception {
+      ServerLocator serverLocator = createServerLocator(host, port);
+      ClientSessionFactory sf = serverLocator.createSessionFactory();
+
+      ClientSession session = createSession(sf, !transactional);
+      ClientSession managementSession = createSession(sf, true);
+      localSession = true;
+
+      process(inputStream, session, managementSession);
+   }
+
+   /**
+    * Import a directory written by {@link XmlDataExporter#process(File)}: the bindings first, then the files of
+    * messages in parallel on {@link #threads} threads, each with its own connection and committing every
+    * {@link #commitInterval} messages.
+    *
+    * @param directory     the directory holding the manifest of the export
+    * @param serverLocator used to connect to the broker
+    */
+   public void processDirectory(File directory, ServerLocator serverLocator) throws Exception {
+      final Properties manifest = new Properties();
+      try (FileInputStream manifestFile = new FileInputStream(new File(directory, XmlDataConstants.MANIFEST_FILE))) {
+         manifest.load(manifestFile);
+      }
+
+      // the queues must exist before any message is sent to them
+      try (ClientSessionFactory sf = serverLocator.createSessionFactory();
+           FileInputStream bindingsFile = new FileInputStream(new File(directory, manifest.getProperty(XmlDataConstants.MANIFEST_BINDINGS)))) {
+         localSession = true;
+         process(bindingsFile, createSession(sf, true), createSession(sf, true));
+      }
+
+      final int partitions = Integer.parseInt(manifest.getProperty(XmlDataConstants.MANIFEST_PARTITIONS));
+      final ExecutorService partitionsExecutor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, partitions)), ActiveMQThreadFactory.defaultThreadFactory(getClass().getName()));
+      try {
+         final List<Future<?>> imports = new ArrayList<>(partitions);
+         for (int i = 0; i < partitions; i++) {
+            final File partitionFile = new File(directory, manifest.getProperty(XmlDataConstants.MANIFEST_PARTITION + i));
+            imports.add(partitionsExecutor.submit(() -> {
+               importPartition(partitionFile, serverLocator);
+               return null;
+            }));
+         }
+         for (Future<?> partitionImport : imports) {
+            try {
+               partitionImport.get();
+            } catch (ExecutionException e) {
+               for (Future<?> other : imports) {
+                  other.cancel(false);
+               }
+               throw (Exception) e.getCause();
+            }
+         }
+      } finally {
+         partitionsExecutor.shutdown();
+      }
+   }
+
+   private void importPartition(File partitionFile, ServerLocator serverLocator) throws Exception {
+      logger.debug("Importing {}", partitionFile);
+      final XmlDataImporter partitionImporter = new XmlDataImporter();
+      partitionImporter.user = user;
+      partitionImporter.password = password;
+      partitionImporter.sort = sort;
+      partitionImporter.legacyPrefixes = legacyPrefixes;
+      partitionImporter.transactionBatchSize = commitInterval;
+      partitionImporter.addressMap.putAll(addressMap);
+      partitionImporter.oldPrefixTranslation.putAll(oldPrefixTranslation);
+      partitionImporter.localSession = true;
+      try (ClientSessionFactory sf = serverLocator.createSessionFactory();
+           FileInputStream input = new FileInputStream(partitionFile)) {
+         partitionImporter.process(input, partitionImporter.createSession(sf, commitInterval <= 0), partitionImporter.createSession(sf, true));
+      }
+   }
+
+   private static ServerLocator createServerLocator(String host, int port) {
       HashMap<String, Object> connectionParams = new HashMap<>();
       connectionParams.put(TransportConstants.HOST_PROP_NAME, host);
       connectionParams.put(TransportConstants.PORT_PROP_NAME, Integer.toString(port));
-      ServerLocator serverLocator = ActiveMQClient.createServerLocatorWithoutHA(new TransportConfiguration(NettyConnectorFactory.class.getName(), connectionParams));
-      ClientSessionFactory sf = serverLocator.createSessionFactory();
-
-      ClientSession session;
-      ClientSession managementSession;
+      return ActiveMQClient.createServerLocatorWithoutHA(new TransportConfiguration(NettyConnectorFactory.class.getName(), connectionParams));
+   }
 
+   private ClientSession createSession(ClientSessionFactory sf, boolean autoCommitSends) throws ActiveMQException {
       if (user != null || password != null) {
-         session = sf.createSession(user, password, false, !transactional, true, false, 0);
-         managementSession = sf.createSession(user, password, false, true, true, false, 0);
+         return sf.createSession(user, password, false, autoCommitSends, true, false, 0);
       } else {
-         session = sf.createSession(false, !transactional, true);
-         managementSession = sf.createSession(false, true, true);
+         return sf.createSession(false, autoCommitSends, true);
       }
-      localSession = true;
-
-      process(inputStream, session, managementSession);
    }
 
    public void validate(String fileName) throws Exception {
@@ -276,6 +374,10 @@ public final class XmlDataImporter extends ActionAbstract {
             session.commit();
          }
       } finally {
+         for (ClientProducer producer : producers.values()) {
+            producer.close();
+         }
+         producers.clear();
          // if the session was created in our constructor then close it (otherwise the caller will close it)
          if (localSession) {
             session.close();
@@ -342,8 +444,16 @@ public final class XmlDataImporter extends ActionAbstract {
       }
 
       message.putBytesProperty(Message.HDR_ROUTE_TO_IDS, buffer.array());
-      try (ClientProducer producer = session.createProducer(destination)) {
-         producer.send(message);
+      ClientProducer producer = producers.get(destination);
+      if (producer == null) {
+         producer = session.createProducer(destination);
+         producers.put(destination, producer);
+      }
+      producer.send(message);
+
+      if (transactionBatchSize > 0 && !session.isAutoCommitSends() && ++uncommittedMessages >= transactionBatchSize) {
+         session.commit();
+         uncommittedMessages = 0;
       }
 
       if (tempFileName != null) {
@@ -26,6 +26,7 @@ import org.apache.activemq.artemis.utils.AbstractByteBufPool;
 import org.apache.activemq.artemis.utils.AbstractPool;
 import org.apache.activemq.artemis.utils.ByteUtil;
 import org.apache.activemq.artemis.utils.DataConstants;
+import org.apache.activemq.artemis.utils.SimpleStringInterner;
 
 /**
  * A simple String class that can store all characters, and stores as simple {@code byte[]}, this
@@ -644,6 +645,11 @@ public final class SimpleString implements CharSequence, Serializable, Comparabl
 
       @Override
       protected SimpleString create(final ByteBuf byteBuf, final int length) {
+         final SimpleString interned = byteBuf.isReadable(length) ? SimpleStringInterner.getInstance().get(byteBuf, byteBuf.readerIndex(), length) : null;
+         if (interned != null) {
+            byteBuf.skipBytes(length);
+            return interned;
+         }
          return readSimpleString(byteBuf, length);
       }
    }
@@ -660,6 +666,10 @@ public final class SimpleString implements CharSequence, Serializable, Comparabl
 
       @Override
       protected SimpleString create(String value) {
+         final SimpleString interned = SimpleStringInterner.getInstance().get(value);
+         if (interned != null) {
+            return interned;
+         }
          return toSimpleString(value);
       }
 
@@ -2639,4 +2639,32 @@ public interface AuditLogger {
 
    @LogMessage(id = 601766, value = "User {} is getting auto-delete property on target resource: {}", level = LogMessage.Level.INFO)
    void isAutoDelete(String user, Object source);
+
+   static void listLatenciesAsJSON(Object source) {
+      BASE_LOGGER.listLatenciesAsJSON(getCaller(), source);
+   }
+
+   @LogMessage(id = 601767, value = "User {} is listing latencies as json on target resource: {}", level = LogMessage.Level.INFO)
+   void listLatenciesAsJSON(String user, Object source);
+
+   static void resetLatencies(Object source) {
+      BASE_LOGGER.resetLatencies(getCaller(), source);
+   }
+
+   @LogMessage(id = 601768, value = "User {} is resetting latencies on target resource: {}", level = LogMessage.Level.INFO)
+   void resetLatencies(String user, Object source);
+
+   static void listCriticalPathProfilesAsJSON(Object source) {
+      BASE_LOGGER.listCriticalPathProfilesAsJSON(getCaller(), source);
+   }
+
+   @LogMessage(id = 601769, value = "User {} is listing critical path profiles as json on target resource: {}", level = LogMessage.Level.INFO)
+   void listCriticalPathProfilesAsJSON(String user, Object source);
+
+   static void resetCriticalPathProfiles(Object source) {
+      BASE_LOGGER.resetCriticalPathProfiles(getCaller(), source);
+   }
+
+   @LogMessage(id = 601770, value = "User {} is resetting critical path profiles on target resource: {}", level = LogMessage.Level.INFO)
+   void resetCriticalPathProfiles(String user, Object source);
 }
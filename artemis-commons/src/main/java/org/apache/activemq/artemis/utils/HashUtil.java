@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.utils;
+
+/**
+ * Hash functions for spreading keys rather than identifying them, e.g. over a hash ring.
+ */
+public final class HashUtil {
+
+   private HashUtil() {
+   }
+
+   /**
+    * The SplitMix64 finalizer: every bit of the value affects every bit of the result, so that close values, e.g.
+    * hash codes of similar strings, are spread all over the range.
+    */
+   public static long mix(long value) {
+      value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+      value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+      return value ^ (value >>> 31);
+   }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.utils;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.internal.MathUtil;
+import org.apache.activemq.artemis.api.core.SimpleString;
+
+/**
+ * A process-wide table of the {@link SimpleString}s worth sharing, e.g. the names of the addresses and queues and the
+ * frequent property keys, so that the strings decoded from messages share the same instances and their
+ * {@code equals} is mostly a pointer check.
+ * <p>
+ * Differently from the {@link AbstractPool}s, which keep the last strings decoded by a single decoder, the entries
+ * are only added by {@link #intern(SimpleString)} and are looked up without any allocation. The table is bounded and
+ * lock-free: an entry that can't find a free slot within a few probes is simply not interned and entries are never
+ * removed.
+ */
+public final class SimpleStringInterner {
+
+   public static final String CAPACITY_PROPERTY = "org.apache.activemq.artemis.utils.SimpleStringInterner.capacity";
+
+   public static final int DEFAULT_CAPACITY = 4096;
+
+   // no need to hash and compare long strings, they aren't likely to be names or keys
+   public static final int MAX_LENGTH = 256;
+
+   private static final int MAX_PROBES = 8;
+
+   private static final SimpleStringInterner INSTANCE = new SimpleStringInterner(Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY));
+
+   private final AtomicReferenceArray<SimpleString> entries;
+
+   private final int mask;
+
+   public static SimpleStringInterner getInstance() {
+      return INSTANCE;
+   }
+
+   public SimpleStringInterner(final int capacity) {
+      entries = new AtomicReferenceArray<>(MathUtil.findNextPositivePowerOfTwo(Math.max(capacity, MAX_PROBES)));
+      mask = entries.length() - 1;
+   }
+
+   /**
+    * Adds a string to the table, if there is room for it.
+    *
+    * @return the instance already in the table for an equal string, otherwise {@code value}
+    */
+   public SimpleString intern(final SimpleString value) {
+      if (value == null || value.length() > MAX_LENGTH) {
+         return value;
+      }
+      final int hashCode = value.hashCode();
+      for (int i = 0; i < MAX_PROBES; i++) {
+         final int index = (hashCode + i) & mask;
+         final SimpleString entry = entries.get(index);
+         if (entry == null) {
+            if (entries.compareAndSet(index, null, value)) {
+               return value;
+            }
+            // lost the slot, it could have been taken by an equal string
+            final SimpleString winner = entries.get(index);
+            if (winner.equals(value)) {
+               return winner;
+            }
+         } else if (entry.equals(value)) {
+            return entry;
+         }
+      }
+      return value;
+   }
+
+   /**
+    * @return the interned string equal to the {@code length} bytes of {@code byteBuf} starting at {@code offset}, as
+    * encoded by {@link SimpleString#writeSimpleString}, or {@code null} if there isn't any
+    */
+   public SimpleString get(final ByteBuf byteBuf, final int offset, final int length) {
+      if (length > MAX_LENGTH << 1) {
+         return null;
+      }
+      int hashCode = 0;
+      for (int i = offset; i < offset + length; i++) {
+         hashCode = 31 * hashCode + byteBuf.getByte(i);
+      }
+      for (int i = 0; i < MAX_PROBES; i++) {
+         final SimpleString entry = entries.get((hashCode + i) & mask);
+         if (entry == null) {
+            return null;
+         }
+         if (entry.equals(byteBuf, offset, length)) {
+            return entry;
+         }
+      }
+      return null;
+   }
+
+   /**
+    * @return the interned string equal to {@code value} or {@code null} if there isn't any
+    */
+   public SimpleString get(final String value) {
+      if (value.length() > MAX_LENGTH) {
+         return null;
+      }
+      // the hash code of the string encoded as a SimpleString, i.e. the low byte then the high byte of every char
+      int hashCode = 0;
+      for (int i = 0; i < value.length(); i++) {
+         final char c = value.charAt(i);
+         hashCode = 31 * hashCode + (byte) (c & 0xFF);
+         hashCode = 31 * hashCode + (byte) (c >> 8 & 0xFF);
+      }
+      for (int i = 0; i < MAX_PROBES; i++) {
+         final SimpleString entry = entries.get((hashCode + i) & mask);
+         if (entry == null) {
+            return null;
+         }
+         if (entry.hashCode() == hashCode && entry.toString().equals(value)) {
+            return entry;
+         }
+      }
+      return null;
+   }
+
+   /**
+    * @return the number of interned strings
+    */
+   public int size() {
+      int size = 0;
+      for (int i = 0; i < entries.length(); i++) {
+         if (entries.get(i) != null) {
+            size++;
+         }
+      }
+      return size;
+   }
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.utils;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An executor running every task on a new virtual thread, so that tasks blocking on I/O (e.g. JDBC, LDAP or
+ * large message files) don't hold a platform thread of a bounded pool while waiting.
+ * <p>
+ * Virtual threads need Java 21, while this code is built for an older release: they are created reflectively and
+ * {@link #isSupported()} tells whether the running JVM provides them. Wrapping this executor in an
+ * {@link org.apache.activemq.artemis.utils.actors.OrderedExecutor} keeps the tasks of each ordered executor running
+ * one at a time and in order, as with a pool of platform threads.
+ * <p>
+ * A virtual thread blocking while pinned to its carrier thread (e.g. inside a {@code synchronized} block) holds the
+ * carrier the same way a platform thread would. When JFR is available the {@code jdk.VirtualThreadPinned} events
+ * of the JVM are counted, see {@link #getPinnedCount()}.
+ */
+public final class VirtualThreadExecutor extends AbstractExecutorService {
+
+   private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+   private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+   private static final boolean SUPPORTED = checkSupported();
+
+   private final ExecutorService delegate;
+
+   private final AtomicInteger activeCount = new AtomicInteger();
+
+   private final LongAdder completedCount = new LongAdder();
+
+   private final LongAdder pinnedCount = new LongAdder();
+
+   private final AutoCloseable pinnedEventStream;
+
+   private final ClassLoader tccl;
+
+   /**
+    * @param namePrefix the prefix of the names of the virtual threads, followed by a counter
+    * @throws UnsupportedOperationException if the running JVM doesn't provide virtual threads
+    */
+   public VirtualThreadExecutor(final String namePrefix) {
+      this(namePrefix, null);
+   }
+
+   /**
+    * @param namePrefix the prefix of the names of the virtual threads, followed by a counter
+    * @param tccl       the context class loader of the tasks, as set by a {@link ActiveMQThreadFactory} on the
+    *                   threads of a pool, or null to keep the one the virtual threads inherit from the thread
+    *                   submitting the task
+    * @throws UnsupportedOperationException if the running JVM doesn't provide virtual threads
+    */
+   public VirtualThreadExecutor(final String namePrefix, final ClassLoader tccl) {
+      if (!SUPPORTED) {
+         throw new UnsupportedOperationException("Virtual threads are not supported by this JVM");
+      }
+      try {
+         delegate = (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, newThreadFactory(namePrefix));
+      } catch (ReflectiveOperationException e) {
+         throw new IllegalStateException(e);
+      }
+      pinnedEventStream = startPinnedEventStream(pinnedCount);
+      this.tccl = tccl;
+   }
+
+   /**
+    * @return true if the running JVM provides virtual threads
+    */
+   public static boolean isSupported() {
+      return SUPPORTED;
+   }
+
+   private static boolean checkSupported() {
+      try {
+         newThreadFactory("");
+         return true;
+      } catch (Throwable e) {
+         // older JVM or a preview feature not enabled
+         logger.debug("Virtual threads are not supported", e);
+         return false;
+      }
+   }
+
+   private static ThreadFactory newThreadFactory(final String namePrefix) throws ReflectiveOperationException {
+      final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+      return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+   }
+
+   private static AutoCloseable startPinnedEventStream(final LongAdder pinnedCount) {
+      try {
+         final Class<?> streamClass = Class.forName("jdk.jfr.consumer.RecordingStream");
+         final Object stream = streamClass.getConstructor().newInstance();
+         streamClass.getMethod("enable", String.class).invoke(stream, PINNED_EVENT);
+         final Consumer<Object> counter = event -> pinnedCount.increment();
+         streamClass.getMethod("onEvent", String.class, Consumer.class).invoke(stream, PINNED_EVENT, counter);
+         streamClass.getMethod("startAsync").invoke(stream);
+         return (AutoCloseable) stream;
+      } catch (Throwable e) {
+         logger.debug("Cannot record the pinning of virtual threads", e);
+         return null;
+      }
+   }
+
+   @Override
+   public void execute(final Runnable command) {
+      delegate.execute(() -> {
+         if (tccl != null) {
+            // every task runs on a new virtual thread
+            Thread.currentThread().setContextClassLoader(tccl);
+         }
+         activeCount.incrementAndGet();
+         try {
+            command.run();
+         } finally {
+            activeCount.decrementAndGet();
+            completedCount.increment();
+         }
+      });
+   }
+
+   /**
+    * @return the number of tasks running, i.e. of virtual threads alive
+    */
+   public int getActiveCount() {
+      return activeCount.get();
+   }
+
+   public long getCompletedTaskCount() {
+      return completedCount.sum();
+   }
+
+   /**
+    * @return the number of times a virtual thread of the JVM blocked while pinned to its carrier thread for longer
+    * than the JFR threshold of {@code jdk.VirtualThreadPinned} (20 ms by default), or -1 if JFR is not available
+    */
+   public long getPinnedCount() {
+      return pinnedEventStream == null ? -1 : pinnedCount.sum();
+   }
+
+   @Override
+   public void shutdown() {
+      delegate.shutdown();
+      closePinnedEventStream();
+   }
+
+   @Override
+   public List<Runnable> shutdownNow() {
+      closePinnedEventStream();
+      return delegate.shutdownNow();
+   }
+
+   private void closePinnedEventStream() {
+      if (pinnedEventStream != null) {
+         try {
+            pinnedEventStream.close();
+         } catch (Exception e) {
+            logger.debug("Error closing the recording of pinned virtual threads", e);
+         }
+      }
+   }
+
+   @Override
+   public boolean isShutdown() {
+      return delegate.isShutdown();
+   }
+
+   @Override
+   public boolean isTerminated() {
+      return delegate.isTerminated();
+   }
+
+   @Override
+   public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+      return delegate.awaitTermination(timeout, unit);
+   }
+
+   @Override
+   public String toString() {
+      return "VirtualThreadExecutor[active=" + activeCount.get() + ", completed=" + completedCount.sum() + ", pinned=" + getPinnedCount() + "]";
+   }
+}
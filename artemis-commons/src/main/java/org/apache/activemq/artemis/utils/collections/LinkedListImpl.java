@@ -83,7 +83,7 @@ public class LinkedListImpl<E> implements LinkedList<E> {
 
    @Override
    public void addHead(E e) {
-      Node<E> node = Node.with(e);
+      Node<E> node = Node.with(e, this);
 
       node.next = head.next;
 
@@ -144,6 +144,25 @@ public class LinkedListImpl<E> implements LinkedList<E> {
    }
 
 
+   /**
+    * Remove {@code e} in constant time, without walking the list, when {@code e} is itself a {@link Node}
+    * that was added to this list without being wrapped (i.e. it wasn't linked to any other list at the time).
+    *
+    * @return {@code true} if {@code e} was removed, {@code false} if it isn't linked to this list as a node itself
+    */
+   public boolean removeIntrusive(E e) {
+      if (!(e instanceof Node)) {
+         return false;
+      }
+      final Node<E> node = (Node<E>) e;
+      if (node.list != this || node.prev == null) {
+         return false;
+      }
+      // the node will always have a prev element
+      removeAfter(node.prev);
+      return true;
+   }
+
    @Override
    public void forEach(Consumer<E> consumer) {
       try (LinkedListIterator<E> iter = iterator()) {
@@ -171,7 +190,7 @@ public class LinkedListImpl<E> implements LinkedList<E> {
       if (size == 0) {
          addHead(e);
       } else {
-         Node<E> node = Node.with(e);
+         Node<E> node = Node.with(e, this);
 
          node.prev = tail;
 
@@ -230,7 +249,7 @@ public class LinkedListImpl<E> implements LinkedList<E> {
    }
 
    private void addAfter(Node<E> node, E e) {
-      Node<E> newNode = Node.with(e);
+      Node<E> newNode = Node.with(e, this);
       Node<E> nextNode = node.next;
       node.next = newNode;
       newNode.prev = node;
@@ -325,6 +344,7 @@ public class LinkedListImpl<E> implements LinkedList<E> {
       //Help GC - otherwise GC potentially has to traverse a very long list to see if elements are reachable, this can result in OOM
       //https://jira.jboss.org/browse/HORNETQ-469
       toRemove.next = toRemove.prev = null;
+      toRemove.list = null;
    }
 
    private synchronized void nudgeIterators(Node<E> node) {
@@ -403,18 +423,22 @@ public class LinkedListImpl<E> implements LinkedList<E> {
 
       private int iterCount;
 
-      private static <E> Node<E> with(final E o) {
+      // the list this node is linked to, if any
+      private LinkedListImpl<E> list;
+
+      private static <E> Node<E> with(final E o, final LinkedListImpl<E> list) {
          Objects.requireNonNull(o, "Only HEAD nodes are allowed to hold null values");
-         if (o instanceof Node) {
-            final Node node = (Node) o;
+         final Node<E> node;
+         if (o instanceof Node && ((Node) o).prev == null && ((Node) o).next == null) {
             //only a node that not belong already to a list is allowed to be reused
-            if (node.prev == null && node.next == null) {
-               //reset the iterCount
-               node.iterCount = 0;
-               return node;
-            }
+            node = (Node<E>) o;
+            //reset the iterCount
+            node.iterCount = 0;
+         } else {
+            node = new NodeHolder<>(o);
          }
-         return new NodeHolder<>(o);
+         node.list = list;
+         return node;
       }
 
       @SuppressWarnings("unchecked")
@@ -44,6 +44,14 @@ public interface PriorityLinkedList<E> {
 
    E removeWithID(String listID, long id);
 
+   /**
+    * Remove {@code e} in constant time if it's linked to this list as a node itself.
+    *
+    * @see LinkedListImpl#removeIntrusive(Object)
+    * @return {@code true} if {@code e} was removed
+    */
+   boolean removeIntrusive(E e);
+
    /**
     * Returns the size of this list.<br>
     * It is safe to be called concurrently.
@@ -126,6 +126,21 @@ public class PriorityLinkedListImpl<E> implements PriorityLinkedList<E> {
       return null;
    }
 
+   @Override
+   public boolean removeIntrusive(E e) {
+      for (int l = levels.length - 1; l >= 0; l--) {
+         final LinkedListImpl<E> level = levels[l];
+         if (level.removeIntrusive(e)) {
+            exclusiveIncrementSize(-1);
+            if (level.size() == 0 && highestPriority == l) {
+               highestPriority--;
+            }
+            return true;
+         }
+      }
+      return false;
+   }
+
    @Override
    public E peek() {
       for (LinkedListImpl<E> level : levels) {
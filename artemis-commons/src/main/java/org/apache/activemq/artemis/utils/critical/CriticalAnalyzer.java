@@ -47,5 +47,16 @@ public interface CriticalAnalyzer extends ActiveMQComponent {
 
    CriticalAnalyzer addAction(CriticalAction action);
 
+   /**
+    * @return the profiler recording the durations of the critical paths, or null if they are not profiled
+    */
+   default CriticalProfiler getProfiler() {
+      return null;
+   }
+
+   default CriticalAnalyzer setProfiler(CriticalProfiler profiler) {
+      return this;
+   }
+
    void check();
 }
\ No newline at end of file
@@ -41,6 +41,8 @@ public class CriticalAnalyzerImpl implements CriticalAnalyzer {
 
    private final AtomicBoolean running = new AtomicBoolean(false);
 
+   private volatile CriticalProfiler profiler;
+
    public CriticalAnalyzerImpl() {
       // this will make the scheduled component to start its own pool
 
@@ -131,8 +133,23 @@ public class CriticalAnalyzerImpl implements CriticalAnalyzer {
       return this;
    }
 
+   @Override
+   public CriticalProfiler getProfiler() {
+      return profiler;
+   }
+
+   @Override
+   public CriticalAnalyzer setProfiler(CriticalProfiler profiler) {
+      this.profiler = profiler;
+      return this;
+   }
+
    @Override
    public void check() {
+      final CriticalProfiler profiler = this.profiler;
+      if (profiler != null) {
+         profiler.check();
+      }
       boolean retry = true;
       while (retry) {
          try {
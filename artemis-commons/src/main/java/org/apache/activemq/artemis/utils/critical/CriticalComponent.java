@@ -30,6 +30,13 @@ public interface CriticalComponent {
 
    CriticalCloseable measureCritical(int path);
 
+   /**
+    * @return the name of a path, as reported by the {@link CriticalProfiler}
+    */
+   default String getCriticalPathName(int path) {
+      return String.valueOf(path);
+   }
+
    /**
     * Check if the component is expired at a given timeout.. on any of its paths.
     * @param timeout - the timeout to check if the component is expired
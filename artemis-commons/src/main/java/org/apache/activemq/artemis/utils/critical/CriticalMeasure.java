@@ -76,6 +76,10 @@ public class CriticalMeasure {
    private final int id;
    private final CriticalComponent component;
 
+   // the profile of this path, resolved once per profiler; only the thread measuring the path uses them
+   private CriticalProfiler profiler;
+   private CriticalPathProfile profile;
+
    public CriticalMeasure(CriticalComponent component, int id) {
       this.id = id;
       this.component = component;
@@ -104,6 +108,11 @@ public class CriticalMeasure {
    }
 
    protected void leaveCritical() {
+      final long thisTimeEnter = timeEnter;
+      if (thisTimeEnter != 0L) {
+         profile(System.nanoTime() - thisTimeEnter);
+      }
+
       if (logger.isTraceEnabled()) {
 
          CriticalAnalyzer analyzer = component != null ? component.getCriticalAnalyzer() : null;
@@ -119,6 +128,20 @@ public class CriticalMeasure {
       timeEnter = 0L;
    }
 
+   private void profile(long nanos) {
+      final CriticalAnalyzer analyzer = component != null ? component.getCriticalAnalyzer() : null;
+      final CriticalProfiler profiler = analyzer != null ? analyzer.getProfiler() : null;
+      if (profiler == null) {
+         return;
+      }
+      if (profiler != this.profiler) {
+         final String simpleName = component.getClass().getSimpleName();
+         profile = profiler.getProfile(simpleName.isEmpty() ? component.getClass().getName() : simpleName, component.getCriticalPathName(id));
+         this.profiler = profiler;
+      }
+      profile.record(nanos);
+   }
+
    protected String getComponentName() {
       if (component == null) {
          return "null";
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.utils.critical;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The durations of a critical path, across all the components of the same kind (e.g. all the queues).
+ * <p>
+ * The durations are counted in log-linear buckets: every power of two is split in {@code 8} linear buckets, so a
+ * percentile is known within 12.5% of its value at a fixed cost for each duration recorded, whatever the durations are.
+ */
+public final class CriticalPathProfile {
+
+   private static final int SUB_BUCKET_BITS = 3;
+
+   private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+   // the buckets of the durations up to Long.MAX_VALUE nanoseconds
+   private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+   private final String componentName;
+
+   private final String pathName;
+
+   private final long slowThresholdNanos;
+
+   private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+   private final AtomicLong count = new AtomicLong();
+
+   private final AtomicLong totalNanos = new AtomicLong();
+
+   private final AtomicLong maxNanos = new AtomicLong();
+
+   private final AtomicLong slowCount = new AtomicLong();
+
+   // the slow count at the previous check of the profiler
+   private long checkedSlowCount;
+
+   public CriticalPathProfile(String componentName, String pathName, long slowThresholdNanos) {
+      this.componentName = componentName;
+      this.pathName = pathName;
+      this.slowThresholdNanos = slowThresholdNanos;
+   }
+
+   public String getComponentName() {
+      return componentName;
+   }
+
+   public String getPathName() {
+      return pathName;
+   }
+
+   public void record(long nanos) {
+      if (nanos < 0) {
+         nanos = 0;
+      }
+      buckets.incrementAndGet(bucket(nanos));
+      count.incrementAndGet();
+      totalNanos.addAndGet(nanos);
+      maxNanos.accumulateAndGet(nanos, Math::max);
+      if (slowThresholdNanos > 0 && nanos >= slowThresholdNanos) {
+         slowCount.incrementAndGet();
+      }
+   }
+
+   static int bucket(long nanos) {
+      if (nanos < SUB_BUCKETS) {
+         return (int) nanos;
+      }
+      final int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+      final int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+      return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+   }
+
+   static long bucketUpperBound(int bucket) {
+      if (bucket < SUB_BUCKETS) {
+         return bucket;
+      }
+      final int shift = bucket / SUB_BUCKETS - 1;
+      final long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+      return lowerBound + ((1L << shift) - 1);
+   }
+
+   public long getCount() {
+      return count.get();
+   }
+
+   public long getSlowCount() {
+      return slowCount.get();
+   }
+
+   public long getMax(TimeUnit unit) {
+      return unit.convert(maxNanos.get(), TimeUnit.NANOSECONDS);
+   }
+
+   public double getMean(TimeUnit unit) {
+      final long count = this.count.get();
+      return count == 0 ? 0 : (double) totalNanos.get() / count / unit.toNanos(1);
+   }
+
+   /**
+    * @param percentile between 0 and 100
+    * @return the highest duration of the bucket holding the percentile, or 0 if nothing was recorded
+    */
+   public double getValueAtPercentile(double percentile, TimeUnit unit) {
+      final long count = this.count.get();
+      if (count == 0) {
+         return 0;
+      }
+      final long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * count));
+      final long max = maxNanos.get();
+      long seen = 0;
+      for (int i = 0; i < BUCKETS; i++) {
+         seen += buckets.get(i);
+         if (seen >= rank) {
+            return (double) Math.min(bucketUpperBound(i), max) / unit.toNanos(1);
+         }
+      }
+      return (double) max / unit.toNanos(1);
+   }
+
+   /**
+    * @return the number of slow durations recorded since the previous call
+    */
+   synchronized long checkSlowCount() {
+      final long slowCount = this.slowCount.get();
+      final long newSlowCount = slowCount - checkedSlowCount;
+      checkedSlowCount = slowCount;
+      return newSlowCount;
+   }
+
+   public synchronized void reset() {
+      for (int i = 0; i < BUCKETS; i++) {
+         buckets.set(i, 0);
+      }
+      count.set(0);
+      totalNanos.set(0);
+      maxNanos.set(0);
+      slowCount.set(0);
+      checkedSlowCount = 0;
+   }
+
+   @Override
+   public String toString() {
+      return "CriticalPathProfile[componentName=" + componentName + ", pathName=" + pathName + ", count=" + count + ", slowCount=" + slowCount + "]";
+   }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.utils.critical;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps a {@link CriticalPathProfile} of the durations of every critical path measured by the {@link CriticalAnalyzer}.
+ * <p>
+ * Where the analyzer only finds out about a path that didn't complete within its timeout, the profiler records how
+ * long every path took, so that a component getting slow is noticed well before it is considered dead: every check of
+ * the analyzer logs the paths that took longer than the slow threshold since the previous check.
+ */
+public class CriticalProfiler {
+
+   private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+   private final long slowThresholdNanos;
+
+   private final ConcurrentMap<String, CriticalPathProfile> profiles = new ConcurrentHashMap<>();
+
+   private volatile Consumer<CriticalPathProfile> profileListener;
+
+   public CriticalProfiler(long slowThreshold, TimeUnit unit) {
+      this.slowThresholdNanos = unit.toNanos(slowThreshold);
+   }
+
+   public long getSlowThreshold(TimeUnit unit) {
+      return unit.convert(slowThresholdNanos, TimeUnit.NANOSECONDS);
+   }
+
+   /**
+    * @param profileListener called once for every profile created, e.g. to export it
+    */
+   public CriticalProfiler setProfileListener(Consumer<CriticalPathProfile> profileListener) {
+      this.profileListener = profileListener;
+      return this;
+   }
+
+   public CriticalPathProfile getProfile(String componentName, String pathName) {
+      final String key = componentName + "." + pathName;
+      CriticalPathProfile profile = profiles.get(key);
+      if (profile == null) {
+         profile = new CriticalPathProfile(componentName, pathName, slowThresholdNanos);
+         final CriticalPathProfile existing = profiles.putIfAbsent(key, profile);
+         if (existing != null) {
+            return existing;
+         }
+         final Consumer<CriticalPathProfile> listener = profileListener;
+         if (listener != null) {
+            try {
+               listener.accept(profile);
+            } catch (Throwable e) {
+               logger.warn(e.getMessage(), e);
+            }
+         }
+      }
+      return profile;
+   }
+
+   public Collection<CriticalPathProfile> getProfiles() {
+      return profiles.values();
+   }
+
+   public void reset() {
+      for (CriticalPathProfile profile : profiles.values()) {
+         profile.reset();
+      }
+   }
+
+   /**
+    * @return the profiles of the paths that took longer than the slow threshold since the previous check
+    */
+   public List<CriticalPathProfile> check() {
+      final List<CriticalPathProfile> slowProfiles = new ArrayList<>();
+      for (CriticalPathProfile profile : profiles.values()) {
+         final long slowCount = profile.checkSlowCount();
+         if (slowCount > 0) {
+            slowProfiles.add(profile);
+            logger.warn("Path {} on component {} took longer than {} milliseconds {} times since the previous check, max {} milliseconds", profile.getPathName(), profile.getComponentName(), getSlowThreshold(TimeUnit.MILLISECONDS), slowCount, profile.getMax(TimeUnit.MILLISECONDS));
+         }
+      }
+      return slowProfiles;
+   }
+}
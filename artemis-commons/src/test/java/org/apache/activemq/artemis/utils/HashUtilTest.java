@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HashUtilTest {
+
+   @Test
+   public void testMix() {
+      Assert.assertEquals(0, HashUtil.mix(0));
+      Assert.assertEquals(HashUtil.mix(42), HashUtil.mix(42));
+
+      // consecutive values differ in about half of their bits once mixed
+      int differentBits = 0;
+      for (long value = 1; value <= 1000; value++) {
+         differentBits += Long.bitCount(HashUtil.mix(value) ^ HashUtil.mix(value - 1));
+      }
+      Assert.assertEquals(32, differentBits / 1000.0, 2);
+   }
+}
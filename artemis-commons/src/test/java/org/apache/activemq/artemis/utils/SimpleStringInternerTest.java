@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.utils;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SimpleStringInternerTest {
+
+   @Test
+   public void testInternReturnsFirstInstance() {
+      final SimpleStringInterner interner = new SimpleStringInterner(16);
+      final SimpleString address = SimpleString.toSimpleString("orders");
+      Assert.assertSame(address, interner.intern(address));
+      Assert.assertSame(address, interner.intern(SimpleString.toSimpleString("orders")));
+      Assert.assertEquals(1, interner.size());
+   }
+
+   @Test
+   public void testGet() {
+      final SimpleStringInterner interner = new SimpleStringInterner(16);
+      final SimpleString key = SimpleString.toSimpleString("_AMQ_DUPL_ID\u00e9\u4e2d");
+      interner.intern(key);
+
+      Assert.assertSame(key, interner.get(key.toString()));
+      Assert.assertNull(interner.get("_AMQ_GROUP_ID"));
+
+      final ByteBuf buffer = Unpooled.buffer();
+      buffer.writeByte(0);
+      SimpleString.writeSimpleString(buffer, key);
+      // skip the byte and the length
+      Assert.assertSame(key, interner.get(buffer, 5, key.getData().length));
+      Assert.assertNull(interner.get(buffer, 5, key.getData().length - 2));
+   }
+
+   @Test
+   public void testBounded() {
+      final SimpleStringInterner interner = new SimpleStringInterner(16);
+      for (int i = 0; i < 100; i++) {
+         final SimpleString value = SimpleString.toSimpleString("queue" + i);
+         final SimpleString interned = interner.intern(value);
+         Assert.assertSame(value, interned);
+         // not found if there was no room for it
+         final SimpleString found = interner.get(value.toString());
+         Assert.assertTrue(found == null || found == value);
+      }
+      Assert.assertEquals(16, interner.size());
+   }
+
+   @Test
+   public void testPoolsShareInternedInstances() {
+      final SimpleString address = SimpleStringInterner.getInstance().intern(SimpleString.toSimpleString("interned.address.with.a.name.longer.than.the.pools"));
+      Assert.assertSame(address, new SimpleString.StringSimpleStringPool().getOrCreate(address.toString()));
+
+      final ByteBuf buffer = Unpooled.buffer();
+      SimpleString.writeSimpleString(buffer, address);
+      Assert.assertSame(address, new SimpleString.ByteBufSimpleStringPool().getOrCreate(buffer));
+      Assert.assertEquals(0, buffer.readableBytes());
+   }
+}
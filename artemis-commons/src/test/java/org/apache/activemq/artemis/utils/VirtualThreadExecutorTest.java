@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.utils;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.activemq.artemis.utils.actors.OrderedExecutor;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+public class VirtualThreadExecutorTest {
+
+   @Test
+   public void testNotSupported() {
+      Assume.assumeFalse(VirtualThreadExecutor.isSupported());
+      try {
+         new VirtualThreadExecutor("test-");
+         Assert.fail("virtual threads are not supported");
+      } catch (UnsupportedOperationException expected) {
+      }
+   }
+
+   @Test
+   public void testOrderedExecutorKeepsOrder() throws Exception {
+      Assume.assumeTrue(VirtualThreadExecutor.isSupported());
+      final VirtualThreadExecutor executor = new VirtualThreadExecutor("test-");
+      try {
+         final OrderedExecutor ordered = new OrderedExecutor(executor);
+         final List<Integer> executed = new ArrayList<>();
+         final CountDownLatch done = new CountDownLatch(1);
+         for (int i = 0; i < 100; i++) {
+            final int task = i;
+            ordered.execute(() -> {
+               // blocking doesn't let the next task run before this one completes
+               Thread.yield();
+               executed.add(task);
+            });
+         }
+         ordered.execute(done::countDown);
+         Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+         for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(i, (int) executed.get(i));
+         }
+         Assert.assertTrue(Wait.waitFor(() -> executor.getActiveCount() == 0));
+      } finally {
+         executor.shutdown();
+      }
+      Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+   }
+
+   @Test
+   public void testContextClassLoader() throws Exception {
+      Assume.assumeTrue(VirtualThreadExecutor.isSupported());
+      final ClassLoader tccl = new URLClassLoader(new URL[0], VirtualThreadExecutorTest.class.getClassLoader());
+      final VirtualThreadExecutor executor = new VirtualThreadExecutor("test-", tccl);
+      final ClassLoader submitting = Thread.currentThread().getContextClassLoader();
+      Thread.currentThread().setContextClassLoader(new URLClassLoader(new URL[0], null));
+      try {
+         final AtomicReference<ClassLoader> taskClassLoader = new AtomicReference<>();
+         final CountDownLatch done = new CountDownLatch(1);
+         executor.execute(() -> {
+            taskClassLoader.set(Thread.currentThread().getContextClassLoader());
+            done.countDown();
+         });
+         Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+         // not the one of the thread submitting the task
+         Assert.assertSame(tccl, taskClassLoader.get());
+      } finally {
+         Thread.currentThread().setContextClassLoader(submitting);
+         executor.shutdown();
+      }
+   }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.utils.critical;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CriticalProfilerTest {
+
+   @Test
+   public void testProfileMeasuredPaths() throws Exception {
+      CriticalAnalyzer analyzer = new CriticalAnalyzerImpl();
+      CriticalProfiler profiler = new CriticalProfiler(1, TimeUnit.SECONDS);
+      List<CriticalPathProfile> created = new ArrayList<>();
+      profiler.setProfileListener(created::add);
+      analyzer.setProfiler(profiler);
+      CriticalComponent component = new CriticalComponentImpl(analyzer, 2);
+      for (int i = 0; i < 10; i++) {
+         try (AutoCloseable theMeasure = component.measureCritical(0)) {
+         }
+      }
+      try (AutoCloseable theMeasure = component.measureCritical(1)) {
+      }
+
+      Assert.assertEquals(2, created.size());
+      CriticalPathProfile profile = profiler.getProfile("CriticalComponentImpl", "0");
+      Assert.assertSame(created.get(0), profile);
+      Assert.assertEquals(10, profile.getCount());
+      Assert.assertEquals(0, profile.getSlowCount());
+      Assert.assertEquals(1, profiler.getProfile("CriticalComponentImpl", "1").getCount());
+   }
+
+   @Test
+   public void testSlowPath() throws Exception {
+      CriticalAnalyzer analyzer = new CriticalAnalyzerImpl();
+      CriticalProfiler profiler = new CriticalProfiler(1, TimeUnit.SECONDS);
+      analyzer.setProfiler(profiler);
+      CriticalMeasure measure = new CriticalMeasure(new CriticalComponentImpl(analyzer, 1), 0);
+      measure.enterCritical();
+      measure.timeEnter = System.nanoTime() - TimeUnit.SECONDS.toNanos(2);
+      measure.leaveCritical();
+      measure.enterCritical();
+      measure.leaveCritical();
+
+      CriticalPathProfile profile = profiler.getProfile("CriticalComponentImpl", "0");
+      Assert.assertEquals(2, profile.getCount());
+      Assert.assertEquals(1, profile.getSlowCount());
+      Assert.assertTrue(profile.getMax(TimeUnit.MILLISECONDS) >= 2000);
+
+      Assert.assertEquals(1, profiler.check().size());
+      // only the paths getting slow since the previous check are reported
+      Assert.assertEquals(0, profiler.check().size());
+
+      profiler.reset();
+      Assert.assertEquals(0, profile.getCount());
+      Assert.assertEquals(0, profile.getSlowCount());
+   }
+
+   @Test
+   public void testNotProfiledWithoutProfiler() throws Exception {
+      CriticalAnalyzer analyzer = new CriticalAnalyzerImpl();
+      CriticalComponent component = new CriticalComponentImpl(analyzer, 1);
+      try (AutoCloseable theMeasure = component.measureCritical(0)) {
+      }
+      CriticalProfiler profiler = new CriticalProfiler(1, TimeUnit.SECONDS);
+      analyzer.setProfiler(profiler);
+      Assert.assertTrue(profiler.getProfiles().isEmpty());
+      try (AutoCloseable theMeasure = component.measureCritical(0)) {
+      }
+      Assert.assertEquals(1, profiler.getProfiles().size());
+   }
+
+   @Test
+   public void testBuckets() {
+      long previousUpperBound = -1;
+      for (long value : new long[]{0, 1, 7, 8, 9, 15, 16, 17, 100, 1000, 123456789, Long.MAX_VALUE}) {
+         int bucket = CriticalPathProfile.bucket(value);
+         long upperBound = CriticalPathProfile.bucketUpperBound(bucket);
+         Assert.assertTrue(value + " over " + upperBound, value <= upperBound);
+         Assert.assertTrue(value + " under " + upperBound, upperBound - value <= value / 8);
+         Assert.assertTrue(upperBound >= previousUpperBound);
+         previousUpperBound = upperBound;
+      }
+   }
+
+   @Test
+   public void testPercentiles() {
+      CriticalPathProfile profile = new CriticalPathProfile("component", "path", 0);
+      Assert.assertEquals(0, profile.getValueAtPercentile(99, TimeUnit.MILLISECONDS), 0);
+      for (int i = 1; i <= 1000; i++) {
+         profile.record(TimeUnit.MILLISECONDS.toNanos(i));
+      }
+      Assert.assertEquals(500, profile.getValueAtPercentile(50, TimeUnit.MILLISECONDS), 500 / 8d);
+      Assert.assertEquals(990, profile.getValueAtPercentile(99, TimeUnit.MILLISECONDS), 990 / 8d);
+      Assert.assertEquals(1000, profile.getValueAtPercentile(100, TimeUnit.MILLISECONDS), 0);
+      Assert.assertEquals(500.5, profile.getMean(TimeUnit.MILLISECONDS), 0.001);
+      Assert.assertEquals(1000, profile.getMax(TimeUnit.MILLISECONDS));
+      Assert.assertEquals(0, profile.getSlowCount());
+   }
+}
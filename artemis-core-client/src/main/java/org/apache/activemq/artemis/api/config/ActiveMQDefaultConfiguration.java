@@ -150,6 +150,9 @@ public final class ActiveMQDefaultConfiguration {
    // Maximum number of threads to use for the thread pool. -1 means 'no limits'.
    private static int DEFAULT_THREAD_POOL_MAX_SIZE = 30;
 
+   // true means that the tasks of the thread pool run on virtual threads, when the JVM supports them
+   private static boolean DEFAULT_THREAD_POOL_VIRTUAL_THREADS = false;
+
    // true means that security is enabled
    private static boolean DEFAULT_SECURITY_ENABLED = true;
 
@@ -168,6 +171,12 @@ public final class ActiveMQDefaultConfiguration {
    // how large to make the authorization cache
    private static long DEFAULT_AUTHORIZATION_CACHE_SIZE = 1000;
 
+   // maximum number of threads authenticating users (or 0 to authenticate on the thread handling the connection)
+   private static int DEFAULT_AUTHENTICATION_THREAD_POOL_MAX_SIZE = 0;
+
+   // maximum number of authentications waiting for a thread before new ones are rejected
+   private static int DEFAULT_AUTHENTICATION_QUEUE_MAX_SIZE = 1000;
+
    // how long (in ms) to wait to acquire a file lock on the journal
    private static long DEFAULT_JOURNAL_LOCK_ACQUISITION_TIMEOUT = -1;
 
@@ -311,6 +320,9 @@ public final class ActiveMQDefaultConfiguration {
    // the directory to store large messages
    private static String DEFAULT_LARGE_MESSAGES_DIR = "data/largemessages";
 
+   // bytes of large message continuations that can be pending on disk writes before stopping reading from the connection (or -1 to write them synchronously)
+   private static int DEFAULT_LARGE_MESSAGE_WRITE_WINDOW = -1;
+
    // period in milliseconds between consecutive broadcasts
    private static long DEFAULT_BROADCAST_PERIOD = 2000;
 
@@ -391,6 +403,9 @@ public final class ActiveMQDefaultConfiguration {
    // how many times this cluster connection will notify the cluster of its existence right after joining the cluster
    private static int DEFAULT_CLUSTER_NOTIFICATION_ATTEMPTS = 2;
 
+   // how often the load of the local queues is reported to the cluster when using LOAD_AWARE message load balancing
+   private static long DEFAULT_CLUSTER_LOAD_REPORT_PERIOD = 1000;
+
    // whether this is an exclusive divert
    private static boolean DEFAULT_DIVERT_EXCLUSIVE = false;
 
@@ -600,6 +615,12 @@ public final class ActiveMQDefaultConfiguration {
 
    public static final long DEFAULT_ANALYZE_CRITICAL_TIMEOUT = 120000;
 
+   // should the critical analyzer record the durations of the critical paths
+   public static final boolean DEFAULT_ANALYZE_CRITICAL_PROFILER = false;
+
+   // the duration (in milliseconds) over which a critical path is logged as slow by the profiler
+   public static final long DEFAULT_ANALYZE_CRITICAL_SLOW_THRESHOLD = 1000;
+
    public static final long DEFAULT_RETROACTIVE_MESSAGE_COUNT = 0;
 
    public static final CriticalAnalyzerPolicy DEFAULT_ANALYZE_CRITICAL_POLICY = CriticalAnalyzerPolicy.LOG;
@@ -647,15 +668,27 @@ public final class ActiveMQDefaultConfiguration {
    // Number of concurrent workers for a core bridge
    public static int DEFAULT_BRIDGE_CONCURRENCY = 1;
 
+   // Number of forwarded messages a core bridge acknowledges at once on its queue
+   public static int DEFAULT_BRIDGE_ACK_BATCH_SIZE = 1;
+
+   // Bytes a core bridge can forward before waiting for the target to confirm them, -1 means no limit
+   public static int DEFAULT_BRIDGE_PENDING_WINDOW_SIZE = -1;
+
    // Whether or not to report Netty pool metrics
    private static final boolean DEFAULT_NETTY_POOL_METRICS = false;
 
+   // Whether or not to report Netty compression metrics
+   private static final boolean DEFAULT_NETTY_COMPRESSION_METRICS = false;
+
    // How often (in ms) to scan for expired MQTT sessions
    private static long DEFAULT_MQTT_SESSION_SCAN_INTERVAL = 500;
 
    // If SESSION-notifications should be suppressed or not
    public static boolean DEFAULT_SUPPRESS_SESSION_NOTIFICATIONS = false;
 
+   // If the buffers of the core messages received should be pooled
+   public static boolean DEFAULT_POOLED_MESSAGE_BUFFERS = false;
+
    public static final long DEFAULT_EMBEDDED_WEB_SERVER_RESTART_TIMEOUT = 5000;
 
    /**
@@ -697,6 +730,13 @@ public final class ActiveMQDefaultConfiguration {
       return DEFAULT_THREAD_POOL_MAX_SIZE;
    }
 
+   /**
+    * true means that the tasks of the thread pool run on virtual threads, when the JVM supports them
+    */
+   public static boolean isDefaultThreadPoolVirtualThreads() {
+      return DEFAULT_THREAD_POOL_VIRTUAL_THREADS;
+   }
+
    /**
     * true means that security is enabled
     */
@@ -739,6 +779,20 @@ public final class ActiveMQDefaultConfiguration {
       return DEFAULT_AUTHORIZATION_CACHE_SIZE;
    }
 
+   /**
+    * maximum number of threads authenticating users (or 0 to authenticate on the thread handling the connection)
+    */
+   public static int getDefaultAuthenticationThreadPoolMaxSize() {
+      return DEFAULT_AUTHENTICATION_THREAD_POOL_MAX_SIZE;
+   }
+
+   /**
+    * maximum number of authentications waiting for a thread before new ones are rejected
+    */
+   public static int getDefaultAuthenticationQueueMaxSize() {
+      return DEFAULT_AUTHENTICATION_QUEUE_MAX_SIZE;
+   }
+
    /**
     * how long (in ms) to wait to acquire a file lock on the journal
     */
@@ -1079,6 +1133,13 @@ public final class ActiveMQDefaultConfiguration {
       return DEFAULT_LARGE_MESSAGES_DIR;
    }
 
+   /**
+    * bytes of large message continuations that can be pending on disk writes before stopping reading from the connection (or -1 to write them synchronously)
+    */
+   public static int getDefaultLargeMessageWriteWindow() {
+      return DEFAULT_LARGE_MESSAGE_WRITE_WINDOW;
+   }
+
    /**
     * period in milliseconds between consecutive broadcasts
     */
@@ -1265,6 +1326,13 @@ public final class ActiveMQDefaultConfiguration {
       return DEFAULT_CLUSTER_NOTIFICATION_ATTEMPTS;
    }
 
+   /**
+    * how often the load of the local queues is reported to the cluster when using LOAD_AWARE message load balancing
+    */
+   public static long getDefaultClusterLoadReportPeriod() {
+      return DEFAULT_CLUSTER_LOAD_REPORT_PERIOD;
+   }
+
    /**
     * whether this is an exclusive divert
     */
@@ -1665,6 +1733,14 @@ public final class ActiveMQDefaultConfiguration {
       return DEFAULT_ANALYZE_CRITICAL_POLICY;
    }
 
+   public static boolean getCriticalAnalyzerProfiler() {
+      return DEFAULT_ANALYZE_CRITICAL_PROFILER;
+   }
+
+   public static long getCriticalAnalyzerSlowThreshold() {
+      return DEFAULT_ANALYZE_CRITICAL_SLOW_THRESHOLD;
+   }
+
 
    public static int getDefaultVoteRetries() {
       return DEFAULT_VOTE_RETRIES;
@@ -1778,6 +1854,14 @@ public final class ActiveMQDefaultConfiguration {
       return DEFAULT_BRIDGE_CONCURRENCY;
    }
 
+   public static int getDefaultBridgeAckBatchSize() {
+      return DEFAULT_BRIDGE_ACK_BATCH_SIZE;
+   }
+
+   public static int getDefaultBridgePendingWindowSize() {
+      return DEFAULT_BRIDGE_PENDING_WINDOW_SIZE;
+   }
+
    /**
     * Whether or not to report Netty pool metrics
     */
@@ -1785,6 +1869,13 @@ public final class ActiveMQDefaultConfiguration {
       return DEFAULT_NETTY_POOL_METRICS;
    }
 
+   /**
+    * Whether or not to report Netty compression metrics
+    */
+   public static Boolean getDefaultNettyCompressionMetrics() {
+      return DEFAULT_NETTY_COMPRESSION_METRICS;
+   }
+
    /**
     * How often (in ms) to scan for expired MQTT sessions
     */
@@ -1796,6 +1887,10 @@ public final class ActiveMQDefaultConfiguration {
       return DEFAULT_SUPPRESS_SESSION_NOTIFICATIONS;
    }
 
+   public static boolean getDefaultPooledMessageBuffers() {
+      return DEFAULT_POOLED_MESSAGE_BUFFERS;
+   }
+
    public static long getDefaultEmbeddedWebServerRestartTimeout() {
       return DEFAULT_EMBEDDED_WEB_SERVER_RESTART_TIMEOUT;
    }
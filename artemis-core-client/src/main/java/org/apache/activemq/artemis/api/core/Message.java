@@ -781,6 +781,14 @@ public interface Message {
    /** This should make you convert your message into Core format. */
    ICoreMessage toCore(CoreMessageObjectPools coreMessageObjectPools);
 
+   /**
+    * Same as {@link #toCore(CoreMessageObjectPools)}, but the conversion may be cached and shared by every
+    * consumer this message is delivered to, so the returned message must not be modified.
+    */
+   default ICoreMessage toSharedCore(CoreMessageObjectPools coreMessageObjectPools) {
+      return toCore(coreMessageObjectPools);
+   }
+
    int getMemoryEstimate();
 
    /**
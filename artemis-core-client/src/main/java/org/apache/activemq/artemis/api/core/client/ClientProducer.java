@@ -16,6 +16,9 @@
  */
 package org.apache.activemq.artemis.api.core.client;
 
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
 import org.apache.activemq.artemis.api.core.ActiveMQException;
 import org.apache.activemq.artemis.api.core.Message;
 import org.apache.activemq.artemis.api.core.SimpleString;
@@ -119,6 +122,68 @@ public interface ClientProducer extends AutoCloseable {
     */
    void send(String address, Message message) throws ActiveMQException;
 
+   /**
+    * Sends a message asynchronously, without blocking, whatever {@link ServerLocator#setBlockOnDurableSend(boolean)}
+    * and {@link ServerLocator#setBlockOnNonDurableSend(boolean)} are. <br>
+    * <br>
+    * The messages sent are pipelined: the producer only waits for credits, when the producer window is full.
+    * <p>
+    * The future is completed once the server acknowledged the message, as long as
+    * {@link ServerLocator#setConfirmationWindowSize(int)} was set, otherwise once the message was sent.
+    *
+    * @param message the message to send
+    * @return a future completed with the message, or completed exceptionally if the server failed to handle it
+    * @throws ActiveMQException if an exception occurs while sending the message
+    */
+   default CompletableFuture<Message> sendAsync(Message message) throws ActiveMQException {
+      return sendAsync(null, message);
+   }
+
+   /**
+    * Sends a message asynchronously to the specified address instead of the ClientProducer's address.
+    *
+    * @param address the address where the message will be sent
+    * @param message the message to send
+    * @return a future completed with the message, or completed exceptionally if the server failed to handle it
+    * @throws ActiveMQException if an exception occurs while sending the message
+    * @see #sendAsync(Message)
+    */
+   default CompletableFuture<Message> sendAsync(SimpleString address, Message message) throws ActiveMQException {
+      final CompletableFuture<Message> future = new CompletableFuture<>();
+      send(address, message, new SendAcknowledgementHandler() {
+         @Override
+         public void sendAcknowledged(Message message) {
+            future.complete(message);
+         }
+
+         @Override
+         public void sendFailed(Message message, Exception e) {
+            future.completeExceptionally(e);
+         }
+      });
+      return future;
+   }
+
+   /**
+    * Sends a batch of messages asynchronously to the specified address instead of the ClientProducer's address.
+    *
+    * @param address  the address where the messages will be sent
+    * @param messages the messages to send
+    * @return a future completed once all the messages are, or completed exceptionally if the server failed to handle
+    * any of them
+    * @throws ActiveMQException if an exception occurs while sending a message, the messages already sent are still
+    *                           completed
+    * @see #sendAsync(Message)
+    */
+   default CompletableFuture<Void> sendAsync(SimpleString address, Collection<? extends Message> messages) throws ActiveMQException {
+      final CompletableFuture<?>[] futures = new CompletableFuture<?>[messages.size()];
+      int i = 0;
+      for (Message message : messages) {
+         futures[i++] = sendAsync(address, message);
+      }
+      return CompletableFuture.allOf(futures);
+   }
+
    /**
     * Closes the ClientProducer. If already closed nothing is done.
     *
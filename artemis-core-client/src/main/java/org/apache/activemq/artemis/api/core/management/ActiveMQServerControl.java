@@ -506,6 +506,13 @@ public interface ActiveMQServerControl {
    @Attribute(desc = ADDRESS_MEMORY_USAGE_PERCENTAGE_DESCRIPTION)
    int getAddressMemoryUsagePercentage();
 
+   /**
+    * Returns the system load average for the last minute per available processor, or a negative value if it is not
+    * available on this platform
+    */
+   @Attribute(desc = "System load average for the last minute per available processor, negative if not available")
+   double getProcessorLoad();
+
    @Attribute(desc = "Returns the HA Policy of this broker as a String")
    String getHAPolicy();
 
@@ -2003,5 +2010,19 @@ public interface ActiveMQServerControl {
 
    @Attribute(desc = "Whether the embedded web server is started")
    boolean isEmbeddedWebServerStarted();
+
+   /**
+    * Lists the durations of the critical paths recorded by the critical analyzer as a JSON array, with the count,
+    * mean, percentiles and max in milliseconds and the number of slow durations of each path of each kind of component.
+    * The durations are only recorded when critical-analyzer and critical-analyzer-profiler are true.
+    */
+   @Operation(desc = "List the durations of the critical paths as a JSON string", impact = MBeanOperationInfo.INFO)
+   String listCriticalPathProfilesAsJSON() throws Exception;
+
+   /**
+    * Resets the durations of the critical paths recorded by the critical analyzer
+    */
+   @Operation(desc = "Resets the durations of the critical paths", impact = MBeanOperationInfo.ACTION)
+   void resetCriticalPathProfiles() throws Exception;
 }
 
@@ -136,9 +136,12 @@ public interface BridgeControl extends ActiveMQComponentControl {
     *
     * The messagesPendingAcknowledgement counter is incremented when the bridge is has forwarded a message but is waiting acknowledgement from the other broker.
     * The messagesAcknowledged counter is the number of messages actually received by the remote broker.
+    * The bytesPendingAcknowledgement gauge is the size of the messages waiting acknowledgement from the remote broker.
+    * The acknowledgementBatches counter is the number of batches of messages acknowledged on the bridge queue and
+    * averageAcknowledgementLatency their average time in milliseconds from forwarding to acknowledgement.
     *
     */
-   @Attribute(desc = "The metrics for this bridge. The messagesPendingAcknowledgement counter is incremented when the bridge is has forwarded a message but is waiting acknowledgement from the remote broker. The messagesAcknowledged counter is the number of messages actually received by the remote broker.")
+   @Attribute(desc = "The metrics for this bridge. The messagesPendingAcknowledgement counter is incremented when the bridge is has forwarded a message but is waiting acknowledgement from the remote broker. The messagesAcknowledged counter is the number of messages actually received by the remote broker. The bytesPendingAcknowledgement gauge is the size of the messages waiting acknowledgement from the remote broker. The acknowledgementBatches counter is the number of batches of messages acknowledged on the bridge queue and averageAcknowledgementLatency their average time in milliseconds from forwarding to acknowledgement.")
    Map<String, Object> getMetrics();
 
 }
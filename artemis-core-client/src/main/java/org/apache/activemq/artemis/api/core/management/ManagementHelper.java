@@ -87,6 +87,12 @@ public final class ManagementHelper {
 
    public static final SimpleString HDR_CLIENT_ID = new SimpleString("_AMQ_Client_ID");
 
+   public static final SimpleString HDR_MESSAGE_COUNT = new SimpleString("_AMQ_MessageCount");
+
+   public static final SimpleString HDR_DELIVERING_COUNT = new SimpleString("_AMQ_DeliveringCount");
+
+   public static final SimpleString HDR_CONSUMER_RATE = new SimpleString("_AMQ_ConsumerRate");
+
 
    /**
     * Stores a resource attribute in a message to retrieve the value from the server resource.
@@ -45,6 +45,10 @@ public interface QueueControl {
    String MESSAGES_EXPIRED_DESCRIPTION = "number of messages expired from this queue since it was created";
    String MESSAGES_KILLED_DESCRIPTION = "number of messages removed from this queue since it was created due to exceeding the max delivery attempts";
 
+   String ROUTE_LATENCY_DESCRIPTION = "sampled time from messages being routed to this queue to them being added to it";
+   String ENQUEUE_TO_DELIVER_LATENCY_DESCRIPTION = "sampled time from messages being added to this queue to them being delivered to a consumer";
+   String DELIVER_TO_ACK_LATENCY_DESCRIPTION = "sampled time from messages being delivered to a consumer to them being acknowledged";
+
    /**
     * Returns the name of this queue.
     */
@@ -703,6 +707,20 @@ public interface QueueControl {
    @Operation(desc = "Resets the MessagesKilled property", impact = MBeanOperationInfo.ACTION)
    void resetMessagesKilled() throws Exception;
 
+   /**
+    * Lists the route, enqueue to deliver and deliver to ack latencies sampled on this queue as a JSON object, with the
+    * count, mean, percentiles and max of each latency in milliseconds.
+    * The latencies are only sampled when the latency-sample-interval address setting of the queue is greater than 0.
+    */
+   @Operation(desc = "List the latencies sampled on this queue as a JSON string", impact = MBeanOperationInfo.INFO)
+   String listLatenciesAsJSON() throws Exception;
+
+   /**
+    * Resets the latencies sampled on this queue
+    */
+   @Operation(desc = "Resets the latencies sampled on this queue", impact = MBeanOperationInfo.ACTION)
+   void resetLatencies() throws Exception;
+
    /**
     * it will flush one cycle on internal executors, so you would be sure that any pending tasks are done before you call
     * any other measure.
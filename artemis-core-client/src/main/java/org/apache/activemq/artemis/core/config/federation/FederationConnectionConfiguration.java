@@ -36,6 +36,7 @@ public class FederationConnectionConfiguration implements Serializable {
    private String username;
    private String password;
    private boolean shareConnection;
+   private boolean shareSession;
 
    private long clientFailureCheckPeriod = ActiveMQDefaultConfiguration.getDefaultFederationFailureCheckPeriod();
    private long connectionTTL = ActiveMQDefaultConfiguration.getDefaultFederationConnectionTtl();
@@ -119,6 +120,15 @@ public class FederationConnectionConfiguration implements Serializable {
       return this;
    }
 
+   public boolean isShareSession() {
+      return shareSession;
+   }
+
+   public FederationConnectionConfiguration setShareSession(boolean shareSession) {
+      this.shareSession = shareSession;
+      return this;
+   }
+
    public long getClientFailureCheckPeriod() {
       return clientFailureCheckPeriod;
    }
@@ -222,6 +232,7 @@ public class FederationConnectionConfiguration implements Serializable {
           priorityAdjustment == that.priorityAdjustment &&
           circuitBreakerTimeout == that.circuitBreakerTimeout &&
           shareConnection == that.shareConnection &&
+          shareSession == that.shareSession &&
           Objects.equals(discoveryGroupName, that.discoveryGroupName) &&
           Objects.equals(staticConnectors, that.staticConnectors) &&
           Objects.equals(username, that.username) &&
@@ -234,7 +245,7 @@ public class FederationConnectionConfiguration implements Serializable {
           .hash(clientFailureCheckPeriod, connectionTTL, retryInterval, retryIntervalMultiplier,
               maxRetryInterval, initialConnectAttempts, reconnectAttempts, callTimeout,
               callFailoverTimeout, isHA, discoveryGroupName, staticConnectors, priorityAdjustment,
-              circuitBreakerTimeout, username, password, shareConnection);
+              circuitBreakerTimeout, username, password, shareConnection, shareSession);
    }
 
    public void encode(ActiveMQBuffer buffer) {
@@ -26,12 +26,18 @@ import org.apache.activemq.artemis.utils.Preconditions;
 
 public class FederationQueuePolicyConfiguration implements FederationPolicy<FederationQueuePolicyConfiguration>, Serializable {
 
+   public static final int DEFAULT_BATCH_SIZE = 1;
+
+   public static final long DEFAULT_PULL_INTERVAL = -1;
+
    private String name;
    private boolean includeFederated;
    private Set<Matcher> includes = new HashSet<>();
    private Set<Matcher> excludes = new HashSet<>();
    private Integer priorityAdjustment;
    private String transformerRef;
+   private int batchSize = DEFAULT_BATCH_SIZE;
+   private long pullInterval = DEFAULT_PULL_INTERVAL;
 
    @Override
    public String getName() {
@@ -89,6 +95,24 @@ public class FederationQueuePolicyConfiguration implements FederationPolicy<Fede
       return this;
    }
 
+   public int getBatchSize() {
+      return batchSize;
+   }
+
+   public FederationQueuePolicyConfiguration setBatchSize(int batchSize) {
+      this.batchSize = batchSize;
+      return this;
+   }
+
+   public long getPullInterval() {
+      return pullInterval;
+   }
+
+   public FederationQueuePolicyConfiguration setPullInterval(long pullInterval) {
+      this.pullInterval = pullInterval;
+      return this;
+   }
+
    @Override
    public void encode(ActiveMQBuffer buffer) {
       Preconditions.checkArgument(name != null, "name can not be null");
@@ -195,6 +219,8 @@ public class FederationQueuePolicyConfiguration implements FederationPolicy<Fede
       if (!(o instanceof FederationQueuePolicyConfiguration)) return false;
       FederationQueuePolicyConfiguration that = (FederationQueuePolicyConfiguration) o;
       return includeFederated == that.includeFederated &&
+            batchSize == that.batchSize &&
+            pullInterval == that.pullInterval &&
             Objects.equals(name, that.name) &&
             Objects.equals(includes, that.includes) &&
             Objects.equals(excludes, that.excludes) &&
@@ -204,6 +230,6 @@ public class FederationQueuePolicyConfiguration implements FederationPolicy<Fede
 
    @Override
    public int hashCode() {
-      return Objects.hash(name, includeFederated, includes, excludes, priorityAdjustment, transformerRef);
+      return Objects.hash(name, includeFederated, includes, excludes, priorityAdjustment, transformerRef, batchSize, pullInterval);
    }
 }
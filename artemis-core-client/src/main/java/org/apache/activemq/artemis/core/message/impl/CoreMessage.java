@@ -24,6 +24,7 @@ import javax.management.openmbean.CompositeType;
 import javax.management.openmbean.OpenDataException;
 import javax.management.openmbean.SimpleType;
 import java.io.InputStream;
+import java.lang.ref.Cleaner;
 import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.Objects;
@@ -56,6 +57,7 @@ import org.apache.activemq.artemis.core.persistence.Persister;
 import org.apache.activemq.artemis.core.protocol.core.impl.PacketImpl;
 import org.apache.activemq.artemis.reader.MessageUtil;
 import org.apache.activemq.artemis.utils.DataConstants;
+import org.apache.activemq.artemis.utils.SimpleStringInterner;
 import org.apache.activemq.artemis.utils.UUID;
 import org.apache.activemq.artemis.utils.collections.TypedProperties;
 import org.slf4j.Logger;
@@ -77,6 +79,24 @@ public class CoreMessage extends RefCountMessage implements ICoreMessage {
    // There's an integer with the number of bytes for the body
    public static final int BODY_OFFSET = DataConstants.SIZE_INT;
 
+   static {
+      // the property keys set by the broker and the clients, shared by all the decoded messages
+      final SimpleStringInterner interner = SimpleStringInterner.getInstance();
+      for (SimpleString key : new SimpleString[] {HDR_ROUTE_TO_IDS, HDR_SCALEDOWN_TO_IDS, HDR_ROUTE_TO_ACK_IDS, HDR_BRIDGE_DUPLICATE_ID,
+                                                  HDR_ACTUAL_EXPIRY_TIME, HDR_ORIGINAL_ADDRESS, HDR_ORIGINAL_QUEUE, HDR_ORIG_MESSAGE_ID,
+                                                  HDR_GROUP_ID, HDR_GROUP_SEQUENCE, HDR_LARGE_COMPRESSED, HDR_LARGE_BODY_SIZE,
+                                                  HDR_SCHEDULED_DELIVERY_TIME, HDR_DUPLICATE_DETECTION_ID, HDR_LAST_VALUE_NAME,
+                                                  HDR_CONTENT_TYPE, HDR_VALIDATED_USER, HDR_ROUTING_TYPE, HDR_ORIG_ROUTING_TYPE,
+                                                  HDR_INGRESS_TIMESTAMP, HDR_PREFIX, MessageUtil.CORRELATIONID_HEADER_NAME,
+                                                  MessageUtil.REPLYTO_HEADER_NAME, MessageUtil.TYPE_HEADER_NAME,
+                                                  MessageUtil.CONNECTION_ID_PROPERTY_NAME}) {
+         interner.intern(key);
+      }
+      for (String key : new String[] {MessageUtil.JMSXDELIVERYCOUNT, MessageUtil.JMSXGROUPID, MessageUtil.JMSXGROUPSEQ, MessageUtil.JMSXUSERID}) {
+         interner.intern(SimpleString.toSimpleString(key));
+      }
+   }
+
    /** That is the readInto for the whole message, including properties..
        it does not include the buffer for the Packet send and receive header on core protocol */
    protected ByteBuf buffer;
@@ -116,6 +136,12 @@ public class CoreMessage extends RefCountMessage implements ICoreMessage {
 
    private volatile Object owner;
 
+   // This message converted into another protocol, dropped as soon as this message changes
+   private volatile Message convertedMessage;
+
+   // Only set when the buffer comes from a pooled allocator, to give it back to the pool
+   private volatile Cleaner.Cleanable pooledBufferRelease;
+
    public CoreMessage(final CoreMessageObjectPools coreMessageObjectPools) {
       this.coreMessageObjectPools = coreMessageObjectPools;
    }
@@ -207,6 +233,55 @@ public class CoreMessage extends RefCountMessage implements ICoreMessage {
       decode(false);
    }
 
+   /**
+    * Receive a buffer allocated from a pooled allocator for this message only: the buffer is given back to the pool
+    * once the message isn't referenced anymore (see {@link #releaseComplete()}), or once it is garbage collected if it
+    * never got referenced, e.g. because it has been dropped while routed.
+    */
+   public void receivePooledBuffer(ByteBuf buffer) {
+      this.buffer = buffer;
+      this.pooledBufferRelease = PooledBufferCleaner.CLEANER.register(this, buffer::release);
+      decode(false);
+   }
+
+   public boolean isPooledBuffer() {
+      return pooledBufferRelease != null;
+   }
+
+   /**
+    * Move the content of a pooled buffer on heap and give the pooled buffer back, when this message is going to be
+    * used beyond the references counted, e.g. from the cache of a page.
+    */
+   public synchronized void unpoolBuffer() {
+      final Cleaner.Cleanable release = pooledBufferRelease;
+      if (release != null) {
+         final ByteBuf pooledBuffer = buffer;
+         buffer = Unpooled.buffer(pooledBuffer.capacity());
+         buffer.writeBytes(pooledBuffer, 0, pooledBuffer.capacity());
+         buffer.setIndex(pooledBuffer.readerIndex(), pooledBuffer.writerIndex());
+         if (writableBuffer != null) {
+            writableBuffer = null;
+            internalWritableBuffer();
+         }
+         pooledBufferRelease = null;
+         release.clean();
+      }
+   }
+
+   @Override
+   protected void releaseComplete() {
+      super.releaseComplete();
+      // no consumer is left to share the conversion, which isn't accounted in the memory estimate of this message
+      if (convertedMessage != null) {
+         convertedMessage = null;
+      }
+      final Cleaner.Cleanable release = pooledBufferRelease;
+      if (release != null) {
+         pooledBufferRelease = null;
+         release.clean();
+      }
+   }
+
    /** This will fix the incoming body of 1.x messages */
    @Override
    public void receiveBuffer_1X(ByteBuf buffer) {
@@ -426,6 +501,25 @@ public class CoreMessage extends RefCountMessage implements ICoreMessage {
       if (validBuffer) {
          validBuffer = false;
       }
+      if (convertedMessage != null) {
+         convertedMessage = null;
+      }
+   }
+
+   /**
+    * @return the conversion of this message into another protocol stored with {@link #setConvertedMessage(Message)},
+    * unless this message changed or has been released (see {@link #releaseComplete()}) since then
+    */
+   public Message getConvertedMessage() {
+      return convertedMessage;
+   }
+
+   /**
+    * Keep the conversion of this message into another protocol, so it can be shared by every consumer of that protocol.
+    * The converted message must not be modified once stored here.
+    */
+   public void setConvertedMessage(Message convertedMessage) {
+      this.convertedMessage = convertedMessage;
    }
 
    protected CoreMessage(CoreMessage other) {
@@ -461,7 +555,8 @@ public class CoreMessage extends RefCountMessage implements ICoreMessage {
             this.properties = new TypedProperties(copyProperties);
          }
          if (other.buffer != null) {
-            this.buffer = other.buffer.copy();
+            // the copy of a pooled buffer would come from the same pool but wouldn't be released with this message
+            this.buffer = other.isPooledBuffer() ? Unpooled.copiedBuffer(other.buffer) : other.buffer.copy();
          }
       }
    }
@@ -551,6 +646,9 @@ public class CoreMessage extends RefCountMessage implements ICoreMessage {
    @Override
    public CoreMessage setMessageID(long messageID) {
       internalSetMessageID(messageID);
+      if (convertedMessage != null) {
+         convertedMessage = null;
+      }
       if (messageIDPosition >= 0 && validBuffer) {
          buffer.setLong(messageIDPosition, messageID);
       }
@@ -1424,4 +1522,9 @@ public class CoreMessage extends RefCountMessage implements ICoreMessage {
    // Composite Data implementation
    // *******************************************************************************************************************************
 
+   // the cleaner thread is only started once a pooled buffer is received
+   private static final class PooledBufferCleaner {
+
+      private static final Cleaner CLEANER = Cleaner.create();
+   }
 }
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
@@ -127,7 +128,12 @@ public final class ChannelImpl implements Channel {
 
    private final int confWindowSize;
 
-   private int receivedBytes;
+   private static final AtomicIntegerFieldUpdater<ChannelImpl> RECEIVED_BYTES_UPDATER = AtomicIntegerFieldUpdater.newUpdater(ChannelImpl.class, "receivedBytes");
+
+   private volatile int receivedBytes;
+
+   // orders the confirmations written by the remoting thread and the remoting service timer thread
+   private final Object confirmationLock = new Object();
 
    private CommandConfirmationHandler commandConfirmationHandler;
 
@@ -253,20 +259,9 @@ public final class ChannelImpl implements Channel {
 
       final ResponseCache responseAsyncCache = this.responseAsyncCache;
 
-      synchronized (sendLock) {
-         packet.setChannelID(id);
-
-         if (responseAsyncCache != null && packet.isRequiresResponse() && packet.isResponseAsync()) {
-            packet.setCorrelationID(responseAsyncCache.nextCorrelationID());
-         }
-
-         if (logger.isTraceEnabled()) {
-            logger.trace("RemotingConnectionID={} Sending packet nonblocking {} on channelID={}",
-                         (connection == null ? "NULL" : connection.getID()), packet, id);
-         }
-
-         ActiveMQBuffer buffer = packet.encode(connection);
+      final ActiveMQBuffer buffer = encode(packet);
 
+      synchronized (sendLock) {
          lock.lock();
 
          try {
@@ -365,26 +360,37 @@ public final class ChannelImpl implements Channel {
       }
    }
 
+   /**
+    * Sets the channel and correlation IDs of a non-blocking packet and encodes it.
+    * <p>
+    * This doesn't need the {@code sendLock}: the correlation IDs only need to be unique, not ordered, so
+    * concurrent senders only serialize on adding the packet to the resend cache and writing it, which must
+    * happen in the same order for the command IDs to match on both sides.
+    */
+   private ActiveMQBuffer encode(final Packet packet) {
+      packet.setChannelID(id);
+
+      if (responseAsyncCache != null && packet.isRequiresResponse() && packet.isResponseAsync()) {
+         packet.setCorrelationID(responseAsyncCache.nextCorrelationID());
+      }
+
+      if (logger.isTraceEnabled()) {
+         logger.trace("RemotingConnectionID={} Sending packet nonblocking {} on channelID={}",
+                      (connection == null ? "NULL" : connection.getID()), packet, id);
+      }
+
+      return packet.encode(connection);
+   }
+
    // This must never called by more than one thread concurrently
    private boolean send(final Packet packet, final int reconnectID, final boolean flush, final boolean batch) {
       if (invokeInterceptors(packet, interceptors, connection) != null) {
          return false;
       }
 
-      synchronized (sendLock) {
-         packet.setChannelID(id);
-
-         if (responseAsyncCache != null && packet.isRequiresResponse() && packet.isResponseAsync()) {
-            packet.setCorrelationID(responseAsyncCache.nextCorrelationID());
-         }
-
-         if (logger.isTraceEnabled()) {
-            logger.trace("RemotingConnectionID={} Sending packet nonblocking {} on channelID={}",
-                         (connection == null ? "NULL" : connection.getID()), packet, id);
-         }
-
-         ActiveMQBuffer buffer = packet.encode(connection);
+      final ActiveMQBuffer buffer = encode(packet);
 
+      synchronized (sendLock) {
          lock.lock();
 
          try {
@@ -742,12 +748,17 @@ public final class ChannelImpl implements Channel {
       return connection;
    }
 
-   // Needs to be synchronized since can be called by remoting service timer thread too for timeout flush
+   // Can be called by remoting service timer thread too for timeout flush
    @Override
-   public synchronized void flushConfirmations() {
-      if (resendCache != null && receivedBytes != 0) {
-         receivedBytes = 0;
+   public void flushConfirmations() {
+      if (resendCache != null && receivedBytes != 0 && RECEIVED_BYTES_UPDATER.getAndSet(this, 0) != 0) {
+         writeConfirmation();
+      }
+   }
 
+   private void writeConfirmation() {
+      synchronized (confirmationLock) {
+         // read under the lock so that the confirmed command IDs are never written out of order
          final Packet confirmed = new PacketsConfirmedMessage(lastConfirmedCommandID.get());
 
          confirmed.setChannelID(id);
@@ -777,16 +788,11 @@ public final class ChannelImpl implements Channel {
                          (connection == null ? "NULL" : connection.getID()), packet, lastConfirmedCommandID);
          }
 
-         receivedBytes += packet.getPacketSize();
-
-         if (receivedBytes >= confWindowSize) {
-            receivedBytes = 0;
-
-            final Packet confirmed = new PacketsConfirmedMessage(lastConfirmedCommandID.get());
-
-            confirmed.setChannelID(id);
+         final int received = RECEIVED_BYTES_UPDATER.addAndGet(this, packet.getPacketSize());
 
-            doWrite(confirmed);
+         // only the thread resetting the window writes the confirmation
+         if (received >= confWindowSize && RECEIVED_BYTES_UPDATER.compareAndSet(this, received, 0)) {
+            writeConfirmation();
          }
       }
    }
@@ -17,6 +17,7 @@
 package org.apache.activemq.artemis.core.protocol.core.impl;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
 import org.apache.activemq.artemis.api.core.SimpleString;
@@ -378,8 +379,13 @@ public class PacketImpl implements Packet {
    }
 
    protected static ByteBuf copyMessageBuffer(ByteBuf buffer, int skipBytes) {
+      return copyMessageBuffer(buffer, skipBytes, null);
+   }
+
+   protected static ByteBuf copyMessageBuffer(ByteBuf buffer, int skipBytes, ByteBufAllocator allocator) {
 
-      ByteBuf newNettyBuffer = Unpooled.buffer(buffer.capacity() - PACKET_HEADERS_SIZE - skipBytes);
+      final int capacity = buffer.capacity() - PACKET_HEADERS_SIZE - skipBytes;
+      ByteBuf newNettyBuffer = allocator == null ? Unpooled.buffer(capacity) : allocator.heapBuffer(capacity);
 
       int read = buffer.readerIndex();
       int writ = buffer.writerIndex();
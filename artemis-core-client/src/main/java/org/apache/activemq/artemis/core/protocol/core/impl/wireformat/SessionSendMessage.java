@@ -17,6 +17,7 @@
 package org.apache.activemq.artemis.core.protocol.core.impl.wireformat;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
 import org.apache.activemq.artemis.api.core.ICoreMessage;
 import org.apache.activemq.artemis.api.core.client.SendAcknowledgementHandler;
@@ -37,6 +38,14 @@ public class SessionSendMessage extends MessagePacket {
     */
    private final transient SendAcknowledgementHandler handler;
 
+   /**
+    * The allocator of the buffer of the message received, owned and released by the message, or null to allocate it
+    * on heap.
+    * <br>
+    * This field is only used at the server side.
+    */
+   private transient ByteBufAllocator messageBufferAllocator;
+
    /** This will be using the CoreMessage because it is meant for the core-protocol */
    protected SessionSendMessage(final byte id,
                              final ICoreMessage message,
@@ -76,6 +85,11 @@ public class SessionSendMessage extends MessagePacket {
       return handler;
    }
 
+   public SessionSendMessage setMessageBufferAllocator(ByteBufAllocator messageBufferAllocator) {
+      this.messageBufferAllocator = messageBufferAllocator;
+      return this;
+   }
+
    @Override
    public int expectedEncodeSize() {
       return message.getEncodeSize() + PACKET_HEADERS_SIZE + fieldsEncodeSize();
@@ -91,8 +105,13 @@ public class SessionSendMessage extends MessagePacket {
    public void decodeRest(final ActiveMQBuffer buffer) {
       // Buffer comes in after having read standard headers and positioned at Beginning of body part
 
-      ByteBuf messageBuffer = copyMessageBuffer(buffer.byteBuf(), fieldsEncodeSize());
-      receiveMessage(messageBuffer);
+      if (messageBufferAllocator == null) {
+         ByteBuf messageBuffer = copyMessageBuffer(buffer.byteBuf(), fieldsEncodeSize());
+         receiveMessage(messageBuffer);
+      } else {
+         ByteBuf messageBuffer = copyMessageBuffer(buffer.byteBuf(), fieldsEncodeSize(), messageBufferAllocator);
+         receivePooledMessage(messageBuffer);
+      }
 
       buffer.readerIndex(buffer.capacity() - fieldsEncodeSize());
 
@@ -107,6 +126,10 @@ public class SessionSendMessage extends MessagePacket {
       message.receiveBuffer(messageBuffer);
    }
 
+   protected void receivePooledMessage(ByteBuf messageBuffer) {
+      ((CoreMessage) message).receivePooledBuffer(messageBuffer);
+   }
+
    @Override
    public int hashCode() {
       final int prime = 31;
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.remoting.impl.netty;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The bytes and the time spent compressing and decompressing the frames of the compressed connections of one connector
+ * or one acceptor, whatever their {@link NettyCompression}.
+ */
+public final class CompressionMetrics {
+
+   private final LongAdder compressedFrames = new LongAdder();
+   private final LongAdder compressionInputBytes = new LongAdder();
+   private final LongAdder compressionOutputBytes = new LongAdder();
+   private final LongAdder compressionTime = new LongAdder();
+
+   private final LongAdder decompressedFrames = new LongAdder();
+   private final LongAdder decompressionInputBytes = new LongAdder();
+   private final LongAdder decompressionOutputBytes = new LongAdder();
+   private final LongAdder decompressionTime = new LongAdder();
+
+   void recordCompression(final long inputBytes, final long outputBytes, final long nanos) {
+      compressedFrames.increment();
+      compressionInputBytes.add(inputBytes);
+      compressionOutputBytes.add(outputBytes);
+      compressionTime.add(nanos);
+   }
+
+   void recordDecompression(final long inputBytes, final long outputBytes, final long nanos) {
+      decompressedFrames.increment();
+      decompressionInputBytes.add(inputBytes);
+      decompressionOutputBytes.add(outputBytes);
+      decompressionTime.add(nanos);
+   }
+
+   public long getCompressedFrames() {
+      return compressedFrames.sum();
+   }
+
+   /**
+    * @return the bytes before compression
+    */
+   public long getCompressionInputBytes() {
+      return compressionInputBytes.sum();
+   }
+
+   /**
+    * @return the bytes after compression, i.e. sent on the network
+    */
+   public long getCompressionOutputBytes() {
+      return compressionOutputBytes.sum();
+   }
+
+   /**
+    * @return the nanoseconds spent compressing
+    */
+   public long getCompressionTime() {
+      return compressionTime.sum();
+   }
+
+   public long getDecompressedFrames() {
+      return decompressedFrames.sum();
+   }
+
+   /**
+    * @return the bytes before decompression, i.e. received from the network
+    */
+   public long getDecompressionInputBytes() {
+      return decompressionInputBytes.sum();
+   }
+
+   /**
+    * @return the bytes after decompression
+    */
+   public long getDecompressionOutputBytes() {
+      return decompressionOutputBytes.sum();
+   }
+
+   /**
+    * @return the nanoseconds spent decompressing
+    */
+   public long getDecompressionTime() {
+      return decompressionTime.sum();
+   }
+
+   /**
+    * @return the uncompressed bytes over the compressed ones, in both directions, or 1 if nothing was compressed
+    */
+   public double getCompressionRatio() {
+      final long compressed = getCompressionOutputBytes() + getDecompressionInputBytes();
+      return compressed == 0 ? 1 : (double) (getCompressionInputBytes() + getDecompressionOutputBytes()) / compressed;
+   }
+}
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.remoting.impl.netty;
+
+import java.util.List;
+import java.util.Locale;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.compression.JdkZlibDecoder;
+import io.netty.handler.codec.compression.JdkZlibEncoder;
+import io.netty.handler.codec.compression.SnappyFrameDecoder;
+import io.netty.handler.codec.compression.SnappyFrameEncoder;
+import io.netty.handler.codec.compression.ZlibWrapper;
+
+/**
+ * The compression of the frames of a core connection, requested by the connector (i.e. {@code compression=snappy})
+ * when it sends its handshake. The acceptor answers with the id of the compression if it accepts it, or with
+ * {@link #REFUSED_HANDSHAKE_ID} otherwise, and both sides apply it to everything sent after the request and the answer.
+ * <p>
+ * Both codecs are pure Java: SNAPPY is fast with a moderate ratio, DEFLATE costs more CPU for a better ratio.
+ */
+public enum NettyCompression {
+
+   SNAPPY((byte) 0x81) {
+      @Override
+      ChannelHandler newEncoder(final CompressionMetrics metrics) {
+         return new SnappyFrameEncoder() {
+            @Override
+            protected void encode(ChannelHandlerContext ctx, ByteBuf in, ByteBuf out) throws Exception {
+               final long start = System.nanoTime();
+               final int inputBytes = in.readableBytes();
+               final int writerIndex = out.writerIndex();
+               super.encode(ctx, in, out);
+               metrics.recordCompression(inputBytes, out.writerIndex() - writerIndex, System.nanoTime() - start);
+            }
+         };
+      }
+
+      @Override
+      ChannelHandler newDecoder(final CompressionMetrics metrics) {
+         return new SnappyFrameDecoder() {
+            @Override
+            protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+               final long start = System.nanoTime();
+               final int readableBytes = in.readableBytes();
+               final int decoded = out.size();
+               super.decode(ctx, in, out);
+               recordDecompression(metrics, readableBytes - in.readableBytes(), out, decoded, start);
+            }
+         };
+      }
+   },
+
+   DEFLATE((byte) 0x82) {
+      @Override
+      ChannelHandler newEncoder(final CompressionMetrics metrics) {
+         return new JdkZlibEncoder(ZlibWrapper.ZLIB, DEFLATE_LEVEL) {
+            @Override
+            protected void encode(ChannelHandlerContext ctx, ByteBuf in, ByteBuf out) throws Exception {
+               final long start = System.nanoTime();
+               final int inputBytes = in.readableBytes();
+               final int writerIndex = out.writerIndex();
+               super.encode(ctx, in, out);
+               metrics.recordCompression(inputBytes, out.writerIndex() - writerIndex, System.nanoTime() - start);
+            }
+         };
+      }
+
+      @Override
+      ChannelHandler newDecoder(final CompressionMetrics metrics) {
+         return new JdkZlibDecoder(ZlibWrapper.ZLIB) {
+            @Override
+            protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+               final long start = System.nanoTime();
+               final int readableBytes = in.readableBytes();
+               final int decoded = out.size();
+               super.decode(ctx, in, out);
+               recordDecompression(metrics, readableBytes - in.readableBytes(), out, decoded, start);
+            }
+         };
+      }
+   };
+
+   // favours speed, the frames are compressed on the remoting threads
+   private static final int DEFLATE_LEVEL = 1;
+
+   public static final String COMPRESSOR_HANDLER_NAME = "compressor";
+
+   public static final String DECOMPRESSOR_HANDLER_NAME = "decompressor";
+
+   /**
+    * The answer of an acceptor refusing the compression requested by a connector, which then sends plain frames.
+    */
+   public static final byte REFUSED_HANDSHAKE_ID = (byte) 0x80;
+
+   // the high bit is never set on the first byte of the length of a frame, which follows the handshake otherwise
+   private final byte handshakeId;
+
+   NettyCompression(final byte handshakeId) {
+      this.handshakeId = handshakeId;
+   }
+
+   abstract ChannelHandler newEncoder(CompressionMetrics metrics);
+
+   abstract ChannelHandler newDecoder(CompressionMetrics metrics);
+
+   /**
+    * @return the byte sent by the connector after its handshake to request this compression
+    */
+   public byte getHandshakeId() {
+      return handshakeId;
+   }
+
+   /**
+    * Adds the compression handlers before the handler named {@code baseName}, i.e. after any SSL or HTTP handler.
+    */
+   public void addHandlers(final ChannelPipeline pipeline, final String baseName, final CompressionMetrics metrics) {
+      pipeline.addBefore(baseName, DECOMPRESSOR_HANDLER_NAME, newDecoder(metrics));
+      pipeline.addBefore(baseName, COMPRESSOR_HANDLER_NAME, newEncoder(metrics));
+   }
+
+   /**
+    * @return true if the byte following a handshake requests a compression, even one unknown to this version
+    */
+   public static boolean isRequest(final byte handshakeId) {
+      return (handshakeId & 0x80) != 0;
+   }
+
+   /**
+    * @return the compression requested by the byte following a handshake or null if it isn't a known compression
+    */
+   public static NettyCompression fromHandshakeId(final byte handshakeId) {
+      for (NettyCompression compression : values()) {
+         if (compression.handshakeId == handshakeId) {
+            return compression;
+         }
+      }
+      return null;
+   }
+
+   /**
+    * @return the compression configured on a connector, null for none
+    */
+   public static NettyCompression fromName(final String name) {
+      if (name == null || name.isEmpty() || "none".equalsIgnoreCase(name)) {
+         return null;
+      }
+      return valueOf(name.toUpperCase(Locale.ROOT));
+   }
+
+   /**
+    * @param accepted the compressions accepted by an acceptor, comma separated, null to accept all of them
+    * @return true if the acceptor accepts this compression
+    */
+   public boolean isAccepted(final String accepted) {
+      if (accepted == null || accepted.isEmpty()) {
+         return true;
+      }
+      for (String name : accepted.split(",")) {
+         if (name().equalsIgnoreCase(name.trim())) {
+            return true;
+         }
+      }
+      return false;
+   }
+
+   private static void recordDecompression(final CompressionMetrics metrics,
+                                           final int inputBytes,
+                                           final List<Object> out,
+                                           final int decoded,
+                                           final long start) {
+      if (inputBytes == 0) {
+         // waiting for the rest of a compressed chunk
+         return;
+      }
+      long outputBytes = 0;
+      for (int i = decoded; i < out.size(); i++) {
+         outputBytes += ((ByteBuf) out.get(i)).readableBytes();
+      }
+      metrics.recordDecompression(inputBytes, outputBytes, System.nanoTime() - start);
+   }
+}
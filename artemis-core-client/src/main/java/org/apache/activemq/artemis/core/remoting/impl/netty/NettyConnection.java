@@ -117,6 +117,14 @@ public class NettyConnection implements Connection {
       return channel;
    }
 
+   /**
+    * @return the handler coalescing the flushes of this connection, with its metrics, or null if the write coalescing
+    * isn't enabled
+    */
+   public final WriteCoalescingHandler getWriteCoalescingHandler() {
+      return channel.pipeline().get(WriteCoalescingHandler.class);
+   }
+
    @Override
    public final void setAutoRead(boolean autoRead) {
       channel.config().setAutoRead(autoRead);
@@ -58,6 +58,7 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.PendingWriteQueue;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.ChannelPromise;
 import io.netty.channel.EventLoopGroup;
@@ -280,6 +281,14 @@ public class NettyConnector extends AbstractConnector {
 
    private long batchDelay;
 
+   private final NettyCompression compression;
+
+   private final CompressionMetrics compressionMetrics = new CompressionMetrics();
+
+   private final boolean writeCoalescing;
+
+   private final int writeCoalescingThreshold;
+
    private ConcurrentMap<Object, Connection> connections = new ConcurrentHashMap<>();
 
    private String servletPath;
@@ -459,6 +468,12 @@ public class NettyConnector extends AbstractConnector {
       this.writeBufferHighWaterMark = ConfigurationHelper.getIntProperty(TransportConstants.WRITE_BUFFER_HIGH_WATER_MARK_PROPNAME, TransportConstants.DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK, configuration);
       batchDelay = ConfigurationHelper.getLongProperty(TransportConstants.BATCH_DELAY, TransportConstants.DEFAULT_BATCH_DELAY, configuration);
 
+      compression = NettyCompression.fromName(ConfigurationHelper.getStringProperty(TransportConstants.COMPRESSION_PROP_NAME, TransportConstants.DEFAULT_COMPRESSION, configuration));
+
+      writeCoalescing = ConfigurationHelper.getBooleanProperty(TransportConstants.WRITE_COALESCING, TransportConstants.DEFAULT_WRITE_COALESCING, configuration);
+
+      writeCoalescingThreshold = ConfigurationHelper.getIntProperty(TransportConstants.WRITE_COALESCING_THRESHOLD, TransportConstants.DEFAULT_WRITE_COALESCING_THRESHOLD, configuration);
+
       connectTimeoutMillis = ConfigurationHelper.getIntProperty(TransportConstants.NETTY_CONNECT_TIMEOUT, TransportConstants.DEFAULT_NETTY_CONNECT_TIMEOUT, configuration);
       this.closeExecutor = closeExecutor;
       this.scheduledThreadPool = scheduledThreadPool;
@@ -493,6 +508,13 @@ public class NettyConnector extends AbstractConnector {
       return serverConnection;
    }
 
+   /**
+    * @return the metrics of the compressed connections of this connector
+    */
+   public CompressionMetrics getCompressionMetrics() {
+      return compressionMetrics;
+   }
+
    private String getHttpUpgradeInfo() {
       if (!httpUpgradeEnabled) {
          return "";
@@ -736,6 +758,14 @@ public class NettyConnector extends AbstractConnector {
                pipeline.addLast("http-upgrade", new HttpUpgradeHandler(pipeline, httpClientCodec));
             }
 
+            if (writeCoalescing) {
+               pipeline.addLast(WriteCoalescingHandler.NAME, new WriteCoalescingHandler(writeCoalescingThreshold));
+            }
+
+            if (compression != null) {
+               pipeline.addLast(new CompressionHandshakeHandler(compression, compressionMetrics));
+            }
+
             if (protocolManager != null) {
                protocolManager.addChannelHandlers(pipeline);
             }
@@ -990,6 +1020,82 @@ public class NettyConnector extends AbstractConnector {
       }
    }
 
+   /**
+    * Requests the compression right after the handshake, the first buffer written on the connection, and holds the
+    * next writes until the acceptor answers. Then it replaces itself with the compression handlers if the acceptor
+    * accepted the compression, so that everything written or received after the answer is compressed, or just removes
+    * itself if it didn't.
+    */
+   static class CompressionHandshakeHandler extends ChannelDuplexHandler {
+
+      private final NettyCompression compression;
+
+      private final CompressionMetrics metrics;
+
+      // not null once the compression is requested, until the acceptor answers
+      private PendingWriteQueue pendingWrites;
+
+      CompressionHandshakeHandler(final NettyCompression compression, final CompressionMetrics metrics) {
+         this.compression = compression;
+         this.metrics = metrics;
+      }
+
+      @Override
+      public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) throws Exception {
+         if (pendingWrites != null) {
+            pendingWrites.add(msg, promise);
+            return;
+         }
+         if (!(msg instanceof ByteBuf)) {
+            // i.e. the HTTP upgrade request
+            ctx.write(msg, promise);
+            return;
+         }
+         ctx.write(Unpooled.wrappedBuffer((ByteBuf) msg, Unpooled.wrappedBuffer(new byte[]{compression.getHandshakeId()})), promise);
+         pendingWrites = new PendingWriteQueue(ctx);
+      }
+
+      @Override
+      public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
+         if (pendingWrites == null || !(msg instanceof ByteBuf)) {
+            ctx.fireChannelRead(msg);
+            return;
+         }
+         final ByteBuf buffer = (ByteBuf) msg;
+         if (!buffer.isReadable()) {
+            buffer.release();
+            return;
+         }
+         final ChannelPipeline pipeline = ctx.pipeline();
+         if (buffer.readByte() == compression.getHandshakeId()) {
+            pipeline.addBefore(ctx.name(), NettyCompression.COMPRESSOR_HANDLER_NAME, compression.newEncoder(metrics));
+            pipeline.addAfter(ctx.name(), NettyCompression.DECOMPRESSOR_HANDLER_NAME, compression.newDecoder(metrics));
+         } else {
+            logger.debug("{} compression refused by {}, sending plain frames", compression, ctx.channel().remoteAddress());
+         }
+         final PendingWriteQueue writes = pendingWrites;
+         pendingWrites = null;
+         writes.removeAndWriteAll();
+         ctx.flush();
+         if (buffer.isReadable()) {
+            ctx.fireChannelRead(buffer);
+         } else {
+            buffer.release();
+         }
+         pipeline.remove(this);
+      }
+
+      @Override
+      public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
+         if (pendingWrites != null) {
+            // i.e. a broker that doesn't support compression closed the connection
+            pendingWrites.removeAndFailAll(new IOException("Connection closed before the " + compression + " compression was answered"));
+            pendingWrites = null;
+         }
+         ctx.fireChannelInactive();
+      }
+   }
+
    private static class HttpUpgradeHandler extends SimpleChannelInboundHandler<HttpObject> {
 
       private final ChannelPipeline pipeline;
@@ -167,8 +167,14 @@ public class TransportConstants {
 
    public static final String BATCH_DELAY = "batchDelay";
 
+   public static final String COMPRESSION_PROP_NAME = "compression";
+
    public static final String DIRECT_DELIVER = "directDeliver";
 
+   public static final String WRITE_COALESCING = "writeCoalescing";
+
+   public static final String WRITE_COALESCING_THRESHOLD = "writeCoalescingThreshold";
+
    public static final String CLUSTER_CONNECTION = "clusterConnection";
 
    @Deprecated
@@ -292,8 +298,14 @@ public class TransportConstants {
 
    public static final long DEFAULT_BATCH_DELAY = 0;
 
+   public static final String DEFAULT_COMPRESSION = null;
+
    public static final boolean DEFAULT_DIRECT_DELIVER = true;
 
+   public static final boolean DEFAULT_WRITE_COALESCING = false;
+
+   public static final int DEFAULT_WRITE_COALESCING_THRESHOLD = 32 * 1024;
+
    public static final Set<String> ALLOWABLE_CONNECTOR_KEYS;
 
    public static final Set<String> ALLOWABLE_ACCEPTOR_KEYS;
@@ -425,7 +437,10 @@ public class TransportConstants {
       allowableAcceptorKeys.add(TransportConstants.NIO_REMOTING_THREADS_PROPNAME);
       allowableAcceptorKeys.add(TransportConstants.REMOTING_THREADS_PROPNAME);
       allowableAcceptorKeys.add(TransportConstants.BATCH_DELAY);
+      allowableAcceptorKeys.add(TransportConstants.COMPRESSION_PROP_NAME);
       allowableAcceptorKeys.add(TransportConstants.DIRECT_DELIVER);
+      allowableAcceptorKeys.add(TransportConstants.WRITE_COALESCING);
+      allowableAcceptorKeys.add(TransportConstants.WRITE_COALESCING_THRESHOLD);
       allowableAcceptorKeys.add(TransportConstants.CLUSTER_CONNECTION);
       allowableAcceptorKeys.add(TransportConstants.STOMP_CONSUMERS_CREDIT);
       allowableAcceptorKeys.add(TransportConstants.STOMP_CONSUMER_WINDOW_SIZE);
@@ -498,6 +513,9 @@ public class TransportConstants {
       allowableConnectorKeys.add(TransportConstants.NIO_REMOTING_THREADS_PROPNAME);
       allowableConnectorKeys.add(TransportConstants.REMOTING_THREADS_PROPNAME);
       allowableConnectorKeys.add(TransportConstants.BATCH_DELAY);
+      allowableConnectorKeys.add(TransportConstants.COMPRESSION_PROP_NAME);
+      allowableConnectorKeys.add(TransportConstants.WRITE_COALESCING);
+      allowableConnectorKeys.add(TransportConstants.WRITE_COALESCING_THRESHOLD);
       allowableConnectorKeys.add(TransportConstants.PROXY_ENABLED_PROP_NAME);
       allowableConnectorKeys.add(TransportConstants.PROXY_HOST_PROP_NAME);
       allowableConnectorKeys.add(TransportConstants.PROXY_PORT_PROP_NAME);
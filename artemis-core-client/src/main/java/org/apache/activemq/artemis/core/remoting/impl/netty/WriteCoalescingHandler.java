@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.remoting.impl.netty;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+
+/**
+ * Coalesces the flushes of a channel, so that the frames written in the meantime reach the socket with a single
+ * syscall: a flush requested while reading is delayed until the read is complete and any other one until the
+ * current turn of the event loop is over, i.e. after the writes already submitted to the event loop. The pending
+ * frames are flushed right away once their size reaches a threshold.
+ * <p>
+ * The handler belongs to a single channel and, but for its metrics, is only used by its event loop.
+ */
+public final class WriteCoalescingHandler extends ChannelDuplexHandler {
+
+   public static final String NAME = "write-coalescing";
+
+   private static final AtomicLongFieldUpdater<WriteCoalescingHandler> FLUSH_COUNT_UPDATER = AtomicLongFieldUpdater.newUpdater(WriteCoalescingHandler.class, "flushCount");
+
+   private static final AtomicLongFieldUpdater<WriteCoalescingHandler> FRAME_COUNT_UPDATER = AtomicLongFieldUpdater.newUpdater(WriteCoalescingHandler.class, "frameCount");
+
+   private final int threshold;
+
+   private ChannelHandlerContext ctx;
+
+   private final Runnable flushTask = () -> {
+      flushScheduled = false;
+      if (ctx != null) {
+         flushNow(ctx);
+      }
+   };
+
+   private boolean readInProgress;
+
+   private boolean flushPending;
+
+   private boolean flushScheduled;
+
+   private int pendingFrames;
+
+   private long pendingBytes;
+
+   // written only by the event loop
+   private volatile long flushCount;
+
+   private volatile long frameCount;
+
+   public WriteCoalescingHandler(final int threshold) {
+      this.threshold = threshold;
+   }
+
+   /**
+    * @return the number of flushes of the frames written on the channel
+    */
+   public long getFlushCount() {
+      return flushCount;
+   }
+
+   /**
+    * @return the number of frames written on the channel and flushed
+    */
+   public long getFrameCount() {
+      return frameCount;
+   }
+
+   /**
+    * @return the average number of frames per flush, or 0 if nothing has been flushed yet
+    */
+   public double getFramesPerFlush() {
+      final long flushCount = this.flushCount;
+      return flushCount == 0 ? 0 : (double) frameCount / flushCount;
+   }
+
+   @Override
+   public void handlerAdded(final ChannelHandlerContext ctx) throws Exception {
+      this.ctx = ctx;
+   }
+
+   @Override
+   public void handlerRemoved(final ChannelHandlerContext ctx) throws Exception {
+      flushIfPending(ctx);
+      this.ctx = null;
+   }
+
+   @Override
+   public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) throws Exception {
+      if (msg instanceof ByteBuf) {
+         pendingBytes += ((ByteBuf) msg).readableBytes();
+      }
+      pendingFrames++;
+      ctx.write(msg, promise);
+   }
+
+   @Override
+   public void flush(final ChannelHandlerContext ctx) throws Exception {
+      if (pendingBytes >= threshold) {
+         flushNow(ctx);
+      } else if (readInProgress) {
+         // flushed once the read is complete
+         flushPending = true;
+      } else if (!flushScheduled) {
+         flushScheduled = true;
+         ctx.channel().eventLoop().execute(flushTask);
+      }
+   }
+
+   @Override
+   public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
+      readInProgress = true;
+      ctx.fireChannelRead(msg);
+   }
+
+   @Override
+   public void channelReadComplete(final ChannelHandlerContext ctx) throws Exception {
+      readInProgress = false;
+      if (flushPending) {
+         flushNow(ctx);
+      }
+      ctx.fireChannelReadComplete();
+   }
+
+   @Override
+   public void channelWritabilityChanged(final ChannelHandlerContext ctx) throws Exception {
+      if (!ctx.channel().isWritable()) {
+         // the frames waiting for a flush must reach the socket to make the channel writable again
+         flushIfPending(ctx);
+      }
+      ctx.fireChannelWritabilityChanged();
+   }
+
+   @Override
+   public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) throws Exception {
+      flushIfPending(ctx);
+      ctx.fireExceptionCaught(cause);
+   }
+
+   @Override
+   public void disconnect(final ChannelHandlerContext ctx, final ChannelPromise promise) throws Exception {
+      flushIfPending(ctx);
+      ctx.disconnect(promise);
+   }
+
+   @Override
+   public void close(final ChannelHandlerContext ctx, final ChannelPromise promise) throws Exception {
+      flushIfPending(ctx);
+      ctx.close(promise);
+   }
+
+   private void flushIfPending(final ChannelHandlerContext ctx) {
+      if (pendingFrames > 0 || flushPending) {
+         flushNow(ctx);
+      }
+   }
+
+   private void flushNow(final ChannelHandlerContext ctx) {
+      flushPending = false;
+      if (pendingFrames > 0) {
+         FLUSH_COUNT_UPDATER.lazySet(this, flushCount + 1);
+         FRAME_COUNT_UPDATER.lazySet(this, frameCount + pendingFrames);
+         pendingFrames = 0;
+         pendingBytes = 0;
+      }
+      ctx.flush();
+   }
+}
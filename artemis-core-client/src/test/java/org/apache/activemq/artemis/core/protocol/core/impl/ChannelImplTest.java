@@ -102,4 +102,33 @@ public class ChannelImplTest {
 
       assertEquals(0, channel.getCache().size());
    }
+
+   @Test
+   public void testConfirmationWindow() {
+      CoreRemotingConnection coreRC = Mockito.mock(CoreRemotingConnection.class);
+      Mockito.when(coreRC.createTransportBuffer(Mockito.anyInt())).thenAnswer(invocation -> new ChannelBufferWrapper(Unpooled.buffer(invocation.<Integer>getArgument(0))));
+      Connection connection = Mockito.mock(Connection.class);
+      Mockito.when(coreRC.getTransportConnection()).thenReturn(connection);
+      ChannelImpl channel = new ChannelImpl(coreRC, 1, 100, null);
+
+      Packet packet = Mockito.mock(Packet.class);
+      Mockito.when(packet.isRequiresConfirmations()).thenReturn(true);
+      Mockito.when(packet.getPacketSize()).thenReturn(40);
+
+      channel.confirm(packet);
+      channel.confirm(packet);
+      Mockito.verify(connection, Mockito.never()).write(Mockito.any(), Mockito.anyBoolean(), Mockito.anyBoolean());
+
+      // the window is full
+      channel.confirm(packet);
+      Mockito.verify(connection, Mockito.times(1)).write(Mockito.any(), Mockito.anyBoolean(), Mockito.anyBoolean());
+
+      // nothing received since the last confirmation
+      channel.flushConfirmations();
+      Mockito.verify(connection, Mockito.times(1)).write(Mockito.any(), Mockito.anyBoolean(), Mockito.anyBoolean());
+
+      channel.confirm(packet);
+      channel.flushConfirmations();
+      Mockito.verify(connection, Mockito.times(2)).write(Mockito.any(), Mockito.anyBoolean(), Mockito.anyBoolean());
+   }
 }
\ No newline at end of file
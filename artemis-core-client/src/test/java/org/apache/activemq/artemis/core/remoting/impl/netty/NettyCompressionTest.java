@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.remoting.impl.netty;
+
+import java.nio.charset.StandardCharsets;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NettyCompressionTest {
+
+   private static byte[] frame() {
+      final StringBuilder builder = new StringBuilder();
+      for (int i = 0; i < 1000; i++) {
+         builder.append("<order id=\"").append(i).append("\"/>");
+      }
+      return builder.toString().getBytes(StandardCharsets.UTF_8);
+   }
+
+   @Test
+   public void testRoundTrip() {
+      for (NettyCompression compression : NettyCompression.values()) {
+         final CompressionMetrics metrics = new CompressionMetrics();
+
+         final EmbeddedChannel sender = new EmbeddedChannel(compression.newEncoder(metrics));
+         final EmbeddedChannel receiver = new EmbeddedChannel(compression.newDecoder(metrics));
+         final byte[] frame = frame();
+         for (int i = 0; i < 2; i++) {
+            Assert.assertTrue(sender.writeOutbound(Unpooled.wrappedBuffer(frame)));
+            final ByteBuf received = Unpooled.buffer();
+            ByteBuf compressed;
+            while ((compressed = sender.readOutbound()) != null) {
+               Assert.assertTrue(compression + " didn't compress", compressed.readableBytes() < frame.length);
+               receiver.writeInbound(compressed);
+            }
+            ByteBuf decompressed;
+            while ((decompressed = receiver.readInbound()) != null) {
+               received.writeBytes(decompressed);
+               decompressed.release();
+            }
+            Assert.assertArrayEquals(compression.name(), frame, ByteBufUtil.getBytes(received));
+         }
+
+         Assert.assertEquals(2, metrics.getCompressedFrames());
+         Assert.assertTrue(metrics.getDecompressedFrames() > 0);
+         Assert.assertTrue(metrics.getCompressionRatio() > 1);
+         sender.finishAndReleaseAll();
+         receiver.finishAndReleaseAll();
+      }
+   }
+
+   @Test
+   public void testHandshakeId() {
+      for (NettyCompression compression : NettyCompression.values()) {
+         // it can't be taken for the length of a frame
+         Assert.assertTrue(compression.getHandshakeId() < 0);
+         Assert.assertEquals(compression, NettyCompression.fromHandshakeId(compression.getHandshakeId()));
+      }
+      Assert.assertNull(NettyCompression.fromHandshakeId((byte) 0));
+      Assert.assertFalse(NettyCompression.isRequest((byte) 0));
+      // a compression unknown to this version is still a request, that the acceptor refuses
+      Assert.assertTrue(NettyCompression.isRequest((byte) 0x8F));
+      Assert.assertNull(NettyCompression.fromHandshakeId((byte) 0x8F));
+      Assert.assertNull(NettyCompression.fromHandshakeId(NettyCompression.REFUSED_HANDSHAKE_ID));
+   }
+
+   @Test
+   public void testIsAccepted() {
+      Assert.assertTrue(NettyCompression.SNAPPY.isAccepted(null));
+      Assert.assertTrue(NettyCompression.SNAPPY.isAccepted("snappy, deflate"));
+      Assert.assertTrue(NettyCompression.DEFLATE.isAccepted("snappy, deflate"));
+      Assert.assertFalse(NettyCompression.SNAPPY.isAccepted("deflate"));
+      Assert.assertFalse(NettyCompression.SNAPPY.isAccepted("none"));
+   }
+
+   @Test
+   public void testHandshakeAccepted() {
+      for (NettyCompression compression : NettyCompression.values()) {
+         final CompressionMetrics metrics = new CompressionMetrics();
+         final EmbeddedChannel channel = new EmbeddedChannel(new NettyConnector.CompressionHandshakeHandler(compression, metrics));
+
+         assertHandshakeRequested(channel, compression);
+
+         // the frames wait for the answer
+         final byte[] frame = frame();
+         channel.writeOutbound(Unpooled.wrappedBuffer(frame));
+         Assert.assertNull(channel.readOutbound());
+
+         channel.writeInbound(Unpooled.wrappedBuffer(new byte[]{compression.getHandshakeId()}));
+         Assert.assertNull(channel.pipeline().get(NettyConnector.CompressionHandshakeHandler.class));
+         Assert.assertNotNull(channel.pipeline().get(NettyCompression.COMPRESSOR_HANDLER_NAME));
+         Assert.assertNotNull(channel.pipeline().get(NettyCompression.DECOMPRESSOR_HANDLER_NAME));
+
+         final EmbeddedChannel receiver = new EmbeddedChannel(compression.newDecoder(new CompressionMetrics()));
+         ByteBuf compressed;
+         while ((compressed = channel.readOutbound()) != null) {
+            receiver.writeInbound(compressed);
+         }
+         final ByteBuf received = Unpooled.buffer();
+         ByteBuf decompressed;
+         while ((decompressed = receiver.readInbound()) != null) {
+            received.writeBytes(decompressed);
+            decompressed.release();
+         }
+         Assert.assertArrayEquals(compression.name(), frame, ByteBufUtil.getBytes(received));
+         Assert.assertEquals(1, metrics.getCompressedFrames());
+
+         channel.finishAndReleaseAll();
+         receiver.finishAndReleaseAll();
+      }
+   }
+
+   @Test
+   public void testHandshakeRefused() {
+      final CompressionMetrics metrics = new CompressionMetrics();
+      final EmbeddedChannel channel = new EmbeddedChannel(new NettyConnector.CompressionHandshakeHandler(NettyCompression.SNAPPY, metrics));
+
+      assertHandshakeRequested(channel, NettyCompression.SNAPPY);
+
+      final byte[] frame = frame();
+      channel.writeOutbound(Unpooled.wrappedBuffer(frame));
+      Assert.assertNull(channel.readOutbound());
+
+      // the bytes following the answer are already plain frames
+      channel.writeInbound(Unpooled.wrappedBuffer(new byte[]{NettyCompression.REFUSED_HANDSHAKE_ID, 1, 2}));
+      Assert.assertNull(channel.pipeline().get(NettyConnector.CompressionHandshakeHandler.class));
+      Assert.assertNull(channel.pipeline().get(NettyCompression.COMPRESSOR_HANDLER_NAME));
+
+      final ByteBuf sent = channel.readOutbound();
+      Assert.assertArrayEquals(frame, ByteBufUtil.getBytes(sent));
+      sent.release();
+      final ByteBuf received = channel.readInbound();
+      Assert.assertArrayEquals(new byte[]{1, 2}, ByteBufUtil.getBytes(received));
+      received.release();
+      Assert.assertEquals(0, metrics.getCompressedFrames());
+
+      channel.finishAndReleaseAll();
+   }
+
+   @Test
+   public void testHeldWritesFailWhenClosedBeforeTheAnswer() {
+      final EmbeddedChannel channel = new EmbeddedChannel(new NettyConnector.CompressionHandshakeHandler(NettyCompression.DEFLATE, new CompressionMetrics()));
+
+      assertHandshakeRequested(channel, NettyCompression.DEFLATE);
+
+      final ChannelFuture write = channel.writeAndFlush(Unpooled.wrappedBuffer(frame()));
+      Assert.assertFalse(write.isDone());
+      channel.close();
+      Assert.assertTrue(write.isDone());
+      Assert.assertFalse(write.isSuccess());
+
+      channel.finishAndReleaseAll();
+   }
+
+   private static void assertHandshakeRequested(final EmbeddedChannel channel, final NettyCompression compression) {
+      channel.writeOutbound(Unpooled.wrappedBuffer("ARTEMIS".getBytes(StandardCharsets.US_ASCII)));
+      final ByteBuf handshake = channel.readOutbound();
+      Assert.assertArrayEquals(ByteBufUtil.getBytes(Unpooled.wrappedBuffer("ARTEMIS".getBytes(StandardCharsets.US_ASCII), new byte[]{compression.getHandshakeId()})), ByteBufUtil.getBytes(handshake));
+      handshake.release();
+   }
+
+   @Test
+   public void testFromName() {
+      Assert.assertNull(NettyCompression.fromName(null));
+      Assert.assertNull(NettyCompression.fromName("none"));
+      Assert.assertEquals(NettyCompression.SNAPPY, NettyCompression.fromName("snappy"));
+      Assert.assertEquals(NettyCompression.DEFLATE, NettyCompression.fromName("DEFLATE"));
+   }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.remoting.impl.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class WriteCoalescingHandlerTest {
+
+   private static int readOutbound(EmbeddedChannel channel) {
+      int frames = 0;
+      ByteBuf frame;
+      while ((frame = channel.readOutbound()) != null) {
+         frame.release();
+         frames++;
+      }
+      return frames;
+   }
+
+   @Test
+   public void testFlushesCoalescedUntilEventLoopTurnIsOver() {
+      final WriteCoalescingHandler handler = new WriteCoalescingHandler(TransportConstants.DEFAULT_WRITE_COALESCING_THRESHOLD);
+      final EmbeddedChannel channel = new EmbeddedChannel(handler);
+      for (int i = 0; i < 3; i++) {
+         channel.write(Unpooled.wrappedBuffer(new byte[8]));
+         channel.flush();
+      }
+      Assert.assertEquals(0, readOutbound(channel));
+      Assert.assertEquals(0, handler.getFlushCount());
+
+      channel.runPendingTasks();
+      Assert.assertEquals(3, readOutbound(channel));
+      Assert.assertEquals(1, handler.getFlushCount());
+      Assert.assertEquals(3, handler.getFrameCount());
+      Assert.assertEquals(3, handler.getFramesPerFlush(), 0.001);
+      channel.finishAndReleaseAll();
+   }
+
+   @Test
+   public void testThresholdFlushesRightAway() {
+      final WriteCoalescingHandler handler = new WriteCoalescingHandler(16);
+      final EmbeddedChannel channel = new EmbeddedChannel(handler);
+      channel.write(Unpooled.wrappedBuffer(new byte[8]));
+      channel.flush();
+      Assert.assertEquals(0, readOutbound(channel));
+
+      channel.write(Unpooled.wrappedBuffer(new byte[8]));
+      channel.flush();
+      Assert.assertEquals(2, readOutbound(channel));
+      Assert.assertEquals(1, handler.getFlushCount());
+
+      // nothing left for the scheduled flush
+      channel.runPendingTasks();
+      Assert.assertEquals(1, handler.getFlushCount());
+      channel.finishAndReleaseAll();
+   }
+
+   @Test
+   public void testFlushesDuringReadDelayedUntilReadComplete() {
+      final WriteCoalescingHandler handler = new WriteCoalescingHandler(TransportConstants.DEFAULT_WRITE_COALESCING_THRESHOLD);
+      final EmbeddedChannel channel = new EmbeddedChannel(handler, new ChannelInboundHandlerAdapter() {
+         @Override
+         public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            // a response flushed for every request
+            ctx.writeAndFlush(msg);
+         }
+      });
+      channel.writeInbound(Unpooled.wrappedBuffer(new byte[8]), Unpooled.wrappedBuffer(new byte[8]));
+      Assert.assertEquals(2, readOutbound(channel));
+      Assert.assertEquals(1, handler.getFlushCount());
+      Assert.assertEquals(2, handler.getFrameCount());
+      channel.finishAndReleaseAll();
+   }
+
+   @Test
+   public void testCloseFlushesPendingFrames() {
+      final WriteCoalescingHandler handler = new WriteCoalescingHandler(TransportConstants.DEFAULT_WRITE_COALESCING_THRESHOLD);
+      final EmbeddedChannel channel = new EmbeddedChannel(handler);
+      channel.write(Unpooled.wrappedBuffer(new byte[8]));
+      channel.flush();
+      channel.close();
+      Assert.assertEquals(1, readOutbound(channel));
+      Assert.assertEquals(1, handler.getFlushCount());
+      channel.finishAndReleaseAll();
+   }
+}
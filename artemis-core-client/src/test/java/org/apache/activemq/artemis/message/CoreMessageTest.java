@@ -21,6 +21,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.LinkedList;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
 import org.apache.activemq.artemis.api.core.ActiveMQBuffers;
@@ -122,6 +123,56 @@ public class CoreMessageTest {
       Assert.assertEquals(TEXT, TextMessageUtil.readBodyText(sendMessageReceivedSent.getMessage().getReadOnlyBodyBuffer()).toString());
    }
 
+   @Test
+   public void sendThroughPacketsPooled() {
+      CoreMessage decodedMessage = decodeMessage();
+
+      SessionSendMessage sendMessage = new SessionSendMessage(decodedMessage, true, null);
+      sendMessage.setChannelID(777);
+      ActiveMQBuffer buffer = sendMessage.encode(null);
+      buffer.readerIndex(5);
+
+      SessionSendMessage sendMessageReceived = new SessionSendMessage(new CoreMessage()).setMessageBufferAllocator(PooledByteBufAllocator.DEFAULT);
+      sendMessageReceived.decode(buffer);
+      CoreMessage received = (CoreMessage) sendMessageReceived.getMessage();
+      Assert.assertTrue(received.isPooledBuffer());
+      ByteBuf pooledBuffer = received.getBuffer();
+      Assert.assertEquals(1, pooledBuffer.refCnt());
+
+      // a copy isn't released with the message
+      CoreMessage copy = (CoreMessage) received.copy();
+      Assert.assertFalse(copy.isPooledBuffer());
+      Assert.assertNotSame(pooledBuffer.alloc(), copy.getBuffer().alloc());
+
+      // the buffer is given back once the last reference is gone
+      received.refUp();
+      Assert.assertEquals(1, pooledBuffer.refCnt());
+      received.refDown();
+      Assert.assertEquals(0, pooledBuffer.refCnt());
+      Assert.assertFalse(received.isPooledBuffer());
+      Assert.assertEquals(TEXT, TextMessageUtil.readBodyText(copy.getReadOnlyBodyBuffer()).toString());
+   }
+
+   @Test
+   public void testUnpoolBuffer() {
+      CoreMessage decodedMessage = decodeMessage();
+      SessionSendMessage sendMessage = new SessionSendMessage(decodedMessage, true, null);
+      sendMessage.setChannelID(777);
+      ActiveMQBuffer buffer = sendMessage.encode(null);
+      buffer.readerIndex(5);
+
+      SessionSendMessage sendMessageReceived = new SessionSendMessage(new CoreMessage()).setMessageBufferAllocator(PooledByteBufAllocator.DEFAULT);
+      sendMessageReceived.decode(buffer);
+      CoreMessage received = (CoreMessage) sendMessageReceived.getMessage();
+      ByteBuf pooledBuffer = received.getBuffer();
+
+      received.unpoolBuffer();
+      Assert.assertFalse(received.isPooledBuffer());
+      Assert.assertEquals(0, pooledBuffer.refCnt());
+      Assert.assertEquals(TEXT, TextMessageUtil.readBodyText(received.getReadOnlyBodyBuffer()).toString());
+      Assert.assertEquals(PROP1_VALUE, received.getSimpleStringProperty(PROP1_NAME));
+   }
+
    /** The message is received, then sent to the other side untouched */
    @Test
    public void sendThroughPacketsClient() {
@@ -30,6 +30,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.activemq.artemis.api.core.ActiveMQException;
 import org.apache.activemq.artemis.api.core.ActiveMQExceptionType;
@@ -109,6 +110,16 @@ public class JDBCJournalImpl extends AbstractJDBCDriver implements Journal {
 
    private final IOCriticalErrorListener criticalIOErrorListener;
 
+   // Serializes the syncs without holding the journal monitor while talking to the database,
+   // so records can still be appended (and line up for the next sync) while a batch is being committed
+   private final Object syncLock = new Object();
+
+   private final LongAdder syncCount = new LongAdder();
+
+   private final LongAdder syncedRecordCount = new LongAdder();
+
+   private final LongAdder syncTimeNanos = new LongAdder();
+
    public JDBCJournalImpl(JDBCConnectionProvider connectionProvider,
                           SQLProvider provider,
                           ScheduledExecutorService scheduledExecutorService,
@@ -174,22 +185,37 @@ public class JDBCJournalImpl extends AbstractJDBCDriver implements Journal {
       stop(true);
    }
 
-   public synchronized void stop(boolean sync) throws SQLException {
-      if (started) {
-         if (sync)
-            sync();
-         started = false;
-         super.stop();
+   public void stop(boolean sync) throws SQLException {
+      // syncLock is always acquired before the journal monitor
+      synchronized (syncLock) {
+         synchronized (this) {
+            if (started) {
+               if (sync)
+                  syncRecords();
+               started = false;
+               super.stop();
+            }
+         }
       }
    }
 
    @Override
-   public synchronized void destroy() throws Exception {
-      super.destroy();
-      stop();
+   public void destroy() throws Exception {
+      synchronized (syncLock) {
+         synchronized (this) {
+            super.destroy();
+            stop();
+         }
+      }
    }
 
-   public synchronized int sync() {
+   public int sync() {
+      synchronized (syncLock) {
+         return syncRecords();
+      }
+   }
+
+   private int syncRecords() {
 
       List<JDBCJournalRecord> recordRef;
       synchronized (records) {
@@ -212,6 +238,12 @@ public class JDBCJournalImpl extends AbstractJDBCDriver implements Journal {
 
       TransactionHolder holder;
 
+      int inserts = 0;
+      int deletes = 0;
+      int txDeletes = 0;
+
+      final long start = System.nanoTime();
+
       try (Connection connection = connectionProvider.getConnection();
            PreparedStatement deleteJournalRecords = connection.prepareStatement(this.deleteJournalRecords);
            PreparedStatement deleteJournalTxRecords = connection.prepareStatement(this.deleteJournalTxRecords);
@@ -228,11 +260,13 @@ public class JDBCJournalImpl extends AbstractJDBCDriver implements Journal {
                   // Standard SQL Delete Record, Non transactional delete
                   deletedRecords.add(record.getId());
                   record.writeDeleteRecord(deleteJournalRecords);
+                  deletes++;
                   break;
                case JDBCJournalRecord.ROLLBACK_RECORD:
                   // Roll back we remove all records associated with this TX ID.  This query is always performed last.
                   deleteJournalTxRecords.setLong(1, record.getTxId());
                   deleteJournalTxRecords.addBatch();
+                  txDeletes++;
                   break;
                case JDBCJournalRecord.COMMIT_RECORD:
                   // We perform all the deletes and add the commit record in the same Database TX
@@ -242,29 +276,50 @@ public class JDBCJournalImpl extends AbstractJDBCDriver implements Journal {
                      deletedRecords.add(info.id);
                      deleteJournalRecords.setLong(1, info.id);
                      deleteJournalRecords.addBatch();
+                     deletes++;
                   }
                   record.writeRecord(insertJournalRecords);
+                  inserts++;
                   committedTransactions.add(record.getTxId());
                   break;
                default:
                   // Default we add a new record to the DB
                   record.writeRecord(insertJournalRecords);
+                  inserts++;
                   break;
             }
          }
 
-         insertJournalRecords.executeBatch();
-         deleteJournalRecords.executeBatch();
-         deleteJournalTxRecords.executeBatch();
+         // The tx records left without any record are deleted on the same Database TX,
+         // saving a further commit (and its round-trip) per sync
+         List<TransactionHolder> completedTransactions = findCompletedTransactions(deletedRecords, committedTransactions);
+         for (TransactionHolder h : completedTransactions) {
+            deleteJournalTxRecords.setLong(1, h.transactionID);
+            deleteJournalTxRecords.addBatch();
+            txDeletes++;
+         }
+
+         // Drivers can rewrite these batches into multi-row statements, see the JDBC persistence docs
+         if (inserts > 0) {
+            insertJournalRecords.executeBatch();
+         }
+         if (deletes > 0) {
+            deleteJournalRecords.executeBatch();
+         }
+         if (txDeletes > 0) {
+            deleteJournalTxRecords.executeBatch();
+         }
 
          connection.commit();
          logger.trace("JDBC commit worked");
 
-         if (cleanupTxRecords(deletedRecords, committedTransactions, deleteJournalTxRecords)) {
-            deleteJournalTxRecords.executeBatch();
-            connection.commit();
-            logger.trace("JDBC commit worked on cleanupTxRecords");
-         }
+         // the in memory transactions only change once the database has them, a failed commit leaves them as they were
+         cleanupTxRecords(deletedRecords, committedTransactions, completedTransactions);
+
+         syncCount.increment();
+         syncedRecordCount.add(recordRef.size());
+         syncTimeNanos.add(System.nanoTime() - start);
+
          executeCallbacks(recordRef, true);
 
          return recordRef.size();
@@ -274,6 +329,43 @@ public class JDBCJournalImpl extends AbstractJDBCDriver implements Journal {
       }
    }
 
+   /**
+    * @return the number of batches of records committed to the database
+    */
+   public long getSyncCount() {
+      return syncCount.sum();
+   }
+
+   /**
+    * @return the number of records committed to the database
+    */
+   public long getSyncedRecordCount() {
+      return syncedRecordCount.sum();
+   }
+
+   /**
+    * @return the total time spent writing and committing the batches of records, in milliseconds
+    */
+   public long getSyncTimeMillis() {
+      return TimeUnit.NANOSECONDS.toMillis(syncTimeNanos.sum());
+   }
+
+   /**
+    * @return the average number of records committed on each batch
+    */
+   public double getAverageSyncBatchSize() {
+      final long syncs = syncCount.sum();
+      return syncs == 0 ? 0 : (double) syncedRecordCount.sum() / syncs;
+   }
+
+   /**
+    * @return the average time taken to write and commit a batch of records, in milliseconds
+    */
+   public double getAverageSyncTimeMillis() {
+      final long syncs = syncCount.sum();
+      return syncs == 0 ? 0 : (double) syncTimeNanos.sum() / syncs / TimeUnit.MILLISECONDS.toNanos(1);
+   }
+
    /** public for tests only, not through API */
    public void handleException(List<JDBCJournalRecord> recordRef, Throwable e) {
       logger.warn(e.getMessage(), e);
@@ -289,36 +381,43 @@ public class JDBCJournalImpl extends AbstractJDBCDriver implements Journal {
 
    /* We store Transaction reference in memory (once all records associated with a Tranascation are Deleted,
       we remove the Tx Records (i.e. PREPARE, COMMIT). */
-   private synchronized boolean cleanupTxRecords(List<Long> deletedRecords, List<Long> committedTx,
-                                                 PreparedStatement deleteJournalTxRecords) throws SQLException {
-      List<RecordInfo> iterableCopy;
-      List<TransactionHolder> iterableCopyTx = new ArrayList<>();
-      iterableCopyTx.addAll(transactions.values());
-
-      for (Long txId : committedTx) {
-         transactions.get(txId).committed = true;
-      }
-      boolean hasDeletedJournalTxRecords = false;
+   private synchronized List<TransactionHolder> findCompletedTransactions(List<Long> deletedRecords, List<Long> committedTx) {
+      List<TransactionHolder> completedTransactions = new ArrayList<>();
       // TODO (mtaylor) perhaps we could store a reverse mapping of IDs to prevent this O(n) loop
-      for (TransactionHolder h : iterableCopyTx) {
-
-         iterableCopy = new ArrayList<>();
-         iterableCopy.addAll(h.recordInfos);
-
-         for (RecordInfo info : iterableCopy) {
-            if (deletedRecords.contains(info.id)) {
-               h.recordInfos.remove(info);
+      for (TransactionHolder h : transactions.values()) {
+         if (!h.committed && !committedTx.contains(h.transactionID)) {
+            continue;
+         }
+         boolean empty = true;
+         for (RecordInfo info : h.recordInfos) {
+            if (!deletedRecords.contains(info.id)) {
+               empty = false;
+               break;
             }
          }
-
-         if (h.recordInfos.isEmpty() && h.committed) {
-            deleteJournalTxRecords.setLong(1, h.transactionID);
-            deleteJournalTxRecords.addBatch();
-            hasDeletedJournalTxRecords = true;
-            transactions.remove(h.transactionID);
+         if (empty) {
+            completedTransactions.add(h);
          }
       }
-      return hasDeletedJournalTxRecords;
+      return completedTransactions;
+   }
+
+   private synchronized void cleanupTxRecords(List<Long> deletedRecords, List<Long> committedTx,
+                                              List<TransactionHolder> completedTransactions) {
+      for (Long txId : committedTx) {
+         transactions.get(txId).committed = true;
+      }
+      for (TransactionHolder h : transactions.values()) {
+         h.recordInfos.removeIf(info -> deletedRecords.contains(info.id));
+      }
+      for (TransactionHolder h : completedTransactions) {
+         transactions.remove(h.transactionID);
+      }
+   }
+
+   /** public for tests only, not through API */
+   public boolean hasTransaction(long txId) {
+      return transactions.containsKey(txId);
    }
 
    private void executeCallbacks(final List<JDBCJournalRecord> records, final boolean success) {
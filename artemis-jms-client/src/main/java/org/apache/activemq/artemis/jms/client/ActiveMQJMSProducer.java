@@ -35,6 +35,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.activemq.artemis.api.core.ActiveMQPropertyConversionException;
 import org.apache.activemq.artemis.api.core.SimpleString;
@@ -70,6 +71,33 @@ public final class ActiveMQJMSProducer implements JMSProducer {
 
    @Override
    public JMSProducer send(Destination destination, Message message) {
+      doSend(destination, message, completionListener);
+      return this;
+   }
+
+   /**
+    * Sends a message asynchronously, whatever the {@link #setAsync(CompletionListener) completion listener} is.
+    *
+    * @return a future completed with the message once the server acknowledged it, or completed exceptionally if the
+    * send failed. As for a {@link CompletionListener}, the stages depending on it must not use the context.
+    */
+   public CompletableFuture<Message> sendAsync(Destination destination, Message message) {
+      final CompletableFuture<Message> future = new CompletableFuture<>();
+      doSend(destination, message, new CompletionListener() {
+         @Override
+         public void onCompletion(Message message) {
+            future.complete(message);
+         }
+
+         @Override
+         public void onException(Message message, Exception exception) {
+            future.completeExceptionally(exception);
+         }
+      });
+      return future;
+   }
+
+   private void doSend(Destination destination, Message message, CompletionListener completionListener) {
       if (message == null) {
          throw new MessageFormatRuntimeException("null message");
       }
@@ -99,7 +127,6 @@ public final class ActiveMQJMSProducer implements JMSProducer {
       } catch (JMSException e) {
          throw JmsExceptionUtils.convertToRuntimeException(e);
       }
-      return this;
    }
 
    /**
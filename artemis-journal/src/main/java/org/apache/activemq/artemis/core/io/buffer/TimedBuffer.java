@@ -48,6 +48,7 @@ public final class TimedBuffer extends CriticalComponentImpl {
    protected static final int CRITICAL_PATH_CHECK_SIZE = 3;
    protected static final int CRITICAL_PATH_ADD_BYTES = 4;
    protected static final int CRITICAL_PATH_SET_OBSERVER = 5;
+   private static final String[] CRITICAL_PATH_NAMES = {"flush", "stop", "start", "check-size", "add-bytes", "set-observer"};
 
    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
@@ -117,6 +118,11 @@ public final class TimedBuffer extends CriticalComponentImpl {
       this.timeout = timeout;
    }
 
+   @Override
+   public String getCriticalPathName(int path) {
+      return CRITICAL_PATH_NAMES[path];
+   }
+
    public void start() {
       try (ArtemisCloseable critical = measureCritical(CRITICAL_PATH_START)) {
          synchronized (this) {
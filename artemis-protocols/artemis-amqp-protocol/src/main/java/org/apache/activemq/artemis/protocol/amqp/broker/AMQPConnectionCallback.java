@@ -275,4 +275,8 @@ public class AMQPConnectionCallback implements FailureListener, CloseListener {
    public String invokeOutgoingInterceptors(AMQPMessage message, ActiveMQProtonRemotingConnection connection) {
       return manager.invokeOutgoing(message, connection);
    }
+
+   public boolean hasOutgoingInterceptors() {
+      return manager.hasOutgoingInterceptors();
+   }
 }
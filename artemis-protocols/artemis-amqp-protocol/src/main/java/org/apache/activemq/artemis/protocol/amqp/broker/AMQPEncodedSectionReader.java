@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.protocol.amqp.broker;
+
+import org.apache.activemq.artemis.protocol.amqp.util.TLSEncode;
+import org.apache.qpid.proton.amqp.Binary;
+import org.apache.qpid.proton.amqp.messaging.Data;
+import org.apache.qpid.proton.codec.DecoderImpl;
+import org.apache.qpid.proton.codec.EncodingCodes;
+import org.apache.qpid.proton.codec.ReadableBuffer;
+
+/**
+ * Flyweight accessor over the encoded bytes of the message sections (e.g. application-properties or a data body).
+ * <p>
+ * All the reads here are done through absolute positions on the {@link ReadableBuffer}, so the position
+ * of the buffer is never changed, and keys are compared against the encoded UTF-8 bytes directly:
+ * looking up a single entry does not materialize the Proton map, nor any of its keys or of the
+ * values that are not requested.
+ */
+final class AMQPEncodedSectionReader {
+
+   static final int NOT_FOUND = -1;
+
+   // amqp:data:binary
+   private static final long DATA_SECTION_DESCRIPTOR = 0x75L;
+
+   private AMQPEncodedSectionReader() {
+   }
+
+   /**
+    * Search the described map section starting at {@code sectionPosition} for an entry with the given {@code key}.
+    *
+    * @return the absolute position of the encoded value for the entry or {@link #NOT_FOUND}
+    */
+   static int findMapValue(final ReadableBuffer data, final int sectionPosition, final String key) {
+      int position = sectionPosition;
+      if (data.get(position) != EncodingCodes.DESCRIBED_TYPE_INDICATOR) {
+         return NOT_FOUND;
+      }
+      // skip the section descriptor
+      position = skipValue(data, position + 1);
+
+      final int count;
+      switch (data.get(position++)) {
+         case EncodingCodes.MAP8:
+            // skip size
+            position++;
+            count = data.get(position++) & 0xFF;
+            break;
+         case EncodingCodes.MAP32:
+            // skip size
+            position += Integer.BYTES;
+            count = readInt(data, position);
+            position += Integer.BYTES;
+            break;
+         default:
+            // null or a non map value
+            return NOT_FOUND;
+      }
+
+      for (int i = 0; i < count; i += 2) {
+         final byte keyCode = data.get(position);
+         final int valuePosition;
+         boolean matches = false;
+         if (keyCode == EncodingCodes.STR8) {
+            final int length = data.get(position + 1) & 0xFF;
+            valuePosition = position + 2 + length;
+            matches = utf8Equals(data, position + 2, length, key);
+         } else if (keyCode == EncodingCodes.STR32) {
+            final int length = readInt(data, position + 1);
+            valuePosition = position + 1 + Integer.BYTES + length;
+            matches = utf8Equals(data, position + 1 + Integer.BYTES, length, key);
+         } else {
+            // keys should always be strings, but we can't match anything else with a String key anyway
+            valuePosition = skipValue(data, position);
+         }
+         if (matches) {
+            return valuePosition;
+         }
+         position = skipValue(data, valuePosition);
+      }
+      return NOT_FOUND;
+   }
+
+   /**
+    * Create a {@link Data} section whose {@link Binary} payload is a view over the array backing {@code data},
+    * without copying it.
+    *
+    * @return the view or null if the section at {@code sectionPosition} is not a Data section or
+    * {@code data} is not backed by an accessible array
+    */
+   static Data readDataSectionView(final ReadableBuffer data, final int sectionPosition) {
+      if (!data.hasArray() || data.get(sectionPosition) != EncodingCodes.DESCRIBED_TYPE_INDICATOR) {
+         return null;
+      }
+      int position = sectionPosition + 1;
+      final long descriptor;
+      final byte descriptorCode = data.get(position);
+      if (descriptorCode == EncodingCodes.SMALLULONG) {
+         descriptor = data.get(position + 1) & 0xFF;
+         position += 2;
+      } else if (descriptorCode == EncodingCodes.ULONG) {
+         descriptor = ((long) readInt(data, position + 1) << 32) | (readInt(data, position + 1 + Integer.BYTES) & 0xFFFFFFFFL);
+         position += 1 + Long.BYTES;
+      } else {
+         // symbolic descriptors are left to the regular decoding
+         return null;
+      }
+      if (descriptor != DATA_SECTION_DESCRIPTOR) {
+         return null;
+      }
+      final int length;
+      final byte code = data.get(position);
+      if (code == EncodingCodes.VBIN8) {
+         length = data.get(position + 1) & 0xFF;
+         position += 2;
+      } else if (code == EncodingCodes.VBIN32) {
+         length = readInt(data, position + 1);
+         position += 1 + Integer.BYTES;
+      } else {
+         return null;
+      }
+      return new Data(new Binary(data.array(), data.arrayOffset() + position, length));
+   }
+
+   /**
+    * Decode the single value encoded at {@code valuePosition}.
+    */
+   static Object readValue(final ReadableBuffer data, final int valuePosition) {
+      final DecoderImpl decoder = TLSEncode.getDecoder();
+      final ReadableBuffer view = data.duplicate();
+      view.position(valuePosition);
+      decoder.setBuffer(view);
+      try {
+         return decoder.readObject();
+      } finally {
+         decoder.setBuffer(null);
+      }
+   }
+
+   /**
+    * @return the absolute position right after the encoded value (including any descriptor) at {@code position}
+    */
+   static int skipValue(final ReadableBuffer data, int position) {
+      final int code = data.get(position++) & 0xFF;
+      if (code == EncodingCodes.DESCRIBED_TYPE_INDICATOR) {
+         // descriptor followed by the described value
+         return skipValue(data, skipValue(data, position));
+      }
+      // the sub-category of the format code defines the width of the encoding
+      switch (code >>> 4) {
+         case 0x4:
+            return position;
+         case 0x5:
+            return position + 1;
+         case 0x6:
+            return position + 2;
+         case 0x7:
+            return position + 4;
+         case 0x8:
+            return position + 8;
+         case 0x9:
+            return position + 16;
+         case 0xA:
+         case 0xC:
+         case 0xE:
+            return position + 1 + (data.get(position) & 0xFF);
+         case 0xB:
+         case 0xD:
+         case 0xF:
+            return position + Integer.BYTES + readInt(data, position);
+         default:
+            throw new IllegalStateException("Unknown AMQP format code 0x" + Integer.toHexString(code) + " at position " + (position - 1));
+      }
+   }
+
+   private static int readInt(final ReadableBuffer data, final int position) {
+      return ((data.get(position) & 0xFF) << 24) |
+             ((data.get(position + 1) & 0xFF) << 16) |
+             ((data.get(position + 2) & 0xFF) << 8) |
+             (data.get(position + 3) & 0xFF);
+   }
+
+   /**
+    * Compare the UTF-8 encoded bytes in {@code [offset, offset + length)} with {@code value}, without
+    * allocating any intermediate String or byte[].
+    */
+   static boolean utf8Equals(final ReadableBuffer data, final int offset, final int length, final String value) {
+      final int valueLength = value.length();
+      // every char takes at least one byte and at most 3 bytes (surrogate pairs take 4 bytes for 2 chars)
+      if (length < valueLength || length > valueLength * 3) {
+         return false;
+      }
+      final int end = offset + length;
+      int position = offset;
+      for (int i = 0; i < valueLength; i++) {
+         final char c = value.charAt(i);
+         if (c < 0x80) {
+            if (position >= end || data.get(position++) != (byte) c) {
+               return false;
+            }
+         } else if (c < 0x800) {
+            if (end - position < 2 ||
+               data.get(position++) != (byte) (0xC0 | (c >> 6)) ||
+               data.get(position++) != (byte) (0x80 | (c & 0x3F))) {
+               return false;
+            }
+         } else if (Character.isHighSurrogate(c) && i + 1 < valueLength && Character.isLowSurrogate(value.charAt(i + 1))) {
+            final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+            if (end - position < 4 ||
+               data.get(position++) != (byte) (0xF0 | (codePoint >> 18)) ||
+               data.get(position++) != (byte) (0x80 | ((codePoint >> 12) & 0x3F)) ||
+               data.get(position++) != (byte) (0x80 | ((codePoint >> 6) & 0x3F)) ||
+               data.get(position++) != (byte) (0x80 | (codePoint & 0x3F))) {
+               return false;
+            }
+         } else {
+            if (end - position < 3 ||
+               data.get(position++) != (byte) (0xE0 | (c >> 12)) ||
+               data.get(position++) != (byte) (0x80 | ((c >> 6) & 0x3F)) ||
+               data.get(position++) != (byte) (0x80 | (c & 0x3F))) {
+               return false;
+            }
+         }
+      }
+      return position == end;
+   }
+}
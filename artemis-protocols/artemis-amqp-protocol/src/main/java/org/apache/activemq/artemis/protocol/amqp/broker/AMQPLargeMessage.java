@@ -72,6 +72,12 @@ public class AMQPLargeMessage extends AMQPMessage implements LargeServerMessage
       }
    }
 
+   @Override
+   public ICoreMessage toSharedCore(CoreMessageObjectPools coreMessageObjectPools) {
+      // the whole body would be retained in memory
+      return toCore(coreMessageObjectPools);
+   }
+
    private boolean reencoded = false;
 
    /**
@@ -276,6 +282,12 @@ public class AMQPLargeMessage extends AMQPMessage implements LargeServerMessage
       this.storageManager = storageManager;
    }
 
+   @Override
+   protected boolean isEncodedApplicationPropertiesLookupSupported() {
+      // getData() would read the whole large message body from its file
+      return false;
+   }
+
    @Override
    public final boolean isDurable() {
       if (fileDurable != null) {
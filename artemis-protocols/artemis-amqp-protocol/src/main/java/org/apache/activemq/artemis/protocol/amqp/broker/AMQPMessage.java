@@ -29,6 +29,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
@@ -140,6 +142,14 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
 
    protected static final int VALUE_NOT_PRESENT = -1;
 
+   // Cached in place of the value of an application property missing from the encoded section
+   private static final Object APPLICATION_PROPERTY_NOT_PRESENT = new Object();
+
+   // How many application property values read from the encoded section are cached, see getApplicationProperty
+   private static final int CACHED_APPLICATION_PROPERTY_VALUES = 4;
+
+   private static final AtomicReferenceFieldUpdater<AMQPMessage, AtomicReferenceArray> applicationPropertyValuesUpdater = AtomicReferenceFieldUpdater.newUpdater(AMQPMessage.class, AtomicReferenceArray.class, "applicationPropertyValues");
+
    /**
     * This has been made public just for testing purposes: it's not stable
     * and developers shouldn't rely on this for developing purposes.
@@ -217,6 +227,9 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
    protected Properties properties;
    protected ApplicationProperties applicationProperties;
 
+   // The application property values read from the encoded section, while it is not decoded, see getApplicationProperty
+   private volatile AtomicReferenceArray<CachedApplicationProperty> applicationPropertyValues;
+
    protected String connectionID;
    protected final CoreMessageObjectPools coreMessageObjectPools;
    protected Set<Object> rejectedConsumers;
@@ -228,6 +241,10 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
 
    private volatile Object owner;
 
+   // The core conversion of this message shared by the core consumers it is delivered to, see toSharedCore, until
+   // this message is released
+   private volatile ICoreMessage sharedCoreMessage;
+
    /**
     * Creates a new {@link AMQPMessage} instance from binary encoded message data.
     *
@@ -544,6 +561,10 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
 
    @SuppressWarnings("unchecked")
    protected Map<String, Object> getApplicationPropertiesMap(boolean createIfAbsent) {
+      if (createIfAbsent) {
+         // the returned map is going to be modified
+         sharedCoreMessageChanged();
+      }
       ApplicationProperties appMap = lazyDecodeApplicationProperties();
       Map<String, Object> map = null;
 
@@ -563,6 +584,81 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
       return map;
    }
 
+   /**
+    * Reads a single application property.
+    * <p>
+    * While the application properties were not decoded yet (e.g. no modification was made to them)
+    * the value is read directly from the encoded message data, without materializing the whole
+    * Proton map: this is what filters and routing usually need. The first few values read are
+    * cached, the filters of every queue looking up the same properties of the message.
+    */
+   protected Object getApplicationProperty(String key) {
+      ensureMessageDataScanned();
+      final ApplicationProperties decodedProperties = applicationProperties;
+      if (decodedProperties != null || applicationPropertiesPosition == VALUE_NOT_PRESENT || !isEncodedApplicationPropertiesLookupSupported()) {
+         return getApplicationPropertiesMap(false).get(key);
+      }
+      final Object value = getEncodedApplicationProperty(key);
+      return value == APPLICATION_PROPERTY_NOT_PRESENT ? null : value;
+   }
+
+   /**
+    * @return the value of the application property read from the encoded section, or
+    * {@link #APPLICATION_PROPERTY_NOT_PRESENT} if the section doesn't contain it
+    */
+   private Object getEncodedApplicationProperty(String key) {
+      AtomicReferenceArray<CachedApplicationProperty> cachedValues = applicationPropertyValues;
+      if (cachedValues != null) {
+         // the slots are filled in order and never emptied
+         for (int i = 0; i < CACHED_APPLICATION_PROPERTY_VALUES; i++) {
+            final CachedApplicationProperty cached = cachedValues.get(i);
+            if (cached == null) {
+               break;
+            }
+            if (cached.key.equals(key)) {
+               return cached.value;
+            }
+         }
+      }
+      final ReadableBuffer data = getData();
+      final int valuePosition = AMQPEncodedSectionReader.findMapValue(data, applicationPropertiesPosition, key);
+      final Object value = valuePosition == AMQPEncodedSectionReader.NOT_FOUND ? APPLICATION_PROPERTY_NOT_PRESENT : AMQPEncodedSectionReader.readValue(data, valuePosition);
+
+      // the filters of different queues can read the properties concurrently: the slots are claimed atomically
+      if (cachedValues == null) {
+         applicationPropertyValuesUpdater.compareAndSet(this, null, new AtomicReferenceArray<>(CACHED_APPLICATION_PROPERTY_VALUES));
+         cachedValues = applicationPropertyValues;
+      }
+      if (cachedValues != null && cachedValues.get(CACHED_APPLICATION_PROPERTY_VALUES - 1) == null) {
+         final CachedApplicationProperty cached = new CachedApplicationProperty(key, value);
+         for (int i = 0; i < CACHED_APPLICATION_PROPERTY_VALUES; i++) {
+            if (cachedValues.compareAndSet(i, null, cached)) {
+               break;
+            }
+         }
+      }
+      return value;
+   }
+
+   private static final class CachedApplicationProperty {
+
+      final String key;
+      final Object value;
+
+      CachedApplicationProperty(String key, Object value) {
+         this.key = key;
+         this.value = value;
+      }
+   }
+
+   /**
+    * Whether {@link #getApplicationProperty(String)} can read the values directly from {@link #getData()}.
+    * Implementations whose data is not cheaply accessible in memory should return false.
+    */
+   protected boolean isEncodedApplicationPropertiesLookupSupported() {
+      return true;
+   }
+
    @SuppressWarnings("unchecked")
    protected Map<Symbol, Object> getMessageAnnotationsMap(boolean createIfAbsent) {
       Map<Symbol, Object> map = null;
@@ -596,6 +692,7 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
    }
 
    protected Object removeMessageAnnotation(Symbol annotation) {
+      sharedCoreMessageChanged();
       return getMessageAnnotationsMap(false).remove(annotation);
    }
 
@@ -604,6 +701,7 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
    }
 
    protected void setMessageAnnotation(Symbol annotation, Object value) {
+      sharedCoreMessageChanged();
       if (value instanceof SimpleString) {
          value = value.toString();
       }
@@ -611,6 +709,7 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
    }
 
    protected void setMessageAnnotations(MessageAnnotations messageAnnotations) {
+      sharedCoreMessageChanged();
       this.messageAnnotations = messageAnnotations;
    }
 
@@ -639,10 +738,12 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
    }
 
    protected synchronized void resetMessageData() {
+      sharedCoreMessageChanged();
       header = null;
       messageAnnotations = null;
       properties = null;
       applicationProperties = null;
+      applicationPropertyValues = null;
       if (!expirationReload) {
          expiration = 0;
       }
@@ -829,6 +930,7 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
 
    @Override
    public void messageChanged() {
+      sharedCoreMessageChanged();
       modified = true;
    }
 
@@ -954,13 +1056,54 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
       try {
          ensureScanning();
          return AmqpCoreConverter.toCore(
-            this, coreMessageObjectPools, header, messageAnnotations, properties, lazyDecodeApplicationProperties(), getBody(), getFooter());
+            this, coreMessageObjectPools, header, messageAnnotations, properties, lazyDecodeApplicationProperties(), getBodyForConversion(), getFooter());
       } catch (Exception e) {
          logger.warn(e.getMessage(), e);
          throw new RuntimeException(e.getMessage(), e);
       }
    }
 
+   /**
+    * Same as {@link #getBody()}, but a {@link Data} body is not copied out of the message data: the returned
+    * {@link Binary} is a view over the encoded message and it must not be retained.
+    */
+   private Section getBodyForConversion() {
+      if (remainingBodyPosition != VALUE_NOT_PRESENT) {
+         final Data dataView = AMQPEncodedSectionReader.readDataSectionView(getData(), remainingBodyPosition);
+         if (dataView != null) {
+            return dataView;
+         }
+      }
+      return getBody();
+   }
+
+   @Override
+   public ICoreMessage toSharedCore(CoreMessageObjectPools coreMessageObjectPools) {
+      ICoreMessage coreMessage = sharedCoreMessage;
+      if (coreMessage == null) {
+         coreMessage = toCore(coreMessageObjectPools);
+         sharedCoreMessage = coreMessage;
+      }
+      return coreMessage;
+   }
+
+   @Override
+   protected void releaseComplete() {
+      super.releaseComplete();
+      // no consumer is left to share the core conversion, which isn't accounted in the memory estimate of this message
+      sharedCoreMessageChanged();
+   }
+
+   /**
+    * Any change to this message has to drop the core conversion shared by {@link #toSharedCore(CoreMessageObjectPools)}.
+    */
+   protected final void sharedCoreMessageChanged() {
+      //a volatile store is a costly operation: better to check if is necessary
+      if (sharedCoreMessage != null) {
+         sharedCoreMessage = null;
+      }
+   }
+
    @Override
    public ICoreMessage toCore() {
       return toCore(coreMessageObjectPools);
@@ -1018,12 +1161,14 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
    }
 
    public final AMQPMessage setExtraProperties(TypedProperties extraProperties) {
+      sharedCoreMessageChanged();
       this.extraProperties = extraProperties;
       return this;
    }
 
    @Override
    public final org.apache.activemq.artemis.api.core.Message putExtraBytesProperty(SimpleString key, byte[] value) {
+      sharedCoreMessageChanged();
       createExtraProperties().putBytesProperty(key, value);
       return this;
    }
@@ -1039,6 +1184,7 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
 
    @Override
    public void clearInternalProperties() {
+      sharedCoreMessageChanged();
       if (extraProperties != null) {
          extraProperties.clearInternalProperties();
       }
@@ -1046,6 +1192,7 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
 
    @Override
    public final byte[] removeExtraBytesProperty(SimpleString key) throws ActiveMQPropertyConversionException {
+      sharedCoreMessageChanged();
       if (extraProperties == null) {
          return null;
       } else {
@@ -1077,6 +1224,7 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
 
    @Override
    public final org.apache.activemq.artemis.api.core.Message setMessageID(long id) {
+      sharedCoreMessageChanged();
       this.messageID = id;
       return this;
    }
@@ -1096,6 +1244,7 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
 
    @Override
    public final AMQPMessage setExpiration(long expiration) {
+      sharedCoreMessageChanged();
       if (properties != null) {
          if (expiration <= 0) {
             properties.setAbsoluteExpiryTime(null);
@@ -1147,6 +1296,7 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
 
    @Override
    public final org.apache.activemq.artemis.api.core.Message setUserID(Object userID) {
+      sharedCoreMessageChanged();
       return this;
    }
 
@@ -1175,6 +1325,7 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
 
    @Override
    public final org.apache.activemq.artemis.api.core.Message setDurable(boolean durable) {
+      sharedCoreMessageChanged();
       if (header == null) {
          header = new Header();
       }
@@ -1198,6 +1349,7 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
 
    @Override
    public final AMQPMessage setAddress(SimpleString address) {
+      sharedCoreMessageChanged();
       this.address = address;
       createExtraProperties().putSimpleStringProperty(ADDRESS_PROPERTY, address);
       return this;
@@ -1242,6 +1394,7 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
 
    @Override
    public final org.apache.activemq.artemis.api.core.Message setTimestamp(long timestamp) {
+      sharedCoreMessageChanged();
       if (properties == null) {
          properties = new Properties();
       }
@@ -1260,6 +1413,7 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
 
    @Override
    public final org.apache.activemq.artemis.api.core.Message setPriority(byte priority) {
+      sharedCoreMessageChanged();
       if (header == null) {
          header = new Header();
       }
@@ -1278,6 +1432,7 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
 
    @Override
    public final AMQPMessage setReplyTo(SimpleString address) {
+      sharedCoreMessageChanged();
       if (properties == null) {
          properties = new Properties();
       }
@@ -1311,6 +1466,7 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
 
    @Override
    public final org.apache.activemq.artemis.api.core.Message setRoutingType(RoutingType routingType) {
+      sharedCoreMessageChanged();
       if (routingType == null) {
          removeMessageAnnotation(AMQPMessageSupport.ROUTING_TYPE);
       } else {
@@ -1349,6 +1505,7 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
 
    @Override
    public final org.apache.activemq.artemis.api.core.Message setCorrelationID(final Object correlationID) {
+      sharedCoreMessageChanged();
       if (properties == null) {
          properties = new Properties();
       }
@@ -1408,6 +1565,7 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
 
    @Override
    public final AMQPMessage setScheduledDeliveryTime(Long time) {
+      sharedCoreMessageChanged();
       if (time != null && time.longValue() > 0) {
          setMessageAnnotation(AMQPMessageSupport.SCHEDULED_DELIVERY_TIME, time);
          removeMessageAnnotation(AMQPMessageSupport.SCHEDULED_DELIVERY_DELAY);
@@ -1423,6 +1581,7 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
 
    @Override
    public final Object removeAnnotation(SimpleString key) {
+      sharedCoreMessageChanged();
       return removeMessageAnnotation(Symbol.getSymbol(key.toString()));
    }
 
@@ -1433,6 +1592,7 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
 
    @Override
    public final AMQPMessage setAnnotation(SimpleString key, Object value) {
+      sharedCoreMessageChanged();
       setMessageAnnotation(key.toString(), value);
       return this;
    }
@@ -1440,6 +1600,7 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
 
    @Override
    public org.apache.activemq.artemis.api.core.Message setBrokerProperty(SimpleString key, Object value) {
+      sharedCoreMessageChanged();
       // Annotation names have to start with x-opt
       setMessageAnnotation(AMQPMessageSupport.toAnnotationName(key.toString()), value);
       createExtraProperties().putProperty(key, value);
@@ -1457,6 +1618,7 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
 
    @Override
    public final org.apache.activemq.artemis.api.core.Message setIngressTimestamp() {
+      sharedCoreMessageChanged();
       setMessageAnnotation(AMQPMessageSupport.INGRESS_TIME_MSG_ANNOTATION, System.currentTimeMillis());
       return this;
    }
@@ -1479,6 +1641,7 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
 
    @Override
    public final Object removeProperty(String key) {
+      sharedCoreMessageChanged();
       return getApplicationPropertiesMap(false).remove(key);
    }
 
@@ -1489,32 +1652,36 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
 
    @Override
    public final boolean containsProperty(String key) {
+      ensureMessageDataScanned();
+      if (applicationProperties == null && applicationPropertiesPosition != VALUE_NOT_PRESENT && isEncodedApplicationPropertiesLookupSupported()) {
+         return getEncodedApplicationProperty(key) != APPLICATION_PROPERTY_NOT_PRESENT;
+      }
       return getApplicationPropertiesMap(false).containsKey(key);
    }
 
    @Override
    public final Boolean getBooleanProperty(String key) throws ActiveMQPropertyConversionException {
-      return (Boolean) getApplicationPropertiesMap(false).get(key);
+      return (Boolean) getApplicationProperty(key);
    }
 
    @Override
    public final Byte getByteProperty(String key) throws ActiveMQPropertyConversionException {
-      return (Byte) getApplicationPropertiesMap(false).get(key);
+      return (Byte) getApplicationProperty(key);
    }
 
    @Override
    public final Double getDoubleProperty(String key) throws ActiveMQPropertyConversionException {
-      return (Double) getApplicationPropertiesMap(false).get(key);
+      return (Double) getApplicationProperty(key);
    }
 
    @Override
    public final Integer getIntProperty(String key) throws ActiveMQPropertyConversionException {
-      return (Integer) getApplicationPropertiesMap(false).get(key);
+      return (Integer) getApplicationProperty(key);
    }
 
    @Override
    public final Long getLongProperty(String key) throws ActiveMQPropertyConversionException {
-      return (Long) getApplicationPropertiesMap(false).get(key);
+      return (Long) getApplicationProperty(key);
    }
 
    @Override
@@ -1544,7 +1711,7 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
    }
 
    private Object getApplicationObjectProperty(String key) {
-      Object value = getApplicationPropertiesMap(false).get(key);
+      Object value = getApplicationProperty(key);
       if (value instanceof Number) {
          // slow path
          if (value instanceof UnsignedInteger ||
@@ -1559,12 +1726,12 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
 
    @Override
    public final Short getShortProperty(String key) throws ActiveMQPropertyConversionException {
-      return (Short) getApplicationPropertiesMap(false).get(key);
+      return (Short) getApplicationProperty(key);
    }
 
    @Override
    public final Float getFloatProperty(String key) throws ActiveMQPropertyConversionException {
-      return (Float) getApplicationPropertiesMap(false).get(key);
+      return (Float) getApplicationProperty(key);
    }
 
    @Override
@@ -1575,7 +1742,7 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
          case MessageUtil.CONNECTION_ID_PROPERTY_NAME_STRING:
             return getConnectionID();
          default:
-            return (String) getApplicationPropertiesMap(false).get(key);
+            return (String) getApplicationProperty(key);
       }
    }
 
@@ -1649,7 +1816,7 @@ public abstract class AMQPMessage extends RefCountMessage implements org.apache.
    }
    @Override
    public final SimpleString getSimpleStringProperty(String key) throws ActiveMQPropertyConversionException {
-      return SimpleString.toSimpleString((String) getApplicationPropertiesMap(false).get(key), getPropertyValuesPool());
+      return SimpleString.toSimpleString((String) getApplicationProperty(key), getPropertyValuesPool());
    }
 
    // Core Message Application Property update methods, calling these puts the message in a dirty
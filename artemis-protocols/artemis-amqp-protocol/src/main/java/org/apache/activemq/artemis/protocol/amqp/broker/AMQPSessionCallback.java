@@ -780,6 +780,10 @@ public class AMQPSessionCallback implements SessionCallback {
       return protonSPI.invokeOutgoingInterceptors(message, connection);
    }
 
+   public boolean hasOutgoingInterceptors() {
+      return protonSPI.hasOutgoingInterceptors();
+   }
+
    public void addProducer(ServerProducer serverProducer) {
       serverSession.addProducer(serverProducer);
    }
@@ -362,6 +362,10 @@ public class ProtonProtocolManager extends AbstractProtocolManager<AMQPMessage,
       return super.invokeInterceptors(this.outgoingInterceptors, message, connection);
    }
 
+   public boolean hasOutgoingInterceptors() {
+      return !outgoingInterceptors.isEmpty();
+   }
+
    public int getInitialRemoteMaxFrameSize() {
       return initialRemoteMaxFrameSize;
    }
@@ -51,6 +51,7 @@ import java.util.Set;
 import org.apache.activemq.artemis.api.core.ICoreMessage;
 import org.apache.activemq.artemis.api.core.Message;
 import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.core.message.impl.CoreMessage;
 import org.apache.activemq.artemis.core.persistence.StorageManager;
 import org.apache.activemq.artemis.protocol.amqp.broker.AMQPMessage;
 import org.apache.activemq.artemis.protocol.amqp.broker.AMQPStandardMessage;
@@ -75,6 +76,16 @@ public class CoreAmqpConverter {
    public static AMQPMessage checkAMQP(Message message, StorageManager storageManager) throws Exception {
       if (message instanceof AMQPMessage) {
          return (AMQPMessage)message;
+      } else if (message instanceof CoreMessage && !message.isLargeMessage()) {
+         // the conversion is shared by all the AMQP consumers of this message
+         final CoreMessage coreMessage = (CoreMessage) message;
+         final Message convertedMessage = coreMessage.getConvertedMessage();
+         if (convertedMessage instanceof AMQPMessage) {
+            return (AMQPMessage) convertedMessage;
+         }
+         final AMQPMessage amqpMessage = fromCore(coreMessage, storageManager);
+         coreMessage.setConvertedMessage(amqpMessage);
+         return amqpMessage;
       } else {
          // It will first convert to Core, then to AMQP
          return fromCore(message.toCore(), storageManager);
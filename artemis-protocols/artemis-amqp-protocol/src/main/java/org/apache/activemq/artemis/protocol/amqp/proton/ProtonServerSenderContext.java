@@ -540,6 +540,11 @@ public class ProtonServerSenderContext extends ProtonInitializable implements Pr
          }
          AMQPMessage message = CoreAmqpConverter.checkAMQP(messageReference.getMessage(), sessionSPI.getStorageManager());
 
+         if (message != messageReference.getMessage() && sessionSPI.hasOutgoingInterceptors()) {
+            // the conversion is shared by every AMQP consumer of the message,
+            // an interceptor changing it must not change what the others receive
+            message = (AMQPMessage) message.copy();
+         }
          if (sessionSPI.invokeOutgoing(message, (ActiveMQProtonRemotingConnection) sessionSPI.getTransportConnection().getProtocolConnection()) != null) {
             return;
          }
@@ -24,6 +24,7 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -298,6 +299,12 @@ public class AMQPMessageTest {
          new AMQPStandardMessage(0, encodeMessage(createProtonMessage()), new TypedProperties(), null);
 
       assertEquals(decodedWithApplicationPropertiesUnmarshalled.getStringProperty(TEST_APPLICATION_PROPERTY_KEY), TEST_APPLICATION_PROPERTY_VALUE);
+      // reading a single property won't unmarshall the application properties, but listing them will
+      assertEquals(decoded.getMemoryEstimate(), decodedWithApplicationPropertiesUnmarshalled.getMemoryEstimate());
+
+      decodedWithApplicationPropertiesUnmarshalled =
+         new AMQPStandardMessage(0, encodeMessage(createProtonMessage()), new TypedProperties(), null);
+      assertTrue(decodedWithApplicationPropertiesUnmarshalled.getPropertyNames().contains(SimpleString.toSimpleString(TEST_APPLICATION_PROPERTY_KEY)));
 
       assertNotEquals(decodedWithApplicationPropertiesUnmarshalled.getMemoryEstimate(), decoded.getMemoryEstimate());
    }
@@ -1496,6 +1503,82 @@ public class AMQPMessageTest {
       assertApplicationPropertiesNotEquals(protonMessage.getApplicationProperties(), decoded);
    }
 
+   @Test
+   public void testGetApplicationPropertyWithoutDecodingApplicationProperties() {
+      MessageImpl protonMessage = (MessageImpl) Message.Factory.create();
+      Map<String, Object> appPropsMap = new LinkedHashMap<>();
+      appPropsMap.put("string", "value");
+      appPropsMap.put("int", 42);
+      appPropsMap.put("long", Long.MAX_VALUE);
+      appPropsMap.put("boolean", true);
+      appPropsMap.put("null", null);
+      appPropsMap.put("uint", UnsignedInteger.valueOf(7));
+      appPropsMap.put("binary", new Binary(new byte[] {1, 2, 3}));
+      appPropsMap.put("list", Arrays.asList("a", "b"));
+      appPropsMap.put("k\u00e9y-\u20ac-\ud83d\ude00", "unicode");
+      appPropsMap.put(RandomUtil.randomString() + RandomUtil.randomString() + RandomUtil.randomString() +
+                      RandomUtil.randomString() + RandomUtil.randomString() + RandomUtil.randomString() +
+                      RandomUtil.randomString() + RandomUtil.randomString(), RandomUtil.randomString());
+      appPropsMap.put("last", "lastValue");
+      protonMessage.setApplicationProperties(new ApplicationProperties(appPropsMap));
+      protonMessage.setBody(new AmqpValue(TEST_STRING_BODY));
+
+      AMQPStandardMessage decoded = encodeAndDecodeMessage(protonMessage);
+
+      assertEquals("value", decoded.getStringProperty("string"));
+      assertEquals(Integer.valueOf(42), decoded.getIntProperty("int"));
+      assertEquals(Long.valueOf(Long.MAX_VALUE), decoded.getLongProperty("long"));
+      assertEquals(Boolean.TRUE, decoded.getBooleanProperty("boolean"));
+      assertEquals(7L, decoded.getObjectProperty("uint"));
+      assertEquals(new Binary(new byte[] {1, 2, 3}), decoded.getObjectProperty("binary"));
+      assertEquals(Arrays.asList("a", "b"), decoded.getObjectProperty("list"));
+      assertEquals("unicode", decoded.getObjectProperty("k\u00e9y-\u20ac-\ud83d\ude00"));
+      assertEquals(SimpleString.toSimpleString("lastValue"), decoded.getSimpleStringProperty(SimpleString.toSimpleString("last")));
+      assertEquals("lastValue", decoded.getObjectPropertyForFilter(SimpleString.toSimpleString("last")));
+      assertNull(decoded.getObjectProperty("null"));
+      assertNull(decoded.getObjectProperty("missing"));
+      assertNull(decoded.getObjectProperty("k\u00e9y"));
+      assertTrue(decoded.containsProperty("null"));
+      assertTrue(decoded.containsProperty("last"));
+      assertFalse(decoded.containsProperty("missing"));
+
+      assertNull(decoded.getDecodedApplicationProperties());
+
+      // once modified the decoded application properties are used instead
+      decoded.putStringProperty("string", "updated");
+      assertNotNull(decoded.getDecodedApplicationProperties());
+      assertEquals("updated", decoded.getStringProperty("string"));
+      assertEquals(Integer.valueOf(42), decoded.getIntProperty("int"));
+   }
+
+   @Test
+   public void testGetApplicationPropertyReadsEachValueOnce() {
+      MessageImpl protonMessage = (MessageImpl) Message.Factory.create();
+      Map<String, Object> appPropsMap = new LinkedHashMap<>();
+      appPropsMap.put("string", "value");
+      appPropsMap.put("list", Arrays.asList("a", "b"));
+      protonMessage.setApplicationProperties(new ApplicationProperties(appPropsMap));
+      protonMessage.setBody(new AmqpValue(TEST_STRING_BODY));
+
+      AMQPStandardMessage decoded = encodeAndDecodeMessage(protonMessage);
+
+      Object value = decoded.getObjectProperty("string");
+      assertEquals("value", value);
+      assertSame(value, decoded.getStringProperty("string"));
+      assertTrue(decoded.containsProperty("list"));
+      assertSame(decoded.getObjectProperty("list"), decoded.getObjectProperty("list"));
+      assertFalse(decoded.containsProperty("missing"));
+      assertNull(decoded.getObjectProperty("missing"));
+      assertNull(decoded.getDecodedApplicationProperties());
+
+      // the values read are dropped along with the data they were read from
+      decoded.putStringProperty("string", "updated");
+      decoded.reencode();
+      assertNull(decoded.getDecodedApplicationProperties());
+      assertEquals("updated", decoded.getStringProperty("string"));
+      assertEquals(Arrays.asList("a", "b"), decoded.getObjectProperty("list"));
+   }
+
    @Test
    public void testGetBody() {
       MessageImpl protonMessage = createProtonMessage();
@@ -122,6 +122,71 @@ public class TestConversions extends Assert {
       Assert.assertArrayEquals(bodyBytes, newBodyBytes);
    }
 
+   @Test
+   public void testSharedCoreConversionDroppedOnChange() throws Exception {
+      MessageImpl message = (MessageImpl) Message.Factory.create();
+      message.setApplicationProperties(new ApplicationProperties(createPropertiesMap()));
+      message.setBody(new Data(new Binary(new byte[] {1, 2, 3, 4})));
+
+      AMQPMessage encodedMessage = encodeAndCreateAMQPMessage(message);
+
+      ICoreMessage sharedCore = encodedMessage.toSharedCore(null);
+      assertSame(sharedCore, encodedMessage.toSharedCore(null));
+      assertNotSame(sharedCore, encodedMessage.toCore());
+      verifyProperties(CoreMessageWrapper.wrap(sharedCore));
+
+      encodedMessage.putStringProperty("foo", "changed");
+      ICoreMessage updatedCore = encodedMessage.toSharedCore(null);
+      assertNotSame(sharedCore, updatedCore);
+      assertEquals("changed", updatedCore.getStringProperty("foo"));
+   }
+
+   @Test
+   public void testSharedCoreConversionDroppedOnRelease() throws Exception {
+      MessageImpl message = (MessageImpl) Message.Factory.create();
+      message.setBody(new Data(new Binary(new byte[] {1, 2, 3, 4})));
+
+      AMQPMessage encodedMessage = encodeAndCreateAMQPMessage(message);
+      encodedMessage.refUp();
+
+      ICoreMessage sharedCore = encodedMessage.toSharedCore(null);
+      assertSame(sharedCore, encodedMessage.toSharedCore(null));
+
+      // the last consumer is gone
+      encodedMessage.refDown();
+      assertNotSame(sharedCore, encodedMessage.toSharedCore(null));
+   }
+
+   @Test
+   public void testCoreToAMQPConversionDroppedOnRelease() throws Exception {
+      CoreMessage coreMessage = newMessage(org.apache.activemq.artemis.api.core.Message.BYTES_TYPE);
+      coreMessage.getBodyBuffer().writeBytes(new byte[] {1, 2, 3, 4});
+      coreMessage.refUp();
+
+      AMQPMessage converted = CoreAmqpConverter.checkAMQP(coreMessage, null);
+      assertSame(converted, CoreAmqpConverter.checkAMQP(coreMessage, null));
+
+      // the last consumer is gone
+      coreMessage.refDown();
+      assertNull(coreMessage.getConvertedMessage());
+   }
+
+   @Test
+   public void testCoreToAMQPConversionSharedUntilChanged() throws Exception {
+      CoreMessage coreMessage = newMessage(org.apache.activemq.artemis.api.core.Message.BYTES_TYPE);
+      coreMessage.getBodyBuffer().writeBytes(new byte[] {1, 2, 3, 4});
+      coreMessage.putStringProperty("foo", "bar");
+
+      AMQPMessage converted = CoreAmqpConverter.checkAMQP(coreMessage, null);
+      assertSame(converted, CoreAmqpConverter.checkAMQP(coreMessage, null));
+      assertEquals("bar", converted.getStringProperty("foo"));
+
+      coreMessage.putStringProperty("foo", "changed");
+      AMQPMessage updated = CoreAmqpConverter.checkAMQP(coreMessage, null);
+      assertNotSame(converted, updated);
+      assertEquals("changed", updated.getStringProperty("foo"));
+   }
+
    private void verifyProperties(CoreMessageWrapper message) throws Exception {
       assertEquals(true, message.getBooleanProperty("true"));
       assertEquals(false, message.getBooleanProperty("false"));
@@ -62,6 +62,8 @@ public final class BridgeConfiguration implements Serializable {
    public static String CALL_TIMEOUT = "call-timeout";
    public static String ROUTING_TYPE = "routing-type";
    public static String CONCURRENCY = "concurrency";
+   public static String ACK_BATCH_SIZE = "ack-batch-size";
+   public static String PENDING_WINDOW_SIZE = "pending-window-size";
 
    private String name = null;
 
@@ -116,6 +118,10 @@ public final class BridgeConfiguration implements Serializable {
 
    private int concurrency = ActiveMQDefaultConfiguration.getDefaultBridgeConcurrency();
 
+   private int ackBatchSize = ActiveMQDefaultConfiguration.getDefaultBridgeAckBatchSize();
+
+   private int pendingWindowSize = ActiveMQDefaultConfiguration.getDefaultBridgePendingWindowSize();
+
    private String parentName = null;
 
    public BridgeConfiguration() {
@@ -148,6 +154,8 @@ public final class BridgeConfiguration implements Serializable {
       callTimeout = other.callTimeout;
       routingType = other.routingType;
       concurrency = other.concurrency;
+      ackBatchSize = other.ackBatchSize;
+      pendingWindowSize = other.pendingWindowSize;
    }
 
    public BridgeConfiguration(String name) {
@@ -183,6 +191,8 @@ public final class BridgeConfiguration implements Serializable {
     * <li>call-timeout: {@link #CALL_TIMEOUT}
     * <li>routing-type: {@link #ROUTING_TYPE}
     * <li>concurrency: {@link #CONCURRENCY}
+    * <li>ack-batch-size: {@link #ACK_BATCH_SIZE}
+    * <li>pending-window-size: {@link #PENDING_WINDOW_SIZE}
     * </ul><p>
     * The {@code String}-based values will be converted to the proper value types based on the underlying property. For
     * example, if you pass the value "TRUE" for the key "auto-created" the {@code String} "TRUE" will be converted to
@@ -254,6 +264,10 @@ public final class BridgeConfiguration implements Serializable {
             setRoutingType(ComponentConfigurationRoutingType.valueOf(value));
          } else if (key.equals(CONCURRENCY)) {
             setConcurrency(Integer.parseInt(value));
+         } else if (key.equals(ACK_BATCH_SIZE)) {
+            setAckBatchSize(Integer.parseInt(value));
+         } else if (key.equals(PENDING_WINDOW_SIZE)) {
+            setPendingWindowSize(Integer.parseInt(value));
          }
       }
       return this;
@@ -551,6 +565,36 @@ public final class BridgeConfiguration implements Serializable {
       return this;
    }
 
+   /**
+    * @return the number of forwarded messages acknowledged at once on the bridge queue
+    */
+   public int getAckBatchSize() {
+      return ackBatchSize;
+   }
+
+   /**
+    * @param ackBatchSize the number of forwarded messages acknowledged at once on the bridge queue
+    */
+   public BridgeConfiguration setAckBatchSize(int ackBatchSize) {
+      this.ackBatchSize = ackBatchSize;
+      return this;
+   }
+
+   /**
+    * @return the bytes the bridge can forward before waiting for the target to confirm them, -1 means no limit
+    */
+   public int getPendingWindowSize() {
+      return pendingWindowSize;
+   }
+
+   /**
+    * @param pendingWindowSize the bytes the bridge can forward before waiting for the target to confirm them
+    */
+   public BridgeConfiguration setPendingWindowSize(int pendingWindowSize) {
+      this.pendingWindowSize = pendingWindowSize;
+      return this;
+   }
+
    /**
     * At this point this is only changed on testcases
     * The bridge shouldn't be sending blocking anyways
@@ -611,6 +655,8 @@ public final class BridgeConfiguration implements Serializable {
       builder.add(MIN_LARGE_MESSAGE_SIZE, getMinLargeMessageSize());
       builder.add(CALL_TIMEOUT, getCallTimeout());
       builder.add(CONCURRENCY, getConcurrency());
+      builder.add(ACK_BATCH_SIZE, getAckBatchSize());
+      builder.add(PENDING_WINDOW_SIZE, getPendingWindowSize());
 
       // complex fields (only serialize if value is not null)
 
@@ -705,6 +751,8 @@ public final class BridgeConfiguration implements Serializable {
       result = prime * result + (useDuplicateDetection ? 1231 : 1237);
       result = prime * result + ((user == null) ? 0 : user.hashCode());
       result = prime * result + concurrency;
+      result = prime * result + ackBatchSize;
+      result = prime * result + pendingWindowSize;
       return result;
    }
 
@@ -790,6 +838,10 @@ public final class BridgeConfiguration implements Serializable {
          return false;
       if (concurrency != other.concurrency)
          return false;
+      if (ackBatchSize != other.ackBatchSize)
+         return false;
+      if (pendingWindowSize != other.pendingWindowSize)
+         return false;
       return true;
    }
 
@@ -83,6 +83,8 @@ public final class ClusterConnectionConfiguration implements Serializable {
 
    private int clusterNotificationAttempts = ActiveMQDefaultConfiguration.getDefaultClusterNotificationAttempts();
 
+   private long loadReportPeriod = ActiveMQDefaultConfiguration.getDefaultClusterLoadReportPeriod();
+
    public ClusterConnectionConfiguration() {
    }
 
@@ -368,6 +370,18 @@ public final class ClusterConnectionConfiguration implements Serializable {
       return this;
    }
 
+   /*
+   * returns how often the load of the local queues is reported to the cluster
+   * */
+   public long getLoadReportPeriod() {
+      return loadReportPeriod;
+   }
+
+   public ClusterConnectionConfiguration setLoadReportPeriod(long loadReportPeriod) {
+      this.loadReportPeriod = loadReportPeriod;
+      return this;
+   }
+
    /**
     * This method will match the configuration and return the proper TransportConfiguration for the Configuration
     */
@@ -434,6 +448,7 @@ public final class ClusterConnectionConfiguration implements Serializable {
       result = prime * result + (int) (clientFailureCheckPeriod ^ (clientFailureCheckPeriod >>> 32));
       result = prime * result + clusterNotificationAttempts;
       result = prime * result + (int) (clusterNotificationInterval ^ (clusterNotificationInterval >>> 32));
+      result = prime * result + (int) (loadReportPeriod ^ (loadReportPeriod >>> 32));
       result = prime * result + confirmationWindowSize;
       result = prime * result + (int) (connectionTTL ^ (connectionTTL >>> 32));
       result = prime * result + ((connectorName == null) ? 0 : connectorName.hashCode());
@@ -491,6 +506,9 @@ public final class ClusterConnectionConfiguration implements Serializable {
       if (clusterNotificationInterval != other.clusterNotificationInterval) {
          return false;
       }
+      if (loadReportPeriod != other.loadReportPeriod) {
+         return false;
+      }
       if (confirmationWindowSize != other.confirmationWindowSize) {
          return false;
       }
@@ -581,6 +599,7 @@ public final class ClusterConnectionConfiguration implements Serializable {
          ", minLargeMessageSize=" + minLargeMessageSize +
          ", clusterNotificationInterval=" + clusterNotificationInterval +
          ", clusterNotificationAttempts=" + clusterNotificationAttempts +
+         ", loadReportPeriod=" + loadReportPeriod +
          '}';
    }
 }
@@ -105,6 +105,28 @@ public interface Configuration {
 
    Configuration setCriticalAnalyzerPolicy(CriticalAnalyzerPolicy policy);
 
+   /**
+    * Returns whether the critical analyzer records the durations of the critical paths. <br>
+    * Default value is {@link org.apache.activemq.artemis.api.config.ActiveMQDefaultConfiguration#DEFAULT_ANALYZE_CRITICAL_PROFILER}.
+    */
+   boolean isCriticalAnalyzerProfiler();
+
+   /**
+    * Sets whether the critical analyzer records the durations of the critical paths.
+    */
+   Configuration setCriticalAnalyzerProfiler(boolean profiler);
+
+   /**
+    * Returns the duration (in milliseconds) over which a critical path is logged as slow by the profiler. <br>
+    * Default value is {@link org.apache.activemq.artemis.api.config.ActiveMQDefaultConfiguration#DEFAULT_ANALYZE_CRITICAL_SLOW_THRESHOLD}.
+    */
+   long getCriticalAnalyzerSlowThreshold();
+
+   /**
+    * Sets the duration (in milliseconds) over which a critical path is logged as slow by the profiler.
+    */
+   Configuration setCriticalAnalyzerSlowThreshold(long slowThreshold);
+
 
    /**
     * Returns whether this server is clustered. <br>
@@ -189,6 +211,18 @@ public interface Configuration {
     */
    Configuration setThreadPoolMaxSize(int maxSize);
 
+   /**
+    * Returns whether the tasks of the thread pool of this server run on virtual threads rather than on at most
+    * {@link #getThreadPoolMaxSize()} platform threads. It is ignored when the JVM doesn't support virtual threads. <br>
+    * Default value is {@link org.apache.activemq.artemis.api.config.ActiveMQDefaultConfiguration#DEFAULT_THREAD_POOL_VIRTUAL_THREADS}.
+    */
+   boolean isThreadPoolVirtualThreads();
+
+   /**
+    * Sets whether the tasks of the thread pool of this server run on virtual threads.
+    */
+   Configuration setThreadPoolVirtualThreads(boolean virtualThreads);
+
    /**
     * Returns the maximum number of threads in the <em>scheduled</em> thread pool of this server. <br>
     * Default value is {@link org.apache.activemq.artemis.api.config.ActiveMQDefaultConfiguration#DEFAULT_SCHEDULED_THREAD_POOL_MAX_SIZE}.
@@ -233,6 +267,32 @@ public interface Configuration {
     */
    long getAuthorizationCacheSize();
 
+   /**
+    * Returns the maximum number of threads used to authenticate users creating Core sessions, so that a slow
+    * security manager (e.g. LDAP) doesn't hold the threads handling the connections. <br>
+    * A value of 0 authenticates on the thread handling the connection. AMQP, STOMP, MQTT and OpenWire always
+    * authenticate on that thread through {@link org.apache.activemq.artemis.core.server.ActiveMQServer#validateUser}. <br>
+    * Default value is {@link org.apache.activemq.artemis.api.config.ActiveMQDefaultConfiguration#DEFAULT_AUTHENTICATION_THREAD_POOL_MAX_SIZE}.
+    */
+   int getAuthenticationThreadPoolMaxSize();
+
+   /**
+    * Sets the maximum number of threads used to authenticate users.
+    */
+   Configuration setAuthenticationThreadPoolMaxSize(int size);
+
+   /**
+    * Returns the maximum number of authentications waiting for one of the authentication threads before new ones
+    * are rejected. <br>
+    * Default value is {@link org.apache.activemq.artemis.api.config.ActiveMQDefaultConfiguration#DEFAULT_AUTHENTICATION_QUEUE_MAX_SIZE}.
+    */
+   int getAuthenticationQueueMaxSize();
+
+   /**
+    * Sets the maximum number of authentications waiting for one of the authentication threads.
+    */
+   Configuration setAuthenticationQueueMaxSize(int size);
+
    /**
     * Returns whether security is enabled for this server. <br>
     * Default value is {@link org.apache.activemq.artemis.api.config.ActiveMQDefaultConfiguration#DEFAULT_SECURITY_ENABLED}.
@@ -973,6 +1033,19 @@ public interface Configuration {
     */
    Configuration setLargeMessagesDirectory(String directory);
 
+   /**
+    * Returns how many bytes of large message continuations received over the core protocol can be pending on
+    * disk writes, while the session keeps handling packets, before reading from the connection is suspended. <br>
+    * A value &lt;= 0 writes each continuation synchronously. <br>
+    * Default value is {@link org.apache.activemq.artemis.api.config.ActiveMQDefaultConfiguration#DEFAULT_LARGE_MESSAGE_WRITE_WINDOW}.
+    */
+   int getLargeMessageWriteWindow();
+
+   /**
+    * Sets how many bytes of large message continuations can be pending on disk writes.
+    */
+   Configuration setLargeMessageWriteWindow(int largeMessageWriteWindow);
+
    // Other Properties ---------------------------------------------------------------------
 
    /**
@@ -1427,6 +1500,15 @@ public interface Configuration {
 
    Configuration setSuppressSessionNotifications(boolean suppressSessionNotifications);
 
+   /**
+    * Returns whether the buffers of the core messages received are allocated from a pool and given back to it once
+    * the messages are acknowledged, rather than left to the garbage collector. <br>
+    * Default value is {@link org.apache.activemq.artemis.api.config.ActiveMQDefaultConfiguration#DEFAULT_POOLED_MESSAGE_BUFFERS}.
+    */
+   boolean isPooledMessageBuffers();
+
+   Configuration setPooledMessageBuffers(boolean pooledMessageBuffers);
+
    default String resolvePropertiesSources(String propertiesFileUrl) {
       return System.getProperty(ActiveMQDefaultConfiguration.BROKER_PROPERTIES_SYSTEM_PROPERTY_NAME, propertiesFileUrl);
    }
@@ -157,12 +157,18 @@ public class ConfigurationImpl implements Configuration, Serializable {
 
    private int threadPoolMaxSize = ActiveMQDefaultConfiguration.getDefaultThreadPoolMaxSize();
 
+   private boolean threadPoolVirtualThreads = ActiveMQDefaultConfiguration.isDefaultThreadPoolVirtualThreads();
+
    private long securityInvalidationInterval = ActiveMQDefaultConfiguration.getDefaultSecurityInvalidationInterval();
 
    private long authenticationCacheSize = ActiveMQDefaultConfiguration.getDefaultAuthenticationCacheSize();
 
    private long authorizationCacheSize = ActiveMQDefaultConfiguration.getDefaultAuthorizationCacheSize();
 
+   private int authenticationThreadPoolMaxSize = ActiveMQDefaultConfiguration.getDefaultAuthenticationThreadPoolMaxSize();
+
+   private int authenticationQueueMaxSize = ActiveMQDefaultConfiguration.getDefaultAuthenticationQueueMaxSize();
+
    private boolean securityEnabled = ActiveMQDefaultConfiguration.isDefaultSecurityEnabled();
 
    private boolean gracefulShutdownEnabled = ActiveMQDefaultConfiguration.isDefaultGracefulShutdownEnabled();
@@ -231,6 +237,8 @@ public class ConfigurationImpl implements Configuration, Serializable {
 
    protected String largeMessagesDirectory = ActiveMQDefaultConfiguration.getDefaultLargeMessagesDir();
 
+   protected int largeMessageWriteWindow = ActiveMQDefaultConfiguration.getDefaultLargeMessageWriteWindow();
+
    protected String bindingsDirectory = ActiveMQDefaultConfiguration.getDefaultBindingsDirectory();
 
    protected boolean createBindingsDir = ActiveMQDefaultConfiguration.isDefaultCreateBindingsDir();
@@ -403,6 +411,10 @@ public class ConfigurationImpl implements Configuration, Serializable {
 
    private long criticalAnalyzerCheckPeriod = 0; // non set
 
+   private boolean criticalAnalyzerProfiler = ActiveMQDefaultConfiguration.getCriticalAnalyzerProfiler();
+
+   private long criticalAnalyzerSlowThreshold = ActiveMQDefaultConfiguration.getCriticalAnalyzerSlowThreshold();
+
    private int pageSyncTimeout = ActiveMQDefaultConfiguration.getDefaultJournalBufferTimeoutNio();
 
    private String temporaryQueueNamespace = ActiveMQDefaultConfiguration.getDefaultTemporaryQueueNamespace();
@@ -411,6 +423,8 @@ public class ConfigurationImpl implements Configuration, Serializable {
 
    private boolean suppressSessionNotifications = ActiveMQDefaultConfiguration.getDefaultSuppressSessionNotifications();
 
+   private boolean pooledMessageBuffers = ActiveMQDefaultConfiguration.getDefaultPooledMessageBuffers();
+
    /**
     * Parent folder for all data folders.
     */
@@ -934,6 +948,17 @@ public class ConfigurationImpl implements Configuration, Serializable {
       return this;
    }
 
+   @Override
+   public boolean isThreadPoolVirtualThreads() {
+      return threadPoolVirtualThreads;
+   }
+
+   @Override
+   public ConfigurationImpl setThreadPoolVirtualThreads(final boolean virtualThreads) {
+      threadPoolVirtualThreads = virtualThreads;
+      return this;
+   }
+
    @Override
    public long getSecurityInvalidationInterval() {
       return securityInvalidationInterval;
@@ -967,6 +992,28 @@ public class ConfigurationImpl implements Configuration, Serializable {
       return this;
    }
 
+   @Override
+   public int getAuthenticationThreadPoolMaxSize() {
+      return authenticationThreadPoolMaxSize;
+   }
+
+   @Override
+   public ConfigurationImpl setAuthenticationThreadPoolMaxSize(final int size) {
+      authenticationThreadPoolMaxSize = size;
+      return this;
+   }
+
+   @Override
+   public int getAuthenticationQueueMaxSize() {
+      return authenticationQueueMaxSize;
+   }
+
+   @Override
+   public ConfigurationImpl setAuthenticationQueueMaxSize(final int size) {
+      authenticationQueueMaxSize = size;
+      return this;
+   }
+
    @Override
    public long getConnectionTTLOverride() {
       return connectionTTLOverride;
@@ -1675,6 +1722,17 @@ public class ConfigurationImpl implements Configuration, Serializable {
       return this;
    }
 
+   @Override
+   public int getLargeMessageWriteWindow() {
+      return largeMessageWriteWindow;
+   }
+
+   @Override
+   public ConfigurationImpl setLargeMessageWriteWindow(final int largeMessageWriteWindow) {
+      this.largeMessageWriteWindow = largeMessageWriteWindow;
+      return this;
+   }
+
    @Override
    public boolean isMessageCounterEnabled() {
       return messageCounterEnabled;
@@ -2971,6 +3029,28 @@ public class ConfigurationImpl implements Configuration, Serializable {
       return this;
    }
 
+   @Override
+   public boolean isCriticalAnalyzerProfiler() {
+      return criticalAnalyzerProfiler;
+   }
+
+   @Override
+   public Configuration setCriticalAnalyzerProfiler(boolean profiler) {
+      this.criticalAnalyzerProfiler = profiler;
+      return this;
+   }
+
+   @Override
+   public long getCriticalAnalyzerSlowThreshold() {
+      return criticalAnalyzerSlowThreshold;
+   }
+
+   @Override
+   public Configuration setCriticalAnalyzerSlowThreshold(long slowThreshold) {
+      this.criticalAnalyzerSlowThreshold = slowThreshold;
+      return this;
+   }
+
    @Override
    public int getPageSyncTimeout() {
       return pageSyncTimeout;
@@ -3057,6 +3137,17 @@ public class ConfigurationImpl implements Configuration, Serializable {
       return this;
    }
 
+   @Override
+   public boolean isPooledMessageBuffers() {
+      return pooledMessageBuffers;
+   }
+
+   @Override
+   public Configuration setPooledMessageBuffers(boolean pooledMessageBuffers) {
+      this.pooledMessageBuffers = pooledMessageBuffers;
+      return this;
+   }
+
    @Override
    public synchronized String getStatus() {
       return getJsonStatus().toString();
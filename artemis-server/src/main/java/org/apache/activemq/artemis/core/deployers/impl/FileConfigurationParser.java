@@ -248,6 +248,10 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
 
    private static final String DEFAULT_GROUP_FIRST_KEY = "default-group-first-key";
 
+   private static final String GROUP_RING_VIRTUAL_NODES = "group-ring-virtual-nodes";
+
+   private static final String LATENCY_SAMPLE_INTERVAL = "latency-sample-interval";
+
    private static final String DEFAULT_CONSUMERS_BEFORE_DISPATCH = "default-consumers-before-dispatch";
 
    private static final String DEFAULT_DELAY_BEFORE_DISPATCH = "default-delay-before-dispatch";
@@ -395,6 +399,8 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
 
       config.setThreadPoolMaxSize(getInteger(e, "thread-pool-max-size", config.getThreadPoolMaxSize(), Validators.MINUS_ONE_OR_GT_ZERO));
 
+      config.setThreadPoolVirtualThreads(getBoolean(e, "thread-pool-virtual-threads", config.isThreadPoolVirtualThreads()));
+
       config.setSecurityEnabled(getBoolean(e, "security-enabled", config.isSecurityEnabled()));
 
       config.setGracefulShutdownEnabled(getBoolean(e, "graceful-shutdown-enabled", config.isGracefulShutdownEnabled()));
@@ -413,6 +419,10 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
 
       config.setAuthorizationCacheSize(getLong(e, "authorization-cache-size", config.getAuthorizationCacheSize(), Validators.GE_ZERO));
 
+      config.setAuthenticationThreadPoolMaxSize(getInteger(e, "authentication-thread-pool-max-size", config.getAuthenticationThreadPoolMaxSize(), Validators.GE_ZERO));
+
+      config.setAuthenticationQueueMaxSize(getInteger(e, "authentication-queue-max-size", config.getAuthenticationQueueMaxSize(), Validators.GT_ZERO));
+
       config.setConnectionTTLOverride(getLong(e, "connection-ttl-override", config.getConnectionTTLOverride(), Validators.MINUS_ONE_OR_GT_ZERO));
 
       config.setEnabledAsyncConnectionExecution(getBoolean(e, "async-connection-execution-enabled", config.isAsyncConnectionExecutionEnabled()));
@@ -667,6 +677,8 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
 
       config.setLargeMessagesDirectory(getString(e, "large-messages-directory", config.getLargeMessagesDirectory(), Validators.NOT_NULL_OR_EMPTY));
 
+      config.setLargeMessageWriteWindow(getTextBytesAsIntBytes(e, "large-message-write-window", config.getLargeMessageWriteWindow(), Validators.MINUS_ONE_OR_GT_ZERO));
+
       config.setBindingsDirectory(getString(e, "bindings-directory", config.getBindingsDirectory(), Validators.NOT_NULL_OR_EMPTY));
 
       config.setCreateBindingsDir(getBoolean(e, "create-bindings-dir", config.isCreateBindingsDir()));
@@ -783,10 +795,16 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
 
       config.setCriticalAnalyzerPolicy(CriticalAnalyzerPolicy.valueOf(getString(e, "critical-analyzer-policy", config.getCriticalAnalyzerPolicy().name(), Validators.NOT_NULL_OR_EMPTY)));
 
+      config.setCriticalAnalyzerProfiler(getBoolean(e, "critical-analyzer-profiler", config.isCriticalAnalyzerProfiler()));
+
+      config.setCriticalAnalyzerSlowThreshold(getLong(e, "critical-analyzer-slow-threshold", config.getCriticalAnalyzerSlowThreshold(), Validators.GE_ZERO));
+
       config.setPageSyncTimeout(getInteger(e, "page-sync-timeout", config.getJournalBufferTimeout_NIO(), Validators.GE_ZERO));
 
       config.setSuppressSessionNotifications(getBoolean(e, "suppress-session-notifications", config.isSuppressSessionNotifications()));
 
+      config.setPooledMessageBuffers(getBoolean(e, "pooled-message-buffers", config.isPooledMessageBuffers()));
+
       parseAddressSettings(e, config);
 
       parseResourceLimits(e, config);
@@ -954,6 +972,8 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
                metricsConfiguration.setJvmThread(XMLUtil.parseBoolean(child));
             } else if (child.getNodeName().equals("netty-pool")) {
                metricsConfiguration.setNettyPool(XMLUtil.parseBoolean(child));
+            } else if (child.getNodeName().equals("netty-compression")) {
+               metricsConfiguration.setNettyCompression(XMLUtil.parseBoolean(child));
             } else if (child.getNodeName().equals("plugin")) {
                metricsConfiguration.setPlugin(parseMetricsPlugin(child, config));
             }
@@ -1306,6 +1326,14 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
             addressSettings.setDefaultGroupBuckets(XMLUtil.parseInt(child));
          } else if (DEFAULT_GROUP_FIRST_KEY.equalsIgnoreCase(name)) {
             addressSettings.setDefaultGroupFirstKey(SimpleString.toSimpleString(getTrimmedTextContent(child)));
+         } else if (GROUP_RING_VIRTUAL_NODES.equalsIgnoreCase(name)) {
+            int groupRingVirtualNodes = XMLUtil.parseInt(child);
+            Validators.GE_ZERO.validate(GROUP_RING_VIRTUAL_NODES, groupRingVirtualNodes);
+            addressSettings.setGroupRingVirtualNodes(groupRingVirtualNodes);
+         } else if (LATENCY_SAMPLE_INTERVAL.equalsIgnoreCase(name)) {
+            int latencySampleInterval = XMLUtil.parseInt(child);
+            Validators.GE_ZERO.validate(LATENCY_SAMPLE_INTERVAL, latencySampleInterval);
+            addressSettings.setLatencySampleInterval(latencySampleInterval);
          } else if (MAX_DELIVERY_ATTEMPTS.equalsIgnoreCase(name)) {
             addressSettings.setMaxDeliveryAttempts(XMLUtil.parseInt(child));
          } else if (REDISTRIBUTION_DELAY_NODE_NAME.equalsIgnoreCase(name)) {
@@ -2198,6 +2226,8 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
 
       int clusterNotificationAttempts = getInteger(e, "notification-attempts", ActiveMQDefaultConfiguration.getDefaultClusterNotificationAttempts(), Validators.GT_ZERO);
 
+      long loadReportPeriod = getLong(e, "load-report-period", ActiveMQDefaultConfiguration.getDefaultClusterLoadReportPeriod(), Validators.GT_ZERO);
+
       String scaleDownConnector = e.getAttribute("scale-down-connector");
 
       String discoveryGroupName = null;
@@ -2222,7 +2252,7 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
          }
       }
 
-      ClusterConnectionConfiguration config = new ClusterConnectionConfiguration().setName(name).setAddress(address).setConnectorName(connectorName).setMinLargeMessageSize(minLargeMessageSize).setClientFailureCheckPeriod(clientFailureCheckPeriod).setConnectionTTL(connectionTTL).setRetryInterval(retryInterval).setRetryIntervalMultiplier(retryIntervalMultiplier).setMaxRetryInterval(maxRetryInterval).setInitialConnectAttempts(initialConnectAttempts).setReconnectAttempts(reconnectAttempts).setCallTimeout(callTimeout).setCallFailoverTimeout(callFailoverTimeout).setDuplicateDetection(duplicateDetection).setMessageLoadBalancingType(messageLoadBalancingType).setMaxHops(maxHops).setConfirmationWindowSize(confirmationWindowSize).setProducerWindowSize(producerWindowSize).setAllowDirectConnectionsOnly(allowDirectConnectionsOnly).setClusterNotificationInterval(clusterNotificationInterval).setClusterNotificationAttempts(clusterNotificationAttempts);
+      ClusterConnectionConfiguration config = new ClusterConnectionConfiguration().setName(name).setAddress(address).setConnectorName(connectorName).setMinLargeMessageSize(minLargeMessageSize).setClientFailureCheckPeriod(clientFailureCheckPeriod).setConnectionTTL(connectionTTL).setRetryInterval(retryInterval).setRetryIntervalMultiplier(retryIntervalMultiplier).setMaxRetryInterval(maxRetryInterval).setInitialConnectAttempts(initialConnectAttempts).setReconnectAttempts(reconnectAttempts).setCallTimeout(callTimeout).setCallFailoverTimeout(callFailoverTimeout).setDuplicateDetection(duplicateDetection).setMessageLoadBalancingType(messageLoadBalancingType).setMaxHops(maxHops).setConfirmationWindowSize(confirmationWindowSize).setProducerWindowSize(producerWindowSize).setAllowDirectConnectionsOnly(allowDirectConnectionsOnly).setClusterNotificationInterval(clusterNotificationInterval).setClusterNotificationAttempts(clusterNotificationAttempts).setLoadReportPeriod(loadReportPeriod);
 
       if (discoveryGroupName == null) {
          config.setStaticConnectors(staticConnectorNames);
@@ -2240,7 +2270,7 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
       Integer timeout = getInteger(node, "timeout", ActiveMQDefaultConfiguration.getDefaultGroupingHandlerTimeout(), Validators.GT_ZERO);
       Long groupTimeout = getLong(node, "group-timeout", ActiveMQDefaultConfiguration.getDefaultGroupingHandlerGroupTimeout(), Validators.MINUS_ONE_OR_GT_ZERO);
       Long reaperPeriod = getLong(node, "reaper-period", ActiveMQDefaultConfiguration.getDefaultGroupingHandlerReaperPeriod(), Validators.GT_ZERO);
-      mainConfiguration.setGroupingHandlerConfiguration(new GroupingHandlerConfiguration().setName(new SimpleString(name)).setType(type.equals(GroupingHandlerConfiguration.TYPE.LOCAL.getType()) ? GroupingHandlerConfiguration.TYPE.LOCAL : GroupingHandlerConfiguration.TYPE.REMOTE).setAddress(new SimpleString(address)).setTimeout(timeout).setGroupTimeout(groupTimeout).setReaperPeriod(reaperPeriod));
+      mainConfiguration.setGroupingHandlerConfiguration(new GroupingHandlerConfiguration().setName(new SimpleString(name)).setType(type.equals(GroupingHandlerConfiguration.TYPE.LOCAL.getType()) ? GroupingHandlerConfiguration.TYPE.LOCAL : type.equals(GroupingHandlerConfiguration.TYPE.CONSISTENT_HASH.getType()) ? GroupingHandlerConfiguration.TYPE.CONSISTENT_HASH : GroupingHandlerConfiguration.TYPE.REMOTE).setAddress(new SimpleString(address)).setTimeout(timeout).setGroupTimeout(groupTimeout).setReaperPeriod(reaperPeriod));
    }
 
    private TransformerConfiguration getTransformerConfiguration(final Node node) {
@@ -2295,6 +2325,10 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
 
       int concurrency = getInteger(brNode, "concurrency", ActiveMQDefaultConfiguration.getDefaultBridgeConcurrency(), Validators.GT_ZERO);
 
+      int ackBatchSize = getInteger(brNode, "ack-batch-size", ActiveMQDefaultConfiguration.getDefaultBridgeAckBatchSize(), Validators.GT_ZERO);
+
+      int pendingWindowSize = getTextBytesAsIntBytes(brNode, "pending-window-size", ActiveMQDefaultConfiguration.getDefaultBridgePendingWindowSize(), Validators.MINUS_ONE_OR_POSITIVE_INT);
+
       NodeList clusterPassNodes = brNode.getElementsByTagName("password");
       String password = null;
 
@@ -2361,7 +2395,9 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
          .setUser(user)
          .setPassword(password)
          .setRoutingType(routingType)
-         .setConcurrency(concurrency);
+         .setConcurrency(concurrency)
+         .setAckBatchSize(ackBatchSize)
+         .setPendingWindowSize(pendingWindowSize);
 
       if (!staticConnectorNames.isEmpty()) {
          config.setStaticConnectors(staticConnectorNames);
@@ -2432,6 +2468,14 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
          } else if (item.getNodeName().equals("transformer-ref")) {
             String transformerRef = item.getNodeValue();
             config.setTransformerRef(transformerRef);
+         } else if (item.getNodeName().equals("batch-size")) {
+            int batchSize = Integer.parseInt(item.getNodeValue());
+            Validators.GT_ZERO.validate("batch-size", batchSize);
+            config.setBatchSize(batchSize);
+         } else if (item.getNodeName().equals("pull-interval")) {
+            long pullInterval = Long.parseLong(item.getNodeValue());
+            Validators.MINUS_ONE_OR_GT_ZERO.validate("pull-interval", pullInterval);
+            config.setPullInterval(pullInterval);
          }
       }
 
@@ -2560,6 +2604,8 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
 
       boolean ha = getBoolean(upstreamNode, "ha", false);
 
+      boolean shareSession = getBoolean(upstreamNode, "share-session", false);
+
       long circuitBreakerTimeout = getLong(upstreamNode, "circuit-breaker-timeout", config.getConnectionConfiguration().getCircuitBreakerTimeout(), Validators.MINUS_ONE_OR_GE_ZERO);
 
       long clientFailureCheckPeriod = getLong(upstreamNode, "check-period", ActiveMQDefaultConfiguration.getDefaultFederationFailureCheckPeriod(), Validators.GT_ZERO);
@@ -2597,6 +2643,7 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
       config.getConnectionConfiguration()
           .setCircuitBreakerTimeout(circuitBreakerTimeout)
           .setHA(ha)
+          .setShareSession(shareSession)
           .setClientFailureCheckPeriod(clientFailureCheckPeriod)
           .setConnectionTTL(connectionTTL)
           .setRetryInterval(retryInterval)
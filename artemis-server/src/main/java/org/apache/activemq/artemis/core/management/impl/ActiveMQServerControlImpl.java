@@ -28,6 +28,8 @@ import javax.management.NotificationListener;
 import javax.transaction.xa.Xid;
 import java.io.File;
 import java.lang.invoke.MethodHandles;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
 import java.net.URL;
 import java.nio.file.Path;
 import java.text.DateFormat;
@@ -146,6 +148,9 @@ import org.apache.activemq.artemis.utils.ListUtil;
 import org.apache.activemq.artemis.utils.PasswordMaskingUtil;
 import org.apache.activemq.artemis.utils.SecurityFormatter;
 import org.apache.activemq.artemis.utils.collections.TypedProperties;
+import org.apache.activemq.artemis.utils.critical.CriticalAnalyzer;
+import org.apache.activemq.artemis.utils.critical.CriticalPathProfile;
+import org.apache.activemq.artemis.utils.critical.CriticalProfiler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -803,6 +808,16 @@ public class ActiveMQServerControlImpl extends AbstractControl implements Active
       return (int) result;
    }
 
+   @Override
+   public double getProcessorLoad() {
+      final OperatingSystemMXBean operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+      final double loadAverage = operatingSystem.getSystemLoadAverage();
+      if (loadAverage < 0) {
+         return -1;
+      }
+      return loadAverage / operatingSystem.getAvailableProcessors();
+   }
+
    @Override
    public String getHAPolicy() {
       return configuration.getHAPolicyConfiguration().getType().getName();
@@ -4619,6 +4634,61 @@ public class ActiveMQServerControlImpl extends AbstractControl implements Active
       }
    }
 
+   @Override
+   public String listCriticalPathProfilesAsJSON() throws Exception {
+      if (AuditLogger.isBaseLoggingEnabled()) {
+         AuditLogger.listCriticalPathProfilesAsJSON(this.server);
+      }
+      checkStarted();
+
+      clearIO();
+      try {
+         JsonArrayBuilder profiles = JsonLoader.createArrayBuilder();
+         CriticalProfiler profiler = getCriticalProfiler();
+         if (profiler != null) {
+            for (CriticalPathProfile profile : profiler.getProfiles()) {
+               profiles.add(JsonLoader.createObjectBuilder()
+                  .add("component", profile.getComponentName())
+                  .add("path", profile.getPathName())
+                  .add("count", profile.getCount())
+                  .add("mean", profile.getMean(TimeUnit.MILLISECONDS))
+                  .add("p50", profile.getValueAtPercentile(50, TimeUnit.MILLISECONDS))
+                  .add("p90", profile.getValueAtPercentile(90, TimeUnit.MILLISECONDS))
+                  .add("p99", profile.getValueAtPercentile(99, TimeUnit.MILLISECONDS))
+                  .add("p999", profile.getValueAtPercentile(99.9, TimeUnit.MILLISECONDS))
+                  .add("max", profile.getMax(TimeUnit.MILLISECONDS))
+                  .add("slowCount", profile.getSlowCount()));
+            }
+         }
+         return profiles.build().toString();
+      } finally {
+         blockOnIO();
+      }
+   }
+
+   @Override
+   public void resetCriticalPathProfiles() throws Exception {
+      if (AuditLogger.isBaseLoggingEnabled()) {
+         AuditLogger.resetCriticalPathProfiles(this.server);
+      }
+      checkStarted();
+
+      clearIO();
+      try {
+         CriticalProfiler profiler = getCriticalProfiler();
+         if (profiler != null) {
+            profiler.reset();
+         }
+      } finally {
+         blockOnIO();
+      }
+   }
+
+   private CriticalProfiler getCriticalProfiler() {
+      final CriticalAnalyzer analyzer = server.getCriticalAnalyzer();
+      return analyzer == null ? null : analyzer.getProfiler();
+   }
+
    private ServiceComponent getEmbeddedWebServerComponent() throws ActiveMQIllegalStateException {
       for (ActiveMQComponent component : server.getExternalComponents()) {
          if (component instanceof WebServerComponentMarker) {
@@ -48,6 +48,7 @@ import org.apache.activemq.artemis.core.server.MessageReference;
 import org.apache.activemq.artemis.core.server.Queue;
 import org.apache.activemq.artemis.core.server.ServerConsumer;
 import org.apache.activemq.artemis.core.server.impl.RefsOperation;
+import org.apache.activemq.artemis.core.server.metrics.LatencyHistogram;
 import org.apache.activemq.artemis.core.settings.HierarchicalRepository;
 import org.apache.activemq.artemis.core.settings.impl.AddressSettings;
 import org.apache.activemq.artemis.core.transaction.ResourceManager;
@@ -60,6 +61,7 @@ import org.apache.activemq.artemis.logs.AuditLogger;
 import org.apache.activemq.artemis.selector.filter.Filterable;
 import org.apache.activemq.artemis.utils.JsonLoader;
 import org.apache.activemq.artemis.utils.collections.LinkedListIterator;
+import org.HdrHistogram.Histogram;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.lang.invoke.MethodHandles;
@@ -68,6 +70,8 @@ public class QueueControlImpl extends AbstractControl implements QueueControl {
 
    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
+   private static final double NANOS_PER_MILLI = 1_000_000d;
+
    public static final int FLUSH_LIMIT = 500;
 
 
@@ -1563,7 +1567,7 @@ public class QueueControlImpl extends AbstractControl implements QueueControl {
       try {
          long index = 0;
          long start = (long) (page - 1) * pageSize;
-         long end = Math.min(page * pageSize, queue.getMessageCount());
+         long end = Math.min((long) page * pageSize, queue.getMessageCount());
 
          ArrayList<CompositeData> c = new ArrayList<>();
          Filter thefilter = FilterImpl.createFilter(filter);
@@ -1831,6 +1835,56 @@ public class QueueControlImpl extends AbstractControl implements QueueControl {
 
    }
 
+   @Override
+   public String listLatenciesAsJSON() throws Exception {
+      if (AuditLogger.isBaseLoggingEnabled()) {
+         AuditLogger.listLatenciesAsJSON(queue);
+      }
+      checkStarted();
+
+      clearIO();
+      try {
+         JsonObjectBuilder json = JsonLoader.createObjectBuilder();
+         addLatency(json, "route", queue.getRouteLatency());
+         addLatency(json, "enqueueToDeliver", queue.getEnqueueToDeliverLatency());
+         addLatency(json, "deliverToAck", queue.getDeliverToAckLatency());
+         return json.build().toString();
+      } finally {
+         blockOnIO();
+      }
+   }
+
+   private static void addLatency(JsonObjectBuilder json, String name, LatencyHistogram latency) {
+      if (latency == null) {
+         return;
+      }
+      final Histogram histogram = latency.getSnapshot();
+      final long count = histogram.getTotalCount();
+      json.add(name, JsonLoader.createObjectBuilder()
+         .add("count", count)
+         .add("mean", count == 0 ? 0 : histogram.getMean() / NANOS_PER_MILLI)
+         .add("p50", histogram.getValueAtPercentile(50) / NANOS_PER_MILLI)
+         .add("p90", histogram.getValueAtPercentile(90) / NANOS_PER_MILLI)
+         .add("p99", histogram.getValueAtPercentile(99) / NANOS_PER_MILLI)
+         .add("p999", histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI)
+         .add("max", histogram.getMaxValue() / NANOS_PER_MILLI));
+   }
+
+   @Override
+   public void resetLatencies() throws Exception {
+      if (AuditLogger.isBaseLoggingEnabled()) {
+         AuditLogger.resetLatencies(queue);
+      }
+      checkStarted();
+
+      clearIO();
+      try {
+         queue.resetLatencies();
+      } finally {
+         blockOnIO();
+      }
+   }
+
    @Override
    public void resetMessagesExpired() throws Exception {
       if (AuditLogger.isBaseLoggingEnabled()) {
@@ -24,8 +24,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import org.apache.activemq.artemis.api.core.JsonUtil;
 import org.apache.activemq.artemis.core.management.impl.view.predicate.ActiveMQFilterPredicate;
@@ -65,8 +65,14 @@ public abstract class ActiveMQAbstractView<T> {
    public String getResultsAsJson(int page, int pageSize) {
       JsonObjectBuilder obj = JsonLoader.createObjectBuilder();
       JsonArrayBuilder array = JsonLoader.createArrayBuilder();
-      collection = collection.stream().filter(getPredicate()).collect(Collectors.toList());
-      for (T element : getPagedResult(page, pageSize)) {
+      final Predicate<T> predicate = getPredicate();
+      final PageCollector pageCollector = new PageCollector(page, pageSize);
+      for (T element : collection) {
+         if (predicate.test(element)) {
+            pageCollector.add(element);
+         }
+      }
+      for (T element : pageCollector.getPage()) {
          JsonObjectBuilder jsonObjectBuilder = toJson(element);
          //toJson() may return a null
          if (jsonObjectBuilder != null) {
@@ -74,22 +80,16 @@ public abstract class ActiveMQAbstractView<T> {
          }
       }
       obj.add("data", array);
-      obj.add("count", collection.size());
+      obj.add("count", pageCollector.getCount());
       return obj.build().toString();
    }
 
    public List<T> getPagedResult(int page, int pageSize) {
-      List<T> builder = new ArrayList<>();
-      int start = (page - 1) * pageSize;
-      int end = Math.min(page * pageSize, collection.size());
-      int i = 0;
-      for (T e : collection.stream().sorted(getComparator()).collect(Collectors.toList())) {
-         if (i >= start && i < end) {
-            builder.add(e);
-         }
-         i++;
+      final PageCollector pageCollector = new PageCollector(page, pageSize);
+      for (T element : collection) {
+         pageCollector.add(element);
       }
-      return Collections.unmodifiableList(builder);
+      return pageCollector.getPage();
    }
 
    public Predicate<T> getPredicate() {
@@ -99,16 +99,7 @@ public abstract class ActiveMQAbstractView<T> {
    public Comparator<T> getComparator() {
       return (left, right) -> {
          try {
-            Object leftValue = getField(left, sortColumn);
-            Object rightValue = getField(right, sortColumn);
-            if (leftValue instanceof Comparable && rightValue instanceof Comparable) {
-               if (sortOrder.equals("desc")) {
-                  return ((Comparable) rightValue).compareTo(leftValue);
-               } else {
-                  return ((Comparable) leftValue).compareTo(rightValue);
-               }
-            }
-            return 0;
+            return compareSortValues(getField(left, sortColumn), getField(right, sortColumn));
          } catch (Exception e) {
             //LOG.info("Exception sorting destinations", e);
             return 0;
@@ -116,6 +107,98 @@ public abstract class ActiveMQAbstractView<T> {
       };
    }
 
+   private int compareSortValues(Object leftValue, Object rightValue) {
+      if (leftValue instanceof Comparable && rightValue instanceof Comparable) {
+         if (sortOrder.equals("desc")) {
+            return ((Comparable) rightValue).compareTo(leftValue);
+         } else {
+            return ((Comparable) leftValue).compareTo(rightValue);
+         }
+      }
+      return 0;
+   }
+
+   private Object getSortValue(T element) {
+      try {
+         return getField(element, sortColumn);
+      } catch (Exception e) {
+         return null;
+      }
+   }
+
+   /**
+    * Collects the elements of a page out of the elements added, in the order of the sort column.
+    * <p>
+    * Only the elements up to the end of the page are kept, on a heap evicting the last one when a lower one is added,
+    * so that listing the first pages of a very large collection neither copies nor sorts all of it. The sort column
+    * is read once per element, and elements with equal values keep the order they were added in.
+    */
+   private final class PageCollector {
+
+      private final long start;
+
+      private final int end;
+
+      // the last element kept first, to be evicted by a lower one
+      private final PriorityQueue<SortEntry<T>> heap;
+
+      private final Comparator<SortEntry<T>> order = (left, right) -> {
+         final int result = compareSortValues(left.value, right.value);
+         return result != 0 ? result : Long.compare(left.index, right.index);
+      };
+
+      private long count;
+
+      PageCollector(int page, int pageSize) {
+         this.start = (long) (page - 1) * pageSize;
+         this.end = (int) Math.min(Math.max((long) page * pageSize, 0), Integer.MAX_VALUE - 1);
+         this.heap = new PriorityQueue<>(Math.max(1, Math.min(end, 1024)), order.reversed());
+      }
+
+      void add(T element) {
+         final long index = count++;
+         if (end == 0) {
+            return;
+         }
+         final SortEntry<T> entry = new SortEntry<>(element, getSortValue(element), index);
+         if (heap.size() < end) {
+            heap.add(entry);
+         } else if (order.compare(entry, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(entry);
+         }
+      }
+
+      long getCount() {
+         return count;
+      }
+
+      List<T> getPage() {
+         final List<SortEntry<T>> entries = new ArrayList<>(heap);
+         entries.sort(order);
+         final List<T> page = new ArrayList<>();
+         for (int i = (int) Math.max(start, 0); i < entries.size(); i++) {
+            page.add(entries.get(i).element);
+         }
+         return Collections.unmodifiableList(page);
+      }
+   }
+
+   private static final class SortEntry<T> {
+
+      final T element;
+
+      final Object value;
+
+      final long index;
+
+      SortEntry(T element, Object value, long index) {
+         this.element = element;
+         this.value = value;
+         this.index = index;
+      }
+   }
+
    abstract Object getField(T t, String fieldName);
 
    public void setOptions(String options) {
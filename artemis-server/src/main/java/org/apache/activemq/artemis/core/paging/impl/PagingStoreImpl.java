@@ -36,6 +36,7 @@ import org.apache.activemq.artemis.api.core.Message;
 import org.apache.activemq.artemis.api.core.SimpleString;
 import org.apache.activemq.artemis.core.io.SequentialFile;
 import org.apache.activemq.artemis.core.io.SequentialFileFactory;
+import org.apache.activemq.artemis.core.message.impl.CoreMessage;
 import org.apache.activemq.artemis.core.paging.PageTransactionInfo;
 import org.apache.activemq.artemis.core.paging.PagedMessage;
 import org.apache.activemq.artemis.core.paging.PagingManager;
@@ -1038,6 +1039,9 @@ public class PagingStoreImpl implements PagingStore {
 
          if (message.isLargeMessage()) {
             ((LargeServerMessage) message).setPaged();
+         } else if (message instanceof CoreMessage) {
+            // the cache of the page keeps the message beyond its references
+            ((CoreMessage) message).unpoolBuffer();
          }
 
          int bytesToWrite = pagedMessage.getEncodeSize() + PageReadWriter.SIZE_RECORD;
@@ -143,6 +143,7 @@ public abstract class AbstractJournalStorageManager extends CriticalComponentImp
    protected static final int CRITICAL_STORE = 0;
    protected static final int CRITICAL_STOP = 1;
    protected static final int CRITICAL_STOP_2 = 2;
+   private static final String[] CRITICAL_PATH_NAMES = {"store", "stop", "stop-2"};
 
 
    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
@@ -269,6 +270,11 @@ public abstract class AbstractJournalStorageManager extends CriticalComponentImp
    }
 
 
+   @Override
+   public String getCriticalPathName(int path) {
+      return CRITICAL_PATH_NAMES[path];
+   }
+
    @Override
    public long getMaxRecordSize() {
       return messageJournal.getMaxRecordSize();
@@ -18,7 +18,12 @@
 package org.apache.activemq.artemis.core.persistence.impl.journal;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -583,6 +588,54 @@ public class JournalStorageManager extends AbstractJournalStorageManager {
       return largeMessage;
    }
 
+   /**
+    * Share the body of a complete large message with a copy of it by hard linking the file, instead of copying its
+    * bytes. Each message still has its own file name and deletes it as before, the file system only releases the body
+    * once the last of the links is gone, so nothing else needs to change on restart or when the messages are deleted.
+    *
+    * @return false if the body has to be copied instead, e.g. while replicating (the backup needs the bytes) or when the
+    * file system doesn't support hard links
+    */
+   public boolean linkLargeMessageBody(final SequentialFile source, final LargeServerMessage target) throws Exception {
+      if (isReplicated()) {
+         return false;
+      }
+      try (ArtemisCloseable lock = closeableReadLock()) {
+         if (isReplicated()) {
+            return false;
+         }
+         final SequentialFile targetFile = target.getAppendFile();
+         final Path targetPath = targetFile.getJavaFile().toPath();
+         if (targetFile.size() > 0) {
+            return false;
+         }
+         targetFile.close(false, false);
+         try {
+            Files.deleteIfExists(targetPath);
+            Files.createLink(targetPath, source.getJavaFile().toPath());
+            // the copy is synced, the link must survive a crash too: its directory entry is only durable once the
+            // directory is synced
+            syncDirectory(targetPath.getParent());
+         } catch (IOException | UnsupportedOperationException | SecurityException e) {
+            // the copy will re-create the file, e.g. when directories can't be opened to be synced as on Windows
+            logger.debug("Could not link {} to {}, copying it instead", targetPath, source.getFileName(), e);
+            try {
+               Files.deleteIfExists(targetPath);
+            } catch (IOException ignored) {
+            }
+            return false;
+         }
+         target.getLargeBody().setBodySize(Files.size(targetPath));
+         return true;
+      }
+   }
+
+   private static void syncDirectory(final Path directory) throws IOException {
+      try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+         channel.force(true);
+      }
+   }
+
    @Override
    public SequentialFile createFileForLargeMessage(final long messageID, LargeMessageExtension extension) {
       return largeMessagesFactory.createSequentialFile(messageID + extension.getExtension());
@@ -322,6 +322,17 @@ public class LargeBody {
    }
 
    public void copyInto(LargeServerMessage newMessage) throws Exception {
+      // large message files are never changed once complete, so an exact copy can share the same body
+      if (storageManager instanceof JournalStorageManager) {
+         SequentialFile cloneFile = getReadingFile();
+         try {
+            if (((JournalStorageManager) storageManager).linkLargeMessageBody(cloneFile, newMessage)) {
+               return;
+            }
+         } finally {
+            cloneFile.close(false, false);
+         }
+      }
       copyInto(newMessage, null, 0);
    }
 
@@ -69,4 +69,11 @@ public interface Binding extends UnproposalListener {
    String toManagementString();
 
    boolean isConnected();
+
+   /**
+    * @return the load of the bound queue for the LOAD_AWARE message load balancing or null if not applicable
+    */
+   default QueueLoad getLoad() {
+      return null;
+   }
 }
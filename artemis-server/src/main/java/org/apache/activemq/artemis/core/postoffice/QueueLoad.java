@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.postoffice;
+
+/**
+ * The load of a clustered queue as used by the LOAD_AWARE message load balancing: the number of messages it holds,
+ * how many of them are being delivered and the rate its consumers acknowledge messages at.
+ * <p>
+ * The load of a local queue is sampled periodically by the cluster connection, which reports it to the other nodes of
+ * the cluster for the load of their remote queue bindings. The consumer rate is smoothed over the samples, so that a
+ * single busy or idle period doesn't move all the messages to or away from a queue. The reported rates are already
+ * smoothed and are used as they are by the other nodes.
+ */
+public final class QueueLoad {
+
+   // the weight of a new consumer rate sample over the previous ones
+   private static final double RATE_SMOOTHING = 0.3;
+
+   // the rate (messages per second) assumed for consumers that didn't acknowledge anything yet
+   private static final double MIN_RATE = 1;
+
+   private volatile long messageCount;
+
+   private volatile long deliveringCount;
+
+   private volatile double consumerRate = -1;
+
+   private long lastAcknowledged = -1;
+
+   private long lastSampleTime;
+
+   /**
+    * Sample the load of a local queue.
+    *
+    * @param messagesAcknowledged the total number of messages acknowledged on the queue
+    * @return true if the load changed since the previous sample
+    */
+   public synchronized boolean sample(final long messageCount,
+                                      final long deliveringCount,
+                                      final long messagesAcknowledged,
+                                      final long currentTimeMillis) {
+      final long previousMessageCount = this.messageCount;
+      final long previousDeliveringCount = this.deliveringCount;
+      final double previousRate = consumerRate;
+      if (lastAcknowledged >= 0 && currentTimeMillis > lastSampleTime) {
+         final double rate = (messagesAcknowledged - lastAcknowledged) * 1000d / (currentTimeMillis - lastSampleTime);
+         this.messageCount = messageCount;
+         this.deliveringCount = deliveringCount;
+         this.consumerRate = consumerRate < 0 ? rate : consumerRate + RATE_SMOOTHING * (rate - consumerRate);
+      } else {
+         this.messageCount = messageCount;
+         this.deliveringCount = deliveringCount;
+      }
+      lastAcknowledged = messagesAcknowledged;
+      lastSampleTime = currentTimeMillis;
+      return messageCount != previousMessageCount || deliveringCount != previousDeliveringCount || Math.round(consumerRate) != Math.round(previousRate);
+   }
+
+   /**
+    * Set the load to the values reported for a remote queue, whose consumer rate was already smoothed by the node
+    * sampling it.
+    */
+   public synchronized void set(final long messageCount, final long deliveringCount, final double consumerRate) {
+      this.messageCount = messageCount;
+      this.deliveringCount = deliveringCount;
+      this.consumerRate = consumerRate;
+   }
+
+   public boolean isKnown() {
+      return consumerRate >= 0;
+   }
+
+   public long getMessageCount() {
+      return messageCount;
+   }
+
+   public long getDeliveringCount() {
+      return deliveringCount;
+   }
+
+   /**
+    * @return the smoothed number of messages acknowledged per second or -1 if unknown
+    */
+   public double getConsumerRate() {
+      return consumerRate;
+   }
+
+   /**
+    * @return the share of the messages the queue should receive: its consumer rate, lowered by the time needed to
+    * consume the messages waiting to be delivered, so that the queues tend to drain their backlogs at the same time
+    */
+   public double getWeight() {
+      final double rate = Math.max(consumerRate, MIN_RATE);
+      final long backlog = Math.max(messageCount - deliveringCount, 0);
+      return rate / (1 + backlog / rate);
+   }
+
+   @Override
+   public String toString() {
+      return "QueueLoad[messageCount=" + messageCount + ", deliveringCount=" + deliveringCount + ", consumerRate=" + consumerRate + "]";
+   }
+}
@@ -27,6 +27,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.activemq.artemis.api.core.Message;
@@ -37,6 +38,7 @@ import org.apache.activemq.artemis.core.filter.Filter;
 import org.apache.activemq.artemis.core.postoffice.Binding;
 import org.apache.activemq.artemis.core.postoffice.Bindings;
 import org.apache.activemq.artemis.core.postoffice.QueueBinding;
+import org.apache.activemq.artemis.core.postoffice.QueueLoad;
 import org.apache.activemq.artemis.core.server.ActiveMQServerLogger;
 import org.apache.activemq.artemis.core.server.Queue;
 import org.apache.activemq.artemis.core.server.RoutingContext;
@@ -177,7 +179,7 @@ public final class BindingsImpl implements Bindings {
 
    @Override
    public boolean allowRedistribute() {
-      return messageLoadBalancingType.equals(MessageLoadBalancingType.ON_DEMAND) || messageLoadBalancingType.equals(MessageLoadBalancingType.OFF_WITH_REDISTRIBUTION);
+      return messageLoadBalancingType.equals(MessageLoadBalancingType.ON_DEMAND) || messageLoadBalancingType.equals(MessageLoadBalancingType.OFF_WITH_REDISTRIBUTION) || messageLoadBalancingType.equals(MessageLoadBalancingType.LOAD_AWARE);
    }
 
    @Override
@@ -209,6 +211,14 @@ public final class BindingsImpl implements Bindings {
 
       final int bindingsCount = bindings.length;
 
+      if (loadBalancingType.equals(MessageLoadBalancingType.LOAD_AWARE)) {
+         final Binding loadAwareBinding = getLoadAwareBinding(message, bindings, originatingQueue);
+         if (loadAwareBinding != null) {
+            loadAwareBinding.route(message, context);
+            return true;
+         }
+      }
+
       int nextPosition = bindingIndex.getIndex();
 
       if (nextPosition >= bindingsCount) {
@@ -375,6 +385,13 @@ public final class BindingsImpl implements Bindings {
 
       final int bindingsCount = bindings.length;
 
+      if (bindingsCount > 1 && loadBalancingType.equals(MessageLoadBalancingType.LOAD_AWARE)) {
+         final Binding loadAwareBinding = getLoadAwareBinding(message, bindings, null);
+         if (loadAwareBinding != null) {
+            return loadAwareBinding;
+         }
+      }
+
       if (nextPosition >= bindingsCount) {
          nextPosition = 0;
       }
@@ -394,7 +411,7 @@ public final class BindingsImpl implements Bindings {
             }
             //https://issues.jboss.org/browse/HORNETQ-1254 When !routeWhenNoConsumers,
             // the localQueue should always have the priority over the secondary bindings
-            if (lastLowPriorityBinding == -1 || loadBalancingType.equals(MessageLoadBalancingType.ON_DEMAND) && binding instanceof LocalQueueBinding) {
+            if (lastLowPriorityBinding == -1 || (loadBalancingType.equals(MessageLoadBalancingType.ON_DEMAND) || loadBalancingType.equals(MessageLoadBalancingType.LOAD_AWARE)) && binding instanceof LocalQueueBinding) {
                lastLowPriorityBinding = nextPosition;
             }
          }
@@ -413,6 +430,50 @@ public final class BindingsImpl implements Bindings {
       return nextBinding;
    }
 
+   /**
+    * Choose randomly between the bindings with matching consumers, in proportion to the {@link QueueLoad#getWeight()
+    * weight} of their queue. A queue whose load is not known yet is given the average weight of the others.
+    *
+    * @return the chosen binding or null if the load of none of the bindings is known
+    */
+   private static Binding getLoadAwareBinding(final Message message, final Binding[] bindings, final Queue excludedQueue) {
+      double knownWeight = 0;
+      int known = 0;
+      int unknown = 0;
+      for (Binding binding : bindings) {
+         if (isLoadAwareCandidate(message, binding, excludedQueue)) {
+            final QueueLoad load = binding.getLoad();
+            if (load != null && load.isKnown()) {
+               knownWeight += load.getWeight();
+               known++;
+            } else {
+               unknown++;
+            }
+         }
+      }
+      if (known == 0) {
+         return null;
+      }
+      final double averageWeight = knownWeight / known;
+      double position = ThreadLocalRandom.current().nextDouble(knownWeight + unknown * averageWeight);
+      Binding chosen = null;
+      for (Binding binding : bindings) {
+         if (isLoadAwareCandidate(message, binding, excludedQueue)) {
+            final QueueLoad load = binding.getLoad();
+            chosen = binding;
+            position -= load != null && load.isKnown() ? load.getWeight() : averageWeight;
+            if (position < 0) {
+               break;
+            }
+         }
+      }
+      return chosen;
+   }
+
+   private static boolean isLoadAwareCandidate(final Message message, final Binding binding, final Queue excludedQueue) {
+      return binding.getBindable() != excludedQueue && binding.isConnected() && matchBinding(message, binding, MessageLoadBalancingType.LOAD_AWARE) && binding.isHighAcceptPriority(message);
+   }
+
    private static boolean matchBinding(final Message message,
                                        final Binding binding,
                                        final MessageLoadBalancingType loadBalancingType) {
@@ -449,7 +510,7 @@ public final class BindingsImpl implements Bindings {
                return;
             }
 
-            resp = groupingGroupingHandler.propose(new Proposal(fullID, theBinding.getClusterName()));
+            resp = groupingGroupingHandler.propose(new Proposal(fullID, theBinding.getClusterName()), bindings);
 
             if (resp == null) {
                logger.debug("it got a timeout on propose, trying again, number of retries: {}", tries);
@@ -21,6 +21,7 @@ import org.apache.activemq.artemis.api.core.SimpleString;
 import org.apache.activemq.artemis.core.filter.Filter;
 import org.apache.activemq.artemis.core.postoffice.BindingType;
 import org.apache.activemq.artemis.core.postoffice.QueueBinding;
+import org.apache.activemq.artemis.core.postoffice.QueueLoad;
 import org.apache.activemq.artemis.core.server.Bindable;
 import org.apache.activemq.artemis.core.server.Queue;
 import org.apache.activemq.artemis.core.server.RoutingContext;
@@ -41,6 +42,8 @@ public class LocalQueueBinding implements QueueBinding {
 
    private SimpleString name;
 
+   private final QueueLoad load = new QueueLoad();
+
    public LocalQueueBinding(final SimpleString address, final Queue queue, final SimpleString nodeID) {
       this.address = address;
 
@@ -66,6 +69,11 @@ public class LocalQueueBinding implements QueueBinding {
       return queue.getFilter();
    }
 
+   @Override
+   public QueueLoad getLoad() {
+      return load;
+   }
+
    @Override
    public SimpleString getAddress() {
       return address;
@@ -98,6 +98,7 @@ import org.apache.activemq.artemis.core.transaction.TransactionOperationAbstract
 import org.apache.activemq.artemis.core.transaction.TransactionPropertyIndexes;
 import org.apache.activemq.artemis.core.transaction.impl.TransactionImpl;
 import org.apache.activemq.artemis.utils.CompositeAddress;
+import org.apache.activemq.artemis.utils.SimpleStringInterner;
 import org.apache.activemq.artemis.utils.UUIDGenerator;
 import org.apache.activemq.artemis.utils.collections.TypedProperties;
 import org.slf4j.Logger;
@@ -536,6 +537,10 @@ public class PostOfficeImpl implements PostOffice, NotificationListener, Binding
          }
          // only register address if it is new
          if (result) {
+            if (!addressInfo.isTemporary()) {
+               // so that the addresses decoded from the messages share the same instance
+               SimpleStringInterner.getInstance().intern(addressInfo.getName());
+            }
             try {
                if (!addressInfo.isInternal()) {
                   managementService.registerAddress(addressInfo);
@@ -910,6 +915,10 @@ public class PostOfficeImpl implements PostOffice, NotificationListener, Binding
 
       addressManager.addBinding(binding);
 
+      if (binding instanceof QueueBinding && !((QueueBinding) binding).getQueue().isTemporary()) {
+         SimpleStringInterner.getInstance().intern(binding.getUniqueName());
+      }
+
       TypedProperties props = new TypedProperties();
 
       props.putIntProperty(ManagementHelper.HDR_BINDING_TYPE, binding.getType().toInt());
@@ -16,6 +16,8 @@
  */
 package org.apache.activemq.artemis.core.protocol;
 
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
 import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
 import org.apache.activemq.artemis.api.core.Message;
 import org.apache.activemq.artemis.core.message.impl.CoreMessage;
@@ -94,9 +96,17 @@ public class ServerPacketDecoder extends ClientPacketDecoder {
 
    private final StorageManager storageManager;
 
+   // the allocator of the buffers of the messages received, if pooled
+   private final ByteBufAllocator messageBufferAllocator;
+
    public ServerPacketDecoder(StorageManager storageManager) {
+      this(storageManager, false);
+   }
+
+   public ServerPacketDecoder(StorageManager storageManager, boolean pooledMessageBuffers) {
       assert storageManager != null;
       this.storageManager = storageManager;
+      this.messageBufferAllocator = pooledMessageBuffers ? PooledByteBufAllocator.DEFAULT : null;
    }
 
    private SessionSendMessage decodeSessionSendMessage(final ActiveMQBuffer in, CoreRemotingConnection connection) {
@@ -105,9 +115,9 @@ public class ServerPacketDecoder extends ClientPacketDecoder {
       if (connection.isVersionBeforeAddressChange()) {
          sendMessage = new SessionSendMessage_1X(new CoreMessage(this.coreMessageObjectPools));
       } else if (connection.isVersionBeforeAsyncResponseChange()) {
-         sendMessage = new SessionSendMessage(new CoreMessage(this.coreMessageObjectPools));
+         sendMessage = new SessionSendMessage(new CoreMessage(this.coreMessageObjectPools)).setMessageBufferAllocator(messageBufferAllocator);
       } else {
-         sendMessage = new SessionSendMessage_V2(new CoreMessage(this.coreMessageObjectPools));
+         sendMessage = new SessionSendMessage_V2(new CoreMessage(this.coreMessageObjectPools)).setMessageBufferAllocator(messageBufferAllocator);
       }
 
       sendMessage.decode(in);
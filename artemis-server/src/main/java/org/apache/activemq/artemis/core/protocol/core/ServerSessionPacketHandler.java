@@ -18,8 +18,10 @@ package org.apache.activemq.artemis.core.protocol.core;
 
 import javax.transaction.xa.XAResource;
 import javax.transaction.xa.Xid;
+import java.util.ArrayDeque;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
 import org.apache.activemq.artemis.api.core.ActiveMQException;
 import org.apache.activemq.artemis.api.core.ActiveMQExceptionType;
@@ -151,6 +153,8 @@ public class ServerSessionPacketHandler implements ChannelHandler {
 
    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
+   private static final AtomicLongFieldUpdater<ServerSessionPacketHandler> PENDING_LARGE_MESSAGE_BYTES_UPDATER = AtomicLongFieldUpdater.newUpdater(ServerSessionPacketHandler.class, "pendingLargeMessageBytes");
+
    private final ServerSession session;
 
    private final StorageManager storageManager;
@@ -170,6 +174,31 @@ public class ServerSessionPacketHandler implements ChannelHandler {
 
    private final Object largeMessageLock = new Object();
 
+   // When > 0, large message continuations are written by largeMessageWriter while this session handles the next
+   // packets, and reading from the connection is suspended while more than this many bytes are waiting to be written
+   private final int largeMessageWriteWindow;
+
+   private final ArtemisExecutor largeMessageWriter;
+
+   private volatile long pendingLargeMessageBytes;
+
+   private volatile Exception largeMessageWriteFailure;
+
+   // held by largeMessageWriter while it writes a continuation, so the message it writes can't be deleted meanwhile
+   private final Object largeMessageWriteLock = new Object();
+
+   // guarded by itself: the connection that has been suspended because of pendingLargeMessageBytes, if any
+   private Connection suspendedConnection;
+
+   private final Object suspendedConnectionLock = new Object();
+
+   // The last continuation of a large message whose continuations are still being written by largeMessageWriter.
+   // It is handled again once they are written, to route the message, and the packets received meanwhile are
+   // deferred until then. Both fields are only used by packetActor.
+   private SessionSendContinuationMessage lastContinuation;
+
+   private final ArrayDeque<Packet> deferredPackets = new ArrayDeque<>();
+
    private final Pool<NullResponseMessage> poolNullResponse;
 
    private final Pool<NullResponseMessage_V2> poolNullResponseV2;
@@ -191,6 +220,10 @@ public class ServerSessionPacketHandler implements ChannelHandler {
 
       this.callExecutor = server.getExecutorFactory().getExecutor();
 
+      this.largeMessageWriteWindow = server.getConfiguration().getLargeMessageWriteWindow();
+
+      this.largeMessageWriter = largeMessageWriteWindow > 0 ? server.getIOExecutorFactory().getExecutor() : null;
+
       // In an optimized way packetActor should use the threadPool as the parent executor
       // directly from server.getThreadPool();
       // However due to how transferConnection is handled we need to
@@ -207,13 +240,17 @@ public class ServerSessionPacketHandler implements ChannelHandler {
 
    private void clearLargeMessage() {
       synchronized (largeMessageLock) {
-         if (currentLargeMessage != null) {
+         resumeConnection();
+         final LargeServerMessage largeMessage = currentLargeMessage;
+         if (largeMessage != null) {
+            // the continuations still queued on largeMessageWriter are dropped, instead of recreating the file
+            synchronized (largeMessageWriteLock) {
+               currentLargeMessage = null;
+            }
             try {
-               currentLargeMessage.deleteFile();
+               largeMessage.deleteFile();
             } catch (Throwable error) {
                ActiveMQServerLogger.LOGGER.errorDeletingLargeMessageFile(error);
-            } finally {
-               currentLargeMessage = null;
             }
          }
       }
@@ -244,6 +281,9 @@ public class ServerSessionPacketHandler implements ChannelHandler {
    public void closeExecutors() {
       packetActor.shutdown();
       callExecutor.shutdown();
+      if (largeMessageWriter != null) {
+         largeMessageWriter.shutdown();
+      }
    }
 
    public void close() {
@@ -270,6 +310,23 @@ public class ServerSessionPacketHandler implements ChannelHandler {
    }
 
    private void onMessagePacket(final Packet packet) {
+      if (lastContinuation != null) {
+         if (packet != lastContinuation) {
+            deferredPackets.add(packet);
+            return;
+         }
+         handleMessagePacket(packet);
+         // the deferred packets are handled in order, until one of them ends another large message
+         Packet deferred;
+         while (lastContinuation == null && (deferred = deferredPackets.poll()) != null) {
+            handleMessagePacket(deferred);
+         }
+         return;
+      }
+      handleMessagePacket(packet);
+   }
+
+   private void handleMessagePacket(final Packet packet) {
       logger.trace("ServerSessionPacketHandler::handlePacket, {}", packet);
 
       if (AuditLogger.isAnyLoggingEnabled()) {
@@ -323,7 +380,17 @@ public class ServerSessionPacketHandler implements ChannelHandler {
                case SESS_SEND_CONTINUATION: {
                   SessionSendContinuationMessage message = (SessionSendContinuationMessage) packet;
                   requiresResponse = message.isRequiresResponse();
-                  sendContinuations(message.getPacketSize(), message.getMessageBodySize(), message.getBody(), message.isContinues());
+                  if (message == lastContinuation) {
+                     // handled again now that all the continuations are written
+                     lastContinuation = null;
+                     routeLargeMessage(message.getMessageBodySize());
+                  } else if (!sendContinuations(message.getPacketSize(), message.getMessageBodySize(), message.getBody(), message.isContinues())) {
+                     // largeMessageWriter is ordered: the packet comes back once every continuation has been written,
+                     // and the response is sent once the message is routed
+                     lastContinuation = message;
+                     largeMessageWriter.execute(() -> packetActor.act(message));
+                     return;
+                  }
                   if (requiresResponse) {
                      response = createNullResponseMessage(packet);
                   }
@@ -1043,13 +1110,19 @@ public class ServerSessionPacketHandler implements ChannelHandler {
          ActiveMQServerLogger.LOGGER.replacingIncompleteLargeMessage(currentLargeMessage.getMessageID());
       }
 
+      largeMessageWriteFailure = null;
+
       currentLargeMessage = largeMsg;
    }
 
-   private void sendContinuations(final int packetSize,
-                                  final long messageBodySize,
-                                  final byte[] body,
-                                  final boolean continues) throws Exception {
+   /**
+    * @return false if the message is the last one of the large message and its routing waits for the continuations
+    * being written by largeMessageWriter
+    */
+   private boolean sendContinuations(final int packetSize,
+                                     final long messageBodySize,
+                                     final byte[] body,
+                                     final boolean continues) throws Exception {
 
       synchronized (largeMessageLock) {
          if (currentLargeMessage == null) {
@@ -1059,19 +1132,92 @@ public class ServerSessionPacketHandler implements ChannelHandler {
          // Immediately release the credits for the continuations- these don't contribute to the in-memory size
          // of the message
 
-         currentLargeMessage.addBytes(body);
+         if (largeMessageWriter == null) {
+            currentLargeMessage.addBytes(body);
+         } else {
+            writeContinuation(currentLargeMessage, body);
+         }
 
          if (!continues) {
-            currentLargeMessage.releaseResources(true, true);
+            if (largeMessageWriter != null) {
+               return false;
+            }
+            routeLargeMessage(messageBodySize);
+         }
+         return true;
+      }
+   }
+
+   private void routeLargeMessage(final long messageBodySize) throws Exception {
+      synchronized (largeMessageLock) {
+         // the session could have been closed while the continuations were being written
+         if (currentLargeMessage == null) {
+            throw ActiveMQMessageBundle.BUNDLE.largeMessageNotInitialised();
+         }
+
+         final Exception failure = largeMessageWriteFailure;
+         if (failure != null) {
+            throw failure;
+         }
 
-            if (messageBodySize >= 0) {
-               currentLargeMessage.toMessage().putLongProperty(Message.HDR_LARGE_BODY_SIZE, messageBodySize);
+         currentLargeMessage.releaseResources(true, true);
+
+         if (messageBodySize >= 0) {
+            currentLargeMessage.toMessage().putLongProperty(Message.HDR_LARGE_BODY_SIZE, messageBodySize);
+         }
+
+         LargeServerMessage message = currentLargeMessage;
+         currentLargeMessage.setStorageManager(storageManager);
+         currentLargeMessage = null;
+         session.doSend(session.getCurrentTransaction(), EmbedMessageUtil.extractEmbedded((ICoreMessage)message.toMessage(), storageManager), null, false, false);
+      }
+   }
+
+   private void writeContinuation(final LargeServerMessage largeMessage, final byte[] body) throws Exception {
+      final Exception failure = largeMessageWriteFailure;
+      if (failure != null) {
+         throw failure;
+      }
+
+      final long pending = PENDING_LARGE_MESSAGE_BYTES_UPDATER.addAndGet(this, body.length);
+      if (pending > largeMessageWriteWindow) {
+         suspendConnection();
+      }
+
+      largeMessageWriter.execute(() -> {
+         try {
+            synchronized (largeMessageWriteLock) {
+               if (largeMessageWriteFailure == null && largeMessage == currentLargeMessage) {
+                  largeMessage.addBytes(body);
+               }
+            }
+         } catch (Exception e) {
+            logger.debug("Error writing continuation of large message {}", largeMessage.getMessageID(), e);
+            largeMessageWriteFailure = e;
+         } finally {
+            // the connection is resumed once half of the window has been written
+            if (PENDING_LARGE_MESSAGE_BYTES_UPDATER.addAndGet(this, -body.length) <= largeMessageWriteWindow / 2) {
+               resumeConnection();
             }
+         }
+      });
+   }
+
+   private void suspendConnection() {
+      synchronized (suspendedConnectionLock) {
+         // the writer could have already caught up
+         if (suspendedConnection == null && pendingLargeMessageBytes > largeMessageWriteWindow) {
+            suspendedConnection = remotingConnection.getTransportConnection();
+            suspendedConnection.setAutoRead(false);
+         }
+      }
+   }
 
-            LargeServerMessage message = currentLargeMessage;
-            currentLargeMessage.setStorageManager(storageManager);
-            currentLargeMessage = null;
-            session.doSend(session.getCurrentTransaction(), EmbedMessageUtil.extractEmbedded((ICoreMessage)message.toMessage(), storageManager), null, false, false);
+   private void resumeConnection() {
+      synchronized (suspendedConnectionLock) {
+         if (suspendedConnection != null) {
+            suspendedConnection.setAutoRead(true);
+            suspendedConnection = null;
          }
       }
    }
@@ -17,6 +17,7 @@
 package org.apache.activemq.artemis.core.protocol.core.impl;
 
 import java.util.Map;
+import java.util.concurrent.CompletionException;
 
 import org.apache.activemq.artemis.api.core.ActiveMQClusterSecurityException;
 import org.apache.activemq.artemis.api.core.ActiveMQException;
@@ -136,8 +137,9 @@ public class ActiveMQPacketHandler implements ChannelHandler {
    }
 
    private void handleCreateSession(final CreateSessionMessage request) {
-      boolean incompatibleVersion = false;
-      Packet response;
+      final Channel channel;
+      final String username;
+      final String password;
       try {
          Version version = server.getVersion();
          if (!version.isCompatible(request.getVersion())) {
@@ -165,7 +167,7 @@ public class ActiveMQPacketHandler implements ChannelHandler {
             connection.setClientID(((CreateSessionMessage_V2) request).getClientID());
          }
 
-         Channel channel = connection.getChannel(request.getSessionChannelID(), request.getWindowSize());
+         channel = connection.getChannel(request.getSessionChannelID(), request.getWindowSize());
 
          ActiveMQPrincipal activeMQPrincipal = null;
 
@@ -173,30 +175,67 @@ public class ActiveMQPacketHandler implements ChannelHandler {
             activeMQPrincipal = connection.getDefaultActiveMQPrincipal();
          }
 
-         final String validatedUser = server.validateUser(activeMQPrincipal == null ? request.getUsername() : activeMQPrincipal.getUserName(), activeMQPrincipal == null ? request.getPassword() : activeMQPrincipal.getPassword(), connection, protocolManager.getSecurityDomain());
-         if (connection.getTransportConnection().getRouter() != null) {
-            protocolManager.getRoutingHandler().route(connection, request);
+         username = activeMQPrincipal == null ? request.getUsername() : activeMQPrincipal.getUserName();
+         password = activeMQPrincipal == null ? request.getPassword() : activeMQPrincipal.getPassword();
+      } catch (Throwable t) {
+         sendCreateSessionFailure(t);
+         return;
+      }
+
+      // this can complete on one of the authentication threads, that will create the session too
+      server.validateUserAsync(username, password, connection, protocolManager.getSecurityDomain()).whenComplete((validatedUser, authenticationFailure) -> {
+         if (authenticationFailure != null) {
+            sendCreateSessionFailure(authenticationFailure instanceof CompletionException && authenticationFailure.getCause() != null ? authenticationFailure.getCause() : authenticationFailure);
+            return;
          }
+         if (AuditLogger.isAnyLoggingEnabled()) {
+            AuditLogger.setRemoteAddress(connection.getRemoteAddress());
+            AuditLogger.setCurrentCaller(connection.getSubject());
+         }
+         final Packet response;
+         try {
+            createSession(request, channel, username, password, validatedUser);
+            response = new CreateSessionResponseMessage(server.getVersion().getIncrementingVersion());
+         } catch (Throwable t) {
+            sendCreateSessionFailure(t);
+            return;
+         }
+         channel1.send(response);
+      });
+   }
 
-         OperationContext sessionOperationContext = server.newOperationContext();
+   private void createSession(final CreateSessionMessage request,
+                              final Channel channel,
+                              final String username,
+                              final String password,
+                              final String validatedUser) throws Exception {
+      if (connection.getTransportConnection().getRouter() != null) {
+         protocolManager.getRoutingHandler().route(connection, request);
+      }
 
-         Map<SimpleString, RoutingType> routingTypeMap = protocolManager.getPrefixes();
+      OperationContext sessionOperationContext = server.newOperationContext();
 
-         CoreSessionCallback sessionCallback = new CoreSessionCallback(request.getName(), protocolManager, channel, connection);
-         ServerSession session = server.createSession(request.getName(), activeMQPrincipal == null ? request.getUsername() : activeMQPrincipal.getUserName(), activeMQPrincipal == null ? request.getPassword() : activeMQPrincipal.getPassword(), request.getMinLargeMessageSize(), connection, request.isAutoCommitSends(), request.isAutoCommitAcks(), request.isPreAcknowledge(), request.isXA(), request.getDefaultAddress(), sessionCallback, true, sessionOperationContext, routingTypeMap, protocolManager.getSecurityDomain(), validatedUser);
-         ServerProducer serverProducer = new ServerProducerImpl(session.getName(), "CORE", request.getDefaultAddress());
-         session.addProducer(serverProducer);
-         ServerSessionPacketHandler handler = new ServerSessionPacketHandler(server, session, channel);
-         channel.setHandler(handler);
-         sessionCallback.setSessionHandler(handler);
+      Map<SimpleString, RoutingType> routingTypeMap = protocolManager.getPrefixes();
 
-         // TODO - where is this removed?
-         protocolManager.addSessionHandler(request.getName(), handler);
+      CoreSessionCallback sessionCallback = new CoreSessionCallback(request.getName(), protocolManager, channel, connection);
+      ServerSession session = server.createSession(request.getName(), username, password, request.getMinLargeMessageSize(), connection, request.isAutoCommitSends(), request.isAutoCommitAcks(), request.isPreAcknowledge(), request.isXA(), request.getDefaultAddress(), sessionCallback, true, sessionOperationContext, routingTypeMap, protocolManager.getSecurityDomain(), validatedUser);
+      ServerProducer serverProducer = new ServerProducerImpl(session.getName(), "CORE", request.getDefaultAddress());
+      session.addProducer(serverProducer);
+      ServerSessionPacketHandler handler = new ServerSessionPacketHandler(server, session, channel);
+      channel.setHandler(handler);
+      sessionCallback.setSessionHandler(handler);
 
-         response = new CreateSessionResponseMessage(server.getVersion().getIncrementingVersion());
-      } catch (ActiveMQClusterSecurityException | ActiveMQSecurityException e) {
-         response = new ActiveMQExceptionMessage(e);
-      } catch (ActiveMQException e) {
+      // TODO - where is this removed?
+      protocolManager.addSessionHandler(request.getName(), handler);
+   }
+
+   private void sendCreateSessionFailure(final Throwable t) {
+      boolean incompatibleVersion = false;
+      Packet response;
+      if (t instanceof ActiveMQClusterSecurityException || t instanceof ActiveMQSecurityException) {
+         response = new ActiveMQExceptionMessage((ActiveMQException) t);
+      } else if (t instanceof ActiveMQException) {
+         ActiveMQException e = (ActiveMQException) t;
          if (e.getType() == ActiveMQExceptionType.INCOMPATIBLE_CLIENT_SERVER_VERSIONS) {
             incompatibleVersion = true;
             logger.debug("Sending ActiveMQException after Incompatible client", e);
@@ -207,8 +246,8 @@ public class ActiveMQPacketHandler implements ChannelHandler {
          }
 
          response = new ActiveMQExceptionMessage(e);
-      } catch (Exception e) {
-         ActiveMQServerLogger.LOGGER.failedToCreateSession(e);
+      } else {
+         ActiveMQServerLogger.LOGGER.failedToCreateSession(t instanceof Exception ? (Exception) t : new Exception(t));
 
          response = new ActiveMQExceptionMessage(new ActiveMQInternalErrorException());
       }
@@ -25,6 +25,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
 
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelPipeline;
 import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
 import org.apache.activemq.artemis.api.core.ActiveMQBuffers;
@@ -63,6 +65,8 @@ import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.SubscribeC
 import org.apache.activemq.artemis.core.remoting.CloseListener;
 import org.apache.activemq.artemis.core.remoting.FailureListener;
 import org.apache.activemq.artemis.core.remoting.impl.netty.ActiveMQFrameDecoder2;
+import org.apache.activemq.artemis.core.remoting.impl.netty.CompressionMetrics;
+import org.apache.activemq.artemis.core.remoting.impl.netty.NettyCompression;
 import org.apache.activemq.artemis.core.remoting.impl.netty.NettyServerConnection;
 import org.apache.activemq.artemis.core.server.ActiveMQServer;
 import org.apache.activemq.artemis.spi.core.protocol.ConnectionEntry;
@@ -93,6 +97,11 @@ public class CoreProtocolManager implements ProtocolManager<Interceptor, ActiveM
 
    private String securityDomain;
 
+   // the compressions accepted by the acceptor, comma separated, null for all of them
+   private String compression;
+
+   private final CompressionMetrics compressionMetrics = new CompressionMetrics();
+
    private final ActiveMQRoutingHandler routingHandler;
 
    public CoreProtocolManager(final CoreProtocolManagerFactory factory,
@@ -136,7 +145,7 @@ public class CoreProtocolManager implements ProtocolManager<Interceptor, ActiveM
 
       Executor connectionExecutor = server.getExecutorFactory().getExecutor();
 
-      final CoreRemotingConnection rc = new RemotingConnectionImpl(new ServerPacketDecoder(server.getStorageManager()),
+      final CoreRemotingConnection rc = new RemotingConnectionImpl(new ServerPacketDecoder(server.getStorageManager(), config.isPooledMessageBuffers()),
                                                                    connection, incomingInterceptors, outgoingInterceptors, server.getNodeID(),
                                                                    connectionExecutor);
 
@@ -203,6 +212,20 @@ public class CoreProtocolManager implements ProtocolManager<Interceptor, ActiveM
       //if we are not an old client then handshake
       if (isArtemis(buffer)) {
          buffer.skipBytes(7);
+
+         // the connector may request the compression of everything following the handshake
+         if (buffer.readableBytes() > 0 && NettyCompression.isRequest(buffer.getByte(buffer.readerIndex()))) {
+            final NettyCompression requested = NettyCompression.fromHandshakeId(buffer.readByte());
+            final boolean accepted = requested != null && requested.isAccepted(compression);
+            final Channel channel = connection.getNettyChannel();
+            // the answer is never compressed: the connector doesn't send anything else until it reads it
+            channel.writeAndFlush(Unpooled.wrappedBuffer(new byte[]{accepted ? requested.getHandshakeId() : NettyCompression.REFUSED_HANDSHAKE_ID}));
+            if (accepted) {
+               requested.addHandlers(channel.pipeline(), "activemq-decoder", compressionMetrics);
+            } else {
+               logger.debug("Refused the compression requested by {}", channel.remoteAddress());
+            }
+         }
       }
    }
 
@@ -240,6 +263,24 @@ public class CoreProtocolManager implements ProtocolManager<Interceptor, ActiveM
       return securityDomain;
    }
 
+   /**
+    * @param compression the compressions the connectors can request, comma separated, none to refuse them all
+    */
+   public void setCompression(String compression) {
+      this.compression = compression;
+   }
+
+   public String getCompression() {
+      return compression;
+   }
+
+   /**
+    * @return the metrics of the compressed connections accepted by this protocol manager, i.e. by its acceptor
+    */
+   public CompressionMetrics getCompressionMetrics() {
+      return compressionMetrics;
+   }
+
    @Override
    public ActiveMQRoutingHandler getRoutingHandler() {
       return routingHandler;
@@ -118,9 +118,9 @@ public final class CoreSessionCallback implements SessionCallback {
 
       Packet packet;
       if (channel.getConnection().isVersionBeforeAddressChange()) {
-         packet = new SessionReceiveMessage_1X(consumer.getID(), message.toCore(coreMessageObjectPools), deliveryCount);
+         packet = new SessionReceiveMessage_1X(consumer.getID(), message.toSharedCore(coreMessageObjectPools), deliveryCount);
       } else {
-         packet = new SessionReceiveMessage(consumer.getID(), message.toCore(coreMessageObjectPools), deliveryCount);
+         packet = new SessionReceiveMessage(consumer.getID(), message.toSharedCore(coreMessageObjectPools), deliveryCount);
       }
 
       int size = 0;
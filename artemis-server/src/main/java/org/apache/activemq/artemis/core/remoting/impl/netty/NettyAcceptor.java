@@ -231,6 +231,10 @@ public class NettyAcceptor extends AbstractAcceptor {
 
    private final boolean directDeliver;
 
+   private final boolean writeCoalescing;
+
+   private final int writeCoalescingThreshold;
+
    private final boolean httpUpgradeEnabled;
 
    private final long connectionsAllowed;
@@ -379,6 +383,10 @@ public class NettyAcceptor extends AbstractAcceptor {
 
       directDeliver = ConfigurationHelper.getBooleanProperty(TransportConstants.DIRECT_DELIVER, TransportConstants.DEFAULT_DIRECT_DELIVER, configuration);
 
+      writeCoalescing = ConfigurationHelper.getBooleanProperty(TransportConstants.WRITE_COALESCING, TransportConstants.DEFAULT_WRITE_COALESCING, configuration);
+
+      writeCoalescingThreshold = ConfigurationHelper.getIntProperty(TransportConstants.WRITE_COALESCING_THRESHOLD, TransportConstants.DEFAULT_WRITE_COALESCING_THRESHOLD, configuration);
+
       httpUpgradeEnabled = ConfigurationHelper.getBooleanProperty(TransportConstants.HTTP_UPGRADE_ENABLED_PROP_NAME, TransportConstants.DEFAULT_HTTP_UPGRADE_ENABLED, configuration);
 
       connectionsAllowed = ConfigurationHelper.getLongProperty(TransportConstants.CONNECTIONS_ALLOWED, TransportConstants.DEFAULT_CONNECTIONS_ALLOWED, configuration);
@@ -487,6 +495,9 @@ public class NettyAcceptor extends AbstractAcceptor {
                   throw e;
                }
             }
+            if (writeCoalescing) {
+               pipeline.addLast(WriteCoalescingHandler.NAME, new WriteCoalescingHandler(writeCoalescingThreshold));
+            }
             pipeline.addLast(protocolHandler.getProtocolDecoder());
          }
 
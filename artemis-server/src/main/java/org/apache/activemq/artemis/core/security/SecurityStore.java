@@ -17,6 +17,8 @@
 package org.apache.activemq.artemis.core.security;
 
 import javax.security.auth.Subject;
+import java.util.concurrent.CompletableFuture;
+
 import org.apache.activemq.artemis.api.core.SimpleString;
 import org.apache.activemq.artemis.spi.core.protocol.RemotingConnection;
 
@@ -26,6 +28,20 @@ public interface SecurityStore {
 
    String authenticate(String user, String password, RemotingConnection remotingConnection, String securityDomain) throws Exception;
 
+   /**
+    * Same as {@link #authenticate(String, String, RemotingConnection, String)}, but implementations can run it on
+    * a different thread: the caller must not rely on the thread completing the returned future.
+    */
+   default CompletableFuture<String> authenticateAsync(String user, String password, RemotingConnection remotingConnection, String securityDomain) {
+      final CompletableFuture<String> result = new CompletableFuture<>();
+      try {
+         result.complete(authenticate(user, password, remotingConnection, securityDomain));
+      } catch (Throwable t) {
+         result.completeExceptionally(t);
+      }
+      return result;
+   }
+
    void check(SimpleString address, CheckType checkType, SecurityAuth session) throws Exception;
 
    void check(SimpleString address, SimpleString queue, CheckType checkType, SecurityAuth session) throws Exception;
@@ -37,4 +53,12 @@ public interface SecurityStore {
    void stop();
 
    Subject getSessionSubject(SecurityAuth session);
+
+   /**
+    * @return a value that changes whenever the authorization decisions cached outside of this store (e.g. by a
+    * session) must be discarded, or a negative value if they must not be cached at all
+    */
+   default long getAuthorizationCacheVersion() {
+      return -1;
+   }
 }
@@ -18,7 +18,13 @@ package org.apache.activemq.artemis.core.security.impl;
 
 import javax.security.auth.Subject;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
@@ -45,6 +51,7 @@ import org.apache.activemq.artemis.spi.core.security.ActiveMQSecurityManager3;
 import org.apache.activemq.artemis.spi.core.security.ActiveMQSecurityManager4;
 import org.apache.activemq.artemis.spi.core.security.ActiveMQSecurityManager5;
 import org.apache.activemq.artemis.spi.core.security.jaas.UserPrincipal;
+import org.apache.activemq.artemis.utils.ActiveMQThreadFactory;
 import org.apache.activemq.artemis.utils.CompositeAddress;
 import org.apache.activemq.artemis.utils.collections.ConcurrentHashSet;
 import org.apache.activemq.artemis.utils.collections.TypedProperties;
@@ -75,6 +82,21 @@ public class SecurityStoreImpl implements SecurityStore, HierarchicalRepositoryC
 
    private final NotificationService notificationService;
 
+   private final long invalidationInterval;
+
+   private final boolean authorizationCacheEnabled;
+
+   private final AtomicLong authorizationCacheInvalidations = new AtomicLong();
+
+   // null when authenticating on the caller thread
+   private final ThreadPoolExecutor authenticationExecutor;
+
+   private final LongAdder asyncAuthenticationCount = new LongAdder();
+
+   private final LongAdder asyncAuthenticationTimeNanos = new LongAdder();
+
+   private final LongAdder rejectedAuthenticationCount = new LongAdder();
+
 
    /**
     * @param notificationService can be <code>null</code>
@@ -88,12 +110,33 @@ public class SecurityStoreImpl implements SecurityStore, HierarchicalRepositoryC
                             final NotificationService notificationService,
                             final long authenticationCacheSize,
                             final long authorizationCacheSize) {
+      this(securityRepository, securityManager, invalidationInterval, securityEnabled, managementClusterUser, managementClusterPassword, notificationService, authenticationCacheSize, authorizationCacheSize, 0, 0);
+   }
+
+   /**
+    * @param authenticationThreadPoolMaxSize if &gt; 0, {@link #authenticateAsync} runs the authentications on up to
+    *                                        this number of threads, queueing up to {@code authenticationQueueMaxSize}
+    *                                        of them
+    */
+   public SecurityStoreImpl(final HierarchicalRepository<Set<Role>> securityRepository,
+                            final ActiveMQSecurityManager securityManager,
+                            final long invalidationInterval,
+                            final boolean securityEnabled,
+                            final String managementClusterUser,
+                            final String managementClusterPassword,
+                            final NotificationService notificationService,
+                            final long authenticationCacheSize,
+                            final long authorizationCacheSize,
+                            final int authenticationThreadPoolMaxSize,
+                            final int authenticationQueueMaxSize) {
       this.securityRepository = securityRepository;
       this.securityManager = securityManager;
       this.securityEnabled = securityEnabled;
       this.managementClusterUser = managementClusterUser;
       this.managementClusterPassword = managementClusterPassword;
       this.notificationService = notificationService;
+      this.invalidationInterval = invalidationInterval;
+      this.authorizationCacheEnabled = invalidationInterval > 0 && authorizationCacheSize > 0;
       authenticationCache = CacheBuilder.newBuilder()
                                         .maximumSize(authenticationCacheSize)
                                         .expireAfterWrite(invalidationInterval, TimeUnit.MILLISECONDS)
@@ -102,6 +145,14 @@ public class SecurityStoreImpl implements SecurityStore, HierarchicalRepositoryC
                                        .maximumSize(authorizationCacheSize)
                                        .expireAfterWrite(invalidationInterval, TimeUnit.MILLISECONDS)
                                        .build();
+      if (authenticationThreadPoolMaxSize > 0) {
+         authenticationExecutor = new ThreadPoolExecutor(authenticationThreadPoolMaxSize, authenticationThreadPoolMaxSize, 60L, TimeUnit.SECONDS,
+                                                         new LinkedBlockingQueue<>(authenticationQueueMaxSize),
+                                                         new ActiveMQThreadFactory("ActiveMQ-authentication", true, SecurityStoreImpl.class.getClassLoader()));
+         authenticationExecutor.allowCoreThreadTimeOut(true);
+      } else {
+         authenticationExecutor = null;
+      }
       this.securityRepository.registerListener(this);
    }
 
@@ -120,6 +171,9 @@ public class SecurityStoreImpl implements SecurityStore, HierarchicalRepositoryC
    @Override
    public void stop() {
       securityRepository.unRegisterListener(this);
+      if (authenticationExecutor != null) {
+         authenticationExecutor.shutdown();
+      }
    }
 
    @Override
@@ -202,6 +256,61 @@ public class SecurityStoreImpl implements SecurityStore, HierarchicalRepositoryC
       return null;
    }
 
+   @Override
+   public CompletableFuture<String> authenticateAsync(final String user,
+                                                      final String password,
+                                                      final RemotingConnection connection,
+                                                      final String securityDomain) {
+      if (authenticationExecutor == null || !securityEnabled) {
+         return SecurityStore.super.authenticateAsync(user, password, connection, securityDomain);
+      }
+      final CompletableFuture<String> result = new CompletableFuture<>();
+      final long queuedAt = System.nanoTime();
+      try {
+         authenticationExecutor.execute(() -> {
+            try {
+               result.complete(authenticate(user, password, connection, securityDomain));
+            } catch (Throwable t) {
+               result.completeExceptionally(t);
+            } finally {
+               asyncAuthenticationCount.increment();
+               asyncAuthenticationTimeNanos.add(System.nanoTime() - queuedAt);
+            }
+         });
+      } catch (RejectedExecutionException e) {
+         rejectedAuthenticationCount.increment();
+         result.completeExceptionally(ActiveMQMessageBundle.BUNDLE.authenticationQueueFull(authenticationExecutor.getQueue().size()));
+      }
+      return result;
+   }
+
+   /**
+    * @return the number of authentications waiting for or running on the authentication threads
+    */
+   public int getPendingAuthenticationCount() {
+      return authenticationExecutor == null ? 0 : authenticationExecutor.getQueue().size() + authenticationExecutor.getActiveCount();
+   }
+
+   /**
+    * @return the number of authentications rejected because too many were pending
+    */
+   public long getRejectedAuthenticationCount() {
+      return rejectedAuthenticationCount.sum();
+   }
+
+   /**
+    * @return the average time in milliseconds an authentication took on the authentication threads,
+    * including the time it was queued
+    */
+   public double getAverageAuthenticationTimeMillis() {
+      final long count = asyncAuthenticationCount.sum();
+      return count == 0 ? 0 : (double) asyncAuthenticationTimeNanos.sum() / count / TimeUnit.MILLISECONDS.toNanos(1);
+   }
+
+   public boolean isAuthenticationThreadPoolEnabled() {
+      return authenticationExecutor != null;
+   }
+
    @Override
    public void check(final SimpleString address,
                      final CheckType checkType,
@@ -389,9 +498,20 @@ public class SecurityStoreImpl implements SecurityStore, HierarchicalRepositoryC
 
    // public for testing purposes
    public void invalidateAuthorizationCache() {
+      authorizationCacheInvalidations.incrementAndGet();
       authorizationCache.invalidateAll();
    }
 
+   @Override
+   public long getAuthorizationCacheVersion() {
+      if (!authorizationCacheEnabled) {
+         return -1;
+      }
+      // both terms only grow, so the version changes on every invalidation and whenever a new invalidation
+      // interval begins: decisions cached using it never outlive the ones on authorizationCache
+      return authorizationCacheInvalidations.get() + System.currentTimeMillis() / invalidationInterval;
+   }
+
    // public for testing purposes
    public void invalidateAuthenticationCache() {
       authenticationCache.invalidateAll();
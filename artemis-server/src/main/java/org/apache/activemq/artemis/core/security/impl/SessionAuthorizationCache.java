@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.security.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.core.security.CheckType;
+import org.apache.activemq.artemis.core.security.SecurityStore;
+
+/**
+ * The authorization decisions already granted to a single session, so that repeated checks against the same
+ * address (e.g. on every send) don't need to match the security settings nor build any cache key.
+ * <p>
+ * The granted {@link CheckType}s are kept as a bit mask per address and the whole cache is dropped whenever
+ * {@link SecurityStore#getAuthorizationCacheVersion()} changes, i.e. on a security settings reload or once
+ * the decisions would have expired from the {@link SecurityStore} own cache.
+ */
+public final class SessionAuthorizationCache {
+
+   // a session sending to an unbounded number of addresses shouldn't keep all of them
+   private static final int MAX_ADDRESSES = 1024;
+
+   private final SecurityStore securityStore;
+
+   private final ConcurrentHashMap<SimpleString, Long> granted = new ConcurrentHashMap<>();
+
+   private volatile long version;
+
+   public SessionAuthorizationCache(final SecurityStore securityStore) {
+      this.securityStore = securityStore;
+      this.version = securityStore.getAuthorizationCacheVersion();
+   }
+
+   public boolean isGranted(final SimpleString address, final CheckType checkType) {
+      final long currentVersion = securityStore.getAuthorizationCacheVersion();
+      if (currentVersion < 0) {
+         return false;
+      }
+      if (currentVersion != version) {
+         granted.clear();
+         version = currentVersion;
+         return false;
+      }
+      final Long checkTypes = granted.get(address);
+      return checkTypes != null && (checkTypes & mask(checkType)) != 0;
+   }
+
+   /**
+    * To be called only after {@code checkType} has been successfully checked on the {@link SecurityStore}
+    * for {@code address}.
+    */
+   public void granted(final SimpleString address, final CheckType checkType) {
+      if (version < 0) {
+         return;
+      }
+      if (granted.size() >= MAX_ADDRESSES && !granted.containsKey(address)) {
+         granted.clear();
+      }
+      granted.merge(address, mask(checkType), (a, b) -> a | b);
+   }
+
+   public void clear() {
+      granted.clear();
+   }
+
+   private static long mask(final CheckType checkType) {
+      return 1L << checkType.ordinal();
+   }
+}
@@ -524,4 +524,7 @@ public interface ActiveMQMessageBundle {
 
    @Message(id = 229244, value = "Meters already registered for {}")
    IllegalStateException metersAlreadyRegistered(String resource);
+
+   @Message(id = 229245, value = "Too many pending authentications: {}")
+   ActiveMQSessionCreationException authenticationQueueFull(int pending);
 }
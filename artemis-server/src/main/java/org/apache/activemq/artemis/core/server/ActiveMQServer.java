@@ -23,6 +23,7 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -964,6 +965,21 @@ public interface ActiveMQServer extends ServiceComponent {
 
    String validateUser(String username, String password, RemotingConnection connection, String securityDomain) throws Exception;
 
+   /**
+    * Same as {@link #validateUser(String, String, RemotingConnection, String)}, but the validation can complete on a
+    * different thread, see {@link org.apache.activemq.artemis.core.config.Configuration#getAuthenticationThreadPoolMaxSize()}.
+    * Only the creation of Core sessions uses it so far, the other protocols call the blocking variant.
+    */
+   default CompletableFuture<String> validateUserAsync(String username, String password, RemotingConnection connection, String securityDomain) {
+      final CompletableFuture<String> result = new CompletableFuture<>();
+      try {
+         result.complete(validateUser(username, password, connection, securityDomain));
+      } catch (Throwable t) {
+         result.completeExceptionally(t);
+      }
+      return result;
+   }
+
    default void setProperties(String fileUrltoBrokerProperties) {
    }
 
@@ -1560,4 +1560,7 @@ public interface ActiveMQServerLogger {
    @LogMessage(id = 224118, value = "The SQL Database is returning a current time too far from this system current time. Adjust clock on the SQL Database server. DatabaseTime={}, CurrentTime={}, allowed variance={}", level = LogMessage.Level.WARN)
    void dbReturnedTimeOffClock(long dbTime, long systemTime, long variance);
 
+   @LogMessage(id = 224119, value = "thread-pool-virtual-threads is enabled but this JVM does not support virtual threads, the thread pool is limited to thread-pool-max-size={} threads", level = LogMessage.Level.WARN)
+   void virtualThreadsNotSupported(int threadPoolMaxSize);
+
 }
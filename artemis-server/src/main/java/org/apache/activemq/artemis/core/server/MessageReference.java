@@ -132,6 +132,17 @@ public interface MessageReference {
 
    boolean isAlreadyAcked();
 
+   /**
+    * @return the {@link System#nanoTime()} the latencies of this reference are measured from, i.e. when it was
+    * routed, added to the queue or delivered, or 0 if its latencies aren't sampled
+    */
+   default long getLatencyTimestamp() {
+      return 0;
+   }
+
+   default void setLatencyTimestamp(long latencyTimestamp) {
+   }
+
    /**
     * This is the size of the message when persisted on disk which is used for metrics tracking
     * Note that even if the message itself is not persisted on disk (ie non-durable) this value is
@@ -33,6 +33,7 @@ import org.apache.activemq.artemis.core.paging.cursor.PageSubscription;
 import org.apache.activemq.artemis.core.persistence.OperationContext;
 import org.apache.activemq.artemis.core.postoffice.Binding;
 import org.apache.activemq.artemis.core.server.impl.AckReason;
+import org.apache.activemq.artemis.core.server.metrics.LatencyHistogram;
 import org.apache.activemq.artemis.core.transaction.Transaction;
 import org.apache.activemq.artemis.utils.ReferenceCounter;
 import org.apache.activemq.artemis.utils.collections.NodeStore;
@@ -399,6 +400,41 @@ public interface Queue extends Bindable,CriticalComponent {
 
    int getGroupCount();
 
+   /**
+    * @return how unevenly the message groups are expected to spread across the consumers, as the share of the groups
+    * of the consumer getting the most of them over an even share (i.e. 1 when even), or 0 if it isn't known
+    */
+   default double getGroupSkew() {
+      return 0;
+   }
+
+   /**
+    * @return the sampled time from the messages being routed to this queue to them being added to it, which includes
+    * storing the durable ones and waiting for the commit of transacted sends, or null if it isn't sampled
+    */
+   default LatencyHistogram getRouteLatency() {
+      return null;
+   }
+
+   /**
+    * @return the sampled time from the messages being added to this queue to them being delivered to a consumer, or
+    * null if it isn't sampled
+    */
+   default LatencyHistogram getEnqueueToDeliverLatency() {
+      return null;
+   }
+
+   /**
+    * @return the sampled time from the messages being delivered to a consumer to them being acknowledged, or null if
+    * it isn't sampled
+    */
+   default LatencyHistogram getDeliverToAckLatency() {
+      return null;
+   }
+
+   default void resetLatencies() {
+   }
+
    /**
     *
     * @param ref
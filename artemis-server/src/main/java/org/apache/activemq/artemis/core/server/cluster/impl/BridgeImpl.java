@@ -17,7 +17,9 @@
 package org.apache.activemq.artemis.core.server.cluster.impl;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -64,6 +66,8 @@ import org.apache.activemq.artemis.core.server.impl.QueueImpl;
 import org.apache.activemq.artemis.core.server.management.Notification;
 import org.apache.activemq.artemis.core.server.management.NotificationService;
 import org.apache.activemq.artemis.core.server.transformer.Transformer;
+import org.apache.activemq.artemis.core.transaction.Transaction;
+import org.apache.activemq.artemis.core.transaction.impl.TransactionImpl;
 import org.apache.activemq.artemis.spi.core.protocol.EmbedMessageUtil;
 import org.apache.activemq.artemis.spi.core.protocol.RemotingConnection;
 import org.apache.activemq.artemis.spi.core.remoting.ReadyListener;
@@ -101,6 +105,19 @@ public class BridgeImpl implements Bridge, SessionFailureListener, SendAcknowled
 
    final java.util.Map<Long, MessageReference> refs = new LinkedHashMap<>();
 
+   // The following fields are guarded by refs
+
+   // when the references pending acknowledgement were forwarded, in the order they will be confirmed
+   private final ArrayDeque<Long> forwardTimes = new ArrayDeque<>();
+
+   // references confirmed by the target that haven't been acknowledged on the queue yet
+   private List<MessageReference> confirmedRefs = new ArrayList<>();
+
+   // when the first reference of confirmedRefs was forwarded
+   private long confirmedRefsForwardTime;
+
+   private long pendingBytes;
+
    private final Transformer transformer;
 
    private final Object connectionGuard = new Object();
@@ -128,13 +145,13 @@ public class BridgeImpl implements Bridge, SessionFailureListener, SendAcknowled
 
    private volatile ClientSessionFactoryInternal csf;
 
-   private volatile ClientProducer producer;
+   volatile ClientProducer producer;
 
    private volatile boolean started;
 
    private volatile boolean stopping = false;
 
-   private volatile boolean active;
+   volatile boolean active;
 
    private boolean deliveringLargeMessage;
 
@@ -275,9 +292,29 @@ public class BridgeImpl implements Bridge, SessionFailureListener, SendAcknowled
    private void cancelRefs() {
       LinkedList<MessageReference> list = new LinkedList<>();
 
+      final List<MessageReference> confirmed;
+      final long confirmedForwardTime;
+      final long cancelledBytes;
+
       synchronized (refs) {
          list.addAll(refs.values());
          refs.clear();
+         forwardTimes.clear();
+         confirmedForwardTime = confirmedRefsForwardTime;
+         confirmed = takeConfirmedRefs();
+         cancelledBytes = pendingBytes;
+         pendingBytes = 0;
+      }
+
+      metrics.addBytesPendingAcknowledgement(-cancelledBytes);
+
+      // the confirmed references made it to the target, they are acknowledged rather than cancelled
+      if (!confirmed.isEmpty()) {
+         try {
+            acknowledge(confirmed, confirmedForwardTime);
+         } catch (Exception e) {
+            ActiveMQServerLogger.LOGGER.bridgeFailedToAck(e);
+         }
       }
 
       if (logger.isTraceEnabled()) {
@@ -466,21 +503,49 @@ public class BridgeImpl implements Bridge, SessionFailureListener, SendAcknowled
          try {
 
             final MessageReference ref;
+            final List<MessageReference> batch;
+            final long batchForwardTime;
+            final long size;
+            final boolean windowReopened;
 
             synchronized (refs) {
                ref = refs.remove(message.getMessageID());
+
+               if (ref != null) {
+                  final Long forwardTime = forwardTimes.poll();
+                  if (confirmedRefs.isEmpty()) {
+                     confirmedRefsForwardTime = forwardTime != null ? forwardTime : System.currentTimeMillis();
+                  }
+                  confirmedRefs.add(ref);
+
+                  size = ref.getMessage().getEncodeSize();
+                  final boolean windowFull = isPendingWindowFull();
+                  pendingBytes -= size;
+                  windowReopened = windowFull && !isPendingWindowFull();
+
+                  // the batch is acknowledged once full or when nothing else is expected from the target
+                  batchForwardTime = confirmedRefsForwardTime;
+                  batch = confirmedRefs.size() >= configuration.getAckBatchSize() || refs.isEmpty() ? takeConfirmedRefs() : null;
+               } else {
+                  batch = null;
+                  batchForwardTime = 0;
+                  size = 0;
+                  windowReopened = false;
+               }
             }
 
             if (ref != null) {
-               if (logger.isTraceEnabled()) {
-                  logger.trace("BridgeImpl::sendAcknowledged bridge {} Acking {} on queue {}", this, ref, ref.getQueue());
+               metrics.addBytesPendingAcknowledgement(-size);
+
+               if (batch != null) {
+                  if (logger.isTraceEnabled()) {
+                     logger.trace("BridgeImpl::sendAcknowledged bridge {} Acking {} references on queue {}", this, batch.size(), ref.getQueue());
+                  }
+                  acknowledge(batch, batchForwardTime);
                }
-               ref.getQueue().acknowledge(ref);
-               pendingAcks.countDown();
-               metrics.incrementMessagesAcknowledged();
 
-               if (server.hasBrokerBridgePlugins()) {
-                  server.callBrokerBridgePlugins(plugin -> plugin.afterAcknowledgeBridge(this, ref));
+               if (windowReopened) {
+                  queue.deliverAsync();
                }
             } else {
                logger.trace("BridgeImpl::sendAcknowledged bridge {} could not find reference for message {}", this, message);
@@ -491,6 +556,47 @@ public class BridgeImpl implements Bridge, SessionFailureListener, SendAcknowled
       }
    }
 
+   private List<MessageReference> takeConfirmedRefs() {
+      if (confirmedRefs.isEmpty()) {
+         return Collections.emptyList();
+      }
+      final List<MessageReference> batch = confirmedRefs;
+      confirmedRefs = new ArrayList<>(Math.min(configuration.getAckBatchSize(), 1024));
+      return batch;
+   }
+
+   private boolean isPendingWindowFull() {
+      return configuration.getPendingWindowSize() > 0 && pendingBytes >= configuration.getPendingWindowSize();
+   }
+
+   /**
+    * Acknowledges confirmed references on the queue, in a single transaction when there are more than one so that the
+    * acknowledgements of the batch are stored at once.
+    */
+   private void acknowledge(final List<MessageReference> batch, final long forwardTime) throws Exception {
+      if (batch.size() == 1) {
+         final MessageReference ref = batch.get(0);
+         ref.getQueue().acknowledge(ref);
+      } else {
+         final Transaction tx = new TransactionImpl(server.getStorageManager());
+         for (MessageReference ref : batch) {
+            ref.getQueue().acknowledge(tx, ref);
+         }
+         tx.commit();
+      }
+
+      metrics.recordAcknowledgementBatch(System.currentTimeMillis() - forwardTime);
+
+      for (MessageReference ref : batch) {
+         pendingAcks.countDown();
+         metrics.incrementMessagesAcknowledged();
+
+         if (server.hasBrokerBridgePlugins()) {
+            server.callBrokerBridgePlugins(plugin -> plugin.afterAcknowledgeBridge(this, ref));
+         }
+      }
+   }
+
    /* Hook for processing message before forwarding */
    protected Message beforeForward(Message message, final SimpleString forwardingAddress) {
       message = message.copy();
@@ -572,14 +678,26 @@ public class BridgeImpl implements Bridge, SessionFailureListener, SendAcknowled
             return HandleStatus.BUSY;
          }
 
-         logger.trace("Bridge {} is handling reference {} ", ref);
-
-         ref.handled();
+         final long size = ref.getMessage().getEncodeSize();
 
          synchronized (refs) {
+            // the delivery is resumed by sendAcknowledged once the target confirmed enough bytes
+            if (isPendingWindowFull()) {
+               logger.trace("Bridge {} has {} bytes pending acknowledgement, cannot receive {}", configuration.getName(), pendingBytes, ref);
+               return HandleStatus.BUSY;
+            }
+
+            logger.trace("Bridge {} is handling reference {} ", ref);
+
+            ref.handled();
+
             refs.put(ref.getMessage().getMessageID(), ref);
+            forwardTimes.add(System.currentTimeMillis());
+            pendingBytes += size;
          }
 
+         metrics.addBytesPendingAcknowledgement(size);
+
          final SimpleString dest;
 
          if (configuration.getForwardingAddress() != null) {
@@ -752,7 +870,13 @@ public class BridgeImpl implements Bridge, SessionFailureListener, SendAcknowled
          synchronized (refs) {
             // We remove this reference as we are returning busy which means the reference will never leave the Queue.
             // because of this we have to remove the reference here
-            refs.remove(message.getMessageID());
+            if (refs.remove(message.getMessageID()) != null) {
+               // it was the last one forwarded
+               forwardTimes.pollLast();
+               final long size = ref.getMessage().getEncodeSize();
+               pendingBytes -= size;
+               metrics.addBytesPendingAcknowledgement(-size);
+            }
 
             // The delivering count should also be decreased as to avoid inconsistencies
             ((QueueImpl) ref.getQueue()).decDelivering(ref);
@@ -24,6 +24,9 @@ public class BridgeMetrics {
 
    public static final String MESSAGES_PENDING_ACKNOWLEDGEMENT_KEY = "messagesPendingAcknowledgement";
    public static final String MESSAGES_ACKNOWLEDGED_KEY = "messagesAcknowledged";
+   public static final String BYTES_PENDING_ACKNOWLEDGEMENT_KEY = "bytesPendingAcknowledgement";
+   public static final String ACKNOWLEDGEMENT_BATCHES_KEY = "acknowledgementBatches";
+   public static final String AVERAGE_ACKNOWLEDGEMENT_LATENCY_KEY = "averageAcknowledgementLatency";
 
    private static final AtomicLongFieldUpdater<BridgeMetrics> MESSAGES_PENDING_ACKNOWLEDGEMENT_UPDATER =
          AtomicLongFieldUpdater.newUpdater(BridgeMetrics.class, MESSAGES_PENDING_ACKNOWLEDGEMENT_KEY);
@@ -31,8 +34,14 @@ public class BridgeMetrics {
    private static final AtomicLongFieldUpdater<BridgeMetrics> MESSAGES_ACKNOWLEDGED_UPDATER =
          AtomicLongFieldUpdater.newUpdater(BridgeMetrics.class, MESSAGES_ACKNOWLEDGED_KEY);
 
+   private static final AtomicLongFieldUpdater<BridgeMetrics> BYTES_PENDING_ACKNOWLEDGEMENT_UPDATER =
+         AtomicLongFieldUpdater.newUpdater(BridgeMetrics.class, BYTES_PENDING_ACKNOWLEDGEMENT_KEY);
+
    private volatile long messagesPendingAcknowledgement;
    private volatile long messagesAcknowledged;
+   private volatile long bytesPendingAcknowledgement;
+   private long acknowledgementBatches;
+   private long acknowledgementLatency;
 
    public void incrementMessagesPendingAcknowledgement() {
       MESSAGES_PENDING_ACKNOWLEDGEMENT_UPDATER.incrementAndGet(this);
@@ -42,6 +51,19 @@ public class BridgeMetrics {
       MESSAGES_ACKNOWLEDGED_UPDATER.incrementAndGet(this);
    }
 
+   public void addBytesPendingAcknowledgement(long bytes) {
+      BYTES_PENDING_ACKNOWLEDGEMENT_UPDATER.addAndGet(this, bytes);
+   }
+
+   /**
+    * @param latency the time in milliseconds between forwarding the first message of a batch and acknowledging the
+    *                batch on the bridge queue
+    */
+   public synchronized void recordAcknowledgementBatch(long latency) {
+      acknowledgementBatches++;
+      acknowledgementLatency += latency;
+   }
+
    /**
     * @return the messagesPendingAcknowledgement
     */
@@ -56,6 +78,28 @@ public class BridgeMetrics {
       return messagesAcknowledged;
    }
 
+   /**
+    * @return the bytes of the messages forwarded and not yet confirmed by the target
+    */
+   public long getBytesPendingAcknowledgement() {
+      return bytesPendingAcknowledgement;
+   }
+
+   /**
+    * @return the number of batches of messages acknowledged on the bridge queue
+    */
+   public synchronized long getAcknowledgementBatches() {
+      return acknowledgementBatches;
+   }
+
+   /**
+    * @return the average time in milliseconds between forwarding the first message of a batch and acknowledging the
+    * batch on the bridge queue
+    */
+   public synchronized double getAverageAcknowledgementLatency() {
+      return acknowledgementBatches == 0 ? 0 : (double) acknowledgementLatency / acknowledgementBatches;
+   }
+
    /**
     * @return New map containing the Bridge metrics
     */
@@ -63,6 +107,9 @@ public class BridgeMetrics {
       final Map<String, Object> metrics = new HashMap<>();
       metrics.put(MESSAGES_PENDING_ACKNOWLEDGEMENT_KEY, messagesPendingAcknowledgement);
       metrics.put(MESSAGES_ACKNOWLEDGED_KEY, messagesAcknowledged);
+      metrics.put(BYTES_PENDING_ACKNOWLEDGEMENT_KEY, bytesPendingAcknowledgement);
+      metrics.put(ACKNOWLEDGEMENT_BATCHES_KEY, getAcknowledgementBatches());
+      metrics.put(AVERAGE_ACKNOWLEDGEMENT_LATENCY_KEY, getAverageAcknowledgementLatency());
 
       return metrics;
    }
@@ -27,6 +27,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.activemq.artemis.api.core.ActiveMQException;
@@ -51,6 +52,8 @@ import org.apache.activemq.artemis.core.client.impl.TopologyMemberImpl;
 import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
 import org.apache.activemq.artemis.core.postoffice.Binding;
 import org.apache.activemq.artemis.core.postoffice.PostOffice;
+import org.apache.activemq.artemis.core.postoffice.QueueLoad;
+import org.apache.activemq.artemis.core.postoffice.impl.LocalQueueBinding;
 import org.apache.activemq.artemis.core.postoffice.impl.PostOfficeImpl;
 import org.apache.activemq.artemis.core.remoting.impl.netty.TransportConstants;
 import org.apache.activemq.artemis.core.server.ActiveMQMessageBundle;
@@ -178,6 +181,10 @@ public final class ClusterConnectionImpl implements ClusterConnection, AfterConn
 
    private final int clusterNotificationAttempts;
 
+   private final long loadReportPeriod;
+
+   private ScheduledFuture<?> loadReportFuture;
+
    private final String storeAndForwardPrefix;
 
    private boolean splitBrainDetection;
@@ -219,7 +226,8 @@ public final class ClusterConnectionImpl implements ClusterConnection, AfterConn
                                 final String clusterPassword,
                                 final boolean allowDirectConnectionsOnly,
                                 final long clusterNotificationInterval,
-                                final int clusterNotificationAttempts) throws Exception {
+                                final int clusterNotificationAttempts,
+                                final long loadReportPeriod) throws Exception {
       this.nodeManager = nodeManager;
 
       this.connector = connector;
@@ -256,6 +264,8 @@ public final class ClusterConnectionImpl implements ClusterConnection, AfterConn
 
       this.clusterNotificationAttempts = clusterNotificationAttempts;
 
+      this.loadReportPeriod = loadReportPeriod;
+
       this.executor = executorFactory.getExecutor();
 
       this.topology = new Topology(this, executor);
@@ -334,7 +344,8 @@ public final class ClusterConnectionImpl implements ClusterConnection, AfterConn
                                 final String clusterPassword,
                                 final boolean allowDirectConnectionsOnly,
                                 final long clusterNotificationInterval,
-                                final int clusterNotificationAttempts) throws Exception {
+                                final int clusterNotificationAttempts,
+                                final long loadReportPeriod) throws Exception {
       this.nodeManager = nodeManager;
 
       this.connector = connector;
@@ -377,6 +388,8 @@ public final class ClusterConnectionImpl implements ClusterConnection, AfterConn
 
       this.clusterNotificationAttempts = clusterNotificationAttempts;
 
+      this.loadReportPeriod = loadReportPeriod;
+
       this.executor = executorFactory.getExecutor();
 
       this.topology = new Topology(this, executor);
@@ -445,6 +458,11 @@ public final class ClusterConnectionImpl implements ClusterConnection, AfterConn
       }
 
       synchronized (this) {
+         if (loadReportFuture != null) {
+            loadReportFuture.cancel(false);
+            loadReportFuture = null;
+         }
+
          for (MessageFlowRecord record : records.values()) {
             try {
                record.close();
@@ -708,6 +726,47 @@ public final class ClusterConnectionImpl implements ClusterConnection, AfterConn
       }
       //we add as a listener after we have sent the cluster start notif as the listener may start sending notifs before
       addClusterTopologyListener(this);
+
+      if (messageLoadBalancingType == MessageLoadBalancingType.LOAD_AWARE && managementService != null && loadReportFuture == null) {
+         loadReportFuture = scheduledExecutor.scheduleWithFixedDelay(this::reportLoad, loadReportPeriod, loadReportPeriod, TimeUnit.MILLISECONDS);
+      }
+   }
+
+   /**
+    * Sample the load of the local queues and notify the other nodes of the ones that changed, for the LOAD_AWARE
+    * message load balancing.
+    */
+   private void reportLoad() {
+      if (!started || stopping) {
+         return;
+      }
+      try {
+         final long now = System.currentTimeMillis();
+         postOffice.getAllBindings().filter(LocalQueueBinding.class::isInstance).forEach(binding -> {
+            final Queue queue = ((LocalQueueBinding) binding).getQueue();
+            if (queue.isInternalQueue()) {
+               return;
+            }
+            final QueueLoad load = binding.getLoad();
+            if (load.sample(queue.getMessageCount(), queue.getDeliveringCount(), queue.getMessagesAcknowledged(), now) && load.isKnown()) {
+               TypedProperties props = new TypedProperties();
+               props.putSimpleStringProperty(ManagementHelper.HDR_ADDRESS, binding.getAddress());
+               props.putSimpleStringProperty(ManagementHelper.HDR_CLUSTER_NAME, binding.getClusterName());
+               props.putSimpleStringProperty(ManagementHelper.HDR_ROUTING_NAME, binding.getRoutingName());
+               props.putIntProperty(ManagementHelper.HDR_DISTANCE, 0);
+               props.putLongProperty(ManagementHelper.HDR_MESSAGE_COUNT, load.getMessageCount());
+               props.putLongProperty(ManagementHelper.HDR_DELIVERING_COUNT, load.getDeliveringCount());
+               props.putDoubleProperty(ManagementHelper.HDR_CONSUMER_RATE, load.getConsumerRate());
+               try {
+                  managementService.sendNotification(new Notification(null, CoreNotificationType.QUEUE_LOAD, props));
+               } catch (Exception e) {
+                  ActiveMQServerLogger.LOGGER.errorHandlingMessage(e);
+               }
+            }
+         });
+      } catch (Throwable e) {
+         ActiveMQServerLogger.LOGGER.errorHandlingMessage(e);
+      }
    }
 
    @Override
@@ -1145,6 +1204,10 @@ public final class ClusterConnectionImpl implements ClusterConnection, AfterConn
                doSessionCreated(message);
                break;
             }
+            case QUEUE_LOAD: {
+               doQueueLoad(message);
+               break;
+            }
             default: {
                throw ActiveMQMessageBundle.BUNDLE.invalidType(ntype);
             }
@@ -1376,6 +1439,57 @@ public final class ClusterConnectionImpl implements ClusterConnection, AfterConn
          managementService.sendNotification(new Notification(null, CoreNotificationType.SESSION_CREATED, props));
       }
 
+      private synchronized void doQueueLoad(final ClientMessage message) throws Exception {
+         logger.trace("{} Queue load {}", ClusterConnectionImpl.this, message);
+
+         if (!message.containsProperty(ManagementHelper.HDR_DISTANCE)) {
+            throw new IllegalStateException("distance is null");
+         }
+
+         if (!message.containsProperty(ManagementHelper.HDR_CLUSTER_NAME)) {
+            throw new IllegalStateException("clusterName is null");
+         }
+
+         Integer distance = message.getIntProperty(ManagementHelper.HDR_DISTANCE);
+
+         SimpleString clusterName = message.getSimpleStringProperty(ManagementHelper.HDR_CLUSTER_NAME);
+
+         long messageCount = message.getLongProperty(ManagementHelper.HDR_MESSAGE_COUNT);
+
+         long deliveringCount = message.getLongProperty(ManagementHelper.HDR_DELIVERING_COUNT);
+
+         double consumerRate = message.getDoubleProperty(ManagementHelper.HDR_CONSUMER_RATE);
+
+         RemoteQueueBinding binding = bindings.get(clusterName);
+
+         if (binding == null) {
+            // the load may be reported before the binding is added, the next report will be used
+            return;
+         }
+
+         // the reporting node already smoothed the rate, it is propagated unchanged
+         binding.getLoad().set(messageCount, deliveringCount, consumerRate);
+
+         // Need to propagate the queue load
+         TypedProperties props = new TypedProperties();
+
+         props.putSimpleStringProperty(ManagementHelper.HDR_ADDRESS, binding.getAddress());
+
+         props.putSimpleStringProperty(ManagementHelper.HDR_CLUSTER_NAME, clusterName);
+
+         props.putSimpleStringProperty(ManagementHelper.HDR_ROUTING_NAME, binding.getRoutingName());
+
+         props.putIntProperty(ManagementHelper.HDR_DISTANCE, distance + 1);
+
+         props.putLongProperty(ManagementHelper.HDR_MESSAGE_COUNT, messageCount);
+
+         props.putLongProperty(ManagementHelper.HDR_DELIVERING_COUNT, deliveringCount);
+
+         props.putDoubleProperty(ManagementHelper.HDR_CONSUMER_RATE, consumerRate);
+
+         managementService.sendNotification(new Notification(null, CoreNotificationType.QUEUE_LOAD, props));
+      }
+
       private synchronized void doConsumerCreated(final ClientMessage message) throws Exception {
          logger.trace("{} Consumer created {}", ClusterConnectionImpl.this, message);
 
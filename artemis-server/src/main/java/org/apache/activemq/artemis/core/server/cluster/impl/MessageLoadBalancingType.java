@@ -17,5 +17,5 @@
 package org.apache.activemq.artemis.core.server.cluster.impl;
 
 public enum MessageLoadBalancingType {
-   OFF, STRICT, ON_DEMAND, OFF_WITH_REDISTRIBUTION;
+   OFF, STRICT, ON_DEMAND, OFF_WITH_REDISTRIBUTION, LOAD_AWARE;
 }
@@ -28,6 +28,7 @@ import org.apache.activemq.artemis.api.core.SimpleString;
 import org.apache.activemq.artemis.core.filter.Filter;
 import org.apache.activemq.artemis.core.filter.impl.FilterImpl;
 import org.apache.activemq.artemis.core.postoffice.BindingType;
+import org.apache.activemq.artemis.core.postoffice.QueueLoad;
 import org.apache.activemq.artemis.core.server.Bindable;
 import org.apache.activemq.artemis.core.server.Queue;
 import org.apache.activemq.artemis.core.server.RoutingContext;
@@ -68,6 +69,8 @@ public class RemoteQueueBindingImpl implements RemoteQueueBinding {
 
    private boolean connected = true;
 
+   private final QueueLoad load = new QueueLoad();
+
    public RemoteQueueBindingImpl(final long id,
                                  final SimpleString address,
                                  final SimpleString uniqueName,
@@ -351,6 +354,11 @@ public class RemoteQueueBindingImpl implements RemoteQueueBinding {
       return remoteQueueID;
    }
 
+   @Override
+   public QueueLoad getLoad() {
+      return load;
+   }
+
    @Override
    public MessageLoadBalancingType getMessageLoadBalancingType() {
       return messageLoadBalancingType;
@@ -104,6 +104,10 @@ public abstract class FederatedAbstract implements ActiveMQServerBasePlugin {
    }
 
    public synchronized void createRemoteConsumer(FederatedConsumerKey key, Transformer transformer, ClientSessionCallback callback) {
+      createRemoteConsumer(key, transformer, 1, -1, callback);
+   }
+
+   public synchronized void createRemoteConsumer(FederatedConsumerKey key, Transformer transformer, int batchSize, long pullInterval, ClientSessionCallback callback) {
       if (started) {
          FederatedQueueConsumer remoteQueueConsumer = remoteQueueConsumers.get(key);
          if (remoteQueueConsumer == null) {
@@ -115,7 +119,7 @@ public abstract class FederatedAbstract implements ActiveMQServerBasePlugin {
                   throw new IllegalStateException(t.getMessage(), t.getCause());
                }
             }
-            remoteQueueConsumer = new FederatedQueueConsumerImpl(federation, server, transformer, key, upstream, callback);
+            remoteQueueConsumer = new FederatedQueueConsumerImpl(federation, server, transformer, key, upstream, batchSize, pullInterval, callback);
             remoteQueueConsumer.start();
             remoteQueueConsumers.put(key, remoteQueueConsumer);
 
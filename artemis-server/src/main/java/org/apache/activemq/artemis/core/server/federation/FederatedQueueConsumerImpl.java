@@ -17,6 +17,9 @@
 
 package org.apache.activemq.artemis.core.server.federation;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -28,16 +31,27 @@ import org.apache.activemq.artemis.api.core.client.ClientConsumer;
 import org.apache.activemq.artemis.api.core.client.ClientMessage;
 import org.apache.activemq.artemis.api.core.client.ClientSession;
 import org.apache.activemq.artemis.api.core.client.SessionFailureListener;
+import org.apache.activemq.artemis.core.client.impl.ClientConsumerInternal;
 import org.apache.activemq.artemis.core.client.impl.ClientLargeMessageInternal;
 import org.apache.activemq.artemis.core.client.impl.ClientSessionFactoryInternal;
 import org.apache.activemq.artemis.core.persistence.StorageManager;
 import org.apache.activemq.artemis.core.server.ActiveMQServer;
 import org.apache.activemq.artemis.core.server.ActiveMQServerLogger;
 import org.apache.activemq.artemis.core.server.LargeServerMessage;
+import org.apache.activemq.artemis.core.server.Queue;
 import org.apache.activemq.artemis.core.server.transformer.Transformer;
+import org.apache.activemq.artemis.core.transaction.Transaction;
+import org.apache.activemq.artemis.core.transaction.impl.TransactionImpl;
 
 import static org.apache.activemq.artemis.core.client.impl.LargeMessageControllerImpl.LargeData;
 
+/**
+ * Consumes the messages of an upstream queue, routing them to the local broker.
+ * <p>
+ * The messages are either pushed by the upstream broker as its consumer window allows, or pulled by the consumer
+ * every {@code pullInterval} milliseconds, only as many as the local consumers can take. In both cases up to
+ * {@code batchSize} messages are routed in a single local transaction and acknowledged once it is committed.
+ */
 public class FederatedQueueConsumerImpl implements FederatedQueueConsumer, SessionFailureListener {
 
    private final ActiveMQServer server;
@@ -50,12 +64,22 @@ public class FederatedQueueConsumerImpl implements FederatedQueueConsumer, Sessi
    private final int intialConnectDelayMultiplier = 2;
    private final int intialConnectDelayMax = 30;
    private final ClientSessionCallback clientSessionCallback;
+   private final int batchSize;
+   private final long pullInterval;
+   private final Executor executor;
+   private final List<ClientMessage> batch = new ArrayList<>();
 
    private ClientSessionFactoryInternal clientSessionFactory;
    private ClientSession clientSession;
    private ClientConsumer clientConsumer;
+   private boolean sharedSession;
+   private Transaction tx;
 
    public FederatedQueueConsumerImpl(Federation federation, ActiveMQServer server, Transformer transformer, FederatedConsumerKey key, FederationUpstream upstream, ClientSessionCallback clientSessionCallback) {
+      this(federation, server, transformer, key, upstream, 1, -1, clientSessionCallback);
+   }
+
+   public FederatedQueueConsumerImpl(Federation federation, ActiveMQServer server, Transformer transformer, FederatedConsumerKey key, FederationUpstream upstream, int batchSize, long pullInterval, ClientSessionCallback clientSessionCallback) {
       this.federation = federation;
       this.server = server;
       this.key = key;
@@ -63,6 +87,9 @@ public class FederatedQueueConsumerImpl implements FederatedQueueConsumer, Sessi
       this.upstream = upstream;
       this.scheduledExecutorService = server.getScheduledPool();
       this.clientSessionCallback = clientSessionCallback;
+      this.batchSize = batchSize;
+      this.pullInterval = pullInterval;
+      this.executor = server.getExecutorFactory().getExecutor();
    }
 
    @Override
@@ -115,17 +142,23 @@ public class FederatedQueueConsumerImpl implements FederatedQueueConsumer, Sessi
          if (clientConsumer == null) {
             synchronized (this) {
                this.clientSessionFactory = (ClientSessionFactoryInternal) upstream.getConnection().clientSessionFactory();
-               this.clientSession = clientSessionFactory.createSession(upstream.getUser(), upstream.getPassword(), false, true, true, clientSessionFactory.getServerLocator().isPreAcknowledge(), clientSessionFactory.getServerLocator().getAckBatchSize());
+               this.sharedSession = upstream.getConnection().getConfig().isShareSession();
+               if (sharedSession) {
+                  this.clientSession = upstream.getConnection().acquireSharedSession(this::createSession);
+               } else {
+                  this.clientSession = createSession();
+               }
                this.clientSession.addFailureListener(this);
-               this.clientSession.addMetaData(FEDERATION_NAME, federation.getName().toString());
-               this.clientSession.addMetaData(FEDERATION_UPSTREAM_NAME, upstream.getName().toString());
-               this.clientSession.start();
                if (clientSessionCallback != null) {
                   clientSessionCallback.callback(clientSession);
                }
                if (clientSession.queueQuery(key.getQueueName()).isExists()) {
                   this.clientConsumer = clientSession.createConsumer(key.getQueueName(), key.getFilterString(), key.getPriority(), false);
-                  this.clientConsumer.setMessageHandler(this);
+                  if (pullInterval > 0) {
+                     schedulePull(clientConsumer, 0);
+                  } else {
+                     this.clientConsumer.setMessageHandler(this);
+                  }
                } else {
                   throw new ActiveMQNonExistentQueueException("Queue " + key.getQueueName() + " does not exist on remote");
                }
@@ -143,6 +176,14 @@ public class FederatedQueueConsumerImpl implements FederatedQueueConsumer, Sessi
       }
    }
 
+   private ClientSession createSession() throws ActiveMQException {
+      final ClientSession session = clientSessionFactory.createSession(upstream.getUser(), upstream.getPassword(), false, true, true, clientSessionFactory.getServerLocator().isPreAcknowledge(), clientSessionFactory.getServerLocator().getAckBatchSize());
+      session.addMetaData(FEDERATION_NAME, federation.getName().toString());
+      session.addMetaData(FEDERATION_UPSTREAM_NAME, upstream.getName().toString());
+      session.start();
+      return session;
+   }
+
    @Override
    public void close() {
       scheduleDisconnect(0);
@@ -162,10 +203,16 @@ public class FederatedQueueConsumerImpl implements FederatedQueueConsumer, Sessi
          clientConsumer.close();
       }
       if (clientSession != null) {
-         clientSession.close();
+         clientSession.removeFailureListener(this);
+         if (sharedSession) {
+            upstream.getConnection().releaseSharedSession(clientSession);
+         } else {
+            clientSession.close();
+         }
       }
       clientConsumer = null;
       clientSession = null;
+      rollbackBatch();
 
       if (clientSessionFactory != null && clientSessionFactory.numSessions() == 0 && !upstream.getConnection().isSharedConnection()) {
          clientSessionFactory.close();
@@ -174,39 +221,117 @@ public class FederatedQueueConsumerImpl implements FederatedQueueConsumer, Sessi
    }
 
    @Override
-   public void onMessage(ClientMessage clientMessage) {
+   public synchronized void onMessage(ClientMessage clientMessage) {
       try {
-         Message message = clientMessage;
-         if (message instanceof ClientLargeMessageInternal) {
+         handle(clientMessage);
+         // the batch is over once full or when no more messages are waiting in the consumer buffer
+         if (batch.size() >= batchSize || !hasBufferedMessages(clientConsumer)) {
+            flush();
+         }
+      } catch (Exception e) {
+         failed(clientMessage, e);
+      }
+   }
 
-            final StorageManager storageManager = server.getStorageManager();
-            LargeServerMessage lsm = storageManager.createLargeMessage(storageManager.generateID(), message);
+   private void schedulePull(ClientConsumer consumer, long delay) {
+      if (delay > 0) {
+         scheduledExecutorService.schedule(() -> executor.execute(() -> pull(consumer)), delay, TimeUnit.MILLISECONDS);
+      } else {
+         executor.execute(() -> pull(consumer));
+      }
+   }
 
-            LargeData largeData = null;
-            do {
-               // block on reading all pending chunks, ok as we are called from an executor
-               largeData = ((ClientLargeMessageInternal) clientMessage).getLargeMessageController().take();
-               lsm.addBytes(largeData.getChunk());
-            }
-            while (largeData.isContinues());
+   private synchronized void pull(ClientConsumer consumer) {
+      if (consumer != clientConsumer || consumer.isClosed()) {
+         // the consumer has been closed or replaced after a failure, the new one is pulling on its own
+         return;
+      }
+      // without a consumer window the upstream broker only sends a message when it is requested
+      final boolean forceDelivery = clientSessionFactory.getServerLocator().getConsumerWindowSize() == 0;
+      final int capacity = getLocalCapacity();
+      int pulled = 0;
+      ClientMessage clientMessage = null;
+      try {
+         while (pulled < capacity && (forceDelivery || hasBufferedMessages(consumer)) && (clientMessage = consumer.receiveImmediate()) != null) {
+            handle(clientMessage);
+            pulled++;
+         }
+         flush();
+      } catch (Exception e) {
+         failed(clientMessage, e);
+      }
+      schedulePull(consumer, pulled == batchSize ? 0 : pullInterval);
+   }
+
+   /**
+    * @return how many messages can be pulled for the local consumers, i.e. a batch less the messages of the local
+    * queue that have not been delivered to them yet
+    */
+   private int getLocalCapacity() {
+      final Queue queue = server.locateQueue(key.getQueueName());
+      if (queue == null) {
+         return 0;
+      }
+      final long undelivered = Math.max(queue.getMessageCount() - queue.getDeliveringCount(), 0);
+      return (int) Math.max(batchSize - undelivered, 0);
+   }
+
+   private static boolean hasBufferedMessages(ClientConsumer consumer) {
+      return consumer instanceof ClientConsumerInternal && ((ClientConsumerInternal) consumer).getBufferSize() > 0;
+   }
+
+   private void handle(ClientMessage clientMessage) throws Exception {
+      Message message = clientMessage;
+      if (message instanceof ClientLargeMessageInternal) {
+
+         final StorageManager storageManager = server.getStorageManager();
+         LargeServerMessage lsm = storageManager.createLargeMessage(storageManager.generateID(), message);
 
-            message = lsm.toMessage();
-            lsm.releaseResources(true, true);
+         LargeData largeData = null;
+         do {
+            // block on reading all pending chunks, ok as we are called from an executor
+            largeData = ((ClientLargeMessageInternal) clientMessage).getLargeMessageController().take();
+            lsm.addBytes(largeData.getChunk());
          }
+         while (largeData.isContinues());
 
-         if (server.hasBrokerFederationPlugins()) {
-            try {
-               server.callBrokerFederationPlugins(plugin -> plugin.beforeFederatedQueueConsumerMessageHandled(this, clientMessage));
-            } catch (ActiveMQException t) {
-               ActiveMQServerLogger.LOGGER.federationPluginExecutionError("beforeFederatedQueueConsumerMessageHandled", t);
-               throw new IllegalStateException(t.getMessage(), t.getCause());
-            }
+         message = lsm.toMessage();
+         lsm.releaseResources(true, true);
+      }
+
+      if (server.hasBrokerFederationPlugins()) {
+         try {
+            server.callBrokerFederationPlugins(plugin -> plugin.beforeFederatedQueueConsumerMessageHandled(this, clientMessage));
+         } catch (ActiveMQException t) {
+            ActiveMQServerLogger.LOGGER.federationPluginExecutionError("beforeFederatedQueueConsumerMessageHandled", t);
+            throw new IllegalStateException(t.getMessage(), t.getCause());
          }
+      }
 
-         message = transformer == null ? message : transformer.transform(message);
-         if (message != null) {
+      message = transformer == null ? message : transformer.transform(message);
+      if (message != null) {
+         if (batchSize > 1) {
+            if (tx == null) {
+               tx = new TransactionImpl(server.getStorageManager());
+            }
+            server.getPostOffice().route(message, tx, true);
+         } else {
             server.getPostOffice().route(message, true);
          }
+      }
+      batch.add(clientMessage);
+   }
+
+   /**
+    * Commits the messages of the batch routed to the local broker before acknowledging them upstream.
+    */
+   private void flush() throws Exception {
+      if (tx != null) {
+         final Transaction committing = tx;
+         tx = null;
+         committing.commit();
+      }
+      for (ClientMessage clientMessage : batch) {
          clientMessage.acknowledge();
 
          if (server.hasBrokerFederationPlugins()) {
@@ -217,8 +342,34 @@ public class FederatedQueueConsumerImpl implements FederatedQueueConsumer, Sessi
                throw new IllegalStateException(t.getMessage(), t.getCause());
             }
          }
-      } catch (Exception e) {
-         ActiveMQServerLogger.LOGGER.federationDispatchError(clientMessage.toString(), e);
+      }
+      batch.clear();
+   }
+
+   private synchronized void rollbackBatch() {
+      if (tx != null) {
+         try {
+            tx.rollback();
+         } catch (Exception ignored) {
+         }
+         tx = null;
+      }
+      batch.clear();
+   }
+
+   private void failed(ClientMessage clientMessage, Exception e) {
+      ActiveMQServerLogger.LOGGER.federationDispatchError(String.valueOf(clientMessage), e);
+      rollbackBatch();
+      if (sharedSession) {
+         // rolling back the shared session would redeliver the messages of the other consumers too
+         scheduledExecutorService.execute(() -> {
+            try {
+               disconnect();
+            } catch (Exception ignored) {
+            }
+            start();
+         });
+      } else {
          try {
             clientSession.rollback();
          } catch (ActiveMQException e1) {
@@ -233,12 +384,20 @@ public class FederatedQueueConsumerImpl implements FederatedQueueConsumer, Sessi
 
    @Override
    public void connectionFailed(ActiveMQException exception, boolean failedOver, String scaleDownTargetNodeID) {
+      if (sharedSession && clientSession != null) {
+         try {
+            // the failed session is closed once released by all of its consumers, the next one acquiring creates a new one
+            upstream.getConnection().releaseSharedSession(clientSession);
+         } catch (Throwable dontCare) {
+         }
+      }
       try {
          clientSessionFactory.cleanup();
          clientSessionFactory.close();
          clientConsumer = null;
          clientSession = null;
          clientSessionFactory = null;
+         rollbackBatch();
       } catch (Throwable dontCare) {
       }
       start();
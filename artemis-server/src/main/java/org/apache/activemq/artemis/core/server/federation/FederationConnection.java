@@ -18,10 +18,14 @@
 package org.apache.activemq.artemis.core.server.federation;
 
 import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.apache.activemq.artemis.api.core.ActiveMQException;
 import org.apache.activemq.artemis.api.core.ActiveMQSessionCreationException;
 import org.apache.activemq.artemis.api.core.DiscoveryGroupConfiguration;
 import org.apache.activemq.artemis.api.core.TransportConfiguration;
 import org.apache.activemq.artemis.api.core.client.ActiveMQClient;
+import org.apache.activemq.artemis.api.core.client.ClientSession;
 import org.apache.activemq.artemis.api.core.client.ClientSessionFactory;
 import org.apache.activemq.artemis.api.core.client.ServerLocator;
 import org.apache.activemq.artemis.core.config.Configuration;
@@ -37,6 +41,8 @@ public class FederationConnection {
    private volatile ClientSessionFactory clientSessionFactory;
    private volatile boolean started;
    private volatile boolean sharedConnection;
+   private ClientSession sharedSession;
+   private int sharedSessionReferences;
 
    public FederationConnection(Configuration configuration, String name, FederationConnectionConfiguration config) {
       this.config = config;
@@ -106,6 +112,7 @@ public class FederationConnection {
 
    public synchronized void stop() {
       started = false;
+      sharedSession = null;
       ClientSessionFactory clientSessionFactory = this.clientSessionFactory;
       if (clientSessionFactory != null) {
          clientSessionFactory.cleanup();
@@ -139,6 +146,29 @@ public class FederationConnection {
       }
    }
 
+   /**
+    * The session shared by the federated consumers when share-session is set, created by the first consumer
+    * acquiring it (again if the previous one failed) and closed when released by the last one.
+    */
+   public synchronized ClientSession acquireSharedSession(Callable<ClientSession> sessionCreator) throws Exception {
+      if (sharedSession == null || sharedSession.isClosed()) {
+         sharedSession = sessionCreator.call();
+         sharedSessionReferences = 0;
+      }
+      sharedSessionReferences++;
+      return sharedSession;
+   }
+
+   public synchronized void releaseSharedSession(ClientSession session) throws ActiveMQException {
+      if (session == sharedSession) {
+         if (--sharedSessionReferences > 0) {
+            return;
+         }
+         sharedSession = null;
+      }
+      session.close();
+   }
+
    public FederationConnectionConfiguration getConfig() {
       return config;
    }
@@ -148,7 +148,7 @@ public class FederatedQueue extends FederatedAbstract implements ActiveMQServerC
          FederatedConsumerKey key = getKey(consumer);
          Transformer transformer = getTransformer(config.getTransformerRef());
          Transformer fqqnTransformer = message -> message == null ? null : message.setAddress(key.getFqqn());
-         createRemoteConsumer(key, mergeTransformers(fqqnTransformer, transformer), null);
+         createRemoteConsumer(key, mergeTransformers(fqqnTransformer, transformer), config.getBatchSize(), config.getPullInterval(), null);
       }
    }
 
@@ -17,6 +17,7 @@
 package org.apache.activemq.artemis.core.server.group;
 
 import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.core.postoffice.Binding;
 import org.apache.activemq.artemis.core.server.ActiveMQComponent;
 import org.apache.activemq.artemis.core.server.group.impl.GroupBinding;
 import org.apache.activemq.artemis.core.server.group.impl.Proposal;
@@ -34,6 +35,14 @@ public interface GroupingHandler extends NotificationListener, ActiveMQComponent
 
    Response propose(Proposal proposal) throws Exception;
 
+   /**
+    * Propose the binding for a new group, knowing all the {@code bindings} of the routing name, for handlers choosing
+    * the binding themselves.
+    */
+   default Response propose(Proposal proposal, Binding[] bindings) throws Exception {
+      return propose(proposal);
+   }
+
    void proposed(Response response) throws Exception;
 
    void sendProposalResponse(Response response, int distance) throws Exception;
@@ -0,0 +1,294 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.server.group.impl;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.api.core.management.CoreNotificationType;
+import org.apache.activemq.artemis.api.core.management.ManagementHelper;
+import org.apache.activemq.artemis.core.postoffice.Binding;
+import org.apache.activemq.artemis.core.server.management.ManagementService;
+import org.apache.activemq.artemis.core.server.management.Notification;
+import org.apache.activemq.artemis.utils.ExecutorFactory;
+import org.apache.activemq.artemis.utils.HashUtil;
+
+/**
+ * A decentralized Grouping handler.
+ * <p>
+ * Every node chooses the owner of a group on its own, by hashing the group id over the cluster names of all the
+ * bindings for the routing name (i.e. the same queue on every node of the cluster). As all the nodes see the same
+ * bindings they all choose the same owner, without any proposal sent to another node nor any group binding stored
+ * on the journal. Nothing that only a node knows about, like its consumers, takes part in the choice.
+ * <p>
+ * The choice is cached locally until the group is not used for {@code groupTimeout}. When a binding is added or
+ * removed the groups it gains or loses are reassigned right away, so the cache of every node keeps agreeing with
+ * the bindings of the cluster. This is not a handover: the messages of a reassigned group already in the queue of
+ * its previous owner are still consumed there while the new ones go to the new owner, so the order of the group is
+ * not kept across a change of the bindings.
+ */
+public final class ConsistentHashGroupingHandler extends GroupHandlingAbstract {
+
+   private final SimpleString name;
+
+   private final ScheduledExecutorService scheduledExecutor;
+
+   private final long groupTimeout;
+
+   private final long reaperPeriod;
+
+   private final Map<SimpleString, Response> responses = new ConcurrentHashMap<>();
+
+   private ScheduledFuture reaperFuture;
+
+   private volatile boolean started;
+
+   public ConsistentHashGroupingHandler(final ExecutorFactory executorFactory,
+                                        final ScheduledExecutorService scheduledExecutor,
+                                        final ManagementService managementService,
+                                        final SimpleString name,
+                                        final SimpleString address,
+                                        final long groupTimeout,
+                                        final long reaperPeriod) {
+      super(executorFactory != null ? executorFactory.getExecutor() : null, managementService, address);
+      this.scheduledExecutor = scheduledExecutor;
+      this.name = name;
+      this.groupTimeout = groupTimeout;
+      this.reaperPeriod = reaperPeriod;
+   }
+
+   @Override
+   public SimpleString getName() {
+      return name;
+   }
+
+   @Override
+   public synchronized void start() throws Exception {
+      if (started)
+         return;
+
+      if (scheduledExecutor != null && reaperPeriod > 0 && groupTimeout > 0) {
+         reaperFuture = scheduledExecutor.scheduleAtFixedRate(this::reap, reaperPeriod, reaperPeriod, TimeUnit.MILLISECONDS);
+      }
+      started = true;
+   }
+
+   @Override
+   public synchronized void stop() throws Exception {
+      started = false;
+      if (reaperFuture != null) {
+         reaperFuture.cancel(true);
+         reaperFuture = null;
+      }
+   }
+
+   @Override
+   public boolean isStarted() {
+      return started;
+   }
+
+   @Override
+   public void resendPending() throws Exception {
+      // NO-OP
+   }
+
+   /**
+    * There are no bindings to choose the owner from, so the proposal is accepted as it is.
+    */
+   @Override
+   public Response propose(final Proposal proposal) throws Exception {
+      return cache(new Response(proposal.getGroupId(), proposal.getClusterName()));
+   }
+
+   @Override
+   public Response propose(final Proposal proposal, final Binding[] bindings) throws Exception {
+      final Response response = getProposal(proposal.getGroupId(), true);
+      if (response != null) {
+         return response;
+      }
+      final SimpleString owner = chooseOwner(proposal.getGroupId(), bindings);
+      if (owner == null || owner.equals(proposal.getClusterName())) {
+         return cache(new Response(proposal.getGroupId(), proposal.getClusterName()));
+      }
+      return cache(new Response(proposal.getGroupId(), proposal.getClusterName(), owner));
+   }
+
+   private Response cache(final Response response) {
+      final Response existing = responses.putIfAbsent(response.getGroupId(), response);
+      return existing != null ? existing : response;
+   }
+
+   /**
+    * Rendezvous hashing: the owner is the binding with the highest weight for the group, so that adding or
+    * removing a binding only moves the groups it gains or loses, whatever the order of the bindings is.
+    *
+    * @return the cluster name of the owner or null if there are no bindings
+    */
+   static SimpleString chooseOwner(final SimpleString groupId, final Binding[] bindings) {
+      SimpleString owner = null;
+      for (Binding binding : bindings) {
+         final SimpleString clusterName = binding.getClusterName();
+         if (owner == null || outweighs(groupId, clusterName, owner)) {
+            owner = clusterName;
+         }
+      }
+      return owner;
+   }
+
+   /**
+    * @return whether {@code clusterName} would own the group rather than {@code owner}
+    */
+   static boolean outweighs(final SimpleString groupId, final SimpleString clusterName, final SimpleString owner) {
+      final long weight = weight(groupId, clusterName);
+      final long ownerWeight = weight(groupId, owner);
+      return weight > ownerWeight || weight == ownerWeight && clusterName.compareTo(owner) < 0;
+   }
+
+   private static long weight(final SimpleString groupId, final SimpleString clusterName) {
+      return HashUtil.mix((long) groupId.hashCode() << 32 | (clusterName.hashCode() & 0xFFFFFFFFL));
+   }
+
+   @Override
+   public void proposed(final Response response) throws Exception {
+      // NO-OP
+   }
+
+   @Override
+   public void sendProposalResponse(final Response response, final int distance) throws Exception {
+      // NO-OP
+   }
+
+   @Override
+   public Response receive(final Proposal proposal, final int distance) throws Exception {
+      // no node is waiting on a response from this one
+      return null;
+   }
+
+   @Override
+   public void addGroupBinding(final GroupBinding groupBinding) {
+      // NO-OP
+   }
+
+   @Override
+   public Response getProposal(final SimpleString fullID, final boolean touchTime) {
+      final Response response = responses.get(fullID);
+      if (response == null) {
+         return null;
+      }
+      if (isExpired(response, System.currentTimeMillis())) {
+         // the owner will be chosen again from the current bindings
+         if (responses.remove(fullID, response)) {
+            fireUnproposed(fullID);
+         }
+         return null;
+      }
+      if (touchTime) {
+         response.use();
+      }
+      return response;
+   }
+
+   private boolean isExpired(final Response response, final long now) {
+      return groupTimeout > 0 && response.getTimeUsed() + groupTimeout < now;
+   }
+
+   @Override
+   public void awaitBindings() {
+      // NO-OP
+   }
+
+   /**
+    * The owner is chosen by every node on its own, there is nobody else to tell.
+    */
+   @Override
+   public void forceRemove(final SimpleString groupid, final SimpleString clusterName) throws Exception {
+      remove(groupid, clusterName);
+   }
+
+   @Override
+   public void remove(final SimpleString groupid, final SimpleString clusterName) throws Exception {
+      if (responses.remove(groupid) != null) {
+         fireUnproposed(groupid);
+      }
+   }
+
+   @Override
+   public void remove(final SimpleString groupid, final SimpleString clusterName, final int distance) throws Exception {
+      remove(groupid, clusterName);
+   }
+
+   @Override
+   public void onNotification(final Notification notification) {
+      if (!(notification.getType() instanceof CoreNotificationType))
+         return;
+      // reassigning the groups of a binding that has been added, i.e. the ones for which it outweighs their owner
+      if (notification.getType() == CoreNotificationType.BINDING_ADDED) {
+         final SimpleString clusterName = notification.getProperties().getSimpleStringProperty(ManagementHelper.HDR_CLUSTER_NAME);
+         final SimpleString routingName = notification.getProperties().getSimpleStringProperty(ManagementHelper.HDR_ROUTING_NAME);
+         if (clusterName == null || routingName == null) {
+            return;
+         }
+         // see BindingsImpl::routeUsingStrictOrdering for the group ids of a routing name
+         final String routingSuffix = "." + routingName;
+         final Iterator<Response> iterator = responses.values().iterator();
+         while (iterator.hasNext()) {
+            final Response response = iterator.next();
+            final SimpleString groupId = response.getGroupId();
+            if (groupId.toString().endsWith(routingSuffix) && !response.getChosenClusterName().equals(clusterName) && outweighs(groupId, clusterName, response.getChosenClusterName())) {
+               iterator.remove();
+               fireUnproposed(groupId);
+            }
+         }
+      }
+      // reassigning the groups of a binding that has been removed
+      if (notification.getType() == CoreNotificationType.BINDING_REMOVED) {
+         final SimpleString clusterName = notification.getProperties().getSimpleStringProperty(ManagementHelper.HDR_CLUSTER_NAME);
+         final Iterator<Response> iterator = responses.values().iterator();
+         while (iterator.hasNext()) {
+            final Response response = iterator.next();
+            if (response.getChosenClusterName().equals(clusterName)) {
+               iterator.remove();
+               fireUnproposed(response.getGroupId());
+            }
+         }
+      }
+   }
+
+   public int getGroupCount() {
+      return responses.size();
+   }
+
+   private void reap() {
+      if (!isStarted()) {
+         return;
+      }
+      final long now = System.currentTimeMillis();
+      final Iterator<Response> iterator = responses.values().iterator();
+      while (iterator.hasNext()) {
+         final Response response = iterator.next();
+         if (isExpired(response, now)) {
+            iterator.remove();
+            fireUnproposed(response.getGroupId());
+         }
+      }
+   }
+}
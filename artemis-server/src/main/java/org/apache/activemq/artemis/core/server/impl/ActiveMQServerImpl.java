@@ -37,6 +37,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
@@ -150,6 +151,7 @@ import org.apache.activemq.artemis.core.server.federation.FederationManager;
 import org.apache.activemq.artemis.core.server.files.FileMoveManager;
 import org.apache.activemq.artemis.core.server.files.FileStoreMonitor;
 import org.apache.activemq.artemis.core.server.group.GroupingHandler;
+import org.apache.activemq.artemis.core.server.group.impl.ConsistentHashGroupingHandler;
 import org.apache.activemq.artemis.core.server.group.impl.GroupingHandlerConfiguration;
 import org.apache.activemq.artemis.core.server.group.impl.LocalGroupingHandler;
 import org.apache.activemq.artemis.core.server.group.impl.RemoteGroupingHandler;
@@ -201,6 +203,7 @@ import org.apache.activemq.artemis.utils.SecurityFormatter;
 import org.apache.activemq.artemis.utils.ThreadDumpUtil;
 import org.apache.activemq.artemis.utils.TimeUtils;
 import org.apache.activemq.artemis.utils.VersionLoader;
+import org.apache.activemq.artemis.utils.VirtualThreadExecutor;
 import org.apache.activemq.artemis.utils.actors.OrderedExecutorFactory;
 import org.apache.activemq.artemis.utils.collections.ConcurrentHashSet;
 import org.apache.activemq.artemis.utils.critical.CriticalAction;
@@ -208,6 +211,7 @@ import org.apache.activemq.artemis.utils.critical.CriticalAnalyzer;
 import org.apache.activemq.artemis.utils.critical.CriticalAnalyzerImpl;
 import org.apache.activemq.artemis.utils.critical.CriticalAnalyzerPolicy;
 import org.apache.activemq.artemis.utils.critical.CriticalComponent;
+import org.apache.activemq.artemis.utils.critical.CriticalProfiler;
 import org.apache.activemq.artemis.utils.critical.EmptyCriticalAnalyzer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -750,6 +754,8 @@ public class ActiveMQServerImpl implements ActiveMQServer {
 
       analyzer.setCheckTime(configuration.getCriticalAnalyzerCheckPeriod(), TimeUnit.MILLISECONDS).setTimeout(configuration.getCriticalAnalyzerTimeout(), TimeUnit.MILLISECONDS);
 
+      analyzer.setProfiler(configuration.isCriticalAnalyzerProfiler() ? new CriticalProfiler(configuration.getCriticalAnalyzerSlowThreshold(), TimeUnit.MILLISECONDS) : null);
+
       if (configuration.isCriticalAnalyzer()) {
          analyzer.start();
       }
@@ -1746,6 +1752,15 @@ public class ActiveMQServerImpl implements ActiveMQServer {
       return validatedUser;
    }
 
+   @Override
+   public CompletableFuture<String> validateUserAsync(String username, String password, RemotingConnection connection, String securityDomain) {
+      final SecurityStore securityStore = this.securityStore;
+      if (securityStore == null) {
+         return CompletableFuture.completedFuture("");
+      }
+      return securityStore.authenticateAsync(username, password, connection, securityDomain);
+   }
+
    @Override
    public ServerSession createInternalSession(String name,
                                        int minLargeMessageSize,
@@ -3054,7 +3069,15 @@ public class ActiveMQServerImpl implements ActiveMQServer {
             }
          });
 
-         if (configuration.getThreadPoolMaxSize() == -1) {
+         final boolean virtualThreads = configuration.isThreadPoolVirtualThreads() && VirtualThreadExecutor.isSupported();
+         if (configuration.isThreadPoolVirtualThreads() && !virtualThreads) {
+            ActiveMQServerLogger.LOGGER.virtualThreadsNotSupported(configuration.getThreadPoolMaxSize());
+         }
+
+         if (virtualThreads) {
+            // the ordered executors keep running their tasks one at a time and in order on top of it
+            threadPool = new VirtualThreadExecutor("ActiveMQ-server-virtual-", ClientSessionFactoryImpl.class.getClassLoader());
+         } else if (configuration.getThreadPoolMaxSize() == -1) {
             threadPool = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), tFactory);
          } else {
             threadPool = new ActiveMQThreadPoolExecutor(0, configuration.getThreadPoolMaxSize(), 60L, TimeUnit.SECONDS, tFactory);
@@ -3182,7 +3205,7 @@ public class ActiveMQServerImpl implements ActiveMQServer {
          ActiveMQServerLogger.LOGGER.clusterSecurityRisk();
       }
 
-      securityStore = new SecurityStoreImpl(securityRepository, securityManager, configuration.getSecurityInvalidationInterval(), configuration.isSecurityEnabled(), configuration.getClusterUser(), configuration.getClusterPassword(), managementService, configuration.getAuthenticationCacheSize(), configuration.getAuthorizationCacheSize());
+      securityStore = new SecurityStoreImpl(securityRepository, securityManager, configuration.getSecurityInvalidationInterval(), configuration.isSecurityEnabled(), configuration.getClusterUser(), configuration.getClusterPassword(), managementService, configuration.getAuthenticationCacheSize(), configuration.getAuthorizationCacheSize(), configuration.getAuthenticationThreadPoolMaxSize(), configuration.getAuthenticationQueueMaxSize());
 
       queueFactory = new QueueFactoryImpl(executorFactory, scheduledPool, addressSettingsRepository, storageManager, this);
 
@@ -4206,6 +4229,8 @@ public class ActiveMQServerImpl implements ActiveMQServer {
          GroupingHandler groupingHandler1;
          if (config.getType() == GroupingHandlerConfiguration.TYPE.LOCAL) {
             groupingHandler1 = new LocalGroupingHandler(executorFactory, scheduledPool, managementService, config.getName(), config.getAddress(), getStorageManager(), config.getTimeout(), config.getGroupTimeout(), config.getReaperPeriod());
+         } else if (config.getType() == GroupingHandlerConfiguration.TYPE.CONSISTENT_HASH) {
+            groupingHandler1 = new ConsistentHashGroupingHandler(executorFactory, scheduledPool, managementService, config.getName(), config.getAddress(), config.getGroupTimeout(), config.getReaperPeriod());
          } else {
             groupingHandler1 = new RemoteGroupingHandler(executorFactory, managementService, config.getName(), config.getAddress(), config.getTimeout(), config.getGroupTimeout());
          }
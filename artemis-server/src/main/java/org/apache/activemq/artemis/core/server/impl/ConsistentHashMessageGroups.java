@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.server.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.utils.HashUtil;
+
+/**
+ * ConsistentHashMessageGroups, assigns groups to the consumers through a consistent hash ring rather than storing
+ * the consumer of each group.
+ *
+ * Every consumer owns a number of points (virtual nodes) on the ring and a group belongs to the consumer owning the
+ * first point following the hash of the group. No state is kept per group, and when a consumer is added or removed
+ * only the groups falling in the arcs it gains or loses move to another consumer.
+ *
+ * As there is nothing to remove for a single group, {@link #put}, {@link #remove} and {@link #removeAll} don't change
+ * the assignment of any group. They only apply to the consumers the groups were last delivered to, which are kept
+ * through {@link #deliver} for the queues that need to know the first message of each group.
+ */
+public class ConsistentHashMessageGroups<C> implements MessageGroups<C> {
+
+   private final int virtualNodes;
+
+   private final ToLongFunction<? super C> consumerId;
+
+   private final List<C> consumers = new ArrayList<>();
+
+   // sorted points of the ring and the consumer owning each of them
+   private int[] points = new int[0];
+   private Object[] owners = new Object[0];
+
+   private double skew;
+
+   // the consumer each group was last delivered to, only filled by deliver
+   private final Map<SimpleString, C> delivered = new HashMap<>();
+
+   public ConsistentHashMessageGroups(int virtualNodes, ToLongFunction<? super C> consumerId) {
+      if (virtualNodes < 1) {
+         throw new IllegalArgumentException("Virtual nodes must be greater than 0");
+      }
+      this.virtualNodes = virtualNodes;
+      this.consumerId = consumerId;
+   }
+
+   public int getVirtualNodes() {
+      return virtualNodes;
+   }
+
+   @Override
+   public void addConsumer(C consumer) {
+      if (!consumers.contains(consumer)) {
+         consumers.add(consumer);
+         rebuild();
+      }
+   }
+
+   /**
+    * The consumer of a group is given by the ring, this only records the consumer the group has been delivered to.
+    */
+   @Override
+   public void put(SimpleString key, C consumer) {
+      delivered.put(key, consumer);
+   }
+
+   @Override
+   public C get(SimpleString key) {
+      return get(key, consumer -> true);
+   }
+
+   /**
+    * @return the consumer owning the group, i.e. owning the first point following the hash of the group among the
+    * consumers accepted by {@code candidate}, or null if none of them is
+    */
+   @SuppressWarnings("unchecked")
+   public C get(SimpleString key, Predicate<? super C> candidate) {
+      if (points.length == 0) {
+         return null;
+      }
+      int index = Arrays.binarySearch(points, mix(key.hashCode()));
+      if (index < 0) {
+         index = -index - 1;
+      }
+      for (int i = 0; i < points.length; i++, index++) {
+         // wrap around the ring
+         if (index == points.length) {
+            index = 0;
+         }
+         final C owner = (C) owners[index];
+         if (candidate.test(owner)) {
+            return owner;
+         }
+      }
+      return null;
+   }
+
+   /**
+    * Records that a group is delivered to its consumer.
+    *
+    * @return whether the group was delivered to another consumer before or not at all, i.e. whether the consumer
+    * receives the first message of the group
+    */
+   public boolean deliver(SimpleString key, C consumer) {
+      return delivered.put(key, consumer) != consumer;
+   }
+
+   @Override
+   public C remove(SimpleString key) {
+      return delivered.remove(key);
+   }
+
+   @Override
+   public boolean removeIf(Predicate<? super C> filter) {
+      delivered.values().removeIf(filter);
+      if (consumers.removeIf(filter)) {
+         rebuild();
+         return true;
+      }
+      return false;
+   }
+
+   @Override
+   public void removeAll() {
+      delivered.clear();
+   }
+
+   /**
+    * @return the number of groups recorded as delivered, as no assignment is stored
+    */
+   @Override
+   public int size() {
+      return delivered.size();
+   }
+
+   @Override
+   public Map<SimpleString, C> toMap() {
+      return new HashMap<>(delivered);
+   }
+
+   /**
+    * @return the share of the ring owned by the consumer owning the most of it over an even share, i.e. 1 when the
+    * groups are expected to be spread evenly across the consumers, or 0 when there are no consumers
+    */
+   public double getSkew() {
+      return skew;
+   }
+
+   private void rebuild() {
+      final int size = consumers.size() * virtualNodes;
+      final long[] entries = new long[size];
+      int entry = 0;
+      for (int c = 0; c < consumers.size(); c++) {
+         final long id = consumerId.applyAsLong(consumers.get(c));
+         for (int v = 0; v < virtualNodes; v++) {
+            // the point in the high bits so that sorting the entries sorts the points, the consumer index in the low ones
+            entries[entry++] = ((long) mix((id << 32) | v) << 32) | c;
+         }
+      }
+      Arrays.sort(entries);
+
+      final int[] newPoints = new int[size];
+      final Object[] newOwners = new Object[size];
+      final long[] owned = new long[consumers.size()];
+      for (int i = 0; i < size; i++) {
+         newPoints[i] = (int) (entries[i] >> 32);
+         final int c = (int) entries[i];
+         newOwners[i] = consumers.get(c);
+         // a point owns the arc from the previous point (wrapping around the ring)
+         final long previous = i == 0 ? (long) (int) (entries[size - 1] >> 32) - (1L << 32) : newPoints[i - 1];
+         owned[c] += newPoints[i] - previous;
+      }
+      points = newPoints;
+      owners = newOwners;
+
+      long maxOwned = 0;
+      for (long consumerOwned : owned) {
+         maxOwned = Math.max(maxOwned, consumerOwned);
+      }
+      skew = size == 0 ? 0 : (double) maxOwned * consumers.size() / (1L << 32);
+   }
+
+   private static int mix(long value) {
+      // spreads the group ids and virtual nodes all over the ring
+      return (int) HashUtil.mix(value);
+   }
+}
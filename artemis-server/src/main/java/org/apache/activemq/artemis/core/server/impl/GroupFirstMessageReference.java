@@ -45,6 +45,10 @@ public class GroupFirstMessageReference implements MessageReference {
       this.key = key;
    }
 
+   public MessageReference getMessageReference() {
+      return messageReference;
+   }
+
    @Override
    public Message getMessage() {
       if (message == null) {
@@ -213,6 +217,16 @@ public class GroupFirstMessageReference implements MessageReference {
       return messageReference.isAlreadyAcked();
    }
 
+   @Override
+   public long getLatencyTimestamp() {
+      return messageReference.getLatencyTimestamp();
+   }
+
+   @Override
+   public void setLatencyTimestamp(long latencyTimestamp) {
+      messageReference.setLatencyTimestamp(latencyTimestamp);
+   }
+
    @Override
    public long getPersistentSize() throws ActiveMQException {
       return messageReference.getPersistentSize();
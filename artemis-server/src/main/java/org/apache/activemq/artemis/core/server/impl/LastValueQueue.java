@@ -48,6 +48,10 @@ import org.apache.activemq.artemis.utils.collections.LinkedListIterator;
  * <p>
  * This is useful for example, for stock prices, where you're only interested in the latest value
  * for a particular stock
+ * <p>
+ * The replaced reference is unlinked from the pending references in constant time when the newer value arrives.
+ * Only the references that were not pending at that moment (e.g. still on the intermediate queue or being
+ * delivered) and are added back later are pruned by iterating the queue, and only when there are any.
  */
 @SuppressWarnings("ALL")
 public class LastValueQueue extends QueueImpl {
@@ -55,6 +59,9 @@ public class LastValueQueue extends QueueImpl {
    private final Map<SimpleString, MessageReference> map = new ConcurrentHashMap<>();
    private final SimpleString lastValueKey;
 
+   // replaced references on messageReferences that are waiting for pruneLastValues, guarded by this
+   private int pendingPrune;
+
 
    @Deprecated
    public LastValueQueue(final long persistenceID,
@@ -146,7 +153,7 @@ public class LastValueQueue extends QueueImpl {
    }
 
    @Override
-   public void addHead(final MessageReference ref, boolean scheduling) {
+   public synchronized void addHead(final MessageReference ref, boolean scheduling) {
       if (scheduling) {
          // track last value when scheduled message is actually enqueued
          trackLastValue(ref);
@@ -164,10 +171,21 @@ public class LastValueQueue extends QueueImpl {
    }
 
    private void trackLastValue(MessageReference ref) {
+      final MessageReference replaced = putLastValue(ref);
+      if (replaced != null && messageReferences.removeIntrusive(replaced)) {
+         removeReplaced(replaced);
+      }
+   }
+
+   private MessageReference putLastValue(MessageReference ref) {
       final SimpleString lastValueProperty = ref.getLastValueProperty();
       if (lastValueProperty != null) {
-         map.put(lastValueProperty, ref);
+         final MessageReference replaced = map.put(lastValueProperty, ref);
+         if (replaced != ref) {
+            return replaced;
+         }
       }
+      return null;
    }
 
    private void trackLastValueIfAbsent(MessageReference ref) {
@@ -194,26 +212,44 @@ public class LastValueQueue extends QueueImpl {
       return super.getQueueConfiguration().setLastValue(true).setLastValueKey(lastValueKey);
    }
 
+   @Override
+   protected void refAdded(final MessageReference ref) {
+      // called with synchronized(this) right before linking ref to messageReferences
+      super.refAdded(ref);
+      if (!currentLastValue(ref)) {
+         pendingPrune++;
+      }
+   }
+
    @Override
    protected void pruneLastValues() {
       // called with synchronized(this) from super.deliver()
+      if (pendingPrune == 0) {
+         return;
+      }
+      pendingPrune = 0;
       try (LinkedListIterator<MessageReference> iter = messageReferences.iterator()) {
          while (iter.hasNext()) {
             MessageReference ref = iter.next();
             if (!currentLastValue(ref)) {
                iter.remove();
-               try {
-                  referenceHandled(ref);
-                  super.refRemoved(ref);
-                  ref.acknowledge(null, AckReason.REPLACED, null);
-               } catch (Exception e) {
-                  ActiveMQServerLogger.LOGGER.errorAckingOldReference(e);
-               }
+               removeReplaced(ref);
             }
          }
       }
    }
 
+   // called with synchronized(this) once ref has been unlinked from messageReferences
+   private void removeReplaced(MessageReference ref) {
+      try {
+         referenceHandled(ref);
+         super.refRemoved(ref);
+         ref.acknowledge(null, AckReason.REPLACED, null);
+      } catch (Exception e) {
+         ActiveMQServerLogger.LOGGER.errorAckingOldReference(e);
+      }
+   }
+
    private boolean currentLastValue(final MessageReference ref) {
       boolean currentLastValue = false;
       SimpleString lastValueProp = ref.getLastValueProperty();
@@ -256,7 +292,10 @@ public class LastValueQueue extends QueueImpl {
 
    @Override
    public synchronized void reload(final MessageReference newRef) {
-      trackLastValue(newRef);
+      // nothing is acknowledged while loading: the replaced reference is left to pruneLastValues
+      if (putLastValue(newRef) != null) {
+         pendingPrune++;
+      }
       super.reload(newRef);
    }
 
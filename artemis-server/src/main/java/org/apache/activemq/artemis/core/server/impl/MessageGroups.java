@@ -36,5 +36,12 @@ public interface MessageGroups<C> {
 
    Map<SimpleString, C> toMap();
 
+   /**
+    * Called when a consumer is added to the queue, for the implementations that assign the groups
+    * from the consumers available instead of storing the consumer of each group.
+    */
+   default void addConsumer(C consumer) {
+   }
+
 
 }
@@ -82,10 +82,12 @@ public class MessageReferenceImpl extends LinkedListImpl.Node<MessageReferenceIm
 
    private Consumer<? super MessageReference> onDelivery;
 
+   private long latencyTimestamp;
+
 
    // This value has been computed by using https://github.com/openjdk/jol
    // on HotSpot 64-bit VM COOPS, 8-byte alignment
-   private static final int memoryOffset = 72;
+   private static final int memoryOffset = 80;
 
 
    public MessageReferenceImpl() {
@@ -174,6 +176,16 @@ public class MessageReferenceImpl extends LinkedListImpl.Node<MessageReferenceIm
    }
 
 
+   @Override
+   public long getLatencyTimestamp() {
+      return latencyTimestamp;
+   }
+
+   @Override
+   public void setLatencyTimestamp(long latencyTimestamp) {
+      this.latencyTimestamp = latencyTimestamp;
+   }
+
    @Override
    public int getDeliveryCount() {
       return DELIVERY_COUNT_UPDATER.get(this);
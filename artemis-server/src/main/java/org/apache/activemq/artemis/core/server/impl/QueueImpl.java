@@ -91,6 +91,7 @@ import org.apache.activemq.artemis.core.server.cluster.RemoteQueueBinding;
 import org.apache.activemq.artemis.core.server.cluster.impl.Redistributor;
 import org.apache.activemq.artemis.core.server.management.ManagementService;
 import org.apache.activemq.artemis.core.server.management.Notification;
+import org.apache.activemq.artemis.core.server.metrics.LatencyHistogram;
 import org.apache.activemq.artemis.core.settings.HierarchicalRepository;
 import org.apache.activemq.artemis.core.settings.HierarchicalRepositoryChangeListener;
 import org.apache.activemq.artemis.core.settings.impl.AddressSettings;
@@ -138,6 +139,7 @@ public class QueueImpl extends CriticalComponentImpl implements Queue {
    protected static final int CRITICAL_DELIVER = 2;
    protected static final int CRITICAL_CONSUMER = 3;
    protected static final int CRITICAL_CHECK_DEPAGE = 4;
+   private static final String[] CRITICAL_PATH_NAMES = {"add-tail", "add-head", "deliver", "consumer", "check-depage"};
 
    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
    private static final AtomicIntegerFieldUpdater<QueueImpl> dispatchingUpdater = AtomicIntegerFieldUpdater.newUpdater(QueueImpl.class, "dispatching");
@@ -236,6 +238,12 @@ public class QueueImpl extends CriticalComponentImpl implements Queue {
 
    private final AtomicLong messagesReplaced = new AtomicLong(0);
 
+   private final LatencyHistogram routeLatency = new LatencyHistogram();
+
+   private final LatencyHistogram enqueueToDeliverLatency = new LatencyHistogram();
+
+   private final LatencyHistogram deliverToAckLatency = new LatencyHistogram();
+
    private boolean paused;
 
    private long pauseStatusRecord = -1;
@@ -347,6 +355,11 @@ public class QueueImpl extends CriticalComponentImpl implements Queue {
 
    private volatile long ringSize;
 
+   @Override
+   public String getCriticalPathName(int path) {
+      return CRITICAL_PATH_NAMES[path];
+   }
+
    @Override
    public boolean isSwept() {
       return swept;
@@ -681,8 +694,6 @@ public class QueueImpl extends CriticalComponentImpl implements Queue {
 
       this.groupBuckets = queueConfiguration.getGroupBuckets() == null ? ActiveMQDefaultConfiguration.getDefaultGroupBuckets() : queueConfiguration.getGroupBuckets();
 
-      this.groups = groupMap(this.groupBuckets);
-
       this.groupFirstKey = queueConfiguration.getGroupFirstKey() == null ? ActiveMQDefaultConfiguration.getDefaultGroupFirstKey() : queueConfiguration.getGroupFirstKey();
 
       this.autoDelete = queueConfiguration.isAutoDelete() == null ? ActiveMQDefaultConfiguration.getDefaultQueueAutoDelete(autoCreated) : queueConfiguration.isAutoDelete();
@@ -711,6 +722,8 @@ public class QueueImpl extends CriticalComponentImpl implements Queue {
          this.addressSettings = new AddressSettings();
       }
 
+      this.groups = createGroups(this.groupBuckets);
+
       if (pageSubscription != null) {
          pageSubscription.setQueue(this);
          this.pageIterator = pageSubscription.iterator();
@@ -942,11 +955,16 @@ public class QueueImpl extends CriticalComponentImpl implements Queue {
    @Override
    public synchronized void setGroupBuckets(int groupBuckets) {
       if (this.groupBuckets != groupBuckets) {
-         this.groups = groupMap(groupBuckets);
+         this.groups = createGroups(groupBuckets);
          this.groupBuckets = groupBuckets;
       }
    }
 
+   @Override
+   public synchronized double getGroupSkew() {
+      return groups instanceof ConsistentHashMessageGroups ? ((ConsistentHashMessageGroups<Consumer>) groups).getSkew() : 0;
+   }
+
    @Override
    public boolean isGroupRebalance() {
       return groupRebalance;
@@ -1025,6 +1043,10 @@ public class QueueImpl extends CriticalComponentImpl implements Queue {
       if (pagingStore != null) {
          pagingStore.refUp(messageReference.getMessage(), count);
       }
+      final int latencySampleInterval = addressSettings.getLatencySampleInterval();
+      if (latencySampleInterval > 0 && (latencySampleInterval == 1 || ThreadLocalRandom.current().nextInt(latencySampleInterval) == 0)) {
+         messageReference.setLatencyTimestamp(System.nanoTime());
+      }
    }
 
    @Override
@@ -1212,6 +1234,8 @@ public class QueueImpl extends CriticalComponentImpl implements Queue {
    @Override
    public void addTail(final MessageReference ref, final boolean direct) {
       try (ArtemisCloseable metric = measureCritical(CRITICAL_PATH_ADD_TAIL)) {
+         recordLatency(ref, routeLatency, true);
+
          if (scheduleIfPossible(ref)) {
             return;
          }
@@ -1431,6 +1455,7 @@ public class QueueImpl extends CriticalComponentImpl implements Queue {
 
             ConsumerHolder<Consumer> newConsumerHolder = new ConsumerHolder<>(consumer);
             if (consumers.add(newConsumerHolder)) {
+               groups.addConsumer(consumer);
                if (delayBeforeDispatch >= 0) {
                   dispatchStartTimeUpdater.compareAndSet(this,-1, delayBeforeDispatch + System.currentTimeMillis());
                }
@@ -3071,7 +3096,7 @@ public class QueueImpl extends CriticalComponentImpl implements Queue {
                logger.trace("Queue {} is delivering reference {}", name, ref);
 
                final SimpleString groupID = extractGroupID(ref);
-               groupConsumer = getGroupConsumer(groupID);
+               groupConsumer = getGroupConsumer(ref, groupID);
 
                if (groupConsumer != null) {
                   consumer = groupConsumer;
@@ -3804,7 +3829,7 @@ public class QueueImpl extends CriticalComponentImpl implements Queue {
             Consumer consumer = holder.consumer;
 
             final SimpleString groupID = extractGroupID(ref);
-            Consumer groupConsumer = getGroupConsumer(groupID);
+            Consumer groupConsumer = getGroupConsumer(ref, groupID);
 
             if (groupConsumer != null) {
                consumer = groupConsumer;
@@ -3834,7 +3859,7 @@ public class QueueImpl extends CriticalComponentImpl implements Queue {
       }
    }
 
-   private Consumer getGroupConsumer(SimpleString groupID) {
+   private Consumer getGroupConsumer(MessageReference ref, SimpleString groupID) {
       Consumer groupConsumer = null;
       if (exclusive) {
          // If exclusive is set, then this overrides the consumer chosen round-robin
@@ -3842,7 +3867,12 @@ public class QueueImpl extends CriticalComponentImpl implements Queue {
       } else {
          // If a group id is set, then this overrides the consumer chosen round-robin
          if (groupID != null) {
-            groupConsumer = groups.get(groupID);
+            if (groups instanceof ConsistentHashMessageGroups) {
+               // the ring owns every group, skipping the consumers that won't match so that the group doesn't get stuck
+               groupConsumer = ((ConsistentHashMessageGroups<Consumer>) groups).get(groupID, consumer -> consumer.getFilter() == null || consumer.getFilter().match(ref.getMessage()));
+            } else {
+               groupConsumer = groups.get(groupID);
+            }
          }
       }
       return groupConsumer;
@@ -3868,6 +3898,10 @@ public class QueueImpl extends CriticalComponentImpl implements Queue {
             }
          } else {
             consumers.repeat();
+            // the ring always gives a consumer, the group is first delivered to it when it has just become its owner
+            if (groupFirstKey != null && groups instanceof ConsistentHashMessageGroups && ((ConsistentHashMessageGroups<Consumer>) groups).deliver(groupID, consumer)) {
+               return new GroupFirstMessageReference(groupFirstKey, ref);
+            }
          }
       }
       return ref;
@@ -3947,6 +3981,10 @@ public class QueueImpl extends CriticalComponentImpl implements Queue {
          throw new IllegalStateException("ClientConsumer.handle() should never return null");
       }
 
+      if (status == HandleStatus.HANDLED) {
+         recordLatency(reference, enqueueToDeliverLatency, true);
+      }
+
       return status;
    }
 
@@ -3965,6 +4003,9 @@ public class QueueImpl extends CriticalComponentImpl implements Queue {
       try {
          if (delivering) {
             queue.decDelivering(ref);
+            if (reason == AckReason.NORMAL) {
+               recordLatency(ref, queue.deliverToAckLatency, false);
+            }
          }
          if (nonDestructive && reason == AckReason.NORMAL) {
             // this is done to tell the difference between actual acks and just a closed consumer in the non-destructive use-case
@@ -4081,6 +4122,41 @@ public class QueueImpl extends CriticalComponentImpl implements Queue {
       return delay;
    }
 
+   /**
+    * Record the latency of a sampled reference since its latency timestamp, moving the timestamp to now if the
+    * reference has got more latencies to measure.
+    */
+   private static void recordLatency(MessageReference ref, LatencyHistogram latency, boolean restart) {
+      final long latencyTimestamp = ref.getLatencyTimestamp();
+      if (latencyTimestamp != 0) {
+         final long now = System.nanoTime();
+         latency.record(now - latencyTimestamp);
+         ref.setLatencyTimestamp(restart ? now : 0);
+      }
+   }
+
+   @Override
+   public LatencyHistogram getRouteLatency() {
+      return routeLatency;
+   }
+
+   @Override
+   public LatencyHistogram getEnqueueToDeliverLatency() {
+      return enqueueToDeliverLatency;
+   }
+
+   @Override
+   public LatencyHistogram getDeliverToAckLatency() {
+      return deliverToAckLatency;
+   }
+
+   @Override
+   public void resetLatencies() {
+      routeLatency.reset();
+      enqueueToDeliverLatency.reset();
+      deliverToAckLatency.reset();
+   }
+
    @Override
    public synchronized void resetMessagesAdded() {
       messagesAdded.set(0);
@@ -4130,6 +4206,29 @@ public class QueueImpl extends CriticalComponentImpl implements Queue {
 
    }
 
+   private MessageGroups<Consumer> createGroups(int groupBuckets) {
+      final int groupRingVirtualNodes = addressSettings.getGroupRingVirtualNodes();
+      if (groupBuckets == 0 || groupRingVirtualNodes == 0) {
+         return groupMap(groupBuckets);
+      }
+      final ConsistentHashMessageGroups<Consumer> ring = new ConsistentHashMessageGroups<>(groupRingVirtualNodes, Consumer::sequentialID);
+      for (ConsumerHolder<? extends Consumer> holder : consumers) {
+         if (holder != redistributor) {
+            ring.addConsumer(holder.consumer);
+         }
+      }
+      return ring;
+   }
+
+   // called with 'this' locked
+   private void configureGroups() {
+      final int groupRingVirtualNodes = groupBuckets == 0 ? 0 : addressSettings.getGroupRingVirtualNodes();
+      final int currentVirtualNodes = groups instanceof ConsistentHashMessageGroups ? ((ConsistentHashMessageGroups<Consumer>) groups).getVirtualNodes() : 0;
+      if (groupRingVirtualNodes != currentVirtualNodes) {
+         groups = createGroups(groupBuckets);
+      }
+   }
+
    public static MessageGroups<Consumer> groupMap(int groupBuckets) {
       if (groupBuckets == -1) {
          return new SimpleMessageGroups<>();
@@ -4566,6 +4665,9 @@ public class QueueImpl extends CriticalComponentImpl implements Queue {
          addressSettings = addressSettingsRepository.getMatch(getAddressSettingsMatch());
          checkDeadLetterAddressAndExpiryAddress();
          configureSlowConsumerReaper();
+         synchronized (QueueImpl.this) {
+            configureGroups();
+         }
       }
 
       public void close() {
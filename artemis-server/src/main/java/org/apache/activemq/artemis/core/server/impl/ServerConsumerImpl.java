@@ -459,8 +459,12 @@ public class ServerConsumerImpl implements ServerConsumer, ReadyListener {
 
             // The deliverer will increase the usageUp, so the preAck has to be done after this is created
             // otherwise we may have a removed message early on
-            if (message instanceof CoreLargeServerMessage && this.supportLargeMessage) {
+            if (isLargeMessageDelivery(message)) {
                largeMessageDeliverer = new CoreLargeMessageDeliverer((LargeServerMessage) message, ref);
+            } else {
+               // the same for a standard message, which is only encoded by proceedDeliver: the pre-ack could release
+               // it first, e.g. giving its pooled buffer back
+               message.usageUp();
             }
 
             if (preAcknowledge) {
@@ -469,6 +473,9 @@ public class ServerConsumerImpl implements ServerConsumer, ReadyListener {
                acks++;
             }
 
+         } else if (!isLargeMessageDelivery(message)) {
+            // another consumer could acknowledge the message being browsed
+            message.usageUp();
          }
 
          pendingDelivery.countUp();
@@ -477,8 +484,14 @@ public class ServerConsumerImpl implements ServerConsumer, ReadyListener {
       }
    }
 
+   private boolean isLargeMessageDelivery(Message message) {
+      return message instanceof CoreLargeServerMessage && supportLargeMessage;
+   }
+
    @Override
    public void proceedDeliver(MessageReference reference) throws Exception {
+      // the first message of a group is delivered as a copy, the usage is held on the message of the queue
+      final Message heldMessage = reference instanceof GroupFirstMessageReference ? ((GroupFirstMessageReference) reference).getMessageReference().getMessage() : reference.getMessage();
       try {
          Message message = reference.getMessage();
 
@@ -489,7 +502,7 @@ public class ServerConsumerImpl implements ServerConsumer, ReadyListener {
             server.callBrokerMessagePlugins(plugin -> plugin.beforeDeliver(this, reference));
          }
 
-         if (message instanceof CoreLargeServerMessage && supportLargeMessage) {
+         if (isLargeMessageDelivery(message)) {
             if (largeMessageDeliverer == null) {
                // This can't really happen as handle had already crated the deliverer
                // instead of throwing an exception in weird cases there is no problem on just go ahead and create it
@@ -503,6 +516,9 @@ public class ServerConsumerImpl implements ServerConsumer, ReadyListener {
             deliverStandardMessage(reference, message);
          }
       } finally {
+         if (!isLargeMessageDelivery(heldMessage)) {
+            heldMessage.usageDown();
+         }
          pendingDelivery.countDown();
          callback.afterDelivery();
          if (server.hasBrokerMessagePlugins()) {
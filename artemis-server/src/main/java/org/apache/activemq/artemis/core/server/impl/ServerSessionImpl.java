@@ -68,6 +68,7 @@ import org.apache.activemq.artemis.core.remoting.FailureListener;
 import org.apache.activemq.artemis.core.security.CheckType;
 import org.apache.activemq.artemis.core.security.SecurityAuth;
 import org.apache.activemq.artemis.core.security.SecurityStore;
+import org.apache.activemq.artemis.core.security.impl.SessionAuthorizationCache;
 import org.apache.activemq.artemis.core.server.ActiveMQMessageBundle;
 import org.apache.activemq.artemis.core.server.ActiveMQServer;
 import org.apache.activemq.artemis.core.server.ActiveMQServerLogger;
@@ -157,6 +158,8 @@ public class ServerSessionImpl implements ServerSession, FailureListener {
 
    private final SecurityStore securityStore;
 
+   private final SessionAuthorizationCache sendAuthorizationCache;
+
    protected final ManagementService managementService;
 
    protected volatile boolean started = false;
@@ -250,6 +253,8 @@ public class ServerSessionImpl implements ServerSession, FailureListener {
 
       this.securityStore = securityStore;
 
+      this.sendAuthorizationCache = securityStore == null ? null : new SessionAuthorizationCache(securityStore);
+
       this.pagingManager = pagingManager;
 
       timeoutSeconds = resourceManager.getTimeoutSeconds();
@@ -503,6 +508,14 @@ public class ServerSessionImpl implements ServerSession, FailureListener {
       }
    }
 
+   private void sendSecurityCheck(SimpleString address) throws Exception {
+      if (!securityEnabled || sendAuthorizationCache.isGranted(address, CheckType.SEND)) {
+         return;
+      }
+      securityCheck(CompositeAddress.extractAddressName(address), CompositeAddress.isFullyQualified(address) ? CompositeAddress.extractQueueName(address) : null, CheckType.SEND, this);
+      sendAuthorizationCache.granted(address, CheckType.SEND);
+   }
+
    @Override
    public ServerConsumer createConsumer(final long consumerID,
                                         final SimpleString queueName,
@@ -2185,7 +2198,7 @@ public class ServerSessionImpl implements ServerSession, FailureListener {
 
       // check the user has write access to this address.
       try {
-         securityCheck(CompositeAddress.extractAddressName(art.getName()), CompositeAddress.isFullyQualified(art.getName()) ? CompositeAddress.extractQueueName(art.getName()) : null, CheckType.SEND, this);
+         sendSecurityCheck(art.getName());
       } catch (ActiveMQException e) {
          if (!autoCommitSends && tx != null) {
             tx.markAsRollbackOnly(e);
@@ -31,6 +31,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.activemq.artemis.api.core.BroadcastEndpointFactory;
 import org.apache.activemq.artemis.api.core.BroadcastGroupConfiguration;
@@ -43,6 +44,7 @@ import org.apache.activemq.artemis.api.core.RoutingType;
 import org.apache.activemq.artemis.api.core.SimpleString;
 import org.apache.activemq.artemis.api.core.TransportConfiguration;
 import org.apache.activemq.artemis.api.core.UDPBroadcastEndpointFactory;
+import org.apache.activemq.artemis.api.core.client.ActiveMQClient;
 import org.apache.activemq.artemis.api.core.management.AcceptorControl;
 import org.apache.activemq.artemis.api.core.management.ActiveMQServerControl;
 import org.apache.activemq.artemis.api.core.management.AddressControl;
@@ -57,6 +59,7 @@ import org.apache.activemq.artemis.api.core.management.QueueControl;
 import org.apache.activemq.artemis.api.core.management.ResourceNames;
 import org.apache.activemq.artemis.core.config.ClusterConnectionConfiguration;
 import org.apache.activemq.artemis.core.config.Configuration;
+import org.apache.activemq.artemis.core.journal.Journal;
 import org.apache.activemq.artemis.core.management.impl.AcceptorControlImpl;
 import org.apache.activemq.artemis.core.management.impl.ActiveMQServerControlImpl;
 import org.apache.activemq.artemis.core.management.impl.AddressControlImpl;
@@ -76,9 +79,12 @@ import org.apache.activemq.artemis.core.messagecounter.impl.MessageCounterManage
 import org.apache.activemq.artemis.core.paging.PagingManager;
 import org.apache.activemq.artemis.core.persistence.StorageManager;
 import org.apache.activemq.artemis.core.postoffice.PostOffice;
+import org.apache.activemq.artemis.core.protocol.core.impl.CoreProtocolManager;
+import org.apache.activemq.artemis.core.remoting.impl.netty.NettyAcceptor;
 import org.apache.activemq.artemis.core.remoting.server.RemotingService;
 import org.apache.activemq.artemis.core.security.Role;
 import org.apache.activemq.artemis.core.security.SecurityStore;
+import org.apache.activemq.artemis.core.security.impl.SecurityStoreImpl;
 import org.apache.activemq.artemis.core.server.ActiveMQMessageBundle;
 import org.apache.activemq.artemis.core.server.ActiveMQServer;
 import org.apache.activemq.artemis.core.server.ActiveMQServerLogger;
@@ -103,9 +109,14 @@ import org.apache.activemq.artemis.core.server.metrics.QueueMetricNames;
 import org.apache.activemq.artemis.core.settings.HierarchicalRepository;
 import org.apache.activemq.artemis.core.settings.impl.AddressSettings;
 import org.apache.activemq.artemis.core.transaction.ResourceManager;
+import org.apache.activemq.artemis.jdbc.store.journal.JDBCJournalImpl;
+import org.apache.activemq.artemis.spi.core.protocol.ProtocolManager;
 import org.apache.activemq.artemis.spi.core.remoting.Acceptor;
+import org.apache.activemq.artemis.utils.VirtualThreadExecutor;
 import org.apache.activemq.artemis.utils.collections.ConcurrentHashSet;
 import org.apache.activemq.artemis.utils.collections.TypedProperties;
+import org.apache.activemq.artemis.utils.critical.CriticalPathProfile;
+import org.apache.activemq.artemis.utils.critical.CriticalProfiler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.lang.invoke.MethodHandles;
@@ -232,10 +243,46 @@ public class ManagementServiceImpl implements ManagementService {
             builder.build(BrokerMetricNames.ADDRESS_MEMORY_USAGE, messagingServer, metrics -> Double.valueOf(messagingServerControl.getAddressMemoryUsage()), ActiveMQServerControl.ADDRESS_MEMORY_USAGE_DESCRIPTION);
             builder.build(BrokerMetricNames.ADDRESS_MEMORY_USAGE_PERCENTAGE, messagingServer, metrics -> Double.valueOf(messagingServerControl.getAddressMemoryUsagePercentage()), ActiveMQServerControl.ADDRESS_MEMORY_USAGE_PERCENTAGE_DESCRIPTION);
             builder.build(BrokerMetricNames.DISK_STORE_USAGE, messagingServer, metrics -> Double.valueOf(messagingServer.getDiskStoreUsage()), ActiveMQServerControl.DISK_STORE_USAGE_DESCRIPTION);
+            final Journal messageJournal = storageManager == null ? null : storageManager.getMessageJournal();
+            if (messageJournal instanceof JDBCJournalImpl) {
+               final JDBCJournalImpl jdbcJournal = (JDBCJournalImpl) messageJournal;
+               builder.build(BrokerMetricNames.JDBC_JOURNAL_SYNC_COUNT, jdbcJournal, metrics -> Double.valueOf(jdbcJournal.getSyncCount()), "number of batches of records committed to the message journal table");
+               builder.build(BrokerMetricNames.JDBC_JOURNAL_SYNCED_RECORD_COUNT, jdbcJournal, metrics -> Double.valueOf(jdbcJournal.getSyncedRecordCount()), "number of records committed to the message journal table");
+               builder.build(BrokerMetricNames.JDBC_JOURNAL_SYNC_BATCH_SIZE, jdbcJournal, metrics -> jdbcJournal.getAverageSyncBatchSize(), "average number of records committed to the message journal table per batch");
+               builder.build(BrokerMetricNames.JDBC_JOURNAL_SYNC_TIME, jdbcJournal, metrics -> jdbcJournal.getAverageSyncTimeMillis(), "average time in milliseconds taken to write and commit a batch of records to the message journal table");
+            }
+            if (securityStore instanceof SecurityStoreImpl && ((SecurityStoreImpl) securityStore).isAuthenticationThreadPoolEnabled()) {
+               final SecurityStoreImpl securityStoreImpl = (SecurityStoreImpl) securityStore;
+               builder.build(BrokerMetricNames.AUTHENTICATION_PENDING_COUNT, securityStoreImpl, metrics -> Double.valueOf(securityStoreImpl.getPendingAuthenticationCount()), "number of authentications waiting for or running on the authentication threads");
+               builder.build(BrokerMetricNames.AUTHENTICATION_REJECTED_COUNT, securityStoreImpl, metrics -> Double.valueOf(securityStoreImpl.getRejectedAuthenticationCount()), "number of authentications rejected because too many were pending");
+               builder.build(BrokerMetricNames.AUTHENTICATION_TIME, securityStoreImpl, metrics -> securityStoreImpl.getAverageAuthenticationTimeMillis(), "average time in milliseconds taken by an authentication on the authentication threads, including the time it was queued");
+            }
+            if (messagingServer.getThreadPool() instanceof VirtualThreadExecutor) {
+               final VirtualThreadExecutor virtualThreadExecutor = (VirtualThreadExecutor) messagingServer.getThreadPool();
+               builder.build(BrokerMetricNames.THREAD_POOL_VIRTUAL_ACTIVE_COUNT, virtualThreadExecutor, metrics -> Double.valueOf(virtualThreadExecutor.getActiveCount()), "number of tasks of the thread pool running on virtual threads");
+               builder.build(BrokerMetricNames.THREAD_POOL_VIRTUAL_PINNED_COUNT, virtualThreadExecutor, metrics -> Double.valueOf(virtualThreadExecutor.getPinnedCount()), "number of times a virtual thread of the JVM blocked while pinned to its carrier thread, or -1 if JFR is not available");
+            }
          });
+         final CriticalProfiler profiler = messagingServer.getCriticalAnalyzer() == null ? null : messagingServer.getCriticalAnalyzer().getProfiler();
+         if (profiler != null) {
+            // the profiles are created as the paths are first measured, some of them may already be there
+            profiler.setProfileListener(profile -> registerCriticalPathMeters(metricsManager, profile));
+            for (CriticalPathProfile profile : profiler.getProfiles()) {
+               registerCriticalPathMeters(metricsManager, profile);
+            }
+         }
       }
    }
 
+   private static void registerCriticalPathMeters(MetricsManager metricsManager, CriticalPathProfile profile) {
+      metricsManager.registerCriticalPathGauge(profile.getComponentName(), profile.getPathName(), builder -> {
+         builder.build(BrokerMetricNames.CRITICAL_PATH_COUNT, profile, metrics -> Double.valueOf(profile.getCount()), "number of times the critical path was measured");
+         builder.build(BrokerMetricNames.CRITICAL_PATH_SLOW_COUNT, profile, metrics -> Double.valueOf(profile.getSlowCount()), "number of times the critical path took longer than critical-analyzer-slow-threshold");
+         builder.build(BrokerMetricNames.CRITICAL_PATH_P99, profile, metrics -> profile.getValueAtPercentile(99, TimeUnit.MILLISECONDS), "99th percentile of the durations of the critical path in milliseconds");
+         builder.build(BrokerMetricNames.CRITICAL_PATH_MAX, profile, metrics -> Double.valueOf(profile.getMax(TimeUnit.MILLISECONDS)), "longest duration of the critical path in milliseconds");
+      });
+   }
+
    @Override
    public synchronized void unregisterServer() throws Exception {
       ObjectName objectName = objectNameBuilder.getActiveMQServerObjectName();
@@ -350,6 +397,18 @@ public class ManagementServiceImpl implements ManagementService {
                builder.build(QueueMetricNames.MESSAGES_KILLED, queue, metrics -> Double.valueOf(queue.getMessagesKilled()), QueueControl.MESSAGES_KILLED_DESCRIPTION);
                builder.build(QueueMetricNames.MESSAGES_EXPIRED, queue, metrics -> Double.valueOf(queue.getMessagesExpired()), QueueControl.MESSAGES_EXPIRED_DESCRIPTION);
                builder.build(QueueMetricNames.CONSUMER_COUNT, queue, metrics -> Double.valueOf(queue.getConsumerCount()), QueueControl.CONSUMER_COUNT_DESCRIPTION);
+               builder.build(QueueMetricNames.GROUP_SKEW, queue, metrics -> queue.getGroupSkew(), "share of the message groups assigned to the consumer getting the most of them over an even share, when the groups are assigned through a consistent hash ring");
+            });
+            metricsManager.registerQueueLatencies(queue.getAddress().toString(), queue.getName().toString(), (builder) -> {
+               if (queue.getRouteLatency() != null) {
+                  builder.build(QueueMetricNames.ROUTE_LATENCY, queue.getRouteLatency(), QueueControl.ROUTE_LATENCY_DESCRIPTION);
+               }
+               if (queue.getEnqueueToDeliverLatency() != null) {
+                  builder.build(QueueMetricNames.ENQUEUE_TO_DELIVER_LATENCY, queue.getEnqueueToDeliverLatency(), QueueControl.ENQUEUE_TO_DELIVER_LATENCY_DESCRIPTION);
+               }
+               if (queue.getDeliverToAckLatency() != null) {
+                  builder.build(QueueMetricNames.DELIVER_TO_ACK_LATENCY, queue.getDeliverToAckLatency(), QueueControl.DELIVER_TO_ACK_LATENCY_DESCRIPTION);
+               }
             });
          }
       }
@@ -388,6 +447,17 @@ public class ManagementServiceImpl implements ManagementService {
       AcceptorControl control = new AcceptorControlImpl(acceptor, storageManager, configuration);
       registerInJMX(objectName, control);
       registerInRegistry(ResourceNames.ACCEPTOR + configuration.getName(), control);
+      registerAcceptorMeters(acceptor, configuration.getName());
+   }
+
+   private void registerAcceptorMeters(final Acceptor acceptor, final String name) {
+      if (messagingServer == null || messagingServer.getMetricsManager() == null || !(acceptor instanceof NettyAcceptor)) {
+         return;
+      }
+      final ProtocolManager protocolManager = ((NettyAcceptor) acceptor).getProtocolHandler().getProtocol(ActiveMQClient.DEFAULT_CORE_PROTOCOL);
+      if (protocolManager instanceof CoreProtocolManager) {
+         messagingServer.getMetricsManager().registerAcceptorCompression(name, ((CoreProtocolManager) protocolManager).getCompressionMetrics());
+      }
    }
 
    @Override
@@ -415,6 +485,7 @@ public class ManagementServiceImpl implements ManagementService {
       ObjectName objectName = objectNameBuilder.getAcceptorObjectName(name);
       unregisterFromJMX(objectName);
       unregisterFromRegistry(ResourceNames.ACCEPTOR + name);
+      unregisterMeters(ResourceNames.ACCEPTOR + name);
    }
 
    @Override
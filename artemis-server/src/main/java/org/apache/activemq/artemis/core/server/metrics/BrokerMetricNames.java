@@ -24,4 +24,17 @@ public class BrokerMetricNames {
    public static final String ADDRESS_MEMORY_USAGE = "address.memory.usage";
    public static final String ADDRESS_MEMORY_USAGE_PERCENTAGE = "address.memory.usage.percentage";
    public static final String DISK_STORE_USAGE = "disk.store.usage";
+   public static final String JDBC_JOURNAL_SYNC_COUNT = "jdbc.journal.sync.count";
+   public static final String JDBC_JOURNAL_SYNCED_RECORD_COUNT = "jdbc.journal.synced.record.count";
+   public static final String JDBC_JOURNAL_SYNC_BATCH_SIZE = "jdbc.journal.sync.batch.size";
+   public static final String JDBC_JOURNAL_SYNC_TIME = "jdbc.journal.sync.time";
+   public static final String AUTHENTICATION_PENDING_COUNT = "authentication.pending.count";
+   public static final String AUTHENTICATION_REJECTED_COUNT = "authentication.rejected.count";
+   public static final String AUTHENTICATION_TIME = "authentication.time";
+   public static final String THREAD_POOL_VIRTUAL_ACTIVE_COUNT = "thread.pool.virtual.active.count";
+   public static final String THREAD_POOL_VIRTUAL_PINNED_COUNT = "thread.pool.virtual.pinned.count";
+   public static final String CRITICAL_PATH_COUNT = "critical.path.count";
+   public static final String CRITICAL_PATH_SLOW_COUNT = "critical.path.slow.count";
+   public static final String CRITICAL_PATH_P99 = "critical.path.p99";
+   public static final String CRITICAL_PATH_MAX = "critical.path.max";
 }
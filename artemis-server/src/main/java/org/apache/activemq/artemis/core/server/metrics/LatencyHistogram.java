@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.server.metrics;
+
+import java.util.function.DoubleConsumer;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * A histogram of the latencies sampled on a queue, recorded in nanoseconds from any thread.
+ * <p>
+ * The latencies are recorded on an HdrHistogram {@link Recorder}, which never blocks the recording threads, and are
+ * accumulated into the histogram returned by {@link #getSnapshot()} when it is read. Nothing is allocated until the
+ * first latency is recorded, so that the histograms of the queues not sampling any latency stay empty.
+ * <p>
+ * Every latency is also passed in milliseconds to the listener, if any, e.g. the Micrometer distribution summary
+ * registered for the queue by the {@link MetricsManager}.
+ */
+public final class LatencyHistogram {
+
+   // 2 significant digits, i.e. a resolution of 1% of the value
+   private static final int SIGNIFICANT_DIGITS = 2;
+
+   private static final double NANOS_PER_MILLI = 1_000_000d;
+
+   private volatile Recorder recorder;
+
+   private volatile DoubleConsumer listener;
+
+   private Histogram interval;
+
+   private Histogram total;
+
+   public void record(long latencyNanos) {
+      if (latencyNanos < 0) {
+         latencyNanos = 0;
+      }
+      getRecorder().recordValue(latencyNanos);
+      final DoubleConsumer listener = this.listener;
+      if (listener != null) {
+         listener.accept(latencyNanos / NANOS_PER_MILLI);
+      }
+   }
+
+   public void setListener(DoubleConsumer listener) {
+      this.listener = listener;
+   }
+
+   /**
+    * @return a copy of the latencies recorded since the histogram was created or reset, in nanoseconds
+    */
+   public synchronized Histogram getSnapshot() {
+      if (total == null) {
+         total = new Histogram(SIGNIFICANT_DIGITS);
+      }
+      final Recorder recorder = this.recorder;
+      if (recorder != null) {
+         interval = recorder.getIntervalHistogram(interval);
+         total.add(interval);
+      }
+      return total.copy();
+   }
+
+   public synchronized void reset() {
+      final Recorder recorder = this.recorder;
+      if (recorder != null) {
+         interval = recorder.getIntervalHistogram(interval);
+      }
+      if (total != null) {
+         total.reset();
+      }
+   }
+
+   private Recorder getRecorder() {
+      Recorder recorder = this.recorder;
+      if (recorder == null) {
+         synchronized (this) {
+            recorder = this.recorder;
+            if (recorder == null) {
+               recorder = new Recorder(SIGNIFICANT_DIGITS);
+               this.recorder = recorder;
+            }
+         }
+      }
+      return recorder;
+   }
+}
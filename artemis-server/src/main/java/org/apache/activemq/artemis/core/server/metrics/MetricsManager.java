@@ -24,16 +24,19 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.ToDoubleFunction;
 
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.binder.jvm.JvmGcMetrics;
 import io.micrometer.core.instrument.binder.jvm.JvmMemoryMetrics;
 import io.micrometer.core.instrument.binder.jvm.JvmThreadMetrics;
 import io.netty.buffer.PooledByteBufAllocator;
 import org.apache.activemq.artemis.api.core.management.ResourceNames;
 import org.apache.activemq.artemis.core.config.MetricsConfiguration;
+import org.apache.activemq.artemis.core.remoting.impl.netty.CompressionMetrics;
 import org.apache.activemq.artemis.core.server.ActiveMQMessageBundle;
 import org.apache.activemq.artemis.core.settings.HierarchicalRepository;
 import org.apache.activemq.artemis.core.settings.impl.AddressSettings;
@@ -45,6 +48,8 @@ public class MetricsManager {
 
    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
+   private static final double[] LATENCY_PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+
    private final String brokerName;
 
    private final MeterRegistry meterRegistry;
@@ -53,6 +58,8 @@ public class MetricsManager {
 
    private final HierarchicalRepository<AddressSettings> addressSettingsRepository;
 
+   private final boolean nettyCompression;
+
    public MetricsManager(String brokerName,
                          MetricsConfiguration metricsConfiguration,
                          HierarchicalRepository<AddressSettings> addressSettingsRepository) {
@@ -72,6 +79,7 @@ public class MetricsManager {
       if (metricsConfiguration.isNettyPool()) {
          new NettyPooledAllocatorMetrics(PooledByteBufAllocator.DEFAULT.metric()).bindTo(meterRegistry);
       }
+      this.nettyCompression = metricsConfiguration.isNettyCompression();
    }
 
    public MeterRegistry getMeterRegistry() {
@@ -84,6 +92,12 @@ public class MetricsManager {
       void build(String metricName, Object state, ToDoubleFunction f, String description);
    }
 
+   @FunctionalInterface
+   public interface MetricLatencyBuilder {
+
+      void build(String metricName, LatencyHistogram latency, String description);
+   }
+
    public void registerQueueGauge(String address, String queue, Consumer<MetricGaugeBuilder> builder) {
       if (this.meterRegistry == null || !addressSettingsRepository.getMatch(address).isEnableMetrics()) {
          return;
@@ -101,6 +115,42 @@ public class MetricsManager {
       registerMeters(gaugeBuilders, ResourceNames.QUEUE + queue);
    }
 
+   /**
+    * Register a distribution summary, in milliseconds, for each latency histogram of a queue sampling its latencies.
+    * The summaries are removed with the other meters of the queue.
+    */
+   public void registerQueueLatencies(String address, String queue, Consumer<MetricLatencyBuilder> builder) {
+      if (this.meterRegistry == null) {
+         return;
+      }
+      final AddressSettings addressSettings = addressSettingsRepository.getMatch(address);
+      if (!addressSettings.isEnableMetrics() || addressSettings.getLatencySampleInterval() == 0) {
+         return;
+      }
+      final List<Meter> summaries = new ArrayList<>();
+      builder.accept((metricName, latency, description) -> {
+         DistributionSummary summary = DistributionSummary
+            .builder("artemis." + metricName)
+            .baseUnit("milliseconds")
+            .publishPercentiles(LATENCY_PERCENTILES)
+            .tag("broker", brokerName)
+            .tag("address", address)
+            .tag("queue", queue)
+            .description(description)
+            .register(meterRegistry);
+         latency.setListener(summary::record);
+         summaries.add(summary);
+         logger.debug("Registered meter: {}", summary.getId());
+         // the registry may publish the percentiles as separate gauges
+         summaries.addAll(meterRegistry.find(summary.getId().getName() + ".percentile").tags(summary.getId().getTags()).meters());
+      });
+      meters.merge(ResourceNames.QUEUE + queue, summaries, (registered, added) -> {
+         List<Meter> merged = new ArrayList<>(registered);
+         merged.addAll(added);
+         return merged;
+      });
+   }
+
    public void registerAddressGauge(String address, Consumer<MetricGaugeBuilder> builder) {
       if (this.meterRegistry == null || !addressSettingsRepository.getMatch(address).isEnableMetrics()) {
          return;
@@ -132,6 +182,53 @@ public class MetricsManager {
       registerMeters(gaugeBuilders, ResourceNames.BROKER + "." + brokerName);
    }
 
+   /**
+    * Register gauges for a critical path of a kind of component, tagged with the names of both. The gauges are removed
+    * with the other meters of the broker, and are not registered at all if those are not.
+    */
+   public void registerCriticalPathGauge(String component, String path, Consumer<MetricGaugeBuilder> builder) {
+      if (this.meterRegistry == null) {
+         return;
+      }
+      final List<Gauge.Builder> gaugeBuilders = new ArrayList<>();
+      builder.accept((metricName, state, f, description) -> {
+         Gauge.Builder meter = Gauge
+            .builder("artemis." + metricName, state, f)
+            .tag("broker", brokerName)
+            .tag("component", component)
+            .tag("path", path)
+            .description(description);
+         gaugeBuilders.add(meter);
+      });
+      meters.computeIfPresent(ResourceNames.BROKER + "." + brokerName, (resource, registered) -> {
+         List<Meter> merged = new ArrayList<>(registered);
+         for (Gauge.Builder gaugeBuilder : gaugeBuilders) {
+            Gauge gauge = gaugeBuilder.register(meterRegistry);
+            // the registry returns the gauge already registered for the same path
+            if (!merged.contains(gauge)) {
+               merged.add(gauge);
+               logger.debug("Registered meter: {}", gauge.getId());
+            }
+         }
+         return merged;
+      });
+   }
+
+   /**
+    * Register the meters of the compressed connections of an acceptor, tagged with its name. They are removed with
+    * the other meters of the acceptor.
+    */
+   public void registerAcceptorCompression(String acceptor, CompressionMetrics metrics) {
+      if (this.meterRegistry == null || !nettyCompression) {
+         return;
+      }
+      final String resource = ResourceNames.ACCEPTOR + acceptor;
+      // an acceptor created again with the same name replaces the meters of the previous one
+      remove(resource);
+      logger.debug("Registering meters for {}", resource);
+      meters.put(resource, new NettyCompressionMetrics(metrics, Tags.of("broker", brokerName, "acceptor", acceptor)).register(meterRegistry));
+   }
+
    private void registerMeters(List<Gauge.Builder> gaugeBuilders, String resource) {
       if (meters.get(resource) != null) {
          throw ActiveMQMessageBundle.BUNDLE.metersAlreadyRegistered(resource);
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.server.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.apache.activemq.artemis.core.remoting.impl.netty.CompressionMetrics;
+
+/**
+ * The meters of the compressed connections of one acceptor.
+ */
+public final class NettyCompressionMetrics {
+
+   private static final String BYTES_UNIT = "bytes";
+
+   private final CompressionMetrics metrics;
+
+   private final Tags tags;
+
+   public NettyCompressionMetrics(final CompressionMetrics metrics, final Tags tags) {
+      this.metrics = metrics;
+      this.tags = tags;
+   }
+
+   public List<Meter> register(final MeterRegistry registry) {
+      final List<Meter> meters = new ArrayList<>();
+
+      meters.add(FunctionCounter.builder("netty.compression.input", metrics, CompressionMetrics::getCompressionInputBytes)
+         .tags(tags).tags("operation", "compress")
+         .description("The bytes compressed")
+         .baseUnit(BYTES_UNIT).register(registry));
+
+      meters.add(FunctionCounter.builder("netty.compression.output", metrics, CompressionMetrics::getCompressionOutputBytes)
+         .tags(tags).tags("operation", "compress")
+         .description("The compressed bytes sent")
+         .baseUnit(BYTES_UNIT).register(registry));
+
+      meters.add(FunctionCounter.builder("netty.compression.input", metrics, CompressionMetrics::getDecompressionInputBytes)
+         .tags(tags).tags("operation", "decompress")
+         .description("The compressed bytes received")
+         .baseUnit(BYTES_UNIT).register(registry));
+
+      meters.add(FunctionCounter.builder("netty.compression.output", metrics, CompressionMetrics::getDecompressionOutputBytes)
+         .tags(tags).tags("operation", "decompress")
+         .description("The bytes decompressed")
+         .baseUnit(BYTES_UNIT).register(registry));
+
+      meters.add(FunctionTimer.builder("netty.compression.time", metrics, CompressionMetrics::getCompressedFrames, CompressionMetrics::getCompressionTime, TimeUnit.NANOSECONDS)
+         .tags(tags).tags("operation", "compress")
+         .description("The time spent compressing frames")
+         .register(registry));
+
+      meters.add(FunctionTimer.builder("netty.compression.time", metrics, CompressionMetrics::getDecompressedFrames, CompressionMetrics::getDecompressionTime, TimeUnit.NANOSECONDS)
+         .tags(tags).tags("operation", "decompress")
+         .description("The time spent decompressing frames")
+         .register(registry));
+
+      meters.add(Gauge.builder("netty.compression.ratio", metrics, CompressionMetrics::getCompressionRatio)
+         .tags(tags)
+         .description("The uncompressed bytes over the compressed bytes sent and received")
+         .register(registry));
+
+      return meters;
+   }
+}
@@ -39,4 +39,9 @@ public class QueueMetricNames {
    public static final String MESSAGES_KILLED = "messages.killed";
    public static final String MESSAGES_EXPIRED = "messages.expired";
    public static final String CONSUMER_COUNT = "consumer.count";
+   public static final String GROUP_SKEW = "group.skew";
+
+   public static final String ROUTE_LATENCY = "route.latency";
+   public static final String ENQUEUE_TO_DELIVER_LATENCY = "enqueue.to.deliver.latency";
+   public static final String DELIVER_TO_ACK_LATENCY = "deliver.to.ack.latency";
 }
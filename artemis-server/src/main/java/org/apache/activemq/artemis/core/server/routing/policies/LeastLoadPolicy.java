@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.server.routing.policies;
+
+import org.apache.activemq.artemis.api.core.management.ResourceNames;
+import org.apache.activemq.artemis.core.server.routing.targets.Target;
+import org.apache.activemq.artemis.core.server.routing.targets.TargetProbe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.lang.invoke.MethodHandles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selects the targets with the least load, measured by the target probe: the processor load, the address memory
+ * usage, the messages held by the queues and the time taken by the target to answer the probe.
+ * <p>
+ * Every measure is weighted over its highest value among the targets, so that the measures don't need to share a
+ * unit: the load of a target is the weighted mean of its measures, between 0 and 1. A measure that a target doesn't
+ * expose, e.g. the processor load, is left out of its mean rather than taken as idle. The targets never probed are
+ * selected only if no other target has been probed yet.
+ */
+public class LeastLoadPolicy extends RoundRobinPolicy {
+   private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+   public static final String NAME = "LEAST_LOAD";
+
+   public static final String UPDATE_LOAD_PROBE_NAME = "UPDATE_LOAD_PROBE";
+
+   public static final String PROCESSOR_LOAD_WEIGHT = "PROCESSOR_LOAD_WEIGHT";
+
+   public static final String MEMORY_USAGE_WEIGHT = "MEMORY_USAGE_WEIGHT";
+
+   public static final String MESSAGE_COUNT_WEIGHT = "MESSAGE_COUNT_WEIGHT";
+
+   public static final String LATENCY_WEIGHT = "LATENCY_WEIGHT";
+
+   private static final int ATTRIBUTE_TIMEOUT = 3000;
+
+
+   private final Map<Target, TargetLoad> targetLoadCache = new ConcurrentHashMap<>();
+
+
+   private double processorLoadWeight = 1;
+
+   private double memoryUsageWeight = 1;
+
+   private double messageCountWeight = 1;
+
+   private double latencyWeight = 1;
+
+
+   private final TargetProbe targetProbe = new TargetProbe(UPDATE_LOAD_PROBE_NAME) {
+      @Override
+      public boolean check(Target target) {
+         try {
+            final long start = System.nanoTime();
+            final Integer memoryUsage = target.getAttribute(ResourceNames.BROKER, "AddressMemoryUsagePercentage", Integer.class, ATTRIBUTE_TIMEOUT);
+            final Long messageCount = target.getAttribute(ResourceNames.BROKER, "TotalMessageCount", Long.class, ATTRIBUTE_TIMEOUT);
+            final long latency = (System.nanoTime() - start) / 2;
+
+            double processorLoad;
+            try {
+               processorLoad = target.getAttribute(ResourceNames.BROKER, "ProcessorLoad", Double.class, ATTRIBUTE_TIMEOUT);
+            } catch (Exception e) {
+               // the processor load isn't available on brokers not exposing it
+               logger.debug("Error on getting the processor load for the target {}", target, e);
+               processorLoad = -1;
+            }
+
+            final TargetLoad targetLoad = new TargetLoad(processorLoad, memoryUsage, messageCount, TimeUnit.NANOSECONDS.toMicros(latency));
+
+            logger.debug("Updating the load to {} for the target {}", targetLoad, target);
+
+            targetLoadCache.put(target, targetLoad);
+
+            return true;
+         } catch (Exception e) {
+            logger.warn("Error on updating the load for the target {}", target, e);
+
+            return false;
+         }
+      }
+   };
+
+   @Override
+   public TargetProbe getTargetProbe() {
+      return targetProbe;
+   }
+
+   public LeastLoadPolicy() {
+      super(NAME);
+   }
+
+   @Override
+   public void init(Map<String, String> properties) {
+      super.init(properties);
+
+      if (properties != null) {
+         if (properties.containsKey(PROCESSOR_LOAD_WEIGHT)) {
+            processorLoadWeight = Double.valueOf(properties.get(PROCESSOR_LOAD_WEIGHT));
+         }
+         if (properties.containsKey(MEMORY_USAGE_WEIGHT)) {
+            memoryUsageWeight = Double.valueOf(properties.get(MEMORY_USAGE_WEIGHT));
+         }
+         if (properties.containsKey(MESSAGE_COUNT_WEIGHT)) {
+            messageCountWeight = Double.valueOf(properties.get(MESSAGE_COUNT_WEIGHT));
+         }
+         if (properties.containsKey(LATENCY_WEIGHT)) {
+            latencyWeight = Double.valueOf(properties.get(LATENCY_WEIGHT));
+         }
+      }
+   }
+
+   @Override
+   public Target selectTarget(List<Target> targets, String key) {
+      if (targets.size() > 1) {
+         final TargetLoad maxLoad = new TargetLoad(0, 0, 0, 0);
+         for (Target target : targets) {
+            TargetLoad targetLoad = targetLoadCache.get(target);
+
+            if (targetLoad != null) {
+               maxLoad.max(targetLoad);
+            }
+         }
+
+         List<Target> selectedTargets = new ArrayList<>();
+         double selectedLoad = Double.MAX_VALUE;
+
+         for (Target target : targets) {
+            TargetLoad targetLoad = targetLoadCache.get(target);
+
+            double load = targetLoad == null ? Double.MAX_VALUE : getLoad(targetLoad, maxLoad);
+
+            if (load < selectedLoad) {
+               selectedTargets.clear();
+               selectedLoad = load;
+            }
+            if (load == selectedLoad) {
+               selectedTargets.add(target);
+            }
+         }
+
+         logger.debug("LeastLoadPolicy.selectedTargets: {} with load {}", selectedTargets, selectedLoad);
+
+         if (selectedTargets.size() > 1) {
+            return super.selectTarget(selectedTargets, key);
+         } else {
+            return selectedTargets.get(0);
+         }
+      } else if (targets.size() > 0) {
+         return targets.get(0);
+      }
+
+      return null;
+   }
+
+   private double getLoad(TargetLoad targetLoad, TargetLoad maxLoad) {
+      double load = memoryUsageWeight * share(targetLoad.memoryUsage, maxLoad.memoryUsage) +
+         messageCountWeight * share(targetLoad.messageCount, maxLoad.messageCount) +
+         latencyWeight * share(targetLoad.latency, maxLoad.latency);
+      double weights = memoryUsageWeight + messageCountWeight + latencyWeight;
+
+      // the processor load is negative when the target doesn't expose it
+      if (targetLoad.processorLoad >= 0) {
+         load += processorLoadWeight * share(targetLoad.processorLoad, maxLoad.processorLoad);
+         weights += processorLoadWeight;
+      }
+
+      return weights > 0 ? load / weights : 0;
+   }
+
+   private static double share(double value, double max) {
+      return value > 0 && max > 0 ? value / max : 0;
+   }
+
+   static final class TargetLoad {
+      private double processorLoad;
+      private double memoryUsage;
+      private double messageCount;
+      private double latency;
+
+      TargetLoad(double processorLoad, double memoryUsage, double messageCount, double latency) {
+         this.processorLoad = processorLoad;
+         this.memoryUsage = memoryUsage;
+         this.messageCount = messageCount;
+         this.latency = latency;
+      }
+
+      void max(TargetLoad other) {
+         processorLoad = Math.max(processorLoad, other.processorLoad);
+         memoryUsage = Math.max(memoryUsage, other.memoryUsage);
+         messageCount = Math.max(messageCount, other.messageCount);
+         latency = Math.max(latency, other.latency);
+      }
+
+      @Override
+      public String toString() {
+         return "TargetLoad [processorLoad=" + processorLoad + ", memoryUsage=" + memoryUsage +
+            ", messageCount=" + messageCount + ", latency=" + latency + "]";
+      }
+   }
+}
@@ -39,6 +39,7 @@ public class PolicyFactoryResolver {
       policyFactories.put(ConsistentHashPolicy.NAME, () -> new ConsistentHashPolicy());
       policyFactories.put(FirstElementPolicy.NAME, () -> new FirstElementPolicy());
       policyFactories.put(LeastConnectionsPolicy.NAME, () -> new LeastConnectionsPolicy());
+      policyFactories.put(LeastLoadPolicy.NAME, () -> new LeastLoadPolicy());
       policyFactories.put(RoundRobinPolicy.NAME, () -> new RoundRobinPolicy());
       policyFactories.put(ConsistentHashModuloPolicy.NAME, () -> new ConsistentHashModuloPolicy());
 
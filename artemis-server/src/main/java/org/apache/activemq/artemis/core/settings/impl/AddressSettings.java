@@ -139,6 +139,10 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
 
    public static final boolean DEFAULT_ENABLE_INGRESS_TIMESTAMP = false;
 
+   public static final int DEFAULT_GROUP_RING_VIRTUAL_NODES = 0;
+
+   public static final int DEFAULT_LATENCY_SAMPLE_INTERVAL = 0;
+
    private AddressFullMessagePolicy addressFullMessagePolicy = null;
 
    private Long maxSizeBytes = null;
@@ -193,6 +197,10 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
 
    private SimpleString defaultGroupFirstKey = null;
 
+   private Integer groupRingVirtualNodes = null;
+
+   private Integer latencySampleInterval = null;
+
    private Long redistributionDelay = null;
 
    private Boolean sendToDLAOnNoRoute = null;
@@ -345,6 +353,8 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
       this.defaultGroupRebalance = other.defaultGroupRebalance;
       this.defaultGroupRebalancePauseDispatch = other.defaultGroupRebalancePauseDispatch;
       this.defaultGroupBuckets = other.defaultGroupBuckets;
+      this.groupRingVirtualNodes = other.groupRingVirtualNodes;
+      this.latencySampleInterval = other.latencySampleInterval;
       this.defaultGroupFirstKey = other.defaultGroupFirstKey;
       this.defaultRingSize = other.defaultRingSize;
       this.enableMetrics = other.enableMetrics;
@@ -964,6 +974,37 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
       return this;
    }
 
+   /**
+    * @return the number of virtual nodes per consumer on the consistent hash ring assigning message groups to
+    * consumers, 0 if the consumer of each group is stored instead
+    */
+   public int getGroupRingVirtualNodes() {
+      return groupRingVirtualNodes != null ? groupRingVirtualNodes : AddressSettings.DEFAULT_GROUP_RING_VIRTUAL_NODES;
+   }
+
+   /**
+    * @param groupRingVirtualNodes the groupRingVirtualNodes to set
+    */
+   public AddressSettings setGroupRingVirtualNodes(int groupRingVirtualNodes) {
+      this.groupRingVirtualNodes = groupRingVirtualNodes;
+      return this;
+   }
+
+   /**
+    * @return the latencies of one message out of how many routed to the matching queues are sampled, 0 if none is
+    */
+   public int getLatencySampleInterval() {
+      return latencySampleInterval != null ? latencySampleInterval : AddressSettings.DEFAULT_LATENCY_SAMPLE_INTERVAL;
+   }
+
+   /**
+    * @param latencySampleInterval the latencySampleInterval to set
+    */
+   public AddressSettings setLatencySampleInterval(int latencySampleInterval) {
+      this.latencySampleInterval = latencySampleInterval;
+      return this;
+   }
+
    public long getDefaultRingSize() {
       return defaultRingSize != null ? defaultRingSize : ActiveMQDefaultConfiguration.DEFAULT_RING_SIZE;
    }
@@ -1190,6 +1231,12 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
       if (defaultGroupBuckets == null) {
          defaultGroupBuckets = merged.defaultGroupBuckets;
       }
+      if (groupRingVirtualNodes == null) {
+         groupRingVirtualNodes = merged.groupRingVirtualNodes;
+      }
+      if (latencySampleInterval == null) {
+         latencySampleInterval = merged.latencySampleInterval;
+      }
       if (defaultGroupFirstKey == null) {
          defaultGroupFirstKey = merged.defaultGroupFirstKey;
       }
@@ -1472,6 +1519,14 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
       if (buffer.readableBytes() > 0) {
          maxReadPageMessages = BufferHelper.readNullableInteger(buffer);
       }
+
+      if (buffer.readableBytes() > 0) {
+         groupRingVirtualNodes = BufferHelper.readNullableInteger(buffer);
+      }
+
+      if (buffer.readableBytes() > 0) {
+         latencySampleInterval = BufferHelper.readNullableInteger(buffer);
+      }
    }
 
    @Override
@@ -1542,7 +1597,9 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
          BufferHelper.sizeOfNullableBoolean(enableIngressTimestamp) +
          BufferHelper.sizeOfNullableLong(maxSizeMessages) +
          BufferHelper.sizeOfNullableInteger(maxReadPageMessages) +
-         BufferHelper.sizeOfNullableInteger(maxReadPageBytes);
+         BufferHelper.sizeOfNullableInteger(maxReadPageBytes) +
+         BufferHelper.sizeOfNullableInteger(groupRingVirtualNodes) +
+         BufferHelper.sizeOfNullableInteger(latencySampleInterval);
    }
 
    @Override
@@ -1682,6 +1739,10 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
       BufferHelper.writeNullableInteger(buffer, maxReadPageBytes);
 
       BufferHelper.writeNullableInteger(buffer, maxReadPageMessages);
+
+      BufferHelper.writeNullableInteger(buffer, groupRingVirtualNodes);
+
+      BufferHelper.writeNullableInteger(buffer, latencySampleInterval);
    }
 
    /* (non-Javadoc)
@@ -1758,6 +1819,8 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
       result = prime * result + ((slowConsumerThresholdMeasurementUnit == null) ? 0 : slowConsumerThresholdMeasurementUnit.hashCode());
       result = prime * result + ((enableIngressTimestamp == null) ? 0 : enableIngressTimestamp.hashCode());
       result = prime * result + ((maxSizeMessages == null) ? 0 : maxSizeMessages.hashCode());
+      result = prime * result + ((groupRingVirtualNodes == null) ? 0 : groupRingVirtualNodes.hashCode());
+      result = prime * result + ((latencySampleInterval == null) ? 0 : latencySampleInterval.hashCode());
       return result;
    }
 
@@ -2130,6 +2193,18 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
       } else if (!maxSizeMessages.equals(other.maxSizeMessages))
          return false;
 
+      if (groupRingVirtualNodes == null) {
+         if (other.groupRingVirtualNodes != null)
+            return false;
+      } else if (!groupRingVirtualNodes.equals(other.groupRingVirtualNodes))
+         return false;
+
+      if (latencySampleInterval == null) {
+         if (other.latencySampleInterval != null)
+            return false;
+      } else if (!latencySampleInterval.equals(other.latencySampleInterval))
+         return false;
+
       return true;
    }
 
@@ -2247,6 +2322,10 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
          defaultGroupBuckets +
          ", defaultGroupFirstKey=" +
          defaultGroupFirstKey +
+         ", groupRingVirtualNodes=" +
+         groupRingVirtualNodes +
+         ", latencySampleInterval=" +
+         latencySampleInterval +
          ", defaultRingSize=" +
          defaultRingSize +
          ", retroactiveMessageCount=" +
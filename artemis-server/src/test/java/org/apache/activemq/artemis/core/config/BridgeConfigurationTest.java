@@ -67,6 +67,8 @@ public class BridgeConfigurationTest {
       Assert.assertEquals(12, bridgeConfiguration.getCallTimeout());
       Assert.assertEquals(ComponentConfigurationRoutingType.MULTICAST, bridgeConfiguration.getRoutingType());
       Assert.assertEquals(1, bridgeConfiguration.getConcurrency());
+      Assert.assertEquals(13, bridgeConfiguration.getAckBatchSize());
+      Assert.assertEquals(14, bridgeConfiguration.getPendingWindowSize());
    }
 
    @Test
@@ -106,6 +108,8 @@ public class BridgeConfigurationTest {
       Assert.assertEquals("102400", jsonObject.get(BridgeConfiguration.MIN_LARGE_MESSAGE_SIZE).toString());
       Assert.assertEquals("30000", jsonObject.get(BridgeConfiguration.CALL_TIMEOUT).toString());
       Assert.assertEquals("1", jsonObject.get(BridgeConfiguration.CONCURRENCY).toString());
+      Assert.assertEquals("1", jsonObject.get(BridgeConfiguration.ACK_BATCH_SIZE).toString());
+      Assert.assertEquals("-1", jsonObject.get(BridgeConfiguration.PENDING_WINDOW_SIZE).toString());
 
       // also should contain default non-null values of string fields
       Assert.assertEquals("\"ACTIVEMQ.CLUSTER.ADMIN.USER\"", jsonObject.get(BridgeConfiguration.USER).toString());
@@ -192,6 +196,8 @@ public class BridgeConfigurationTest {
       objectBuilder.add(BridgeConfiguration.CALL_TIMEOUT, 12);
       objectBuilder.add(BridgeConfiguration.ROUTING_TYPE, "MULTICAST");
       objectBuilder.add(BridgeConfiguration.CONCURRENCY, 1);
+      objectBuilder.add(BridgeConfiguration.ACK_BATCH_SIZE, 13);
+      objectBuilder.add(BridgeConfiguration.PENDING_WINDOW_SIZE, 14);
 
       return objectBuilder.build();
    }
@@ -779,10 +779,12 @@ public class ConfigurationImplTest extends ActiveMQTestBase {
       Properties properties = new ConfigurationImpl.InsertionOrderedProperties();
 
       properties.put("federationConfigurations.f1.upstreamConfigurations.joe.connectionConfiguration.reconnectAttempts", "1");
+      properties.put("federationConfigurations.f1.upstreamConfigurations.joe.connectionConfiguration.shareSession", "true");
       properties.put("federationConfigurations.f1.upstreamConfigurations.joe.connectionConfiguration.staticConnectors", "a,b,c");
       properties.put("federationConfigurations.f1.upstreamConfigurations.joe.policyRefs", "pq1,pq2");
 
       properties.put("federationConfigurations.f1.queuePolicies.qp1.transformerRef", "simpleTransform");
+      properties.put("federationConfigurations.f1.queuePolicies.qp1.batchSize", "100");
       properties.put("federationConfigurations.f1.queuePolicies.qp2.includes.all-N.queueMatch", "N#");
 
       properties.put("federationConfigurations.f1.addressPolicies.a1.transformerRef", "simpleTransform");
@@ -800,6 +802,7 @@ public class ConfigurationImplTest extends ActiveMQTestBase {
 
       Assert.assertEquals(1, configuration.getFederationConfigurations().size());
       Assert.assertEquals(1, configuration.getFederationConfigurations().get(0).getUpstreamConfigurations().get(0).getConnectionConfiguration().getReconnectAttempts());
+      Assert.assertTrue(configuration.getFederationConfigurations().get(0).getUpstreamConfigurations().get(0).getConnectionConfiguration().isShareSession());
       Assert.assertEquals(3, configuration.getFederationConfigurations().get(0).getUpstreamConfigurations().get(0).getConnectionConfiguration().getStaticConnectors().size());
 
       Assert.assertEquals(2, configuration.getFederationConfigurations().get(0).getUpstreamConfigurations().get(0).getPolicyRefs().size());
@@ -811,6 +814,8 @@ public class ConfigurationImplTest extends ActiveMQTestBase {
       Assert.assertEquals(3, ((FederationPolicySet)configuration.getFederationConfigurations().get(0).getFederationPolicyMap().get("combined")).getPolicyRefs().size());
 
       Assert.assertEquals("simpleTransform", ((FederationQueuePolicyConfiguration)configuration.getFederationConfigurations().get(0).getFederationPolicyMap().get("qp1")).getTransformerRef());
+      Assert.assertEquals(100, ((FederationQueuePolicyConfiguration)configuration.getFederationConfigurations().get(0).getFederationPolicyMap().get("qp1")).getBatchSize());
+      Assert.assertEquals(FederationQueuePolicyConfiguration.DEFAULT_PULL_INTERVAL, ((FederationQueuePolicyConfiguration)configuration.getFederationConfigurations().get(0).getFederationPolicyMap().get("qp1")).getPullInterval());
 
       Assert.assertEquals("N#", ((FederationQueuePolicyConfiguration.Matcher)((FederationQueuePolicyConfiguration)configuration.getFederationConfigurations().get(0).getFederationPolicyMap().get("qp2")).getIncludes().toArray()[0]).getQueueMatch());
       Assert.assertEquals("b", ((FederationAddressPolicyConfiguration.Matcher)((FederationAddressPolicyConfiguration)configuration.getFederationConfigurations().get(0).getFederationPolicyMap().get("a1")).getExcludes().toArray()[0]).getAddressMatch());
@@ -36,6 +36,8 @@ public class DefaultsFileConfigurationTest extends ConfigurationImplTest {
 
       Assert.assertEquals(ActiveMQDefaultConfiguration.getDefaultThreadPoolMaxSize(), conf.getThreadPoolMaxSize());
 
+      Assert.assertEquals(ActiveMQDefaultConfiguration.isDefaultThreadPoolVirtualThreads(), conf.isThreadPoolVirtualThreads());
+
       Assert.assertEquals(ActiveMQDefaultConfiguration.getDefaultSecurityInvalidationInterval(), conf.getSecurityInvalidationInterval());
 
       Assert.assertEquals(ActiveMQDefaultConfiguration.isDefaultSecurityEnabled(), conf.isSecurityEnabled());
@@ -118,6 +120,12 @@ public class DefaultsFileConfigurationTest extends ConfigurationImplTest {
 
       Assert.assertEquals(ActiveMQDefaultConfiguration.getDefaultLargeMessagesDir(), conf.getLargeMessagesDirectory());
 
+      Assert.assertEquals(ActiveMQDefaultConfiguration.getDefaultLargeMessageWriteWindow(), conf.getLargeMessageWriteWindow());
+
+      Assert.assertEquals(ActiveMQDefaultConfiguration.getDefaultAuthenticationThreadPoolMaxSize(), conf.getAuthenticationThreadPoolMaxSize());
+
+      Assert.assertEquals(ActiveMQDefaultConfiguration.getDefaultAuthenticationQueueMaxSize(), conf.getAuthenticationQueueMaxSize());
+
       Assert.assertEquals(ActiveMQDefaultConfiguration.isDefaultWildcardRoutingEnabled(), conf.isWildcardRoutingEnabled());
 
       Assert.assertEquals(ActiveMQDefaultConfiguration.getDefaultTransactionTimeout(), conf.getTransactionTimeout());
@@ -139,6 +147,10 @@ public class DefaultsFileConfigurationTest extends ConfigurationImplTest {
       Assert.assertEquals(ActiveMQDefaultConfiguration.getDefaultAmqpUseCoreSubscriptionNaming(), conf.isAmqpUseCoreSubscriptionNaming());
 
       Assert.assertEquals(ActiveMQDefaultConfiguration.getDefaultJournalBufferTimeoutNio(), conf.getPageSyncTimeout());
+
+      Assert.assertEquals(ActiveMQDefaultConfiguration.getCriticalAnalyzerProfiler(), conf.isCriticalAnalyzerProfiler());
+
+      Assert.assertEquals(ActiveMQDefaultConfiguration.getCriticalAnalyzerSlowThreshold(), conf.getCriticalAnalyzerSlowThreshold());
    }
 
    // Protected ---------------------------------------------------------------------------------------------
@@ -36,6 +36,7 @@ import org.apache.activemq.artemis.core.config.ha.LiveOnlyPolicyConfiguration;
 import org.apache.activemq.artemis.core.config.ha.SharedStoreMasterPolicyConfiguration;
 import org.apache.activemq.artemis.core.deployers.impl.FileConfigurationParser;
 import org.apache.activemq.artemis.core.server.ActiveMQServer;
+import org.apache.activemq.artemis.core.server.group.impl.GroupingHandlerConfiguration;
 import org.apache.activemq.artemis.core.settings.impl.AddressSettings;
 import org.apache.activemq.artemis.tests.util.ActiveMQTestBase;
 import org.apache.activemq.artemis.utils.ClassloadingUtil;
@@ -136,6 +137,25 @@ public class FileConfigurationParserTest extends ActiveMQTestBase {
       assertEquals('*', wildCard.getSingleWord());
    }
 
+   @Test
+   public void testParsingGroupingHandlerType() throws Exception {
+      assertEquals(GroupingHandlerConfiguration.TYPE.LOCAL, parseGroupingHandlerType("LOCAL"));
+      assertEquals(GroupingHandlerConfiguration.TYPE.REMOTE, parseGroupingHandlerType("REMOTE"));
+      assertEquals(GroupingHandlerConfiguration.TYPE.CONSISTENT_HASH, parseGroupingHandlerType("CONSISTENT_HASH"));
+      // anything else has always been taken as REMOTE
+      assertEquals(GroupingHandlerConfiguration.TYPE.REMOTE, parseGroupingHandlerType("local"));
+      assertEquals(GroupingHandlerConfiguration.TYPE.REMOTE, parseGroupingHandlerType("unknown"));
+   }
+
+   private static GroupingHandlerConfiguration.TYPE parseGroupingHandlerType(String type) throws Exception {
+      FileConfigurationParser parser = new FileConfigurationParser();
+
+      String configStr = firstPart + "<grouping-handler name=\"my-grouping-handler\"><type>" + type + "</type><address>jms</address></grouping-handler>" + lastPart;
+      ByteArrayInputStream input = new ByteArrayInputStream(configStr.getBytes(StandardCharsets.UTF_8));
+
+      return parser.parseMainConfig(input).getGroupingHandlerConfiguration().getType();
+   }
+
    @Test
    public void testParsingHaSharedStoreWaitForActivation() throws Exception {
       FileConfigurationParser parser = new FileConfigurationParser();
@@ -396,6 +416,31 @@ public class FileConfigurationParserTest extends ActiveMQTestBase {
       Assert.assertEquals(-1, settings.getMaxReadPageMessages());
    }
 
+   @Test
+   public void testParseGroupRingVirtualNodes() throws Exception {
+      String configStr = "<configuration><address-settings>" + "\n" + "<address-setting match=\"foo\">" + "\n" + "<group-ring-virtual-nodes>160</group-ring-virtual-nodes>\n" + "</address-setting>" + "\n" + "</address-settings></configuration>" + "\n";
+
+      FileConfigurationParser parser = new FileConfigurationParser();
+      ByteArrayInputStream input = new ByteArrayInputStream(configStr.getBytes(StandardCharsets.UTF_8));
+
+      Configuration configuration = parser.parseMainConfig(input);
+      AddressSettings settings = configuration.getAddressSettings().get("foo");
+      Assert.assertEquals(160, settings.getGroupRingVirtualNodes());
+   }
+
+   @Test
+   public void testParseLatencySampleInterval() throws Exception {
+      String configStr = "<configuration><address-settings>" + "\n" + "<address-setting match=\"foo\">" + "\n" + "<latency-sample-interval>100</latency-sample-interval>\n" + "</address-setting>" + "\n" + "</address-settings></configuration>" + "\n";
+
+      FileConfigurationParser parser = new FileConfigurationParser();
+      ByteArrayInputStream input = new ByteArrayInputStream(configStr.getBytes(StandardCharsets.UTF_8));
+
+      Configuration configuration = parser.parseMainConfig(input);
+      AddressSettings settings = configuration.getAddressSettings().get("foo");
+      Assert.assertEquals(100, settings.getLatencySampleInterval());
+      Assert.assertEquals(0, new AddressSettings().getLatencySampleInterval());
+   }
+
    // you should not use K, M notations on address settings max-size-messages
    @Test
    public void testExpectedErrorOverMaxMessageNotation() throws Exception {
@@ -109,10 +109,13 @@ public class FileConfigurationTest extends ConfigurationImplTest {
       Assert.assertEquals(true, conf.isClustered());
       Assert.assertEquals(12345, conf.getScheduledThreadPoolMaxSize());
       Assert.assertEquals(54321, conf.getThreadPoolMaxSize());
+      Assert.assertEquals(true, conf.isThreadPoolVirtualThreads());
       Assert.assertEquals(false, conf.isSecurityEnabled());
       Assert.assertEquals(5423, conf.getSecurityInvalidationInterval());
       Assert.assertEquals(333, conf.getAuthenticationCacheSize());
       Assert.assertEquals(444, conf.getAuthorizationCacheSize());
+      Assert.assertEquals(7, conf.getAuthenticationThreadPoolMaxSize());
+      Assert.assertEquals(77, conf.getAuthenticationQueueMaxSize());
       Assert.assertEquals(true, conf.isWildcardRoutingEnabled());
       Assert.assertEquals(new SimpleString("Giraffe"), conf.getManagementAddress());
       Assert.assertEquals(new SimpleString("Whatever"), conf.getManagementNotificationAddress());
@@ -137,6 +140,7 @@ public class FileConfigurationTest extends ConfigurationImplTest {
       Assert.assertEquals(false, conf.isCreateBindingsDir());
       Assert.assertEquals(true, conf.isAmqpUseCoreSubscriptionNaming());
       Assert.assertEquals(false, conf.isSuppressSessionNotifications());
+      Assert.assertEquals(true, conf.isPooledMessageBuffers());
 
       Assert.assertEquals("max concurrent io", 17, conf.getPageMaxConcurrentIO());
       Assert.assertEquals(true, conf.isReadWholePage());
@@ -174,6 +178,7 @@ public class FileConfigurationTest extends ConfigurationImplTest {
       Assert.assertEquals("ping-six", conf.getNetworkCheckPing6Command());
 
       Assert.assertEquals("largemessagesdir", conf.getLargeMessagesDirectory());
+      Assert.assertEquals(2 * 1024 * 1024, conf.getLargeMessageWriteWindow());
       Assert.assertEquals(95, conf.getMemoryWarningThreshold());
 
       Assert.assertEquals(2, conf.getIncomingInterceptorClassNames().size());
@@ -335,6 +340,8 @@ public class FileConfigurationTest extends ConfigurationImplTest {
             Assert.assertEquals(444, bc.getProducerWindowSize());
             Assert.assertEquals(1073741824, bc.getConfirmationWindowSize());
             Assert.assertEquals(ComponentConfigurationRoutingType.STRIP, bc.getRoutingType());
+            Assert.assertEquals(100, bc.getAckBatchSize());
+            Assert.assertEquals(10485760, bc.getPendingWindowSize());
          } else if (bc.getName().equals("bridge2")) {
             Assert.assertEquals("bridge2", bc.getName());
             Assert.assertEquals("queue2", bc.getQueueName());
@@ -345,6 +352,8 @@ public class FileConfigurationTest extends ConfigurationImplTest {
             Assert.assertEquals("dg1", bc.getDiscoveryGroupName());
             Assert.assertEquals(568320, bc.getProducerWindowSize());
             Assert.assertEquals(ComponentConfigurationRoutingType.PASS, bc.getRoutingType());
+            Assert.assertEquals(ActiveMQDefaultConfiguration.getDefaultBridgeAckBatchSize(), bc.getAckBatchSize());
+            Assert.assertEquals(ActiveMQDefaultConfiguration.getDefaultBridgePendingWindowSize(), bc.getPendingWindowSize());
          } else if (bc.getName().equals("bridge3")) {
             Assert.assertEquals("bridge3", bc.getName());
             Assert.assertEquals("org.foo.BridgeTransformer3", bc.getTransformerConfiguration().getClassName());
@@ -388,6 +397,7 @@ public class FileConfigurationTest extends ConfigurationImplTest {
             Assert.assertEquals("connector2", ccc.getStaticConnectors().get(1));
             Assert.assertEquals(null, ccc.getDiscoveryGroupName());
             Assert.assertEquals(222, ccc.getProducerWindowSize());
+            Assert.assertEquals(ActiveMQDefaultConfiguration.getDefaultClusterLoadReportPeriod(), ccc.getLoadReportPeriod());
          } else {
             Assert.assertEquals("cluster-connection2", ccc.getName());
             Assert.assertEquals("queues2", ccc.getAddress());
@@ -400,6 +410,7 @@ public class FileConfigurationTest extends ConfigurationImplTest {
             Assert.assertEquals(Collections.emptyList(), ccc.getStaticConnectors());
             Assert.assertEquals("dg1", ccc.getDiscoveryGroupName());
             Assert.assertEquals(333, ccc.getProducerWindowSize());
+            Assert.assertEquals(2000, ccc.getLoadReportPeriod());
          }
       }
 
@@ -534,6 +545,8 @@ public class FileConfigurationTest extends ConfigurationImplTest {
       assertEquals(777, conf.getCriticalAnalyzerTimeout());
       assertEquals(false, conf.isCriticalAnalyzer());
       assertEquals(CriticalAnalyzerPolicy.HALT, conf.getCriticalAnalyzerPolicy());
+      assertEquals(true, conf.isCriticalAnalyzerProfiler());
+      assertEquals(555, conf.getCriticalAnalyzerSlowThreshold());
 
       assertEquals(false, conf.isJournalDatasync());
 
@@ -555,6 +568,7 @@ public class FileConfigurationTest extends ConfigurationImplTest {
       assertTrue(metricsConfiguration.isJvmGc());
       assertTrue(metricsConfiguration.isJvmThread());
       assertTrue(metricsConfiguration.isNettyPool());
+      assertTrue(metricsConfiguration.isNettyCompression());
    }
 
    private void verifyAddresses() {
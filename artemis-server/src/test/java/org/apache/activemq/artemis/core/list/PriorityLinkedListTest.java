@@ -959,6 +959,59 @@ public final class PriorityLinkedListTest extends Assert {
 
    }
 
+   @Test
+   public void testRemoveIntrusive() {
+      PriorityLinkedListImpl<IntrusiveWibble> intrusiveList = new PriorityLinkedListImpl<>(10);
+      IntrusiveWibble first = new IntrusiveWibble("first");
+      IntrusiveWibble second = new IntrusiveWibble("second");
+      IntrusiveWibble third = new IntrusiveWibble("third");
+      IntrusiveWibble high = new IntrusiveWibble("high");
+      intrusiveList.addTail(first, 4);
+      intrusiveList.addTail(second, 4);
+      intrusiveList.addTail(third, 4);
+      intrusiveList.addTail(high, 9);
+
+      try (LinkedListIterator<IntrusiveWibble> iter = intrusiveList.iterator()) {
+         assertTrue(iter.hasNext());
+         assertEquals(high, iter.next());
+         assertTrue(iter.hasNext());
+         assertEquals(first, iter.next());
+
+         assertTrue(intrusiveList.removeIntrusive(second));
+         assertFalse(intrusiveList.removeIntrusive(second));
+         assertTrue(intrusiveList.removeIntrusive(high));
+         assertEquals(2, intrusiveList.size());
+
+         // the iterator must skip the removed node
+         assertTrue(iter.hasNext());
+         assertEquals(third, iter.next());
+         assertFalse(iter.hasNext());
+      }
+
+      // not linked to this list
+      PriorityLinkedListImpl<IntrusiveWibble> other = new PriorityLinkedListImpl<>(10);
+      assertFalse(other.removeIntrusive(first));
+      assertFalse(intrusiveList.removeIntrusive(new IntrusiveWibble("unknown")));
+
+      assertEquals(first, intrusiveList.poll());
+      assertEquals(third, intrusiveList.poll());
+      assertNull(intrusiveList.poll());
+   }
+
+   static final class IntrusiveWibble extends LinkedListImpl.Node<IntrusiveWibble> {
+
+      final String s1;
+
+      IntrusiveWibble(final String s) {
+         this.s1 = s;
+      }
+
+      @Override
+      public String toString() {
+         return s1;
+      }
+   }
+
    static class Wibble {
 
       String s1;
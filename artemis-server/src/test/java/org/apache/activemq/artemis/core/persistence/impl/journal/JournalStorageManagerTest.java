@@ -16,6 +16,7 @@
 package org.apache.activemq.artemis.core.persistence.impl.journal;
 
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.UUID;
@@ -29,6 +30,7 @@ import java.util.stream.Stream;
 
 import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
 import org.apache.activemq.artemis.api.core.ActiveMQBuffers;
+import org.apache.activemq.artemis.api.core.Message;
 import org.apache.activemq.artemis.api.core.SimpleString;
 import org.apache.activemq.artemis.core.config.Configuration;
 import org.apache.activemq.artemis.core.io.SequentialFile;
@@ -212,4 +214,44 @@ public class JournalStorageManagerTest extends ActiveMQTestBase {
       }
    }
 
+   @Test
+   public void testCopyLargeMessageSharesTheBody() throws Exception {
+      if (journalType == JournalType.ASYNCIO) {
+         assumeTrue("AIO is not supported on this platform", AIOSequentialFileFactory.isSupported());
+      }
+      final Configuration configuration = createDefaultInVMConfig().setJournalType(journalType);
+      final ExecutorFactory executorFactory = new OrderedExecutorFactory(executor);
+      final ExecutorFactory ioExecutorFactory = new OrderedExecutorFactory(ioExecutor);
+      final JournalStorageManager manager = new JournalStorageManager(configuration, null, executorFactory, null, ioExecutorFactory);
+      manager.start();
+      try {
+         manager.loadBindingJournal(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+         manager.loadMessageJournal(mock(PostOffice.class), null, null, null, null, null, null, mock(JournalLoader.class));
+         final LargeServerMessage original = manager.createLargeMessage(manager.generateID(), new CoreMessage());
+         final byte[] body = new byte[10 * 1024];
+         for (int i = 0; i < body.length; i++) {
+            body[i] = getSamplebyte(i);
+         }
+         original.addBytes(body);
+         original.releaseResources(true, true);
+
+         final Message copy = original.toMessage().copy(manager.generateID());
+         final LargeServerMessage largeCopy = (LargeServerMessage) copy;
+         Assert.assertEquals(body.length, largeCopy.getLargeBody().getBodySize());
+
+         final SequentialFile originalFile = original.getAppendFile();
+         final SequentialFile copyFile = largeCopy.getAppendFile();
+         assumeTrue("hard links are not supported on this file system", Files.isSameFile(originalFile.getJavaFile().toPath(), copyFile.getJavaFile().toPath()));
+
+         originalFile.close();
+         originalFile.delete();
+
+         Assert.assertArrayEquals(body, Files.readAllBytes(copyFile.getJavaFile().toPath()));
+         copyFile.close();
+         copyFile.delete();
+      } finally {
+         manager.stop();
+      }
+   }
+
 }
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.postoffice;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class QueueLoadTest {
+
+   @Test
+   public void testSampleRate() {
+      final QueueLoad load = new QueueLoad();
+      Assert.assertTrue(load.sample(10, 2, 0, 1000));
+      // the rate needs two samples
+      Assert.assertFalse(load.isKnown());
+
+      Assert.assertTrue(load.sample(10, 2, 100, 2000));
+      Assert.assertTrue(load.isKnown());
+      Assert.assertEquals(100, load.getConsumerRate(), 0.001);
+      Assert.assertEquals(10, load.getMessageCount());
+      Assert.assertEquals(2, load.getDeliveringCount());
+
+      Assert.assertFalse(load.sample(10, 2, 200, 3000));
+   }
+
+   @Test
+   public void testRateIsSmoothed() {
+      final QueueLoad load = new QueueLoad();
+      load.sample(0, 0, 0, 1000);
+      load.sample(0, 0, 100, 2000);
+      load.sample(0, 0, 100, 3000);
+      Assert.assertTrue(load.getConsumerRate() > 50);
+      Assert.assertTrue(load.getConsumerRate() < 100);
+   }
+
+   @Test
+   public void testReportedRateIsNotSmoothedAgain() {
+      final QueueLoad load = new QueueLoad();
+      load.set(0, 0, 100);
+      load.set(5, 1, 0);
+      Assert.assertEquals(0, load.getConsumerRate(), 0);
+      Assert.assertEquals(5, load.getMessageCount());
+      Assert.assertEquals(1, load.getDeliveringCount());
+   }
+
+   @Test
+   public void testWeight() {
+      final QueueLoad fast = new QueueLoad();
+      fast.set(0, 0, 100);
+      final QueueLoad slow = new QueueLoad();
+      slow.set(0, 0, 10);
+      Assert.assertEquals(10, fast.getWeight() / slow.getWeight(), 0.001);
+
+      // a backlog taking longer to drain lowers the weight, messages being delivered don't
+      final QueueLoad backlog = new QueueLoad();
+      backlog.set(1000, 0, 100);
+      final QueueLoad delivering = new QueueLoad();
+      delivering.set(1000, 1000, 100);
+      Assert.assertTrue(backlog.getWeight() < slow.getWeight());
+      Assert.assertEquals(fast.getWeight(), delivering.getWeight(), 0.001);
+   }
+}
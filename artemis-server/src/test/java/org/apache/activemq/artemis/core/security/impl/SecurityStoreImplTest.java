@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.security.impl;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.activemq.artemis.api.core.ActiveMQSessionCreationException;
+import org.apache.activemq.artemis.core.security.CheckType;
+import org.apache.activemq.artemis.core.security.Role;
+import org.apache.activemq.artemis.core.settings.impl.HierarchicalObjectRepository;
+import org.apache.activemq.artemis.spi.core.security.ActiveMQSecurityManager;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SecurityStoreImplTest {
+
+   @Test(timeout = 10_000)
+   public void testAuthenticateAsyncRejectsWhenQueueIsFull() throws Exception {
+      final CountDownLatch authenticating = new CountDownLatch(1);
+      final CountDownLatch release = new CountDownLatch(1);
+      final ActiveMQSecurityManager securityManager = new ActiveMQSecurityManager() {
+         @Override
+         public boolean validateUser(String user, String password) {
+            authenticating.countDown();
+            try {
+               release.await();
+            } catch (InterruptedException e) {
+               Thread.currentThread().interrupt();
+            }
+            return true;
+         }
+
+         @Override
+         public boolean validateUserAndRole(String user, String password, Set<Role> roles, CheckType checkType) {
+            return true;
+         }
+      };
+      final SecurityStoreImpl securityStore = new SecurityStoreImpl(new HierarchicalObjectRepository<>(), securityManager, 10000, true, "cluster", "cluster", null, 0, 0, 1, 1);
+      try {
+         // the first one runs on the authentication thread, the second one waits for it
+         final CompletableFuture<String> running = securityStore.authenticateAsync("a", "a", null, null);
+         Assert.assertTrue(authenticating.await(5, TimeUnit.SECONDS));
+         final CompletableFuture<String> queued = securityStore.authenticateAsync("b", "b", null, null);
+         Assert.assertEquals(2, securityStore.getPendingAuthenticationCount());
+
+         final CompletableFuture<String> rejected = securityStore.authenticateAsync("c", "c", null, null);
+         try {
+            rejected.get();
+            Assert.fail("the authentication should have been rejected");
+         } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof ActiveMQSessionCreationException);
+         }
+         Assert.assertEquals(1, securityStore.getRejectedAuthenticationCount());
+
+         release.countDown();
+         running.get(5, TimeUnit.SECONDS);
+         queued.get(5, TimeUnit.SECONDS);
+         Assert.assertTrue(securityStore.getAverageAuthenticationTimeMillis() >= 0);
+      } finally {
+         release.countDown();
+         securityStore.stop();
+      }
+   }
+
+   @Test
+   public void testAuthenticateAsyncOnCallerThreadByDefault() throws Exception {
+      final Thread caller = Thread.currentThread();
+      final ActiveMQSecurityManager securityManager = new ActiveMQSecurityManager() {
+         @Override
+         public boolean validateUser(String user, String password) {
+            Assert.assertSame(caller, Thread.currentThread());
+            return true;
+         }
+
+         @Override
+         public boolean validateUserAndRole(String user, String password, Set<Role> roles, CheckType checkType) {
+            return true;
+         }
+      };
+      final SecurityStoreImpl securityStore = new SecurityStoreImpl(new HierarchicalObjectRepository<>(), securityManager, 10000, true, "cluster", "cluster", null, 0, 0);
+      try {
+         Assert.assertFalse(securityStore.isAuthenticationThreadPoolEnabled());
+         Assert.assertTrue(securityStore.authenticateAsync("a", "a", null, null).isDone());
+      } finally {
+         securityStore.stop();
+      }
+   }
+}
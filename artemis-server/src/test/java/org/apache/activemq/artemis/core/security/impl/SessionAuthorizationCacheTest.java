@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.security.impl;
+
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.core.security.CheckType;
+import org.apache.activemq.artemis.core.security.SecurityStore;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SessionAuthorizationCacheTest {
+
+   private static final SimpleString ADDRESS = SimpleString.toSimpleString("address");
+
+   @Test
+   public void testGrantedPerCheckType() {
+      final SecurityStore securityStore = mock(SecurityStore.class);
+      when(securityStore.getAuthorizationCacheVersion()).thenReturn(1L);
+      final SessionAuthorizationCache cache = new SessionAuthorizationCache(securityStore);
+
+      Assert.assertFalse(cache.isGranted(ADDRESS, CheckType.SEND));
+      cache.granted(ADDRESS, CheckType.SEND);
+      Assert.assertTrue(cache.isGranted(ADDRESS, CheckType.SEND));
+      Assert.assertFalse(cache.isGranted(ADDRESS, CheckType.CONSUME));
+      Assert.assertFalse(cache.isGranted(SimpleString.toSimpleString("other"), CheckType.SEND));
+   }
+
+   @Test
+   public void testDroppedOnVersionChange() {
+      final SecurityStore securityStore = mock(SecurityStore.class);
+      when(securityStore.getAuthorizationCacheVersion()).thenReturn(1L);
+      final SessionAuthorizationCache cache = new SessionAuthorizationCache(securityStore);
+      cache.granted(ADDRESS, CheckType.SEND);
+      Assert.assertTrue(cache.isGranted(ADDRESS, CheckType.SEND));
+
+      when(securityStore.getAuthorizationCacheVersion()).thenReturn(2L);
+      Assert.assertFalse(cache.isGranted(ADDRESS, CheckType.SEND));
+      Assert.assertFalse(cache.isGranted(ADDRESS, CheckType.SEND));
+   }
+
+   @Test
+   public void testNothingCachedWhenDisabled() {
+      final SecurityStore securityStore = mock(SecurityStore.class);
+      when(securityStore.getAuthorizationCacheVersion()).thenReturn(-1L);
+      final SessionAuthorizationCache cache = new SessionAuthorizationCache(securityStore);
+      cache.granted(ADDRESS, CheckType.SEND);
+      Assert.assertFalse(cache.isGranted(ADDRESS, CheckType.SEND));
+   }
+}
@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.server.cluster.impl;
+
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.apache.activemq.artemis.api.core.ActiveMQException;
+import org.apache.activemq.artemis.api.core.ActiveMQExceptionType;
+import org.apache.activemq.artemis.api.core.Message;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.api.core.client.ClientProducer;
+import org.apache.activemq.artemis.core.client.impl.ClientSessionInternal;
+import org.apache.activemq.artemis.core.client.impl.ServerLocatorInternal;
+import org.apache.activemq.artemis.core.config.BridgeConfiguration;
+import org.apache.activemq.artemis.core.message.impl.CoreMessage;
+import org.apache.activemq.artemis.core.persistence.impl.nullpm.NullStorageManager;
+import org.apache.activemq.artemis.core.server.ActiveMQServer;
+import org.apache.activemq.artemis.core.server.HandleStatus;
+import org.apache.activemq.artemis.core.server.MessageReference;
+import org.apache.activemq.artemis.core.server.ServiceRegistry;
+import org.apache.activemq.artemis.core.server.impl.QueueImpl;
+import org.apache.activemq.artemis.core.transaction.Transaction;
+import org.apache.activemq.artemis.utils.UUIDGenerator;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+public class BridgeImplTest {
+
+   private QueueImpl queue;
+
+   private ClientProducer producer;
+
+   private ActiveMQServer server;
+
+   @Before
+   public void setUp() {
+      queue = Mockito.mock(QueueImpl.class);
+      producer = Mockito.mock(ClientProducer.class);
+      server = Mockito.mock(ActiveMQServer.class);
+      Mockito.when(server.getStorageManager()).thenReturn(new NullStorageManager());
+      Mockito.when(server.getServiceRegistry()).thenReturn(Mockito.mock(ServiceRegistry.class));
+   }
+
+   @Test
+   public void testFullBatchAcknowledgedInOneTransaction() throws Exception {
+      final BridgeImpl bridge = createBridge(3, -1);
+      final MessageReference[] refs = handle(bridge, 4);
+
+      for (int i = 0; i < 2; i++) {
+         bridge.sendAcknowledged(refs[i].getMessage());
+      }
+      Mockito.verify(queue, Mockito.never()).acknowledge(Mockito.any(Transaction.class), Mockito.any(MessageReference.class));
+
+      bridge.sendAcknowledged(refs[2].getMessage());
+
+      final ArgumentCaptor<Transaction> tx = ArgumentCaptor.forClass(Transaction.class);
+      for (int i = 0; i < 3; i++) {
+         Mockito.verify(queue).acknowledge(tx.capture(), Mockito.eq(refs[i]));
+      }
+      Assert.assertSame(tx.getAllValues().get(0), tx.getAllValues().get(1));
+      Assert.assertSame(tx.getAllValues().get(0), tx.getAllValues().get(2));
+      Mockito.verify(queue, Mockito.never()).acknowledge(refs[3]);
+
+      Assert.assertEquals(1, bridge.getMetrics().getAcknowledgementBatches());
+      Assert.assertEquals(3, bridge.getMetrics().getMessagesAcknowledged());
+      Assert.assertEquals(1, BridgeTestAccessor.getRefs(bridge).size());
+      Assert.assertEquals(refs[3].getMessage().getEncodeSize(), bridge.getMetrics().getBytesPendingAcknowledgement());
+   }
+
+   @Test
+   public void testPartialBatchAcknowledgedWhenRefsDrain() throws Exception {
+      final BridgeImpl bridge = createBridge(10, -1);
+      final MessageReference[] refs = handle(bridge, 2);
+
+      bridge.sendAcknowledged(refs[0].getMessage());
+      Mockito.verify(queue, Mockito.never()).acknowledge(Mockito.any(Transaction.class), Mockito.any(MessageReference.class));
+      Assert.assertEquals(0, bridge.getMetrics().getAcknowledgementBatches());
+
+      // nothing else is expected from the target, the batch doesn't wait to be full
+      bridge.sendAcknowledged(refs[1].getMessage());
+      Mockito.verify(queue).acknowledge(Mockito.any(Transaction.class), Mockito.eq(refs[0]));
+      Mockito.verify(queue).acknowledge(Mockito.any(Transaction.class), Mockito.eq(refs[1]));
+
+      Assert.assertEquals(1, bridge.getMetrics().getAcknowledgementBatches());
+      Assert.assertEquals(0, bridge.getMetrics().getBytesPendingAcknowledgement());
+   }
+
+   @Test
+   public void testConfirmedRefsAcknowledgedOnCancel() throws Exception {
+      final BridgeImpl bridge = createBridge(10, -1);
+      final MessageReference[] refs = handle(bridge, 3);
+
+      bridge.sendAcknowledged(refs[0].getMessage());
+      Mockito.verify(queue, Mockito.never()).acknowledge(refs[0]);
+
+      bridge.fail(false, false);
+
+      // the confirmed reference reached the target, only the others are cancelled
+      Mockito.verify(queue).acknowledge(refs[0]);
+      Mockito.verify(queue, Mockito.never()).cancel(Mockito.eq(refs[0]), Mockito.anyLong());
+      Mockito.verify(queue).cancel(Mockito.eq(refs[1]), Mockito.anyLong());
+      Mockito.verify(queue).cancel(Mockito.eq(refs[2]), Mockito.anyLong());
+
+      Assert.assertEquals(1, bridge.getMetrics().getMessagesAcknowledged());
+      Assert.assertEquals(0, bridge.getMetrics().getBytesPendingAcknowledgement());
+      Assert.assertTrue(BridgeTestAccessor.getRefs(bridge).isEmpty());
+   }
+
+   @Test
+   public void testPendingWindow() throws Exception {
+      final int messageSize = createReference(0).getMessage().getEncodeSize();
+      final BridgeImpl bridge = createBridge(1, 2 * messageSize);
+      final MessageReference[] refs = handle(bridge, 2);
+
+      final MessageReference third = createReference(2);
+      Assert.assertEquals(HandleStatus.BUSY, bridge.handle(third));
+      Mockito.verify(queue, Mockito.never()).deliverAsync();
+
+      // the confirmation brings the pending bytes back under the window
+      bridge.sendAcknowledged(refs[0].getMessage());
+      Mockito.verify(queue).deliverAsync();
+      Assert.assertEquals(messageSize, bridge.getMetrics().getBytesPendingAcknowledgement());
+
+      Assert.assertEquals(HandleStatus.HANDLED, bridge.handle(third));
+      Assert.assertEquals(2 * messageSize, bridge.getMetrics().getBytesPendingAcknowledgement());
+
+      // the window is full again, only the first of the next confirmations reopens it
+      bridge.sendAcknowledged(refs[1].getMessage());
+      Mockito.verify(queue, Mockito.times(2)).deliverAsync();
+      bridge.sendAcknowledged(third.getMessage());
+      Mockito.verify(queue, Mockito.times(2)).deliverAsync();
+      Assert.assertEquals(0, bridge.getMetrics().getBytesPendingAcknowledgement());
+   }
+
+   @Test
+   public void testSendFailureRollsBackPendingBytes() throws Exception {
+      final BridgeImpl bridge = createBridge(10, -1);
+      final MessageReference[] refs = handle(bridge, 1);
+
+      final MessageReference failed = createReference(1);
+      Mockito.doThrow(new ActiveMQException(ActiveMQExceptionType.NOT_CONNECTED)).when(producer).send(Mockito.any(SimpleString.class), Mockito.any(Message.class));
+      Assert.assertEquals(HandleStatus.BUSY, bridge.handle(failed));
+
+      Mockito.verify(queue).decDelivering(failed);
+      Mockito.verify(queue, Mockito.never()).cancel(Mockito.eq(failed), Mockito.anyLong());
+      Mockito.verify(queue).cancel(Mockito.eq(refs[0]), Mockito.anyLong());
+      Assert.assertEquals(0, bridge.getMetrics().getBytesPendingAcknowledgement());
+
+      // once connected again the forwarded references are tracked from a clean state
+      Mockito.reset(producer);
+      bridge.active = true;
+      final MessageReference resent = createReference(1);
+      Assert.assertEquals(HandleStatus.HANDLED, bridge.handle(resent));
+      Assert.assertEquals(resent.getMessage().getEncodeSize(), bridge.getMetrics().getBytesPendingAcknowledgement());
+
+      bridge.sendAcknowledged(resent.getMessage());
+      Mockito.verify(queue).acknowledge(resent);
+      Assert.assertEquals(0, bridge.getMetrics().getBytesPendingAcknowledgement());
+      Assert.assertTrue(BridgeTestAccessor.getRefs(bridge).isEmpty());
+   }
+
+   private BridgeImpl createBridge(final int ackBatchSize, final int pendingWindowSize) throws Exception {
+      final BridgeConfiguration configuration = new BridgeConfiguration()
+         .setName("bridge")
+         .setQueueName("queue")
+         .setForwardingAddress("target")
+         .setAckBatchSize(ackBatchSize)
+         .setPendingWindowSize(pendingWindowSize);
+
+      final BridgeImpl bridge = new BridgeImpl(Mockito.mock(ServerLocatorInternal.class), configuration, UUIDGenerator.getInstance().generateUUID(), queue, Runnable::run, Mockito.mock(ScheduledExecutorService.class), server);
+
+      final ClientSessionInternal session = Mockito.mock(ClientSessionInternal.class);
+      Mockito.when(session.isWritable(bridge)).thenReturn(true);
+      bridge.session = session;
+      bridge.producer = producer;
+      bridge.active = true;
+      return bridge;
+   }
+
+   private MessageReference[] handle(final BridgeImpl bridge, final int count) throws Exception {
+      final MessageReference[] refs = new MessageReference[count];
+      for (int i = 0; i < count; i++) {
+         refs[i] = createReference(i);
+         Assert.assertEquals(HandleStatus.HANDLED, bridge.handle(refs[i]));
+      }
+      return refs;
+   }
+
+   private MessageReference createReference(final long id) {
+      final CoreMessage message = new CoreMessage(id, 100);
+      message.setAddress("queue");
+      final MessageReference ref = Mockito.mock(MessageReference.class);
+      Mockito.when(ref.getMessage()).thenReturn(message);
+      Mockito.when(ref.getQueue()).thenReturn(queue);
+      return ref;
+   }
+}
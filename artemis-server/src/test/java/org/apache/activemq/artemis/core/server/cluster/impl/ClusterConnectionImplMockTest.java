@@ -76,7 +76,8 @@ public class ClusterConnectionImplMockTest extends ActiveMQTestBase {
                 null, //final String clusterPassword,
                 true, //final boolean allowDirectConnectionsOnly,
                 0, //final long clusterNotificationInterval,
-                0 //final int clusterNotificationAttempts)
+                0, //final int clusterNotificationAttempts,
+                0L //final long loadReportPeriod)
       );
 
       Assert.assertEquals(1, cci.allowableConnections.size());
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.server.group.impl;
+
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.api.core.management.CoreNotificationType;
+import org.apache.activemq.artemis.api.core.management.ManagementHelper;
+import org.apache.activemq.artemis.core.postoffice.Binding;
+import org.apache.activemq.artemis.core.server.management.Notification;
+import org.apache.activemq.artemis.utils.collections.TypedProperties;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ConsistentHashGroupingHandlerTest {
+
+   private static final int GROUPS = 1000;
+
+   private static Binding binding(String clusterName) {
+      final Binding binding = mock(Binding.class);
+      when(binding.getClusterName()).thenReturn(SimpleString.toSimpleString(clusterName));
+      return binding;
+   }
+
+   private static SimpleString group(int i) {
+      return SimpleString.toSimpleString("group" + i + ".queue");
+   }
+
+   @Test
+   public void testOwnerDoesNotDependOnBindingsOrder() {
+      final Binding a = binding("queueA");
+      final Binding b = binding("queueB");
+      final Binding c = binding("queueC");
+      final int[] owned = new int[3];
+      for (int i = 0; i < GROUPS; i++) {
+         final SimpleString owner = ConsistentHashGroupingHandler.chooseOwner(group(i), new Binding[]{a, b, c});
+         Assert.assertEquals(owner, ConsistentHashGroupingHandler.chooseOwner(group(i), new Binding[]{c, a, b}));
+         owned[owner.equals(a.getClusterName()) ? 0 : owner.equals(b.getClusterName()) ? 1 : 2]++;
+      }
+      for (int groups : owned) {
+         Assert.assertTrue("unbalanced groups: " + groups, groups > GROUPS / 5);
+      }
+   }
+
+   @Test
+   public void testOnlyGroupsOfNewBindingMove() {
+      final Binding a = binding("queueA");
+      final Binding b = binding("queueB");
+      final Binding c = binding("queueC");
+      int moved = 0;
+      for (int i = 0; i < GROUPS; i++) {
+         final SimpleString before = ConsistentHashGroupingHandler.chooseOwner(group(i), new Binding[]{a, b});
+         final SimpleString after = ConsistentHashGroupingHandler.chooseOwner(group(i), new Binding[]{a, b, c});
+         if (!before.equals(after)) {
+            Assert.assertEquals(c.getClusterName(), after);
+            moved++;
+         }
+      }
+      Assert.assertTrue("moved groups: " + moved, moved > 0 && moved < GROUPS / 2);
+   }
+
+   @Test
+   public void testOutweighs() {
+      final Binding a = binding("queueA");
+      final Binding b = binding("queueB");
+      for (int i = 0; i < GROUPS; i++) {
+         final SimpleString owner = ConsistentHashGroupingHandler.chooseOwner(group(i), new Binding[]{a, b});
+         final SimpleString other = owner.equals(a.getClusterName()) ? b.getClusterName() : a.getClusterName();
+         Assert.assertTrue(ConsistentHashGroupingHandler.outweighs(group(i), owner, other));
+         Assert.assertFalse(ConsistentHashGroupingHandler.outweighs(group(i), other, owner));
+      }
+   }
+
+   @Test
+   public void testAddedBindingTakesItsGroups() throws Exception {
+      final ConsistentHashGroupingHandler handler = new ConsistentHashGroupingHandler(null, null, null, SimpleString.toSimpleString("handler"), SimpleString.toSimpleString("address"), -1, 0);
+      handler.start();
+      final Binding a = binding("queueA");
+      final Binding c = binding("queueC");
+      for (int i = 0; i < GROUPS; i++) {
+         handler.propose(new Proposal(group(i), a.getClusterName()), new Binding[]{a, binding("queueB")});
+      }
+      Assert.assertEquals(GROUPS, handler.getGroupCount());
+
+      // a binding of another routing name doesn't move any group
+      final TypedProperties otherProps = new TypedProperties();
+      otherProps.putSimpleStringProperty(ManagementHelper.HDR_CLUSTER_NAME, c.getClusterName());
+      otherProps.putSimpleStringProperty(ManagementHelper.HDR_ROUTING_NAME, SimpleString.toSimpleString("otherQueue"));
+      handler.onNotification(new Notification(null, CoreNotificationType.BINDING_ADDED, otherProps));
+      Assert.assertEquals(GROUPS, handler.getGroupCount());
+
+      final TypedProperties props = new TypedProperties();
+      props.putSimpleStringProperty(ManagementHelper.HDR_CLUSTER_NAME, c.getClusterName());
+      props.putSimpleStringProperty(ManagementHelper.HDR_ROUTING_NAME, SimpleString.toSimpleString("queue"));
+      handler.onNotification(new Notification(null, CoreNotificationType.BINDING_ADDED, props));
+
+      // the cache of every node agrees with the bindings again, i.e. with a node that has just joined
+      int moved = 0;
+      for (int i = 0; i < GROUPS; i++) {
+         final SimpleString owner = ConsistentHashGroupingHandler.chooseOwner(group(i), new Binding[]{a, binding("queueB"), c});
+         final Response response = handler.getProposal(group(i), false);
+         if (response == null) {
+            Assert.assertEquals(c.getClusterName(), owner);
+            moved++;
+         } else {
+            Assert.assertEquals(owner, response.getChosenClusterName());
+         }
+      }
+      Assert.assertEquals(GROUPS - moved, handler.getGroupCount());
+      Assert.assertTrue("moved groups: " + moved, moved > 0 && moved < GROUPS / 2);
+      handler.stop();
+   }
+
+   @Test
+   public void testProposeIsCachedUntilBindingRemoved() throws Exception {
+      final ConsistentHashGroupingHandler handler = new ConsistentHashGroupingHandler(null, null, null, SimpleString.toSimpleString("handler"), SimpleString.toSimpleString("address"), -1, 0);
+      handler.start();
+      final Binding a = binding("queueA");
+      final Binding b = binding("queueB");
+      final SimpleString groupId = group(0);
+      final SimpleString owner = ConsistentHashGroupingHandler.chooseOwner(groupId, new Binding[]{a, b});
+
+      final Response response = handler.propose(new Proposal(groupId, a.getClusterName()), new Binding[]{a, b});
+      Assert.assertEquals(owner, response.getChosenClusterName());
+      Assert.assertSame(response, handler.getProposal(groupId, true));
+      // the owner cached is used while the group is being used
+      Assert.assertSame(response, handler.propose(new Proposal(groupId, b.getClusterName()), new Binding[]{a, b}));
+
+      final TypedProperties props = new TypedProperties();
+      props.putSimpleStringProperty(ManagementHelper.HDR_CLUSTER_NAME, owner);
+      handler.onNotification(new Notification(null, CoreNotificationType.BINDING_REMOVED, props));
+      Assert.assertNull(handler.getProposal(groupId, true));
+      Assert.assertEquals(0, handler.getGroupCount());
+
+      final Binding remaining = owner.equals(a.getClusterName()) ? b : a;
+      Assert.assertEquals(remaining.getClusterName(), handler.propose(new Proposal(groupId, a.getClusterName()), new Binding[]{remaining}).getChosenClusterName());
+      handler.stop();
+   }
+}
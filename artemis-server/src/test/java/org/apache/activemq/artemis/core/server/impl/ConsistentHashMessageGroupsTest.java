@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.server.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ConsistentHashMessageGroupsTest {
+
+   private static final int GROUPS = 10_000;
+
+   @Test
+   public void testVirtualNodesGreaterThanZero() {
+      try {
+         new ConsistentHashMessageGroups<Long>(0, Long::longValue);
+         fail("IllegalArgumentException was expected as virtual nodes is NOT greater than 0");
+      } catch (IllegalArgumentException iae) {
+         //Pass we expect exception thrown if virtual nodes is not greater than 0;
+      }
+   }
+
+   @Test
+   public void testNoConsumer() {
+      MessageGroups<Long> messageGroups = new ConsistentHashMessageGroups<>(16, Long::longValue);
+      assertNull(messageGroups.get(SimpleString.toSimpleString("group")));
+      assertEquals(0, messageGroups.size());
+      assertTrue(messageGroups.toMap().isEmpty());
+   }
+
+   @Test
+   public void testGroupsStayOnTheirConsumer() {
+      ConsistentHashMessageGroups<Long> messageGroups = new ConsistentHashMessageGroups<>(160, Long::longValue);
+      for (long consumer = 0; consumer < 4; consumer++) {
+         messageGroups.addConsumer(consumer);
+      }
+      Map<SimpleString, Long> assigned = assign(messageGroups);
+
+      // neither the groups being closed nor rebalanced move them
+      messageGroups.remove(SimpleString.toSimpleString("group-1"));
+      messageGroups.removeAll();
+      assertEquals(assigned, assign(messageGroups));
+
+      Map<Long, Integer> perConsumer = new HashMap<>();
+      assigned.values().forEach(consumer -> perConsumer.merge(consumer, 1, Integer::sum));
+      assertEquals(4, perConsumer.size());
+      assertTrue(messageGroups.getSkew() >= 1);
+      assertTrue("skew " + messageGroups.getSkew(), messageGroups.getSkew() < 1.5);
+   }
+
+   @Test
+   public void testOnlyTheGroupsOfTheConsumerRemovedMove() {
+      ConsistentHashMessageGroups<Long> messageGroups = new ConsistentHashMessageGroups<>(160, Long::longValue);
+      for (long consumer = 0; consumer < 4; consumer++) {
+         messageGroups.addConsumer(consumer);
+      }
+      Map<SimpleString, Long> before = assign(messageGroups);
+
+      assertTrue(messageGroups.removeIf(consumer -> consumer == 2));
+      Map<SimpleString, Long> after = assign(messageGroups);
+
+      before.forEach((group, consumer) -> {
+         if (consumer != 2) {
+            assertEquals(consumer, after.get(group));
+         } else {
+            assertTrue(after.get(group) != 2);
+         }
+      });
+   }
+
+   @Test
+   public void testOnlyTheGroupsOfTheConsumerAddedMove() {
+      ConsistentHashMessageGroups<Long> messageGroups = new ConsistentHashMessageGroups<>(160, Long::longValue);
+      for (long consumer = 0; consumer < 4; consumer++) {
+         messageGroups.addConsumer(consumer);
+      }
+      Map<SimpleString, Long> before = assign(messageGroups);
+
+      messageGroups.addConsumer(4L);
+      Map<SimpleString, Long> after = assign(messageGroups);
+
+      int moved = 0;
+      for (Map.Entry<SimpleString, Long> entry : after.entrySet()) {
+         if (!entry.getValue().equals(before.get(entry.getKey()))) {
+            assertEquals(Long.valueOf(4), entry.getValue());
+            moved++;
+         }
+      }
+      // roughly a fifth of the groups should move to the new consumer
+      assertTrue("moved " + moved, moved > GROUPS / 10 && moved < GROUPS / 3);
+   }
+
+   @Test
+   public void testGroupsSkipTheConsumersNotMatching() {
+      ConsistentHashMessageGroups<Long> messageGroups = new ConsistentHashMessageGroups<>(160, Long::longValue);
+      for (long consumer = 0; consumer < 4; consumer++) {
+         messageGroups.addConsumer(consumer);
+      }
+      Map<SimpleString, Long> assigned = assign(messageGroups);
+
+      assigned.forEach((group, consumer) -> {
+         // the groups of consumer 2 go to another consumer, the ones of the others stay on them
+         Long matching = messageGroups.get(group, candidate -> candidate != 2);
+         if (consumer != 2) {
+            assertEquals(consumer, matching);
+         } else {
+            assertNotNull(matching);
+            assertTrue(matching != 2);
+         }
+         // consumer 2 now owns all the groups it matches
+         assertEquals(Long.valueOf(2), messageGroups.get(group, candidate -> candidate == 2));
+      });
+
+      assertNull(messageGroups.get(SimpleString.toSimpleString("group"), candidate -> false));
+   }
+
+   @Test
+   public void testDeliverToNewOwner() {
+      ConsistentHashMessageGroups<Long> messageGroups = new ConsistentHashMessageGroups<>(160, Long::longValue);
+      for (long consumer = 0; consumer < 4; consumer++) {
+         messageGroups.addConsumer(consumer);
+      }
+      Map<SimpleString, Long> before = assign(messageGroups);
+      before.forEach((group, consumer) -> assertTrue(messageGroups.deliver(group, consumer)));
+      before.forEach((group, consumer) -> assertFalse(messageGroups.deliver(group, consumer)));
+      assertEquals(GROUPS, messageGroups.size());
+      assertEquals(before, messageGroups.toMap());
+
+      // only the groups moving to the new consumer are first delivered again
+      messageGroups.addConsumer(4L);
+      assign(messageGroups).forEach((group, consumer) -> assertEquals(!consumer.equals(before.get(group)), messageGroups.deliver(group, consumer)));
+
+      // as well as the groups of a consumer removed, which are not recorded anymore
+      messageGroups.removeIf(consumer -> consumer == 4);
+      assertFalse(messageGroups.toMap().containsValue(4L));
+      assertEquals(before, assign(messageGroups));
+      before.forEach(messageGroups::deliver);
+
+      // and the groups closed or reset
+      SimpleString closed = SimpleString.toSimpleString("group-1");
+      assertEquals(before.get(closed), messageGroups.remove(closed));
+      assertTrue(messageGroups.deliver(closed, before.get(closed)));
+      messageGroups.removeAll();
+      assertEquals(0, messageGroups.size());
+      assertTrue(messageGroups.deliver(closed, before.get(closed)));
+   }
+
+   private static Map<SimpleString, Long> assign(MessageGroups<Long> messageGroups) {
+      Map<SimpleString, Long> assigned = new HashMap<>();
+      for (int i = 0; i < GROUPS; i++) {
+         SimpleString group = SimpleString.toSimpleString("group-" + i);
+         assigned.put(group, messageGroups.get(group));
+      }
+      return assigned;
+   }
+}
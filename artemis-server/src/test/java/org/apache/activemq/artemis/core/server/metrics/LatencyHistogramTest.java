@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.server.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+   @Test
+   public void testRecord() {
+      final LatencyHistogram latency = new LatencyHistogram();
+      Assert.assertEquals(0, latency.getSnapshot().getTotalCount());
+
+      for (int i = 1; i <= 100; i++) {
+         latency.record(TimeUnit.MILLISECONDS.toNanos(i));
+      }
+      Histogram snapshot = latency.getSnapshot();
+      Assert.assertEquals(100, snapshot.getTotalCount());
+      Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(50), snapshot.getValueAtPercentile(50), TimeUnit.MILLISECONDS.toNanos(1));
+      Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(100), snapshot.getMaxValue(), TimeUnit.MILLISECONDS.toNanos(1));
+
+      // the snapshots accumulate the latencies
+      latency.record(TimeUnit.MILLISECONDS.toNanos(1));
+      Assert.assertEquals(101, latency.getSnapshot().getTotalCount());
+      // and are copies
+      Assert.assertEquals(100, snapshot.getTotalCount());
+   }
+
+   @Test
+   public void testReset() {
+      final LatencyHistogram latency = new LatencyHistogram();
+      latency.record(1000);
+      latency.getSnapshot();
+      latency.record(2000);
+      latency.reset();
+      Assert.assertEquals(0, latency.getSnapshot().getTotalCount());
+
+      latency.record(3000);
+      Assert.assertEquals(1, latency.getSnapshot().getTotalCount());
+   }
+
+   @Test
+   public void testListener() {
+      final LatencyHistogram latency = new LatencyHistogram();
+      final List<Double> recorded = new ArrayList<>();
+      latency.setListener(recorded::add);
+      latency.record(TimeUnit.MILLISECONDS.toNanos(5));
+      // a latency going backwards is recorded as 0
+      latency.record(-1);
+      Assert.assertEquals(2, recorded.size());
+      Assert.assertEquals(5, recorded.get(0), 0.001);
+      Assert.assertEquals(0, recorded.get(1), 0.001);
+      Assert.assertEquals(2, latency.getSnapshot().getTotalCount());
+   }
+}
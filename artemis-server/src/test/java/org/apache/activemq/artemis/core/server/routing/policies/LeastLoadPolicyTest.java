@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.server.routing.policies;
+
+import org.apache.activemq.artemis.core.server.routing.targets.MockTarget;
+import org.apache.activemq.artemis.core.server.routing.targets.Target;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class LeastLoadPolicyTest extends PolicyTestBase {
+
+   @Override
+   protected AbstractPolicy createPolicy() {
+      AbstractPolicy policy = new LeastLoadPolicy();
+      // the latency measured on mock targets is just noise
+      policy.init(Collections.singletonMap(LeastLoadPolicy.LATENCY_WEIGHT, "0"));
+      return policy;
+   }
+
+   private static void setLoad(Target target, double processorLoad, int memoryUsage, long messageCount) {
+      ((MockTarget)target).setAttributeValue("broker", "ProcessorLoad", processorLoad);
+      ((MockTarget)target).setAttributeValue("broker", "AddressMemoryUsagePercentage", memoryUsage);
+      ((MockTarget)target).setAttributeValue("broker", "TotalMessageCount", messageCount);
+   }
+
+   private static Set<Target> selectTargets(AbstractPolicy policy, List<Target> targets) {
+      Set<Target> selectedTargets = new HashSet<>();
+      for (int i = 0; i < MULTIPLE_TARGETS; i++) {
+         selectedTargets.add(policy.selectTarget(targets, "test"));
+      }
+      return selectedTargets;
+   }
+
+   @Test
+   public void testPolicyWithMultipleTargets() {
+      AbstractPolicy policy = createPolicy();
+
+      ArrayList<Target> targets = new ArrayList<>();
+      for (int i = 0; i < MULTIPLE_TARGETS; i++) {
+         targets.add(new MockTarget().setConnected(true).setReady(true));
+      }
+
+      Assert.assertEquals(MULTIPLE_TARGETS, selectTargets(policy, targets).size());
+
+
+      targets.forEach(target -> {
+         setLoad(target, 0.5, 10, 100);
+         Assert.assertTrue(policy.getTargetProbe().check(target));
+      });
+
+      Assert.assertEquals(MULTIPLE_TARGETS, selectTargets(policy, targets).size());
+
+
+      // a target with a huge backlog isn't selected even with a lower processor load
+      setLoad(targets.get(0), 0.1, 10, 100000);
+      setLoad(targets.get(1), 0.4, 10, 100);
+      targets.forEach(target -> policy.getTargetProbe().check(target));
+
+      Set<Target> selectedTargets = selectTargets(policy, targets);
+      Assert.assertEquals(1, selectedTargets.size());
+      Assert.assertTrue(selectedTargets.contains(targets.get(1)));
+
+
+      // the targets never probed are selected last
+      targets.add(new MockTarget().setConnected(true).setReady(true));
+
+      selectedTargets = selectTargets(policy, targets);
+      Assert.assertEquals(1, selectedTargets.size());
+      Assert.assertTrue(selectedTargets.contains(targets.get(1)));
+   }
+
+   @Test
+   public void testPolicyWithTargetsNotExposingProcessorLoad() {
+      AbstractPolicy policy = createPolicy();
+
+      ArrayList<Target> targets = new ArrayList<>();
+      for (int i = 0; i < MULTIPLE_TARGETS; i++) {
+         MockTarget target = new MockTarget().setConnected(true).setReady(true);
+         target.setAttributeValue("broker", "AddressMemoryUsagePercentage", 10);
+         target.setAttributeValue("broker", "TotalMessageCount", 100L);
+         targets.add(target);
+      }
+      ((MockTarget)targets.get(2)).setAttributeValue("broker", "AddressMemoryUsagePercentage", 5);
+
+      targets.forEach(target -> Assert.assertTrue(policy.getTargetProbe().check(target)));
+
+      Set<Target> selectedTargets = selectTargets(policy, targets);
+      Assert.assertEquals(1, selectedTargets.size());
+      Assert.assertTrue(selectedTargets.contains(targets.get(2)));
+   }
+
+   @Test
+   public void testPolicyWithMixedTargets() {
+      AbstractPolicy policy = createPolicy();
+
+      ArrayList<Target> targets = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+         targets.add(new MockTarget().setConnected(true).setReady(true));
+      }
+      setLoad(targets.get(0), 0.1, 10, 100);
+      setLoad(targets.get(1), 0.9, 10, 100);
+      // the processor load of this target isn't known, which doesn't make it look idle
+      ((MockTarget)targets.get(2)).setAttributeValue("broker", "AddressMemoryUsagePercentage", 10);
+      ((MockTarget)targets.get(2)).setAttributeValue("broker", "TotalMessageCount", 100L);
+
+      targets.forEach(target -> Assert.assertTrue(policy.getTargetProbe().check(target)));
+
+      Set<Target> selectedTargets = selectTargets(policy, targets);
+      Assert.assertEquals(1, selectedTargets.size());
+      Assert.assertTrue(selectedTargets.contains(targets.get(0)));
+   }
+}
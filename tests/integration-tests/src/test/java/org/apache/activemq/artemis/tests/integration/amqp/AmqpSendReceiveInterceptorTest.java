@@ -34,6 +34,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Test basic send and receive scenarios using only AMQP sender and receiver links.
@@ -289,4 +290,41 @@ public class AmqpSendReceiveInterceptorTest extends AmqpClientTestSupport {
       receiver.close();
       connection.close();
    }
+   @Test(timeout = 60000)
+   public void testOutgoingInterceptorChangesOnlyItsOwnCopyOfConvertedMessage() throws Exception {
+      final AtomicInteger intercepted = new AtomicInteger();
+      server.getRemotingService().addOutgoingInterceptor(new AmqpInterceptor() {
+         @Override
+         public boolean intercept(AMQPMessage message, RemotingConnection connection) throws ActiveMQException {
+            if (intercepted.getAndIncrement() == 0) {
+               message.putStringProperty("intercepted", "true");
+            }
+            return true;
+         }
+      });
+
+      AmqpClient client = createAmqpClient();
+      AmqpConnection connection = addConnection(client.connect());
+      AmqpSession session = connection.createSession();
+
+      AmqpReceiver receiver1 = session.createReceiver(getTopicName());
+      AmqpReceiver receiver2 = session.createReceiver(getTopicName());
+
+      sendMessagesCore(getTopicName(), 1, false);
+
+      receiver1.flow(1);
+      AmqpMessage message1 = receiver1.receive(5, TimeUnit.SECONDS);
+      assertNotNull(message1);
+      receiver2.flow(1);
+      AmqpMessage message2 = receiver2.receive(5, TimeUnit.SECONDS);
+      assertNotNull(message2);
+
+      assertEquals(2, intercepted.get());
+      assertEquals("true", message1.getApplicationProperty("intercepted"));
+      assertNull(message2.getApplicationProperty("intercepted"));
+
+      receiver1.close();
+      receiver2.close();
+      connection.close();
+   }
 }
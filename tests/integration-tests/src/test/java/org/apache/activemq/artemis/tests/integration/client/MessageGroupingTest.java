@@ -36,8 +36,10 @@ import org.apache.activemq.artemis.api.core.client.ServerLocator;
 import org.apache.activemq.artemis.core.config.Configuration;
 import org.apache.activemq.artemis.core.server.ActiveMQServer;
 import org.apache.activemq.artemis.core.server.ActiveMQServers;
+import org.apache.activemq.artemis.core.settings.impl.AddressSettings;
 import org.apache.activemq.artemis.core.transaction.impl.XidImpl;
 import org.apache.activemq.artemis.tests.util.ActiveMQTestBase;
+import org.apache.activemq.artemis.tests.util.Wait;
 import org.junit.Assert;
 import org.junit.Assume;
 import org.junit.Before;
@@ -142,6 +144,71 @@ public class MessageGroupingTest extends ActiveMQTestBase {
       }
    }
 
+   @Test
+   public void testGroupRingSkipsConsumerNotMatching() throws Exception {
+      SimpleString ringQueue = createGroupRingQueue(null);
+
+      ClientProducer clientProducer = clientSession.createProducer(ringQueue);
+      ClientConsumer redConsumer = clientSession.createConsumer(ringQueue, "color = 'red'");
+      ClientConsumer consumer = clientSession.createConsumer(ringQueue);
+      clientSession.start();
+
+      // the ring gives some of the groups to the red consumer, which can't take them
+      for (int group = 0; group < 20; group++) {
+         ClientMessage message = clientSession.createMessage(false);
+         message.putStringProperty(Message.HDR_GROUP_ID, "" + group);
+         message.putStringProperty("color", "blue");
+         clientProducer.send(message);
+      }
+
+      for (int i = 0; i < 20; i++) {
+         ClientMessage message = consumer.receive(5000);
+         Assert.assertNotNull(message);
+         message.acknowledge();
+      }
+      Assert.assertNull(redConsumer.receiveImmediate());
+      Wait.assertEquals(0, () -> getMessageCount(server.locateQueue(ringQueue)));
+   }
+
+   @Test
+   public void testGroupRingGroupFirstKey() throws Exception {
+      SimpleString groupFirstKey = SimpleString.toSimpleString("first");
+      SimpleString ringQueue = createGroupRingQueue(groupFirstKey);
+
+      ClientProducer clientProducer = clientSession.createProducer(ringQueue);
+      ClientConsumer consumer1 = clientSession.createConsumer(ringQueue);
+      ClientConsumer consumer2 = clientSession.createConsumer(ringQueue);
+      clientSession.start();
+
+      for (int group = 0; group < 10; group++) {
+         for (int messageId = 0; messageId < 3; messageId++) {
+            ClientMessage message = clientSession.createMessage(false);
+            message.putStringProperty(Message.HDR_GROUP_ID, "" + group);
+            message.putIntProperty("messageId", messageId);
+            clientProducer.send(message);
+         }
+      }
+
+      int received = 0;
+      for (ClientConsumer consumer : new ClientConsumer[]{consumer1, consumer2}) {
+         ClientMessage message;
+         while ((message = consumer.receive(500)) != null) {
+            message.acknowledge();
+            // only the first message of each group carries the key
+            Assert.assertEquals(message.getIntProperty("messageId") == 0, message.containsProperty(groupFirstKey));
+            received++;
+         }
+      }
+      Assert.assertEquals(30, received);
+   }
+
+   private SimpleString createGroupRingQueue(SimpleString groupFirstKey) throws Exception {
+      SimpleString ringQueue = SimpleString.toSimpleString("MessageGroupingTestRingQueue");
+      server.getAddressSettingsRepository().addMatch(ringQueue.toString(), new AddressSettings().setGroupRingVirtualNodes(160));
+      clientSession.createQueue(new QueueConfiguration(ringQueue).setDurable(false).setGroupFirstKey(groupFirstKey));
+      return ringQueue;
+   }
+
    private void doTestBasicGrouping() throws Exception {
       ClientProducer clientProducer = clientSession.createProducer(qName);
       ClientConsumer consumer = clientSession.createConsumer(qName);
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.tests.integration.client;
+
+import org.apache.activemq.artemis.api.core.QueueConfiguration;
+import org.apache.activemq.artemis.api.core.RoutingType;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.api.core.client.ClientConsumer;
+import org.apache.activemq.artemis.api.core.client.ClientMessage;
+import org.apache.activemq.artemis.api.core.client.ClientProducer;
+import org.apache.activemq.artemis.api.core.client.ClientSession;
+import org.apache.activemq.artemis.api.core.client.ClientSessionFactory;
+import org.apache.activemq.artemis.api.core.client.ServerLocator;
+import org.apache.activemq.artemis.core.server.ActiveMQServer;
+import org.apache.activemq.artemis.core.server.Queue;
+import org.apache.activemq.artemis.tests.util.ActiveMQTestBase;
+import org.apache.activemq.artemis.tests.util.Wait;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PooledMessageBuffersTest extends ActiveMQTestBase {
+
+   private static final SimpleString QUEUE = new SimpleString("PooledMessageBuffersTestQueue");
+
+   private static final int NUMBER_OF_MESSAGES = 1000;
+
+   private ActiveMQServer server;
+
+   private ClientSessionFactory sf;
+
+   @Override
+   @Before
+   public void setUp() throws Exception {
+      super.setUp();
+
+      server = createServer(false, createDefaultNettyConfig().setPooledMessageBuffers(true));
+      server.start();
+
+      ServerLocator locator = createNettyNonHALocator().setAckBatchSize(0);
+      sf = createSessionFactory(locator);
+   }
+
+   @Test
+   public void testPreAckConsumer() throws Exception {
+      ClientSession session = addClientSession(sf.createSession(false, true, true, true));
+      session.createQueue(new QueueConfiguration(QUEUE).setRoutingType(RoutingType.ANYCAST).setDurable(false));
+
+      ClientConsumer consumer = session.createConsumer(QUEUE);
+      session.start();
+
+      // the messages are acknowledged before they are encoded to the consumer, which must not give their buffers back
+      sendMessages(session);
+
+      for (int i = 0; i < NUMBER_OF_MESSAGES; i++) {
+         ClientMessage message = consumer.receive(5000);
+         Assert.assertNotNull(message);
+         assertMessage(i, message);
+      }
+      Assert.assertNull(consumer.receiveImmediate());
+
+      Queue queue = server.locateQueue(QUEUE);
+      Wait.assertEquals(0L, queue::getMessageCount);
+      Wait.assertEquals((long) NUMBER_OF_MESSAGES, queue::getMessagesAcknowledged);
+   }
+
+   @Test
+   public void testBrowserWithPreAckConsumer() throws Exception {
+      ClientSession session = addClientSession(sf.createSession(false, true, true, true));
+      session.createQueue(new QueueConfiguration(QUEUE).setRoutingType(RoutingType.ANYCAST).setDurable(false));
+
+      sendMessages(session);
+
+      ClientConsumer browser = session.createConsumer(QUEUE, true);
+      ClientConsumer consumer = session.createConsumer(QUEUE);
+      session.start();
+
+      // the consumer acknowledges the messages while they are browsed
+      for (int i = 0; i < NUMBER_OF_MESSAGES; i++) {
+         ClientMessage message = consumer.receive(5000);
+         Assert.assertNotNull(message);
+         assertMessage(i, message);
+      }
+
+      ClientMessage message;
+      while ((message = browser.receiveImmediate()) != null) {
+         assertMessage(message.getIntProperty("i"), message);
+      }
+   }
+
+   private static void sendMessages(ClientSession session) throws Exception {
+      ClientProducer producer = session.createProducer(QUEUE);
+      for (int i = 0; i < NUMBER_OF_MESSAGES; i++) {
+         ClientMessage message = session.createMessage(false);
+         message.putIntProperty("i", i);
+         message.getBodyBuffer().writeString("message " + i);
+         producer.send(message);
+      }
+   }
+
+   private static void assertMessage(int i, ClientMessage message) {
+      Assert.assertEquals(i, (int) message.getIntProperty("i"));
+      Assert.assertEquals("message " + i, message.getBodyBuffer().readString());
+   }
+}
@@ -16,6 +16,9 @@
  */
 package org.apache.activemq.artemis.tests.integration.client;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -98,6 +101,34 @@ public class SessionSendAcknowledgementHandlerTest extends ActiveMQTestBase {
       verifySendAcknowledgementsProducerOnly(1024);
    }
 
+   @Test
+   public void testSendAsync() throws Exception {
+      ServerLocator locator = createInVMNonHALocator();
+
+      locator.setConfirmationWindowSize(1024).setBlockOnDurableSend(true);
+
+      ClientSessionFactory csf = createSessionFactory(locator);
+      ClientSession session = csf.createSession(null, null, false, true, true, false, 1);
+
+      session.createQueue(new QueueConfiguration(queueName).setAddress(address).setDurable(false));
+
+      ClientProducer prod = session.createProducer(address);
+
+      final int numMessages = 1000;
+
+      List<CompletableFuture<Message>> futures = new ArrayList<>(numMessages);
+      List<ClientMessage> batch = new ArrayList<>(numMessages);
+      for (int i = 0; i < numMessages; i++) {
+         futures.add(prod.sendAsync(session.createMessage(true)));
+         batch.add(session.createMessage(true));
+      }
+      CompletableFuture<Void> batchFuture = prod.sendAsync(address, batch);
+
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+      batchFuture.get(5, TimeUnit.SECONDS);
+      Wait.assertEquals(2L * numMessages, () -> server.locateQueue(queueName).getMessageCount());
+   }
+
    public void verifySendAcknowledgements(int windowSize) throws Exception {
       ServerLocator locator = createInVMNonHALocator();
 
@@ -26,7 +26,14 @@ import javax.jms.Queue;
 import javax.jms.Session;
 import javax.jms.TextMessage;
 import java.util.Collections;
-
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.apache.activemq.artemis.api.core.ActiveMQException;
 import org.apache.activemq.artemis.api.core.QueueConfiguration;
 import org.apache.activemq.artemis.api.core.RoutingType;
 import org.apache.activemq.artemis.api.core.SimpleString;
@@ -35,6 +42,9 @@ import org.apache.activemq.artemis.core.config.federation.FederationQueuePolicyC
 import org.apache.activemq.artemis.core.config.federation.FederationUpstreamConfiguration;
 import org.apache.activemq.artemis.core.postoffice.QueueBinding;
 import org.apache.activemq.artemis.core.server.ActiveMQServer;
+import org.apache.activemq.artemis.core.server.ServerSession;
+import org.apache.activemq.artemis.core.server.federation.FederatedQueueConsumer;
+import org.apache.activemq.artemis.core.server.plugin.ActiveMQServerFederationPlugin;
 import org.apache.activemq.artemis.core.server.transformer.Transformer;
 import org.apache.activemq.artemis.core.settings.impl.AddressSettings;
 import org.apache.activemq.artemis.jms.client.ActiveMQConnectionFactory;
@@ -612,6 +622,230 @@ public class FederatedQueueTest extends FederatedTestBase {
       assertNotNull(consumer0.receive(1000));
    }
 
+   @Test
+   public void testFederatedQueueBatchCommittedBeforeAcknowledged() throws Exception {
+      String queueName = getName();
+
+      FederationConfiguration federationConfiguration = FederatedTestUtil.createQueueUpstreamFederationConfiguration("server1", queueName);
+      FederationQueuePolicyConfiguration policy = (FederationQueuePolicyConfiguration) federationConfiguration.getFederationPolicyMap().get("QueuePolicy" + queueName);
+      policy.setBatchSize(10);
+      getServer(0).getConfiguration().getFederationConfigurations().add(federationConfiguration);
+      getServer(0).getFederationManager().deploy();
+
+      org.apache.activemq.artemis.core.server.Queue localQueue = getServer(0).locateQueue(queueName);
+      AtomicInteger handled = new AtomicInteger();
+      AtomicInteger acknowledged = new AtomicInteger();
+      AtomicBoolean acknowledgedBeforeCommit = new AtomicBoolean();
+      getServer(0).registerBrokerPlugin(new ActiveMQServerFederationPlugin() {
+         @Override
+         public void beforeFederatedQueueConsumerMessageHandled(FederatedQueueConsumer consumer, org.apache.activemq.artemis.api.core.Message message) throws ActiveMQException {
+            // fail a message once, the messages of its batch routed before it must be neither added nor acknowledged
+            if (handled.incrementAndGet() == 5) {
+               throw new ActiveMQException("failing the batch");
+            }
+         }
+
+         @Override
+         public void afterFederatedQueueConsumerMessageHandled(FederatedQueueConsumer consumer, org.apache.activemq.artemis.api.core.Message message) {
+            if (localQueue.getMessagesAdded() < acknowledged.incrementAndGet()) {
+               acknowledgedBeforeCommit.set(true);
+            }
+         }
+      });
+
+      ConnectionFactory cf1 = getCF(1);
+      ConnectionFactory cf0 = getCF(0);
+      try (Connection connection1 = cf1.createConnection(); Connection connection0 = cf0.createConnection()) {
+         Session session1 = connection1.createSession();
+         MessageProducer producer = session1.createProducer(session1.createQueue(queueName));
+         for (int i = 0; i < 20; i++) {
+            producer.send(session1.createTextMessage("hello" + i));
+         }
+
+         connection0.start();
+         Session session0 = connection0.createSession();
+         MessageConsumer consumer0 = session0.createConsumer(session0.createQueue(queueName));
+
+         Set<String> received = new HashSet<>();
+         for (int i = 0; i < 20; i++) {
+            TextMessage message = (TextMessage) consumer0.receive(5000);
+            assertNotNull(message);
+            assertTrue(received.add(message.getText()));
+         }
+         assertNull(consumer0.receive(500));
+         assertEquals(20, localQueue.getMessagesAdded());
+         assertFalse(acknowledgedBeforeCommit.get());
+      }
+   }
+
+   @Test
+   public void testFederatedQueuePartialBatchFlushedWhenBufferDrained() throws Exception {
+      String queueName = getName();
+
+      FederationConfiguration federationConfiguration = FederatedTestUtil.createQueueUpstreamFederationConfiguration("server1", queueName);
+      FederationQueuePolicyConfiguration policy = (FederationQueuePolicyConfiguration) federationConfiguration.getFederationPolicyMap().get("QueuePolicy" + queueName);
+      policy.setBatchSize(100);
+      getServer(0).getConfiguration().getFederationConfigurations().add(federationConfiguration);
+      getServer(0).getFederationManager().deploy();
+
+      ConnectionFactory cf1 = getCF(1);
+      ConnectionFactory cf0 = getCF(0);
+      try (Connection connection1 = cf1.createConnection(); Connection connection0 = cf0.createConnection()) {
+         Session session1 = connection1.createSession();
+         MessageProducer producer = session1.createProducer(session1.createQueue(queueName));
+         for (int i = 0; i < 3; i++) {
+            producer.send(session1.createTextMessage("hello"));
+         }
+
+         connection0.start();
+         Session session0 = connection0.createSession();
+         MessageConsumer consumer0 = session0.createConsumer(session0.createQueue(queueName));
+
+         // far less messages than a batch, committed as soon as no more are buffered
+         for (int i = 0; i < 3; i++) {
+            assertNotNull(consumer0.receive(5000));
+         }
+
+         producer.send(session1.createTextMessage("hello"));
+         assertNotNull(consumer0.receive(5000));
+      }
+   }
+
+   @Test
+   public void testFederatedQueuePullUpToLocalCapacity() throws Exception {
+      String queueName = getName();
+
+      FederationConfiguration federationConfiguration = FederatedTestUtil.createQueueUpstreamFederationConfiguration("server1", queueName);
+      FederationQueuePolicyConfiguration policy = (FederationQueuePolicyConfiguration) federationConfiguration.getFederationPolicyMap().get("QueuePolicy" + queueName);
+      policy.setBatchSize(5).setPullInterval(100);
+      getServer(0).getConfiguration().getFederationConfigurations().add(federationConfiguration);
+      getServer(0).getFederationManager().deploy();
+
+      ConnectionFactory cf1 = getCF(1);
+      // without a consumer window the local consumer only takes the messages it receives
+      ConnectionFactory cf0 = new ActiveMQConnectionFactory("vm://0?consumerWindowSize=0");
+      try (Connection connection1 = cf1.createConnection(); Connection connection0 = cf0.createConnection()) {
+         Session session1 = connection1.createSession();
+         MessageProducer producer = session1.createProducer(session1.createQueue(queueName));
+         for (int i = 0; i < 20; i++) {
+            producer.send(session1.createTextMessage("hello"));
+         }
+
+         connection0.start();
+         Session session0 = connection0.createSession();
+         MessageConsumer consumer0 = session0.createConsumer(session0.createQueue(queueName));
+
+         org.apache.activemq.artemis.core.server.Queue localQueue = getServer(0).locateQueue(queueName);
+         Wait.assertEquals(5L, localQueue::getMessageCount);
+         assertFalse(Wait.waitFor(() -> localQueue.getMessageCount() > 5, 500, 100));
+
+         // every message received makes room for another one to be pulled
+         for (int i = 0; i < 20; i++) {
+            assertNotNull(consumer0.receive(5000));
+         }
+         assertNull(consumer0.receive(500));
+      }
+   }
+
+   @Test
+   public void testFederatedQueueSharedSessionRecreatedOnHandlingFailure() throws Exception {
+      String queueName = getName();
+
+      AtomicBoolean failed = new AtomicBoolean();
+      getServer(0).registerBrokerPlugin(new ActiveMQServerFederationPlugin() {
+         @Override
+         public void beforeFederatedQueueConsumerMessageHandled(FederatedQueueConsumer consumer, org.apache.activemq.artemis.api.core.Message message) throws ActiveMQException {
+            if (consumer.getKey().getQueueName().toString().equals(queueName + ".2") && failed.compareAndSet(false, true)) {
+               throw new ActiveMQException("failing the consumer");
+            }
+         }
+      });
+
+      testFederatedQueueSharedSession(queueName, (session1, consumers) -> {
+         // the failed consumer is recreated on the session still used by the other one
+         sendAndReceive(session1, queueName + ".2", consumers[1]);
+         assertTrue(failed.get());
+         assertNull(consumers[1].receive(500));
+         Wait.assertEquals(1L, () -> getFederatedSessionCount(getServer(1)));
+         sendAndReceive(session1, queueName + ".1", consumers[0]);
+      });
+   }
+
+   @Test
+   public void testFederatedQueueSharedSessionRecreatedOnConnectionFailure() throws Exception {
+      String queueName = getName();
+
+      testFederatedQueueSharedSession(queueName, (session1, consumers) -> {
+         List<ServerSession> federatedSessions = getServer(1).getSessions().stream()
+            .filter(session -> session.getMetaData(FederatedQueueConsumer.FEDERATION_NAME) != null)
+            .collect(Collectors.toList());
+         federatedSessions.forEach(session -> session.getRemotingConnection().fail(new ActiveMQException("failing the connection")));
+
+         // the failed session is released by both consumers, which share a new one
+         Wait.assertTrue(() -> getConsumerCount(getServer(1), queueName + ".1", 1) && getConsumerCount(getServer(1), queueName + ".2", 1));
+         Wait.assertEquals(1L, () -> getFederatedSessionCount(getServer(1)));
+         sendAndReceive(session1, queueName + ".1", consumers[0]);
+         sendAndReceive(session1, queueName + ".2", consumers[1]);
+      });
+   }
+
+   private void testFederatedQueueSharedSession(String queueName, SharedSessionScenario scenario) throws Exception {
+      for (int i = 0; i < 2; i++) {
+         createSimpleQueue(getServer(i), queueName + ".1");
+         createSimpleQueue(getServer(i), queueName + ".2");
+      }
+
+      FederationConfiguration federationConfiguration = FederatedTestUtil.createQueueUpstreamFederationConfiguration("server1", queueName + ".#");
+      // the consumers are failed and recreated rather than reconnected
+      federationConfiguration.getUpstreamConfigurations().get(0).getConnectionConfiguration().setShareSession(true).setReconnectAttempts(0);
+      getServer(0).getConfiguration().getFederationConfigurations().add(federationConfiguration);
+      getServer(0).getFederationManager().deploy();
+
+      ConnectionFactory cf1 = getCF(1);
+      ConnectionFactory cf0 = getCF(0);
+      try (Connection connection1 = cf1.createConnection(); Connection connection0 = cf0.createConnection()) {
+         connection0.start();
+         Session session0 = connection0.createSession();
+         Session session1 = connection1.createSession();
+
+         MessageConsumer consumer1 = session0.createConsumer(session0.createQueue(queueName + ".1"));
+         MessageConsumer consumer2 = session0.createConsumer(session0.createQueue(queueName + ".2"));
+         Wait.assertTrue(() -> getConsumerCount(getServer(1), queueName + ".1", 1) && getConsumerCount(getServer(1), queueName + ".2", 1));
+         Wait.assertEquals(1L, () -> getFederatedSessionCount(getServer(1)));
+
+         // the session is only closed once released by both consumers
+         consumer1.close();
+         Wait.assertTrue(() -> getConsumerCount(getServer(1), queueName + ".1", 0));
+         assertEquals(1L, getFederatedSessionCount(getServer(1)));
+         sendAndReceive(session1, queueName + ".2", consumer2);
+
+         consumer1 = session0.createConsumer(session0.createQueue(queueName + ".1"));
+         Wait.assertTrue(() -> getConsumerCount(getServer(1), queueName + ".1", 1));
+         assertEquals(1L, getFederatedSessionCount(getServer(1)));
+
+         scenario.run(session1, new MessageConsumer[] {consumer1, consumer2});
+
+         consumer1.close();
+         consumer2.close();
+         Wait.assertEquals(0L, () -> getFederatedSessionCount(getServer(1)));
+      }
+   }
+
+   private interface SharedSessionScenario {
+      void run(Session session1, MessageConsumer[] consumers) throws Exception;
+   }
+
+   private static void sendAndReceive(Session session1, String queueName, MessageConsumer consumer) throws Exception {
+      MessageProducer producer = session1.createProducer(session1.createQueue(queueName));
+      producer.send(session1.createTextMessage("hello"));
+      assertNotNull(consumer.receive(5000));
+      producer.close();
+   }
+
+   private static long getFederatedSessionCount(ActiveMQServer server) {
+      return server.getSessions().stream().filter(session -> session.getMetaData(FederatedQueueConsumer.FEDERATION_NAME) != null).count();
+   }
+
    private boolean getConsumerCount(ActiveMQServer server, String queueName, int count) {
       QueueBinding binding = (QueueBinding)server.getPostOffice().getBinding(SimpleString.toSimpleString(queueName));
       if (binding == null) {
@@ -16,6 +16,9 @@
  */
 package org.apache.activemq.artemis.tests.integration.jdbc.store.journal;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -28,12 +31,14 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.activemq.artemis.core.config.storage.DatabaseStorageConfiguration;
 import org.apache.activemq.artemis.core.io.IOCriticalErrorListener;
 import org.apache.activemq.artemis.core.journal.IOCompletion;
 import org.apache.activemq.artemis.core.journal.PreparedTransactionInfo;
 import org.apache.activemq.artemis.core.journal.RecordInfo;
+import org.apache.activemq.artemis.jdbc.store.drivers.JDBCConnectionProvider;
 import org.apache.activemq.artemis.jdbc.store.drivers.JDBCUtils;
 import org.apache.activemq.artemis.jdbc.store.journal.JDBCJournalImpl;
 import org.apache.activemq.artemis.jdbc.store.sql.SQLProvider;
@@ -46,6 +51,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
+import org.mockito.Mockito;
 
 @RunWith(Parameterized.class)
 public class JDBCJournalTest extends ActiveMQTestBase {
@@ -170,6 +176,22 @@ public class JDBCJournalTest extends ActiveMQTestBase {
       assertEquals(noRecords, journal.getNumberOfRecords());
    }
 
+   @Test
+   public void testSyncMetrics() throws Exception {
+      assertEquals(0, journal.getSyncCount());
+      assertEquals(0, journal.getAverageSyncBatchSize(), 0);
+      int noRecords = 10;
+      for (int i = 0; i < noRecords; i++) {
+         journal.appendAddRecord(i, (byte) 1, new byte[0], false);
+      }
+      journal.sync();
+
+      assertEquals(noRecords, journal.getSyncedRecordCount());
+      assertTrue(journal.getSyncCount() >= 1);
+      assertTrue(journal.getAverageSyncBatchSize() > 0);
+      assertTrue(journal.getAverageSyncTimeMillis() >= 0);
+   }
+
    @Test
    public void testCleanupTxRecords() throws Exception {
       journal.appendDeleteRecordTransactional(1, 1);
@@ -190,6 +212,50 @@ public class JDBCJournalTest extends ActiveMQTestBase {
       assertEquals(0, journal.getNumberOfRecords());
    }
 
+   @Test
+   public void testFailedCommitKeepsTxRecords() throws Exception {
+      journal.stop();
+
+      final AtomicBoolean failCommit = new AtomicBoolean();
+      JDBCConnectionProvider connectionProvider = Mockito.spy(dbConf.getConnectionProvider());
+      Mockito.doAnswer(invocation -> {
+         Connection connection = (Connection) invocation.callRealMethod();
+         return Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+            if (method.getName().equals("commit") && failCommit.get()) {
+               throw new SQLException("commit failed");
+            }
+            try {
+               return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+               throw e.getCause();
+            }
+         });
+      }).when(connectionProvider).getConnection();
+
+      journal = new JDBCJournalImpl(connectionProvider, sqlProvider, scheduledExecutorService, executorService, new IOCriticalErrorListener() {
+         @Override
+         public void onIOException(Throwable code, String message, String file) {
+
+         }
+      }, 5);
+      journal.start();
+
+      journal.appendAddRecordTransactional(1, 10, (byte) 1, new byte[0]);
+      journal.appendCommitRecord(1, true);
+      assertTrue(journal.hasTransaction(1));
+
+      failCommit.set(true);
+      journal.appendDeleteRecordTransactional(2, 10);
+      journal.appendCommitRecord(2, false);
+      assertEquals(0, journal.sync());
+
+      // deleting the last record of tx 1 didn't reach the database, so neither tx is complete
+      assertTrue(journal.hasTransaction(1));
+      assertTrue(journal.hasTransaction(2));
+
+      failCommit.set(false);
+   }
+
    @Test
    public void testCallbacks() throws Exception {
       final int noRecords = 10;
@@ -0,0 +1,278 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.tests.integration.largemessage;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
+import org.apache.activemq.artemis.api.core.ActiveMQException;
+import org.apache.activemq.artemis.api.core.Message;
+import org.apache.activemq.artemis.api.core.QueueConfiguration;
+import org.apache.activemq.artemis.api.core.RoutingType;
+import org.apache.activemq.artemis.api.core.client.ClientConsumer;
+import org.apache.activemq.artemis.api.core.client.ClientMessage;
+import org.apache.activemq.artemis.api.core.client.ClientProducer;
+import org.apache.activemq.artemis.api.core.client.ClientSession;
+import org.apache.activemq.artemis.api.core.client.ClientSessionFactory;
+import org.apache.activemq.artemis.api.core.client.ServerLocator;
+import org.apache.activemq.artemis.core.persistence.StorageManager;
+import org.apache.activemq.artemis.core.persistence.impl.nullpm.NullStorageManager;
+import org.apache.activemq.artemis.core.remoting.impl.netty.NettyConnection;
+import org.apache.activemq.artemis.core.server.ActiveMQServer;
+import org.apache.activemq.artemis.core.server.LargeServerMessage;
+import org.apache.activemq.artemis.core.server.impl.ActiveMQServerImpl;
+import org.apache.activemq.artemis.spi.core.protocol.RemotingConnection;
+import org.apache.activemq.artemis.tests.util.ActiveMQTestBase;
+import org.apache.activemq.artemis.tests.util.Wait;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class LargeMessageWriteWindowTest extends ActiveMQTestBase {
+
+   private static final int WRITE_WINDOW = 10 * 1024;
+
+   private static final int CHUNK_SIZE = 1024;
+
+   private static final int MESSAGE_SIZE = 200 * 1024;
+
+   private static final String QUEUE = "queue";
+
+   // the continuations wait on it before being written
+   private volatile CountDownLatch writeGate = new CountDownLatch(0);
+
+   // the writes failing from this one on, when not negative
+   private volatile int failingWrite = -1;
+
+   private final AtomicInteger writes = new AtomicInteger();
+
+   private final AtomicBoolean deleted = new AtomicBoolean();
+
+   private final AtomicBoolean writtenAfterDelete = new AtomicBoolean();
+
+   private ActiveMQServer server;
+
+   private ClientSessionFactory sf;
+
+   @Override
+   @Before
+   public void setUp() throws Exception {
+      super.setUp();
+
+      server = addServer(new ActiveMQServerImpl(createDefaultNettyConfig().setPersistenceEnabled(false).setLargeMessageWriteWindow(WRITE_WINDOW)) {
+         @Override
+         protected StorageManager createStorageManager() {
+            return new NullStorageManager() {
+               @Override
+               public LargeServerMessage createLargeMessage(final long id, final Message message) {
+                  return slowLargeMessage(super.createLargeMessage(id, message));
+               }
+            };
+         }
+      });
+      server.start();
+      server.createQueue(new QueueConfiguration(QUEUE).setRoutingType(RoutingType.ANYCAST));
+
+      final ServerLocator locator = addServerLocator(createNettyNonHALocator().setMinLargeMessageSize(CHUNK_SIZE));
+      sf = createSessionFactory(locator);
+   }
+
+   @After
+   public void releaseWrites() {
+      writeGate.countDown();
+   }
+
+   @Test
+   public void testConnectionSuspendedUntilTheWindowIsWritten() throws Exception {
+      writeGate = new CountDownLatch(1);
+
+      final ClientSession session = addClientSession(sf.createSession(false, true, true));
+      final Thread sender = send(session, null);
+
+      // the continuations waiting to be written fill the window
+      Wait.assertFalse(this::isServerConnectionReading);
+      Assert.assertTrue(sender.isAlive());
+      Assert.assertEquals(0, server.locateQueue(QUEUE).getMessageCount());
+
+      writeGate.countDown();
+
+      Wait.assertTrue(this::isServerConnectionReading);
+      sender.join(TimeUnit.SECONDS.toMillis(30));
+      Assert.assertFalse(sender.isAlive());
+
+      receiveLargeMessage(session);
+      Assert.assertFalse(deleted.get());
+   }
+
+   @Test
+   public void testPacketsAfterTheLastContinuationWaitForTheRouting() throws Exception {
+      writeGate = new CountDownLatch(1);
+
+      final ClientSession session = addClientSession(sf.createSession(false, false, false));
+      final Thread sender = new Thread(() -> {
+         try {
+            final ClientProducer producer = session.createProducer(QUEUE);
+            producer.send(createLargeMessage(session));
+            final ClientMessage small = session.createMessage(true);
+            small.putIntProperty("order", 1);
+            producer.send(small);
+            session.commit();
+         } catch (Exception e) {
+            throw new RuntimeException(e);
+         }
+      });
+      sender.start();
+
+      Wait.assertFalse(this::isServerConnectionReading);
+      writeGate.countDown();
+
+      sender.join(TimeUnit.SECONDS.toMillis(30));
+      Assert.assertFalse(sender.isAlive());
+      Wait.assertEquals(2L, () -> server.locateQueue(QUEUE).getMessageCount());
+
+      session.start();
+      final ClientConsumer consumer = session.createConsumer(QUEUE);
+      final ClientMessage large = consumer.receive(5000);
+      Assert.assertNotNull(large);
+      assertLargeBody(large);
+      final ClientMessage small = consumer.receive(5000);
+      Assert.assertNotNull(small);
+      Assert.assertEquals(1, small.getIntProperty("order").intValue());
+      large.acknowledge();
+      small.acknowledge();
+      session.commit();
+   }
+
+   @Test
+   public void testWriteFailureMidStream() throws Exception {
+      failingWrite = MESSAGE_SIZE / CHUNK_SIZE / 2;
+
+      final ClientSession session = addClientSession(sf.createSession(false, true, true));
+      final ClientProducer producer = session.createProducer(QUEUE);
+      try {
+         producer.send(createLargeMessage(session));
+         Assert.fail("the write failure should be reported to the producer");
+      } catch (ActiveMQException expected) {
+      }
+      Assert.assertEquals(0, server.locateQueue(QUEUE).getMessageCount());
+
+      // the session is still usable
+      failingWrite = -1;
+      producer.send(createLargeMessage(session));
+      Wait.assertEquals(1L, () -> server.locateQueue(QUEUE).getMessageCount());
+      receiveLargeMessage(session);
+   }
+
+   @Test
+   public void testConnectionFailureWithQueuedContinuations() throws Exception {
+      writeGate = new CountDownLatch(1);
+
+      final ClientSession session = addClientSession(sf.createSession(false, true, true));
+      send(session, new AtomicReference<>());
+
+      Wait.assertFalse(this::isServerConnectionReading);
+      final RemotingConnection connection = server.getRemotingService().getConnections().iterator().next();
+
+      // the large message is cleared while a continuation is being written and the others are queued
+      final Thread failure = new Thread(() -> connection.fail(new ActiveMQException("failed on purpose")));
+      failure.start();
+      Wait.assertTrue(() -> failure.getState() == Thread.State.BLOCKED);
+
+      writeGate.countDown();
+
+      Wait.assertTrue(deleted::get);
+      failure.join(TimeUnit.SECONDS.toMillis(30));
+      Assert.assertFalse(failure.isAlive());
+      Assert.assertFalse("a queued continuation was written after the message was deleted", writtenAfterDelete.get());
+      Assert.assertTrue(writes.get() < MESSAGE_SIZE / CHUNK_SIZE);
+      Assert.assertEquals(0, server.locateQueue(QUEUE).getMessageCount());
+   }
+
+   private LargeServerMessage slowLargeMessage(final LargeServerMessage largeMessage) {
+      final LargeServerMessage spy = Mockito.spy(largeMessage);
+      try {
+         Mockito.doAnswer(invocation -> {
+            Assert.assertTrue(writeGate.await(30, TimeUnit.SECONDS));
+            final int write = writes.getAndIncrement();
+            if (failingWrite >= 0 && write >= failingWrite) {
+               throw new IllegalStateException("write " + write + " failed on purpose");
+            }
+            if (deleted.get()) {
+               writtenAfterDelete.set(true);
+            }
+            return invocation.callRealMethod();
+         }).when(spy).addBytes(Mockito.any(byte[].class));
+         Mockito.doAnswer(invocation -> {
+            deleted.set(true);
+            return invocation.callRealMethod();
+         }).when(spy).deleteFile();
+      } catch (Exception e) {
+         throw new IllegalStateException(e);
+      }
+      return spy;
+   }
+
+   private boolean isServerConnectionReading() {
+      final RemotingConnection connection = server.getRemotingService().getConnections().iterator().next();
+      return ((NettyConnection) connection.getTransportConnection()).getChannel().config().isAutoRead();
+   }
+
+   private Thread send(final ClientSession session, final AtomicReference<Exception> failure) {
+      final Thread sender = new Thread(() -> {
+         try {
+            session.createProducer(QUEUE).send(createLargeMessage(session));
+         } catch (Exception e) {
+            if (failure == null) {
+               throw new RuntimeException(e);
+            }
+            failure.set(e);
+         }
+      });
+      sender.start();
+      return sender;
+   }
+
+   private ClientMessage createLargeMessage(final ClientSession session) throws Exception {
+      final ClientMessage message = session.createMessage(true);
+      message.setBodyInputStream(createFakeLargeStream(MESSAGE_SIZE));
+      return message;
+   }
+
+   private void receiveLargeMessage(final ClientSession session) throws Exception {
+      session.start();
+      final ClientConsumer consumer = session.createConsumer(QUEUE);
+      final ClientMessage message = consumer.receive(5000);
+      Assert.assertNotNull(message);
+      assertLargeBody(message);
+      message.acknowledge();
+      consumer.close();
+   }
+
+   private void assertLargeBody(final ClientMessage message) {
+      Assert.assertEquals(MESSAGE_SIZE, message.getBodySize());
+      final ActiveMQBuffer body = message.getBodyBuffer();
+      for (int i = 0; i < MESSAGE_SIZE; i++) {
+         Assert.assertEquals(getSamplebyte(i), body.readByte());
+      }
+   }
+}
@@ -37,6 +37,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -107,6 +108,7 @@ import org.apache.activemq.artemis.utils.RandomUtil;
 import org.apache.activemq.artemis.utils.RetryMethod;
 import org.apache.activemq.artemis.utils.RetryRule;
 import org.apache.activemq.artemis.utils.UUIDGenerator;
+import org.apache.activemq.artemis.utils.critical.CriticalProfiler;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
@@ -3011,6 +3013,36 @@ public class ActiveMQServerControlTest extends ManagementTestBase {
       Assert.assertEquals("autoDelete", "false", array.getJsonObject(0).getString("autoDelete"));
    }
 
+   @Test
+   public void testListQueuesPages() throws Exception {
+      ActiveMQServerControl serverControl = createManagementControl();
+      // created out of order, to be sorted by name
+      for (int i = 24; i >= 0; i--) {
+         SimpleString queueName = new SimpleString(String.format("page_queue_%02d", i));
+         server.createQueue(new QueueConfiguration(queueName).setRoutingType(RoutingType.ANYCAST).setDurable(false));
+      }
+
+      String filterString = createJsonFilter("name", "CONTAINS", "page_queue", "name", "asc");
+      for (int page = 1; page <= 3; page++) {
+         JsonObject queuesAsJsonObject = JsonUtil.readJsonObject(serverControl.listQueues(filterString, page, 10));
+         JsonArray array = (JsonArray) queuesAsJsonObject.get("data");
+         Assert.assertEquals(25, queuesAsJsonObject.getInt("count"));
+         Assert.assertEquals(page == 3 ? 5 : 10, array.size());
+         for (int i = 0; i < array.size(); i++) {
+            Assert.assertEquals(String.format("page_queue_%02d", (page - 1) * 10 + i), array.getJsonObject(i).getString("name"));
+         }
+      }
+
+      filterString = createJsonFilter("name", "CONTAINS", "page_queue", "name", "desc");
+      JsonArray array = (JsonArray) JsonUtil.readJsonObject(serverControl.listQueues(filterString, 3, 10)).get("data");
+      Assert.assertEquals(5, array.size());
+      Assert.assertEquals("page_queue_04", array.getJsonObject(0).getString("name"));
+      Assert.assertEquals("page_queue_00", array.getJsonObject(4).getString("name"));
+
+      // past the last page
+      Assert.assertEquals(0, ((JsonArray) JsonUtil.readJsonObject(serverControl.listQueues(filterString, 4, 10)).get("data")).size());
+   }
+
    @Test
    public void testListQueuesOrder() throws Exception {
       SimpleString queueName1 = new SimpleString("my_queue_1");
@@ -4380,6 +4412,43 @@ public class ActiveMQServerControlTest extends ManagementTestBase {
       Assert.assertTrue(fake.isStarted());
    }
 
+   @Test
+   public void testListCriticalPathProfilesAsJSON() throws Exception {
+      ActiveMQServerControl serverControl = createManagementControl();
+      Assert.assertEquals(0, JsonUtil.readJsonArray(serverControl.listCriticalPathProfilesAsJSON()).size());
+
+      server.getCriticalAnalyzer().setProfiler(new CriticalProfiler(1, TimeUnit.SECONDS));
+      SimpleString address = RandomUtil.randomSimpleString();
+      server.createQueue(new QueueConfiguration(address).setRoutingType(RoutingType.ANYCAST));
+      ServerLocator loc = createInVMNonHALocator();
+      ClientSessionFactory csf = createSessionFactory(loc);
+      ClientSession session = csf.createSession();
+      session.createProducer(address).send(session.createMessage(true));
+      session.close();
+
+      Wait.assertTrue(() -> findCriticalPathProfile(serverControl, "QueueImpl", "add-tail") != null);
+      JsonObject addTail = findCriticalPathProfile(serverControl, "QueueImpl", "add-tail");
+      long count = addTail.getJsonNumber("count").longValue();
+      Assert.assertTrue(count >= 1);
+      Assert.assertEquals(0, addTail.getJsonNumber("slowCount").longValue());
+      Assert.assertTrue(addTail.getJsonNumber("max").doubleValue() >= 0);
+
+      serverControl.resetCriticalPathProfiles();
+      // the replies of the management operations are added to a queue as well when using core
+      Assert.assertTrue(findCriticalPathProfile(serverControl, "QueueImpl", "add-tail").getJsonNumber("count").longValue() < count);
+   }
+
+   private static JsonObject findCriticalPathProfile(ActiveMQServerControl serverControl, String component, String path) throws Exception {
+      JsonArray profiles = JsonUtil.readJsonArray(serverControl.listCriticalPathProfilesAsJSON());
+      for (int i = 0; i < profiles.size(); i++) {
+         JsonObject profile = profiles.getJsonObject(i);
+         if (component.equals(profile.getString("component")) && path.equals(profile.getString("path"))) {
+            return profile;
+         }
+      }
+      return null;
+   }
+
    @Test
    public void testRestartEmbeddedWebServer() throws Exception {
       FakeWebServerComponent fake = new FakeWebServerComponent();
@@ -853,6 +853,11 @@ public class ActiveMQServerControlUsingCoreTest extends ActiveMQServerControlTes
             return 0;
          }
 
+         @Override
+         public double getProcessorLoad() {
+            return (Double) proxy.retrieveAttributeValue("processorLoad", Double.class);
+         }
+
          @Override
          public String getHAPolicy() {
             return null;
@@ -1715,6 +1720,16 @@ public class ActiveMQServerControlUsingCoreTest extends ActiveMQServerControlTes
          public boolean isEmbeddedWebServerStarted() {
             return (boolean) proxy.retrieveAttributeValue("embeddedWebServerStarted");
          }
+
+         @Override
+         public String listCriticalPathProfilesAsJSON() throws Exception {
+            return (String) proxy.invokeOperation("listCriticalPathProfilesAsJSON");
+         }
+
+         @Override
+         public void resetCriticalPathProfiles() throws Exception {
+            proxy.invokeOperation("resetCriticalPathProfiles");
+         }
       };
    }
 
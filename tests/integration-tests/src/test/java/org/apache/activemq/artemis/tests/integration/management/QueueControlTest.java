@@ -3349,6 +3349,34 @@ public class QueueControlTest extends ManagementTestBase {
       session.deleteQueue(queue);
    }
 
+   @Test
+   public void testListLatenciesAsJSON() throws Exception {
+      SimpleString address = RandomUtil.randomSimpleString();
+      SimpleString queue = RandomUtil.randomSimpleString();
+
+      server.getAddressSettingsRepository().addMatch(address.toString(), new AddressSettings().setLatencySampleInterval(1));
+      session.createQueue(new QueueConfiguration(queue).setAddress(address).setDurable(durable));
+
+      QueueControl queueControl = createManagementControl(address, queue);
+      ClientProducer producer = session.createProducer(address);
+      producer.send(session.createMessage(durable));
+      consumeMessages(1, session, queue);
+
+      Wait.assertEquals(1L, () -> JsonUtil.readJsonObject(queueControl.listLatenciesAsJSON()).getJsonObject("deliverToAck").getJsonNumber("count").longValue());
+      JsonObject latencies = JsonUtil.readJsonObject(queueControl.listLatenciesAsJSON());
+      Assert.assertEquals(1, latencies.getJsonObject("route").getJsonNumber("count").longValue());
+      Assert.assertEquals(1, latencies.getJsonObject("enqueueToDeliver").getJsonNumber("count").longValue());
+      Assert.assertTrue(latencies.getJsonObject("enqueueToDeliver").getJsonNumber("max").doubleValue() >= 0);
+
+      queueControl.resetLatencies();
+
+      latencies = JsonUtil.readJsonObject(queueControl.listLatenciesAsJSON());
+      Assert.assertEquals(0, latencies.getJsonObject("route").getJsonNumber("count").longValue());
+      Assert.assertEquals(0, latencies.getJsonObject("deliverToAck").getJsonNumber("count").longValue());
+
+      session.deleteQueue(queue);
+   }
+
    @Test
    public void testResetMessagesExpired() throws Exception {
       SimpleString address = RandomUtil.randomSimpleString();
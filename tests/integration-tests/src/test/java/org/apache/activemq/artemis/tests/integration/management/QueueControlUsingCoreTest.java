@@ -337,6 +337,16 @@ public class QueueControlUsingCoreTest extends QueueControlTest {
             proxy.invokeOperation("resetMessagesExpired");
          }
 
+         @Override
+         public String listLatenciesAsJSON() throws Exception {
+            return (String) proxy.invokeOperation(String.class, "listLatenciesAsJSON");
+         }
+
+         @Override
+         public void resetLatencies() throws Exception {
+            proxy.invokeOperation("resetLatencies");
+         }
+
          @Override
          public void resetMessagesKilled() throws Exception {
             proxy.invokeOperation("resetMessagesKilled");
@@ -44,6 +44,7 @@ import org.apache.activemq.artemis.api.core.client.ClientSession;
 import org.apache.activemq.artemis.api.core.client.ClientSessionFactory;
 import org.apache.activemq.artemis.api.core.client.ServerLocator;
 import org.apache.activemq.artemis.api.jms.ActiveMQJMSClient;
+import org.apache.activemq.artemis.cli.commands.tools.xml.XmlDataConstants;
 import org.apache.activemq.artemis.cli.commands.tools.xml.XmlDataExporter;
 import org.apache.activemq.artemis.cli.commands.tools.xml.XmlDataImporter;
 import org.apache.activemq.artemis.core.persistence.impl.journal.BatchingIDGenerator;
@@ -51,6 +52,7 @@ import org.apache.activemq.artemis.core.persistence.impl.journal.JournalStorageM
 import org.apache.activemq.artemis.core.persistence.impl.journal.LargeServerMessageImpl;
 import org.apache.activemq.artemis.core.registry.JndiBindingRegistry;
 import org.apache.activemq.artemis.core.server.ActiveMQServer;
+import org.apache.activemq.artemis.core.server.JournalType;
 import org.apache.activemq.artemis.core.settings.impl.AddressSettings;
 import org.apache.activemq.artemis.jms.server.JMSServerManager;
 import org.apache.activemq.artemis.jms.server.impl.JMSServerManagerImpl;
@@ -874,6 +876,122 @@ public class XmlImportExportTest extends ActiveMQTestBase {
       }
    }
 
+   @Test
+   public void testDirectoryExportImportKeepsOrderOfQueuesRoutedTogether() throws Exception {
+      final String address = "multicast.address";
+      final String[] queues = {"all", "shared", "other"};
+      final int messages = 100;
+
+      ClientSession session = basicSetUp();
+
+      session.createQueue(new QueueConfiguration(queues[0]).setAddress(address));
+      session.createQueue(new QueueConfiguration(queues[1]).setAddress(address).setFilterString("shared = true"));
+      session.createQueue(new QueueConfiguration(queues[2]).setAddress(address).setFilterString("shared = false"));
+      ClientProducer producer = session.createProducer(address);
+      for (int i = 0; i < messages; i++) {
+         // every message goes to 'all' and to one of the other queues
+         ClientMessage msg = session.createMessage(true);
+         msg.putIntProperty("i", i);
+         msg.putBooleanProperty("shared", i % 3 == 0);
+         producer.send(msg);
+      }
+
+      session.close();
+      locator.close();
+      server.stop();
+
+      File exportDirectory = new File(getTestDir(), "export");
+      XmlDataExporter xmlDataExporter = new XmlDataExporter();
+      xmlDataExporter.partitions = 4;
+      xmlDataExporter.setConfiguration(server.getConfiguration().setJournalType(JournalType.NIO)).process(exportDirectory);
+
+      clearDataRecreateServerDirs();
+      server.start();
+      checkForLongs();
+      locator = createInVMNonHALocator();
+
+      XmlDataImporter xmlDataImporter = new XmlDataImporter();
+      xmlDataImporter.threads = 4;
+      xmlDataImporter.commitInterval = 7;
+      xmlDataImporter.processDirectory(exportDirectory, locator);
+
+      factory = createSessionFactory(locator);
+      session = addClientSession(factory.createSession(false, true, true));
+      session.start();
+      for (String queue : queues) {
+         try (ClientConsumer consumer = session.createConsumer(queue)) {
+            int last = -1;
+            int received = 0;
+            ClientMessage msg;
+            while ((msg = consumer.receive(500)) != null) {
+               int i = msg.getIntProperty("i");
+               assertTrue(queue + " received " + i + " after " + last, i > last);
+               last = i;
+               received++;
+            }
+            assertEquals(queue.equals("all") ? messages : queue.equals("shared") ? 34 : 66, received);
+         }
+      }
+   }
+
+   @Test
+   public void testDirectoryExportImport() throws Exception {
+      final String[] queues = {"queue1", "queue2", "queue3"};
+      final int messages = 100;
+
+      ClientSession session = basicSetUp();
+
+      for (String queue : queues) {
+         session.createQueue(new QueueConfiguration(queue).setAddress(queue + ".address").setRoutingType(RoutingType.ANYCAST));
+         ClientProducer producer = session.createProducer(queue + ".address");
+         for (int i = 0; i < messages; i++) {
+            ClientMessage msg = session.createMessage(true);
+            msg.putIntProperty("i", i);
+            msg.getBodyBuffer().writeString(queue + i);
+            producer.send(msg);
+         }
+      }
+
+      session.close();
+      locator.close();
+      server.stop();
+
+      File exportDirectory = new File(getTestDir(), "export");
+      XmlDataExporter xmlDataExporter = new XmlDataExporter();
+      xmlDataExporter.partitions = 2;
+      xmlDataExporter.setConfiguration(server.getConfiguration().setJournalType(JournalType.NIO)).process(exportDirectory);
+      assertTrue(new File(exportDirectory, XmlDataConstants.MANIFEST_FILE).exists());
+
+      XmlDataImporter xmlDataImporter = new XmlDataImporter();
+      for (File file : exportDirectory.listFiles((dir, name) -> name.endsWith(".xml"))) {
+         xmlDataImporter.validate(file.getAbsolutePath());
+      }
+
+      clearDataRecreateServerDirs();
+      server.start();
+      checkForLongs();
+      locator = createInVMNonHALocator();
+
+      xmlDataImporter.threads = 2;
+      xmlDataImporter.commitInterval = 7;
+      xmlDataImporter.processDirectory(exportDirectory, locator);
+
+      factory = createSessionFactory(locator);
+      session = addClientSession(factory.createSession(false, true, true));
+      session.start();
+      for (String queue : queues) {
+         try (ClientConsumer consumer = session.createConsumer(queue)) {
+            for (int i = 0; i < messages; i++) {
+               ClientMessage msg = consumer.receive(CONSUMER_TIMEOUT);
+               assertNotNull(msg);
+               assertEquals(i, msg.getIntProperty("i").intValue());
+               assertEquals(queue + i, msg.getBodyBuffer().readString());
+            }
+            assertNull(consumer.receiveImmediate());
+         }
+      }
+   }
+
    @Test
    public void testPagedLargeMessage() throws Exception {
       final String MY_ADDRESS = "myAddress";
@@ -27,8 +27,10 @@ import java.util.OptionalDouble;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Measurement;
 import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.activemq.artemis.api.core.QueueConfiguration;
 import org.apache.activemq.artemis.api.core.RoutingType;
 import org.apache.activemq.artemis.api.core.SimpleString;
@@ -43,6 +45,7 @@ import org.apache.activemq.artemis.core.server.ActiveMQServer;
 import org.apache.activemq.artemis.core.server.Queue;
 import org.apache.activemq.artemis.core.server.metrics.plugins.SimpleMetricsPlugin;
 import org.apache.activemq.artemis.core.settings.impl.AddressFullMessagePolicy;
+import org.apache.activemq.artemis.core.settings.impl.AddressSettings;
 import org.apache.activemq.artemis.tests.util.ActiveMQTestBase;
 import org.apache.activemq.artemis.tests.util.Wait;
 import org.junit.Before;
@@ -150,6 +153,7 @@ public class MetricsPluginTest extends ActiveMQTestBase {
               new Metric("artemis.delivering.persistent_size", "persistent size of messages that this queue is currently delivering to its consumers", 0.0),
               new Metric("artemis.disk.store.usage", "Fraction of total disk store used", 0.0),
               new Metric("artemis.durable.message.count", "number of durable messages currently in this queue (includes scheduled, paged, and in-delivery messages)", 0.0),
+              new Metric("artemis.group.skew", "share of the message groups assigned to the consumer getting the most of them over an even share, when the groups are assigned through a consistent hash ring", 0.0),
               new Metric("artemis.durable.persistent.size", "persistent size of durable messages currently in this queue (includes scheduled, paged, and in-delivery messages)", 0.0),
               new Metric("artemis.message.count", "number of messages currently in this queue (includes scheduled, paged, and in-delivery messages)", 0.0),
               new Metric("artemis.messages.acknowledged", "number of messages acknowledged from this queue since it was created", 0.0),
@@ -240,6 +244,40 @@ public class MetricsPluginTest extends ActiveMQTestBase {
       checkMetric(metrics, "artemis.consumer.count", "queue", queueName, 0.0, enabled);
    }
 
+   @Test
+   public void testLatencyMetrics() throws Exception {
+      final String queueName = "simpleQueue";
+      final String addressName = "simpleAddress";
+
+      server.getAddressSettingsRepository().addMatch(addressName, new AddressSettings().setLatencySampleInterval(1));
+
+      session.createQueue(new QueueConfiguration(queueName).setAddress(addressName).setRoutingType(RoutingType.ANYCAST));
+      ClientProducer producer = session.createProducer(addressName);
+      producer.send(session.createMessage(true));
+      producer.close();
+
+      ClientConsumer consumer = session.createConsumer(queueName);
+      session.start();
+      ClientMessage message = consumer.receive(1000);
+      assertNotNull(message);
+      message.acknowledge();
+      session.commit(); // force the ack to be committed
+      consumer.close();
+
+      MeterRegistry registry = server.getMetricsManager().getMeterRegistry();
+      Wait.assertEquals(1L, () -> {
+         DistributionSummary summary = registry.find("artemis.deliver.to.ack.latency").tag("queue", queueName).summary();
+         return summary == null ? 0 : summary.count();
+      }, 2000, 100);
+      assertEquals(1, registry.find("artemis.route.latency").tag("queue", queueName).summary().count());
+      assertEquals(1, registry.find("artemis.enqueue.to.deliver.latency").tag("queue", queueName).summary().count());
+
+      session.deleteQueue(queueName);
+
+      assertNull(registry.find("artemis.route.latency").tag("queue", queueName).summary());
+      assertTrue(registry.find("artemis.route.latency.percentile").tag("queue", queueName).meters().isEmpty());
+   }
+
    @Test
    public void testMessageCountWithPaging() throws Exception {
       final String data = "Simple Text " + UUID.randomUUID().toString();
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.tests.integration.remoting;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.micrometer.core.instrument.Meter;
+import org.apache.activemq.artemis.api.core.QueueConfiguration;
+import org.apache.activemq.artemis.api.core.RoutingType;
+import org.apache.activemq.artemis.api.core.TransportConfiguration;
+import org.apache.activemq.artemis.api.core.client.ActiveMQClient;
+import org.apache.activemq.artemis.api.core.client.ClientConsumer;
+import org.apache.activemq.artemis.api.core.client.ClientMessage;
+import org.apache.activemq.artemis.api.core.client.ClientProducer;
+import org.apache.activemq.artemis.api.core.client.ClientSession;
+import org.apache.activemq.artemis.api.core.client.ClientSessionFactory;
+import org.apache.activemq.artemis.api.core.client.ServerLocator;
+import org.apache.activemq.artemis.core.client.impl.ClientSessionFactoryInternal;
+import org.apache.activemq.artemis.core.config.MetricsConfiguration;
+import org.apache.activemq.artemis.core.protocol.core.impl.CoreProtocolManager;
+import org.apache.activemq.artemis.core.remoting.impl.netty.CompressionMetrics;
+import org.apache.activemq.artemis.core.remoting.impl.netty.NettyAcceptor;
+import org.apache.activemq.artemis.core.remoting.impl.netty.NettyConnector;
+import org.apache.activemq.artemis.core.remoting.impl.netty.TransportConstants;
+import org.apache.activemq.artemis.core.server.ActiveMQServer;
+import org.apache.activemq.artemis.core.server.metrics.plugins.SimpleMetricsPlugin;
+import org.apache.activemq.artemis.tests.integration.plugin.MetricsPluginTest;
+import org.apache.activemq.artemis.tests.util.ActiveMQTestBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CompressionNegotiationTest extends ActiveMQTestBase {
+
+   private static final String ACCEPTOR = "netty";
+
+   private static final String QUEUE = "queue";
+
+   private static final int MESSAGES = 100;
+
+   private ActiveMQServer server;
+
+   @Test
+   public void testAcceptedCompression() throws Exception {
+      startServer(null);
+
+      final ClientSessionFactory sf = sendReceive("snappy");
+
+      final CompressionMetrics connectorMetrics = getConnectorMetrics(sf);
+      Assert.assertTrue(connectorMetrics.getCompressedFrames() > 0);
+      Assert.assertTrue(connectorMetrics.getDecompressedFrames() > 0);
+      Assert.assertTrue(connectorMetrics.getCompressionRatio() > 1);
+
+      final CompressionMetrics acceptorMetrics = getAcceptorMetrics();
+      Assert.assertTrue(acceptorMetrics.getCompressedFrames() > 0);
+      Assert.assertTrue(acceptorMetrics.getDecompressedFrames() > 0);
+
+      boolean tagged = false;
+      for (Meter.Id meterId : MetricsPluginTest.getMetrics(server).keySet()) {
+         if (meterId.getName().equals("netty.compression.ratio") && ACCEPTOR.equals(meterId.getTag("acceptor"))) {
+            tagged = true;
+         }
+      }
+      Assert.assertTrue(tagged);
+   }
+
+   @Test
+   public void testRefusedCompression() throws Exception {
+      startServer("none");
+
+      final ClientSessionFactory sf = sendReceive("deflate");
+
+      // both sides fell back to plain frames
+      Assert.assertEquals(0, getConnectorMetrics(sf).getCompressedFrames());
+      Assert.assertEquals(0, getConnectorMetrics(sf).getDecompressedFrames());
+      Assert.assertEquals(0, getAcceptorMetrics().getCompressedFrames());
+      Assert.assertEquals(0, getAcceptorMetrics().getDecompressedFrames());
+   }
+
+   @Test
+   public void testOnlyAcceptedCodecsAreUsed() throws Exception {
+      startServer("deflate");
+
+      final ClientSessionFactory refused = sendReceive("snappy");
+      Assert.assertEquals(0, getConnectorMetrics(refused).getCompressedFrames());
+      Assert.assertEquals(0, getAcceptorMetrics().getCompressedFrames());
+
+      final ClientSessionFactory accepted = sendReceive("deflate");
+      Assert.assertTrue(getConnectorMetrics(accepted).getCompressedFrames() > 0);
+      Assert.assertTrue(getAcceptorMetrics().getCompressedFrames() > 0);
+
+      // the metrics belong to each connector
+      Assert.assertEquals(0, getConnectorMetrics(refused).getCompressedFrames());
+   }
+
+   private void startServer(final String acceptedCompression) throws Exception {
+      final Map<String, Object> params = new HashMap<>();
+      if (acceptedCompression != null) {
+         params.put(TransportConstants.COMPRESSION_PROP_NAME, acceptedCompression);
+      }
+      server = createServer(false, createBasicConfig()
+         .addAcceptorConfiguration(new TransportConfiguration(NETTY_ACCEPTOR_FACTORY, params, ACCEPTOR))
+         .setMetricsConfiguration(new MetricsConfiguration()
+                                     .setPlugin(new SimpleMetricsPlugin().init(null))
+                                     .setNettyCompression(true)));
+      server.start();
+      server.createQueue(new QueueConfiguration(QUEUE).setRoutingType(RoutingType.ANYCAST));
+   }
+
+   private ClientSessionFactory sendReceive(final String compression) throws Exception {
+      final Map<String, Object> params = new HashMap<>();
+      params.put(TransportConstants.COMPRESSION_PROP_NAME, compression);
+      final ServerLocator locator = addServerLocator(ActiveMQClient.createServerLocatorWithoutHA(createTransportConfiguration(true, false, params)));
+      final ClientSessionFactory sf = addSessionFactory(createSessionFactory(locator));
+
+      final ClientSession session = addClientSession(sf.createSession());
+      final ClientProducer producer = session.createProducer(QUEUE);
+      for (int i = 0; i < MESSAGES; i++) {
+         final ClientMessage message = session.createMessage(true);
+         message.getBodyBuffer().writeString("<order id=\"" + i + "\"><item/><item/><item/><item/></order>");
+         producer.send(message);
+      }
+
+      final ClientConsumer consumer = session.createConsumer(QUEUE);
+      session.start();
+      for (int i = 0; i < MESSAGES; i++) {
+         final ClientMessage message = consumer.receive(5000);
+         Assert.assertNotNull(message);
+         Assert.assertEquals("<order id=\"" + i + "\"><item/><item/><item/><item/></order>", message.getBodyBuffer().readString());
+         message.acknowledge();
+      }
+      Assert.assertNull(consumer.receiveImmediate());
+      return sf;
+   }
+
+   private static CompressionMetrics getConnectorMetrics(final ClientSessionFactory sf) {
+      return ((NettyConnector) ((ClientSessionFactoryInternal) sf).getConnector()).getCompressionMetrics();
+   }
+
+   private CompressionMetrics getAcceptorMetrics() {
+      final NettyAcceptor acceptor = (NettyAcceptor) server.getRemotingService().getAcceptor(ACCEPTOR);
+      return ((CoreProtocolManager) acceptor.getProtocolHandler().getProtocol(ActiveMQClient.DEFAULT_CORE_PROTOCOL)).getCompressionMetrics();
+   }
+}
@@ -32,6 +32,7 @@ import org.apache.activemq.artemis.core.message.impl.CoreMessage;
 import org.apache.activemq.artemis.core.postoffice.Binding;
 import org.apache.activemq.artemis.core.postoffice.BindingType;
 import org.apache.activemq.artemis.core.postoffice.Bindings;
+import org.apache.activemq.artemis.core.postoffice.QueueLoad;
 import org.apache.activemq.artemis.core.postoffice.impl.BindingsImpl;
 import org.apache.activemq.artemis.core.server.Bindable;
 import org.apache.activemq.artemis.core.server.Queue;
@@ -82,6 +83,83 @@ public class BindingsImplTest extends ActiveMQTestBase {
       assertEquals(0, fake.routedCount.get());
    }
 
+   @Test
+   public void testLoadAwareRoutingFollowsTheLoads() throws Exception {
+      final FakeRemoteBinding fast = createLoadAwareBinding(100);
+      final FakeRemoteBinding slow = createLoadAwareBinding(10);
+      // a queue whose load isn't known yet is given the average weight
+      final FakeRemoteBinding unknown = createLoadAwareBinding(-1);
+      final Bindings bind = new BindingsImpl(null, null);
+      bind.addBinding(fast);
+      bind.addBinding(slow);
+      bind.addBinding(unknown);
+
+      final int messages = 10000;
+      for (int i = 0; i < messages; i++) {
+         bind.route(new CoreMessage(i, 100), new RoutingContextImpl(new FakeTransaction()));
+      }
+
+      assertEquals(messages, fast.routedCount.get() + slow.routedCount.get() + unknown.routedCount.get());
+      assertEquals(100d / 165, (double) fast.routedCount.get() / messages, 0.05);
+      assertEquals(10d / 165, (double) slow.routedCount.get() / messages, 0.05);
+      assertEquals(55d / 165, (double) unknown.routedCount.get() / messages, 0.05);
+   }
+
+   @Test
+   public void testLoadAwareRoutingWithUnknownLoadsRoundRobins() throws Exception {
+      final FakeRemoteBinding first = createLoadAwareBinding(-1);
+      final FakeRemoteBinding second = createLoadAwareBinding(-1);
+      final Bindings bind = new BindingsImpl(null, null);
+      bind.addBinding(first);
+      bind.addBinding(second);
+
+      for (int i = 0; i < 100; i++) {
+         bind.route(new CoreMessage(i, 100), new RoutingContextImpl(new FakeTransaction()));
+      }
+
+      assertEquals(50, first.routedCount.get());
+      assertEquals(50, second.routedCount.get());
+   }
+
+   @Test
+   public void testLoadAwareRedistributionFollowsTheLoads() throws Exception {
+      final Queue queue = new FakeQueue(new SimpleString("a"));
+      final FakeBinding local = new FakeBinding(new SimpleString("a"));
+      local.filter = null;
+      local.highAcceptPriority = true;
+      local.bindable = queue;
+      local.load = new QueueLoad();
+      local.load.set(0, 0, 1000);
+      final FakeRemoteBinding fast = createLoadAwareBinding(100);
+      final FakeRemoteBinding slow = createLoadAwareBinding(10);
+      final Bindings bind = new BindingsImpl(null, null);
+      bind.addBinding(local);
+      bind.addBinding(fast);
+      bind.addBinding(slow);
+
+      final int messages = 10000;
+      for (int i = 0; i < messages; i++) {
+         assertTrue(bind.redistribute(new CoreMessage(i, 100), queue, new RoutingContextImpl(new FakeTransaction())));
+      }
+
+      // the queue redistributing the message never gets it back
+      assertEquals(0, local.routedCount.get());
+      assertEquals(messages, fast.routedCount.get() + slow.routedCount.get());
+      assertEquals(100d / 110, (double) fast.routedCount.get() / messages, 0.05);
+   }
+
+   private FakeRemoteBinding createLoadAwareBinding(final double consumerRate) {
+      final FakeRemoteBinding binding = new FakeRemoteBinding(new SimpleString("a"));
+      binding.filter = null;
+      binding.highAcceptPriority = true;
+      binding.messageLoadBalancingType = MessageLoadBalancingType.LOAD_AWARE;
+      binding.load = new QueueLoad();
+      if (consumerRate >= 0) {
+         binding.load.set(0, 0, consumerRate);
+      }
+      return binding;
+   }
+
    @Test
    public void testRemoveWhileRouting() throws Exception {
       // It would require many iterations before getting a failure
@@ -330,6 +408,9 @@ public class BindingsImplTest extends ActiveMQTestBase {
 
       Filter filter = new FakeFilter();
       AtomicInteger routedCount = new AtomicInteger();
+      boolean highAcceptPriority;
+      Bindable bindable;
+      QueueLoad load;
       @Override
       public void close() throws Exception {
 
@@ -358,7 +439,7 @@ public class BindingsImplTest extends ActiveMQTestBase {
       @Override
       public Bindable getBindable() {
 
-         return null;
+         return bindable;
       }
 
       /* (non-Javadoc)
@@ -423,7 +504,7 @@ public class BindingsImplTest extends ActiveMQTestBase {
 
       @Override
       public boolean isHighAcceptPriority(final Message message) {
-         return false;
+         return highAcceptPriority;
       }
 
       @Override
@@ -449,6 +530,11 @@ public class BindingsImplTest extends ActiveMQTestBase {
 
       }
 
+      @Override
+      public QueueLoad getLoad() {
+         return load;
+      }
+
    }
 
    private final class FakeRemoteBinding extends FakeBinding implements RemoteQueueBinding  {